@@ -19,6 +19,10 @@ CREATE TABLE IF NOT EXISTS mq_messages (
     version BIGINT DEFAULT 0
 );
 
+-- IDs are allocated in blocks of 50 per nextval (MQMessage.ID_ALLOCATION_SIZE); a value is the
+-- end of its block, so the first one must be at least 50 for the first block to start at 1
+ALTER SEQUENCE mq_messages_id_seq INCREMENT BY 50 MINVALUE 50 START WITH 50 RESTART WITH 50;
+
 -- Create indexes for performance
 CREATE INDEX IF NOT EXISTS idx_mq_messages_message_id ON mq_messages(message_id);
 CREATE INDEX IF NOT EXISTS idx_mq_messages_correlation_id ON mq_messages(correlation_id);
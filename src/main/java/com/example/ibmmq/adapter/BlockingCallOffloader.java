@@ -0,0 +1,145 @@
+package com.example.ibmmq.adapter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs IBM MQ client calls that block inside the client's {@code synchronized} monitors on a
+ * bounded pool of platform threads when the caller is a virtual thread. A virtual thread that
+ * blocks while holding a monitor pins its carrier, so a few long receives would otherwise stall
+ * every virtual thread scheduled on those carriers. Platform-thread callers run the call
+ * directly, and on Java 17 no thread is virtual, so this costs one volatile read there.
+ *
+ * The pool holds {@code ibm.mq.client.offload.threads} threads (system property, default 64);
+ * further virtual callers park on a fair semaphore, which does not pin.
+ */
+public final class BlockingCallOffloader {
+
+    private static final MethodHandle IS_VIRTUAL = lookupIsVirtual();
+    private static final int THREADS = Math.max(1, Integer.getInteger("ibm.mq.client.offload.threads", 64));
+    private static final Semaphore PERMITS = new Semaphore(THREADS, true);
+    private static final ThreadPoolExecutor EXECUTOR = newExecutor();
+
+    @FunctionalInterface
+    public interface BlockingCall<T> {
+        T call() throws javax.jms.JMSException;
+    }
+
+    private BlockingCallOffloader() {
+    }
+
+    /**
+     * Runs {@code call} on the calling thread, or on an offload thread when the caller is
+     * virtual. Exceptions thrown by the call are rethrown unchanged.
+     */
+    public static <T> T call(BlockingCall<T> call) throws javax.jms.JMSException {
+        if (!isVirtual(Thread.currentThread())) {
+            return call.call();
+        }
+
+        try {
+            PERMITS.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new javax.jms.JMSException("Interrupted while waiting for a blocking-call thread");
+        }
+
+        // The permit is held until the client call returns: an interrupted caller cancels the
+        // task, but the MQ call itself keeps its offload thread busy until it completes
+        AtomicBoolean started = new AtomicBoolean();
+        FutureTask<T> task = new FutureTask<>(() -> {
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return call.call();
+            } finally {
+                PERMITS.release();
+            }
+        }) {
+            @Override
+            protected void done() {
+                // Cancelled before the call started, so the body will not return the permit
+                if (started.compareAndSet(false, true)) {
+                    PERMITS.release();
+                }
+            }
+        };
+        try {
+            EXECUTOR.execute(task);
+        } catch (RejectedExecutionException e) {
+            PERMITS.release();
+            throw new javax.jms.JMSException("Blocking-call executor rejected the call: " + e.getMessage());
+        }
+
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new javax.jms.JMSException("Interrupted during blocking MQ call");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof javax.jms.JMSException) {
+                throw (javax.jms.JMSException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * {@link Thread#isVirtual()} where the runtime has it (Java 21+), {@code false} otherwise.
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /** Offload threads currently free to take a call. */
+    public static int getAvailablePermits() {
+        return PERMITS.availablePermits();
+    }
+
+    private static MethodHandle lookupIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "ibmmq-blocking-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
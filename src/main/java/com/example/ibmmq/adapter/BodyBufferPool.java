@@ -0,0 +1,135 @@
+package com.example.ibmmq.adapter;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of buffers for reading message bodies, so bodies are not read into a new array
+ * per message:
+ * <ul>
+ *   <li>body buffers, reused whole for bodies up to {@code maxBodySize}, which the JDK decodes
+ *       to a String in one pass;</li>
+ *   <li>fixed-size chunks, for streaming and for decoding larger bodies piecewise.</li>
+ * </ul>
+ * Both are heap buffers: {@code BytesMessage.readBytes} can only write into a {@code byte[]},
+ * so a direct buffer would cost one more copy. Buffers beyond {@code maxPooled} of a kind are
+ * dropped on release rather than kept.
+ */
+public final class BodyBufferPool {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_BODY_SIZE = 4 * 1024 * 1024;
+
+    private static final BodyBufferPool SHARED = new BodyBufferPool(DEFAULT_CHUNK_SIZE,
+        Math.max(4, Runtime.getRuntime().availableProcessors() * 2), DEFAULT_MAX_BODY_SIZE);
+
+    /** Enough for the tail of any character split between two chunks. */
+    static final int CARRY_SIZE = 64;
+
+    private final int chunkSize;
+    private final int maxPooled;
+    private final int maxBodySize;
+    private final ConcurrentLinkedQueue<Chunk> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final ConcurrentLinkedQueue<byte[]> freeBodies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBodies = new AtomicInteger();
+
+    public BodyBufferPool(int chunkSize, int maxPooled, int maxBodySize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.maxPooled = maxPooled;
+        this.maxBodySize = maxBodySize;
+    }
+
+    public static BodyBufferPool shared() {
+        return SHARED;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Bodies up to this size are read whole into a pooled buffer, larger ones in chunks.
+     */
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public int getPooledCount() {
+        return pooled.get();
+    }
+
+    public int getPooledBodyCount() {
+        return pooledBodies.get();
+    }
+
+    /**
+     * A buffer of at least {@code length} bytes, {@code length <= maxBodySize}. Buffers grow in
+     * powers of two, so a pool serving similar bodies settles on a few sizes.
+     */
+    byte[] acquireBody(int length) {
+        byte[] body = freeBodies.poll();
+        if (body != null) {
+            pooledBodies.decrementAndGet();
+            if (body.length >= length) {
+                return body;
+            }
+        }
+        int size = Math.max(chunkSize, Integer.highestOneBit(Math.max(1, length - 1)) << 1);
+        return new byte[Math.max(length, Math.min(size, maxBodySize))];
+    }
+
+    void releaseBody(byte[] body) {
+        if (body.length <= maxBodySize && pooledBodies.incrementAndGet() <= maxPooled) {
+            freeBodies.offer(body);
+        } else if (body.length <= maxBodySize) {
+            pooledBodies.decrementAndGet();
+        }
+    }
+
+    Chunk acquire() {
+        Chunk chunk = free.poll();
+        if (chunk == null) {
+            return new Chunk(chunkSize);
+        }
+        pooled.decrementAndGet();
+        chunk.reset();
+        return chunk;
+    }
+
+    void release(Chunk chunk) {
+        if (pooled.incrementAndGet() <= maxPooled) {
+            free.offer(chunk);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    /**
+     * A read buffer with a view over it, a decode output buffer and a carry for split characters.
+     */
+    static final class Chunk {
+        final byte[] bytes;
+        final ByteBuffer view;
+        final CharBuffer chars;
+        final ByteBuffer carry = ByteBuffer.allocate(CARRY_SIZE);
+
+        Chunk(int size) {
+            this.bytes = new byte[size];
+            this.view = ByteBuffer.wrap(bytes);
+            // Room for at least a surrogate pair, or decoding into it could never make progress
+            this.chars = CharBuffer.allocate(Math.max(size, CARRY_SIZE));
+        }
+
+        void reset() {
+            view.clear();
+            chars.clear();
+            carry.clear();
+        }
+    }
+}
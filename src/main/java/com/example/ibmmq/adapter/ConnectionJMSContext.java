@@ -0,0 +1,1184 @@
+package com.example.ibmmq.adapter;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionMetaData;
+import jakarta.jms.Destination;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.IllegalStateRuntimeException;
+import jakarta.jms.InvalidClientIDException;
+import jakarta.jms.InvalidClientIDRuntimeException;
+import jakarta.jms.InvalidDestinationException;
+import jakarta.jms.InvalidDestinationRuntimeException;
+import jakarta.jms.InvalidSelectorException;
+import jakarta.jms.InvalidSelectorRuntimeException;
+import jakarta.jms.JMSConsumer;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.JMSProducer;
+import jakarta.jms.JMSRuntimeException;
+import jakarta.jms.JMSSecurityException;
+import jakarta.jms.JMSSecurityRuntimeException;
+import jakarta.jms.MapMessage;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageFormatException;
+import jakarta.jms.MessageFormatRuntimeException;
+import jakarta.jms.MessageListener;
+import jakarta.jms.MessageNotWriteableException;
+import jakarta.jms.MessageNotWriteableRuntimeException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.ObjectMessage;
+import jakarta.jms.Queue;
+import jakarta.jms.QueueBrowser;
+import jakarta.jms.ResourceAllocationException;
+import jakarta.jms.ResourceAllocationRuntimeException;
+import jakarta.jms.Session;
+import jakarta.jms.StreamMessage;
+import jakarta.jms.TemporaryQueue;
+import jakarta.jms.TemporaryTopic;
+import jakarta.jms.TextMessage;
+import jakarta.jms.Topic;
+import jakarta.jms.TransactionInProgressException;
+import jakarta.jms.TransactionInProgressRuntimeException;
+import jakarta.jms.TransactionRolledBackException;
+import jakarta.jms.TransactionRolledBackRuntimeException;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JMS 2.0 simplified API on top of a Jakarta {@link Connection}: an adapted IBM MQ client
+ * connection, or a pooled one. Contexts created with {@link #createContext(int)} share the
+ * connection, which is closed (for a pooled connection: returned to the pool) together with
+ * the last of them.
+ *
+ * The session is created on first use. Producers are cached per destination, so the
+ * {@link JMSProducer} objects handed out are plain holders of send options and sending through
+ * them repeatedly does not create a producer per message.
+ */
+public class ConnectionJMSContext implements JMSContext {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectionJMSContext.class.getName());
+
+    private static final int MAX_CACHED_PRODUCERS = 32;
+
+    private final SharedConnection connection;
+    private final int sessionMode;
+    private final Map<Destination, MessageProducer> producers =
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Destination, MessageProducer> eldest) {
+                if (size() > MAX_CACHED_PRODUCERS) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    private final List<ContextConsumer> consumers = new ArrayList<>();
+    private Session session;
+    private Message lastReceived;
+    private boolean autoStart = true;
+    private volatile boolean closed;
+
+    /**
+     * Takes ownership of the connection: it is closed when this context and every context
+     * created from it have been closed.
+     */
+    public ConnectionJMSContext(Connection connection, int sessionMode) {
+        this(new SharedConnection(connection), checkSessionMode(sessionMode, connection));
+    }
+
+    private ConnectionJMSContext(SharedConnection connection, int sessionMode) {
+        this.connection = connection;
+        this.sessionMode = sessionMode;
+    }
+
+    private static int checkSessionMode(int sessionMode, Connection connection) {
+        if (sessionMode != SESSION_TRANSACTED && sessionMode != AUTO_ACKNOWLEDGE &&
+            sessionMode != CLIENT_ACKNOWLEDGE && sessionMode != DUPS_OK_ACKNOWLEDGE) {
+            if (connection != null) {
+                closeQuietly(connection);
+            }
+            throw new JMSRuntimeException("Invalid session mode: " + sessionMode);
+        }
+        return sessionMode;
+    }
+
+    /**
+     * Unchecked counterpart of a JMS exception, as the simplified API throws them. Message,
+     * error code and the exception itself (as cause) are kept.
+     */
+    public static JMSRuntimeException toRuntimeException(JMSException e) {
+        String message = e.getMessage();
+        String errorCode = e.getErrorCode();
+        if (e instanceof IllegalStateException) {
+            return new IllegalStateRuntimeException(message, errorCode, e);
+        } else if (e instanceof InvalidClientIDException) {
+            return new InvalidClientIDRuntimeException(message, errorCode, e);
+        } else if (e instanceof InvalidDestinationException) {
+            return new InvalidDestinationRuntimeException(message, errorCode, e);
+        } else if (e instanceof InvalidSelectorException) {
+            return new InvalidSelectorRuntimeException(message, errorCode, e);
+        } else if (e instanceof JMSSecurityException) {
+            return new JMSSecurityRuntimeException(message, errorCode, e);
+        } else if (e instanceof MessageFormatException) {
+            return new MessageFormatRuntimeException(message, errorCode, e);
+        } else if (e instanceof MessageNotWriteableException) {
+            return new MessageNotWriteableRuntimeException(message, errorCode, e);
+        } else if (e instanceof ResourceAllocationException) {
+            return new ResourceAllocationRuntimeException(message, errorCode, e);
+        } else if (e instanceof TransactionInProgressException) {
+            return new TransactionInProgressRuntimeException(message, errorCode, e);
+        } else if (e instanceof TransactionRolledBackException) {
+            return new TransactionRolledBackRuntimeException(message, errorCode, e);
+        }
+        return new JMSRuntimeException(message, errorCode, e);
+    }
+
+    private Session session() {
+        checkOpen();
+        if (session == null) {
+            try {
+                session = connection.delegate.createSession(sessionMode);
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+        }
+        return session;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateRuntimeException("The JMSContext has been closed");
+        }
+    }
+
+    MessageProducer producerFor(Destination destination) throws JMSException {
+        MessageProducer producer = producers.get(destination);
+        if (producer == null) {
+            producer = session().createProducer(destination);
+            producers.put(destination, producer);
+        }
+        return producer;
+    }
+
+    private JMSConsumer consumer(MessageConsumer delegate) {
+        ContextConsumer consumer = new ContextConsumer(this, delegate);
+        consumers.add(consumer);
+        if (autoStart) {
+            start();
+        }
+        return consumer;
+    }
+
+    @Override
+    public JMSContext createContext(int sessionMode) {
+        checkOpen();
+        checkSessionMode(sessionMode, null);
+        connection.retain();
+        return new ConnectionJMSContext(connection, sessionMode);
+    }
+
+    @Override
+    public JMSProducer createProducer() {
+        checkOpen();
+        return new ContextProducer(this);
+    }
+
+    @Override
+    public String getClientID() {
+        checkOpen();
+        try {
+            return connection.delegate.getClientID();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setClientID(String clientID) {
+        checkOpen();
+        try {
+            connection.delegate.setClientID(clientID);
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public ConnectionMetaData getMetaData() {
+        checkOpen();
+        try {
+            return connection.delegate.getMetaData();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public ExceptionListener getExceptionListener() {
+        checkOpen();
+        try {
+            return connection.delegate.getExceptionListener();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public void setExceptionListener(ExceptionListener listener) {
+        checkOpen();
+        try {
+            connection.delegate.setExceptionListener(listener);
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        checkOpen();
+        connection.start();
+    }
+
+    @Override
+    public void stop() {
+        checkOpen();
+        connection.stop();
+    }
+
+    @Override
+    public void setAutoStart(boolean autoStart) {
+        checkOpen();
+        this.autoStart = autoStart;
+    }
+
+    @Override
+    public boolean getAutoStart() {
+        return autoStart;
+    }
+
+    /**
+     * Closes this context's consumers, producers and session, and the connection if no other
+     * context shares it any more. A pending transaction is rolled back by closing the session.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        JMSException failure = null;
+        for (ContextConsumer consumer : new ArrayList<>(consumers)) {
+            try {
+                consumer.delegate.close();
+            } catch (JMSException e) {
+                failure = e;
+            }
+        }
+        consumers.clear();
+        for (MessageProducer producer : producers.values()) {
+            try {
+                producer.close();
+            } catch (JMSException e) {
+                failure = e;
+            }
+        }
+        producers.clear();
+        if (session != null) {
+            try {
+                session.close();
+            } catch (JMSException e) {
+                failure = e;
+            }
+            session = null;
+        }
+        lastReceived = null;
+        try {
+            connection.release();
+        } catch (JMSException e) {
+            failure = e;
+        }
+        if (failure != null) {
+            throw toRuntimeException(failure);
+        }
+    }
+
+    @Override
+    public BytesMessage createBytesMessage() {
+        try {
+            return session().createBytesMessage();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public MapMessage createMapMessage() {
+        try {
+            return session().createMapMessage();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public Message createMessage() {
+        try {
+            return session().createMessage();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public ObjectMessage createObjectMessage() {
+        try {
+            return session().createObjectMessage();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public ObjectMessage createObjectMessage(Serializable object) {
+        try {
+            return session().createObjectMessage(object);
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public StreamMessage createStreamMessage() {
+        try {
+            return session().createStreamMessage();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public TextMessage createTextMessage() {
+        try {
+            return session().createTextMessage();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public TextMessage createTextMessage(String text) {
+        try {
+            return session().createTextMessage(text);
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean getTransacted() {
+        checkOpen();
+        return sessionMode == SESSION_TRANSACTED;
+    }
+
+    @Override
+    public int getSessionMode() {
+        checkOpen();
+        return sessionMode;
+    }
+
+    @Override
+    public void commit() {
+        try {
+            session().commit();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public void rollback() {
+        try {
+            session().rollback();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public void recover() {
+        try {
+            session().recover();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination) {
+        try {
+            return consumer(session().createConsumer(destination));
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination, String messageSelector) {
+        try {
+            return consumer(session().createConsumer(destination, messageSelector));
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination, String messageSelector, boolean noLocal) {
+        try {
+            return consumer(session().createConsumer(destination, messageSelector, noLocal));
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public Queue createQueue(String queueName) {
+        try {
+            return session().createQueue(queueName);
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public Topic createTopic(String topicName) {
+        try {
+            return session().createTopic(topicName);
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createDurableConsumer(Topic topic, String name) {
+        try {
+            return consumer(session().createDurableConsumer(topic, name));
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createDurableConsumer(Topic topic, String name, String messageSelector, boolean noLocal) {
+        try {
+            return consumer(session().createDurableConsumer(topic, name, messageSelector, noLocal));
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createSharedDurableConsumer(Topic topic, String name) {
+        try {
+            return consumer(session().createSharedDurableConsumer(topic, name));
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createSharedDurableConsumer(Topic topic, String name, String messageSelector) {
+        try {
+            return consumer(session().createSharedDurableConsumer(topic, name, messageSelector));
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName) {
+        try {
+            return consumer(session().createSharedConsumer(topic, sharedSubscriptionName));
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName, String messageSelector) {
+        try {
+            return consumer(session().createSharedConsumer(topic, sharedSubscriptionName, messageSelector));
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue) {
+        try {
+            return session().createBrowser(queue);
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue, String messageSelector) {
+        try {
+            return session().createBrowser(queue, messageSelector);
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public TemporaryQueue createTemporaryQueue() {
+        try {
+            return session().createTemporaryQueue();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public TemporaryTopic createTemporaryTopic() {
+        try {
+            return session().createTemporaryTopic();
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    @Override
+    public void unsubscribe(String name) {
+        try {
+            session().unsubscribe(name);
+        } catch (JMSException e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Acknowledges every message consumed so far in client-acknowledge mode; a no-op in the
+     * other modes.
+     */
+    @Override
+    public void acknowledge() {
+        checkOpen();
+        if (sessionMode == CLIENT_ACKNOWLEDGE && lastReceived != null) {
+            try {
+                lastReceived.acknowledge();
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+        }
+    }
+
+    void received(Message message) {
+        if (message != null && sessionMode == CLIENT_ACKNOWLEDGE) {
+            lastReceived = message;
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Error closing JMSContext resource", e);
+        }
+    }
+
+    /**
+     * The connection behind a family of contexts, closed when the last of them is closed.
+     */
+    private static final class SharedConnection {
+
+        private final Connection delegate;
+        private final AtomicInteger references = new AtomicInteger(1);
+        private volatile boolean started;
+
+        SharedConnection(Connection delegate) {
+            this.delegate = delegate;
+        }
+
+        void retain() {
+            references.incrementAndGet();
+        }
+
+        void release() throws JMSException {
+            if (references.decrementAndGet() == 0) {
+                delegate.close();
+            }
+        }
+
+        void start() {
+            if (!started) {
+                try {
+                    delegate.start();
+                    started = true;
+                } catch (JMSException e) {
+                    throw toRuntimeException(e);
+                }
+            }
+        }
+
+        void stop() {
+            try {
+                delegate.stop();
+                started = false;
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Send options plus message properties and headers; the producer itself comes from the
+     * context's per-destination cache at send time.
+     */
+    static final class ContextProducer implements JMSProducer {
+
+        private final ConnectionJMSContext context;
+        private final Map<String, Object> properties = new LinkedHashMap<>();
+        private int deliveryMode = Message.DEFAULT_DELIVERY_MODE;
+        private int priority = Message.DEFAULT_PRIORITY;
+        private long timeToLive = Message.DEFAULT_TIME_TO_LIVE;
+        private long deliveryDelay = Message.DEFAULT_DELIVERY_DELAY;
+        private boolean disableMessageID;
+        private boolean disableMessageTimestamp;
+        private CompletionListener completionListener;
+        private String correlationID;
+        private byte[] correlationIDBytes;
+        private String type;
+        private Destination replyTo;
+
+        ContextProducer(ConnectionJMSContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public JMSProducer send(Destination destination, Message message) {
+            if (destination == null) {
+                throw new InvalidDestinationRuntimeException("Destination must not be null");
+            }
+            if (message == null) {
+                throw new MessageFormatRuntimeException("Message must not be null");
+            }
+            try {
+                applyTo(message);
+                MessageProducer producer = context.producerFor(destination);
+                configure(producer);
+                if (completionListener != null) {
+                    producer.send(message, deliveryMode, priority, timeToLive, completionListener);
+                } else {
+                    producer.send(message, deliveryMode, priority, timeToLive);
+                }
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+            return this;
+        }
+
+        @Override
+        public JMSProducer send(Destination destination, String body) {
+            return send(destination, context.createTextMessage(body));
+        }
+
+        @Override
+        public JMSProducer send(Destination destination, Map<String, Object> body) {
+            MapMessage message = context.createMapMessage();
+            if (body != null) {
+                try {
+                    for (Map.Entry<String, Object> entry : body.entrySet()) {
+                        message.setObject(entry.getKey(), entry.getValue());
+                    }
+                } catch (JMSException e) {
+                    throw toRuntimeException(e);
+                }
+            }
+            return send(destination, message);
+        }
+
+        @Override
+        public JMSProducer send(Destination destination, byte[] body) {
+            BytesMessage message = context.createBytesMessage();
+            if (body != null) {
+                try {
+                    message.writeBytes(body);
+                } catch (JMSException e) {
+                    throw toRuntimeException(e);
+                }
+            }
+            return send(destination, message);
+        }
+
+        @Override
+        public JMSProducer send(Destination destination, Serializable body) {
+            return send(destination, context.createObjectMessage(body));
+        }
+
+        private void applyTo(Message message) throws JMSException {
+            for (Map.Entry<String, Object> property : properties.entrySet()) {
+                message.setObjectProperty(property.getKey(), property.getValue());
+            }
+            if (correlationIDBytes != null) {
+                message.setJMSCorrelationIDAsBytes(correlationIDBytes);
+            }
+            if (correlationID != null) {
+                message.setJMSCorrelationID(correlationID);
+            }
+            if (type != null) {
+                message.setJMSType(type);
+            }
+            if (replyTo != null) {
+                message.setJMSReplyTo(replyTo);
+            }
+        }
+
+        /**
+         * Cached producers are shared by every JMSProducer of the context, so options that
+         * only exist on the producer are set when they differ from what it currently has.
+         */
+        private void configure(MessageProducer producer) throws JMSException {
+            if (producer.getDisableMessageID() != disableMessageID) {
+                producer.setDisableMessageID(disableMessageID);
+            }
+            if (producer.getDisableMessageTimestamp() != disableMessageTimestamp) {
+                producer.setDisableMessageTimestamp(disableMessageTimestamp);
+            }
+            if (producer.getDeliveryDelay() != deliveryDelay) {
+                producer.setDeliveryDelay(deliveryDelay);
+            }
+        }
+
+        @Override
+        public JMSProducer setDisableMessageID(boolean value) {
+            disableMessageID = value;
+            return this;
+        }
+
+        @Override
+        public boolean getDisableMessageID() {
+            return disableMessageID;
+        }
+
+        @Override
+        public JMSProducer setDisableMessageTimestamp(boolean value) {
+            disableMessageTimestamp = value;
+            return this;
+        }
+
+        @Override
+        public boolean getDisableMessageTimestamp() {
+            return disableMessageTimestamp;
+        }
+
+        @Override
+        public JMSProducer setDeliveryMode(int deliveryMode) {
+            if (deliveryMode != jakarta.jms.DeliveryMode.PERSISTENT &&
+                deliveryMode != jakarta.jms.DeliveryMode.NON_PERSISTENT) {
+                throw new JMSRuntimeException("Invalid delivery mode: " + deliveryMode);
+            }
+            this.deliveryMode = deliveryMode;
+            return this;
+        }
+
+        @Override
+        public int getDeliveryMode() {
+            return deliveryMode;
+        }
+
+        @Override
+        public JMSProducer setPriority(int priority) {
+            if (priority < 0 || priority > 9) {
+                throw new JMSRuntimeException("Invalid priority: " + priority);
+            }
+            this.priority = priority;
+            return this;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public JMSProducer setTimeToLive(long timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        @Override
+        public long getTimeToLive() {
+            return timeToLive;
+        }
+
+        @Override
+        public JMSProducer setDeliveryDelay(long deliveryDelay) {
+            this.deliveryDelay = deliveryDelay;
+            return this;
+        }
+
+        @Override
+        public long getDeliveryDelay() {
+            return deliveryDelay;
+        }
+
+        @Override
+        public JMSProducer setAsync(CompletionListener completionListener) {
+            this.completionListener = completionListener;
+            return this;
+        }
+
+        @Override
+        public CompletionListener getAsync() {
+            return completionListener;
+        }
+
+        private JMSProducer property(String name, Object value) {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("Property name must not be null or empty");
+            }
+            properties.put(name, value);
+            return this;
+        }
+
+        @Override
+        public JMSProducer setProperty(String name, boolean value) {
+            return property(name, value);
+        }
+
+        @Override
+        public JMSProducer setProperty(String name, byte value) {
+            return property(name, value);
+        }
+
+        @Override
+        public JMSProducer setProperty(String name, short value) {
+            return property(name, value);
+        }
+
+        @Override
+        public JMSProducer setProperty(String name, int value) {
+            return property(name, value);
+        }
+
+        @Override
+        public JMSProducer setProperty(String name, long value) {
+            return property(name, value);
+        }
+
+        @Override
+        public JMSProducer setProperty(String name, float value) {
+            return property(name, value);
+        }
+
+        @Override
+        public JMSProducer setProperty(String name, double value) {
+            return property(name, value);
+        }
+
+        @Override
+        public JMSProducer setProperty(String name, String value) {
+            return property(name, value);
+        }
+
+        @Override
+        public JMSProducer setProperty(String name, Object value) {
+            if (value != null && !(value instanceof String) && !(value instanceof Boolean) &&
+                !(value instanceof Byte) && !(value instanceof Short) && !(value instanceof Integer) &&
+                !(value instanceof Long) && !(value instanceof Float) && !(value instanceof Double)) {
+                throw new MessageFormatRuntimeException("Unsupported property type: " + value.getClass().getName());
+            }
+            return property(name, value);
+        }
+
+        @Override
+        public JMSProducer clearProperties() {
+            properties.clear();
+            return this;
+        }
+
+        @Override
+        public boolean propertyExists(String name) {
+            return properties.containsKey(name);
+        }
+
+        @Override
+        public boolean getBooleanProperty(String name) {
+            Object value = properties.get(name);
+            if (value instanceof Boolean) {
+                return (Boolean) value;
+            }
+            if (value == null || value instanceof String) {
+                return Boolean.parseBoolean((String) value);
+            }
+            throw conversionFailure(name, value, "boolean");
+        }
+
+        @Override
+        public byte getByteProperty(String name) {
+            Object value = properties.get(name);
+            if (value instanceof Byte) {
+                return (Byte) value;
+            }
+            if (value == null || value instanceof String) {
+                return Byte.parseByte((String) value);
+            }
+            throw conversionFailure(name, value, "byte");
+        }
+
+        @Override
+        public short getShortProperty(String name) {
+            Object value = properties.get(name);
+            if (value instanceof Short || value instanceof Byte) {
+                return ((Number) value).shortValue();
+            }
+            if (value == null || value instanceof String) {
+                return Short.parseShort((String) value);
+            }
+            throw conversionFailure(name, value, "short");
+        }
+
+        @Override
+        public int getIntProperty(String name) {
+            Object value = properties.get(name);
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).intValue();
+            }
+            if (value == null || value instanceof String) {
+                return Integer.parseInt((String) value);
+            }
+            throw conversionFailure(name, value, "int");
+        }
+
+        @Override
+        public long getLongProperty(String name) {
+            Object value = properties.get(name);
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).longValue();
+            }
+            if (value == null || value instanceof String) {
+                return Long.parseLong((String) value);
+            }
+            throw conversionFailure(name, value, "long");
+        }
+
+        @Override
+        public float getFloatProperty(String name) {
+            Object value = properties.get(name);
+            if (value instanceof Float) {
+                return (Float) value;
+            }
+            if (value == null || value instanceof String) {
+                return Float.parseFloat((String) value);
+            }
+            throw conversionFailure(name, value, "float");
+        }
+
+        @Override
+        public double getDoubleProperty(String name) {
+            Object value = properties.get(name);
+            if (value instanceof Double || value instanceof Float) {
+                return ((Number) value).doubleValue();
+            }
+            if (value == null || value instanceof String) {
+                return Double.parseDouble((String) value);
+            }
+            throw conversionFailure(name, value, "double");
+        }
+
+        @Override
+        public String getStringProperty(String name) {
+            Object value = properties.get(name);
+            return value != null ? value.toString() : null;
+        }
+
+        @Override
+        public Object getObjectProperty(String name) {
+            return properties.get(name);
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return Collections.unmodifiableSet(new HashSet<>(properties.keySet()));
+        }
+
+        private static MessageFormatRuntimeException conversionFailure(String name, Object value, String target) {
+            return new MessageFormatRuntimeException("Property " + name + " of type " +
+                value.getClass().getSimpleName() + " cannot be read as " + target);
+        }
+
+        @Override
+        public JMSProducer setJMSCorrelationIDAsBytes(byte[] correlationID) {
+            if (correlationID == null || correlationID.length == 0) {
+                throw new JMSRuntimeException("Correlation ID must not be null or empty");
+            }
+            this.correlationIDBytes = correlationID.clone();
+            return this;
+        }
+
+        @Override
+        public byte[] getJMSCorrelationIDAsBytes() {
+            return correlationIDBytes != null ? correlationIDBytes.clone() : null;
+        }
+
+        @Override
+        public JMSProducer setJMSCorrelationID(String correlationID) {
+            this.correlationID = correlationID;
+            return this;
+        }
+
+        @Override
+        public String getJMSCorrelationID() {
+            return correlationID;
+        }
+
+        @Override
+        public JMSProducer setJMSType(String type) {
+            this.type = type;
+            return this;
+        }
+
+        @Override
+        public String getJMSType() {
+            return type;
+        }
+
+        @Override
+        public JMSProducer setJMSReplyTo(Destination replyTo) {
+            this.replyTo = replyTo;
+            return this;
+        }
+
+        @Override
+        public Destination getJMSReplyTo() {
+            return replyTo;
+        }
+    }
+
+    /**
+     * Consumer of a context; messages it receives count towards {@link #acknowledge()}.
+     */
+    static final class ContextConsumer implements JMSConsumer {
+
+        private final ConnectionJMSContext context;
+        private final MessageConsumer delegate;
+
+        ContextConsumer(ConnectionJMSContext context, MessageConsumer delegate) {
+            this.context = context;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getMessageSelector() {
+            try {
+                return delegate.getMessageSelector();
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+        }
+
+        @Override
+        public MessageListener getMessageListener() {
+            try {
+                return delegate.getMessageListener();
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+        }
+
+        @Override
+        public void setMessageListener(MessageListener listener) {
+            try {
+                delegate.setMessageListener(listener);
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+        }
+
+        @Override
+        public Message receive() {
+            try {
+                return received(delegate.receive());
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+        }
+
+        @Override
+        public Message receive(long timeout) {
+            try {
+                return received(delegate.receive(timeout));
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+        }
+
+        @Override
+        public Message receiveNoWait() {
+            try {
+                return received(delegate.receiveNoWait());
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+        }
+
+        @Override
+        public <T> T receiveBody(Class<T> c) {
+            return body(receive(), c);
+        }
+
+        @Override
+        public <T> T receiveBody(Class<T> c, long timeout) {
+            return body(receive(timeout), c);
+        }
+
+        @Override
+        public <T> T receiveBodyNoWait(Class<T> c) {
+            return body(receiveNoWait(), c);
+        }
+
+        private Message received(Message message) {
+            context.received(message);
+            return message;
+        }
+
+        private static <T> T body(Message message, Class<T> c) {
+            if (message == null) {
+                return null;
+            }
+            try {
+                return message.getBody(c);
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } catch (JMSException e) {
+                throw toRuntimeException(e);
+            } finally {
+                context.consumers.remove(this);
+            }
+        }
+    }
+}
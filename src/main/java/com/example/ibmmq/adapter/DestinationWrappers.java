@@ -3,6 +3,8 @@ package com.example.ibmmq.adapter;
 import jakarta.jms.*;
 import java.util.Enumeration;
 
+import static com.example.ibmmq.adapter.JakartaJMSAdapter.convertException;
+
 /**
  * Destination wrapper classes for Jakarta JMS to javax JMS adapter
  */
@@ -57,7 +59,7 @@ public class DestinationWrappers {
             try {
                 return queueDelegate.getQueueName();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -78,7 +80,7 @@ public class DestinationWrappers {
             try {
                 return topicDelegate.getTopicName();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -99,7 +101,7 @@ public class DestinationWrappers {
             try {
                 tempQueueDelegate.delete();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -120,7 +122,7 @@ public class DestinationWrappers {
             try {
                 tempTopicDelegate.delete();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -140,7 +142,7 @@ public class DestinationWrappers {
             try {
                 delegate.setDisableMessageID(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -149,7 +151,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getDisableMessageID();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -158,7 +160,7 @@ public class DestinationWrappers {
             try {
                 delegate.setDisableMessageTimestamp(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -167,7 +169,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getDisableMessageTimestamp();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -176,7 +178,7 @@ public class DestinationWrappers {
             try {
                 delegate.setDeliveryMode(deliveryMode);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -185,7 +187,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getDeliveryMode();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -194,7 +196,7 @@ public class DestinationWrappers {
             try {
                 delegate.setPriority(defaultPriority);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -203,7 +205,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getPriority();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -212,7 +214,7 @@ public class DestinationWrappers {
             try {
                 delegate.setTimeToLive(timeToLive);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -221,7 +223,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getTimeToLive();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -230,7 +232,7 @@ public class DestinationWrappers {
             try {
                 delegate.setDeliveryDelay(deliveryDelay);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -239,7 +241,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getDeliveryDelay();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -257,7 +259,7 @@ public class DestinationWrappers {
                     return new DestinationWrapper(javaxDest);
                 }
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -266,7 +268,7 @@ public class DestinationWrappers {
             try {
                 delegate.close();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -276,7 +278,7 @@ public class DestinationWrappers {
                 javax.jms.Message javaxMessage = ((MessageWrappers.MessageWrapper) message).getDelegate();
                 delegate.send(javaxMessage);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -286,7 +288,7 @@ public class DestinationWrappers {
                 javax.jms.Message javaxMessage = ((MessageWrappers.MessageWrapper) message).getDelegate();
                 delegate.send(javaxMessage, deliveryMode, priority, timeToLive);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -297,7 +299,7 @@ public class DestinationWrappers {
                 javax.jms.Message javaxMessage = ((MessageWrappers.MessageWrapper) message).getDelegate();
                 delegate.send(javaxDest, javaxMessage);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -308,7 +310,7 @@ public class DestinationWrappers {
                 javax.jms.Message javaxMessage = ((MessageWrappers.MessageWrapper) message).getDelegate();
                 delegate.send(javaxDest, javaxMessage, deliveryMode, priority, timeToLive);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -318,7 +320,7 @@ public class DestinationWrappers {
                 javax.jms.Message javaxMessage = ((MessageWrappers.MessageWrapper) message).getDelegate();
                 delegate.send(javaxMessage, new CompletionListenerWrapper(completionListener));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -328,7 +330,7 @@ public class DestinationWrappers {
                 javax.jms.Message javaxMessage = ((MessageWrappers.MessageWrapper) message).getDelegate();
                 delegate.send(javaxMessage, deliveryMode, priority, timeToLive, new CompletionListenerWrapper(completionListener));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -339,7 +341,7 @@ public class DestinationWrappers {
                 javax.jms.Message javaxMessage = ((MessageWrappers.MessageWrapper) message).getDelegate();
                 delegate.send(javaxDest, javaxMessage, new CompletionListenerWrapper(completionListener));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -350,7 +352,7 @@ public class DestinationWrappers {
                 javax.jms.Message javaxMessage = ((MessageWrappers.MessageWrapper) message).getDelegate();
                 delegate.send(javaxDest, javaxMessage, deliveryMode, priority, timeToLive, new CompletionListenerWrapper(completionListener));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -370,7 +372,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getMessageSelector();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -378,9 +380,12 @@ public class DestinationWrappers {
         public jakarta.jms.MessageListener getMessageListener() throws JMSException {
             try {
                 javax.jms.MessageListener listener = delegate.getMessageListener();
+                if (listener instanceof JavaxMessageListenerWrapper) {
+                    return ((JavaxMessageListenerWrapper) listener).delegate;
+                }
                 return listener != null ? new MessageListenerWrapper(listener) : null;
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -393,27 +398,27 @@ public class DestinationWrappers {
                     delegate.setMessageListener(null);
                 }
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
         @Override
         public jakarta.jms.Message receive() throws JMSException {
             try {
-                javax.jms.Message javaxMessage = delegate.receive();
-                return javaxMessage != null ? wrapMessage(javaxMessage) : null;
+                javax.jms.Message javaxMessage = BlockingCallOffloader.call(delegate::receive);
+                return MessageWrappers.wrap(javaxMessage);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
         @Override
         public jakarta.jms.Message receive(long timeout) throws JMSException {
             try {
-                javax.jms.Message javaxMessage = delegate.receive(timeout);
-                return javaxMessage != null ? wrapMessage(javaxMessage) : null;
+                javax.jms.Message javaxMessage = BlockingCallOffloader.call(() -> delegate.receive(timeout));
+                return MessageWrappers.wrap(javaxMessage);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -421,9 +426,9 @@ public class DestinationWrappers {
         public jakarta.jms.Message receiveNoWait() throws JMSException {
             try {
                 javax.jms.Message javaxMessage = delegate.receiveNoWait();
-                return javaxMessage != null ? wrapMessage(javaxMessage) : null;
+                return MessageWrappers.wrap(javaxMessage);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -432,23 +437,7 @@ public class DestinationWrappers {
             try {
                 delegate.close();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
-            }
-        }
-
-        private jakarta.jms.Message wrapMessage(javax.jms.Message javaxMessage) {
-            if (javaxMessage instanceof javax.jms.TextMessage) {
-                return new MessageWrappers.TextMessageWrapper((javax.jms.TextMessage) javaxMessage);
-            } else if (javaxMessage instanceof javax.jms.BytesMessage) {
-                return new MessageWrappers.BytesMessageWrapper((javax.jms.BytesMessage) javaxMessage);
-            } else if (javaxMessage instanceof javax.jms.ObjectMessage) {
-                return new MessageWrappers.ObjectMessageWrapper((javax.jms.ObjectMessage) javaxMessage);
-            } else if (javaxMessage instanceof javax.jms.MapMessage) {
-                return new MessageWrappers.MapMessageWrapper((javax.jms.MapMessage) javaxMessage);
-            } else if (javaxMessage instanceof javax.jms.StreamMessage) {
-                return new MessageWrappers.StreamMessageWrapper((javax.jms.StreamMessage) javaxMessage);
-            } else {
-                return new MessageWrappers.MessageWrapper(javaxMessage);
+                throw convertException(e);
             }
         }
     }
@@ -469,7 +458,7 @@ public class DestinationWrappers {
             try {
                 return new TopicWrapper(topicDelegate.getTopic());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -478,7 +467,7 @@ public class DestinationWrappers {
             try {
                 return topicDelegate.getNoLocal();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -498,7 +487,7 @@ public class DestinationWrappers {
             try {
                 return new QueueWrapper(delegate.getQueue());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -507,7 +496,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getMessageSelector();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -516,7 +505,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getEnumeration();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -525,7 +514,7 @@ public class DestinationWrappers {
             try {
                 delegate.close();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -545,7 +534,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getJMSVersion();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -554,7 +543,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getJMSMajorVersion();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -563,7 +552,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getJMSMinorVersion();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -572,7 +561,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getJMSProviderName();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -581,7 +570,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getProviderVersion();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -590,7 +579,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getProviderMajorVersion();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -599,7 +588,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getProviderMinorVersion();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -608,7 +597,7 @@ public class DestinationWrappers {
             try {
                 return delegate.getJMSXPropertyNames();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -637,19 +626,7 @@ public class DestinationWrappers {
 
         @Override
         public void onMessage(javax.jms.Message message) {
-            if (message instanceof javax.jms.TextMessage) {
-                delegate.onMessage(new MessageWrappers.TextMessageWrapper((javax.jms.TextMessage) message));
-            } else if (message instanceof javax.jms.BytesMessage) {
-                delegate.onMessage(new MessageWrappers.BytesMessageWrapper((javax.jms.BytesMessage) message));
-            } else if (message instanceof javax.jms.ObjectMessage) {
-                delegate.onMessage(new MessageWrappers.ObjectMessageWrapper((javax.jms.ObjectMessage) message));
-            } else if (message instanceof javax.jms.MapMessage) {
-                delegate.onMessage(new MessageWrappers.MapMessageWrapper((javax.jms.MapMessage) message));
-            } else if (message instanceof javax.jms.StreamMessage) {
-                delegate.onMessage(new MessageWrappers.StreamMessageWrapper((javax.jms.StreamMessage) message));
-            } else {
-                delegate.onMessage(new MessageWrappers.MessageWrapper(message));
-            }
+            delegate.onMessage(MessageWrappers.wrap(message));
         }
     }
 
@@ -662,36 +639,12 @@ public class DestinationWrappers {
 
         @Override
         public void onCompletion(javax.jms.Message message) {
-            if (message instanceof javax.jms.TextMessage) {
-                delegate.onCompletion(new MessageWrappers.TextMessageWrapper((javax.jms.TextMessage) message));
-            } else if (message instanceof javax.jms.BytesMessage) {
-                delegate.onCompletion(new MessageWrappers.BytesMessageWrapper((javax.jms.BytesMessage) message));
-            } else if (message instanceof javax.jms.ObjectMessage) {
-                delegate.onCompletion(new MessageWrappers.ObjectMessageWrapper((javax.jms.ObjectMessage) message));
-            } else if (message instanceof javax.jms.MapMessage) {
-                delegate.onCompletion(new MessageWrappers.MapMessageWrapper((javax.jms.MapMessage) message));
-            } else if (message instanceof javax.jms.StreamMessage) {
-                delegate.onCompletion(new MessageWrappers.StreamMessageWrapper((javax.jms.StreamMessage) message));
-            } else {
-                delegate.onCompletion(new MessageWrappers.MessageWrapper(message));
-            }
+            delegate.onCompletion(MessageWrappers.wrap(message));
         }
 
         @Override
         public void onException(javax.jms.Message message, Exception exception) {
-            if (message instanceof javax.jms.TextMessage) {
-                delegate.onException(new MessageWrappers.TextMessageWrapper((javax.jms.TextMessage) message), exception);
-            } else if (message instanceof javax.jms.BytesMessage) {
-                delegate.onException(new MessageWrappers.BytesMessageWrapper((javax.jms.BytesMessage) message), exception);
-            } else if (message instanceof javax.jms.ObjectMessage) {
-                delegate.onException(new MessageWrappers.ObjectMessageWrapper((javax.jms.ObjectMessage) message), exception);
-            } else if (message instanceof javax.jms.MapMessage) {
-                delegate.onException(new MessageWrappers.MapMessageWrapper((javax.jms.MapMessage) message), exception);
-            } else if (message instanceof javax.jms.StreamMessage) {
-                delegate.onException(new MessageWrappers.StreamMessageWrapper((javax.jms.StreamMessage) message), exception);
-            } else {
-                delegate.onException(new MessageWrappers.MessageWrapper(message), exception);
-            }
+            delegate.onException(MessageWrappers.wrap(message), exception);
         }
     }
 }
\ No newline at end of file
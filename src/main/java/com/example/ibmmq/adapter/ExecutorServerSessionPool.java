@@ -0,0 +1,238 @@
+package com.example.ibmmq.adapter;
+
+import jakarta.jms.Connection;
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageListener;
+import jakarta.jms.ServerSession;
+import jakarta.jms.ServerSessionPool;
+import jakarta.jms.Session;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * ServerSessionPool of up to {@code maxSessions} sessions on one connection, for a
+ * {@link jakarta.jms.ConnectionConsumer} to fan messages out to. Each started server session
+ * runs on a bounded executor with one thread per session. When every session is busy,
+ * {@link #getServerSession()} blocks, so the consumer is held back at the pace of the listener
+ * instead of loading messages nobody can process yet.
+ *
+ * Sessions are created on first demand and share one listener, which must be thread-safe. In
+ * {@link Session#SESSION_TRANSACTED} mode each delivered batch is committed when the listener
+ * returns and rolled back if it throws.
+ */
+public class ExecutorServerSessionPool implements ServerSessionPool, AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ExecutorServerSessionPool.class.getName());
+
+    private static final long CLOSE_CHECK_MILLIS = 1000;
+
+    private final Connection connection;
+    private final int maxSessions;
+    private final int sessionMode;
+    private final MessageListener listener;
+    private final ThreadPoolExecutor executor;
+    private final BlockingQueue<PooledServerSession> idleSessions;
+    private final List<PooledServerSession> sessions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final AtomicLong completedRuns = new AtomicLong();
+    private final AtomicLong failedRuns = new AtomicLong();
+    private volatile boolean closed;
+
+    public ExecutorServerSessionPool(Connection connection, int maxSessions, int sessionMode, MessageListener listener) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("At least one server session is required: " + maxSessions);
+        }
+        this.connection = connection;
+        this.maxSessions = maxSessions;
+        this.sessionMode = sessionMode;
+        this.listener = listener;
+        this.idleSessions = new ArrayBlockingQueue<>(maxSessions);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        // A session is only started after being taken from the pool, so at most maxSessions runs queue up
+        this.executor = new ThreadPoolExecutor(maxSessions, maxSessions, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(maxSessions), runnable -> {
+                Thread thread = new Thread(runnable, "ibmmq-server-session-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * An idle server session, a new one while fewer than {@code maxSessions} exist, or else the
+     * next one to finish its run.
+     */
+    @Override
+    public ServerSession getServerSession() throws JMSException {
+        checkOpen();
+        PooledServerSession session = idleSessions.poll();
+        if (session != null) {
+            return session;
+        }
+        if (sessionCount.incrementAndGet() <= maxSessions) {
+            try {
+                return createServerSession();
+            } catch (JMSException | RuntimeException e) {
+                sessionCount.decrementAndGet();
+                throw e;
+            }
+        }
+        sessionCount.decrementAndGet();
+
+        try {
+            while (true) {
+                session = idleSessions.poll(CLOSE_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                if (session != null) {
+                    return session;
+                }
+                checkOpen();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMSException("Interrupted while waiting for a server session");
+        }
+    }
+
+    private PooledServerSession createServerSession() throws JMSException {
+        Session session = connection.createSession(sessionMode);
+        try {
+            session.setMessageListener(listener);
+        } catch (JMSException | RuntimeException e) {
+            closeQuietly(session);
+            throw e;
+        }
+        PooledServerSession serverSession = new PooledServerSession(session);
+        sessions.add(serverSession);
+        return serverSession;
+    }
+
+    private void checkOpen() throws JMSException {
+        if (closed) {
+            throw new IllegalStateException("Server session pool is closed");
+        }
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getIdleSessionCount() {
+        return idleSessions.size();
+    }
+
+    public long getCompletedRuns() {
+        return completedRuns.get();
+    }
+
+    public long getFailedRuns() {
+        return failedRuns.get();
+    }
+
+    /**
+     * Lets running sessions finish for up to {@code timeoutMillis}, then closes all sessions.
+     */
+    public void close(long timeoutMillis) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        for (PooledServerSession session : sessions) {
+            closeQuietly(session.session);
+        }
+        sessions.clear();
+        idleSessions.clear();
+    }
+
+    @Override
+    public void close() {
+        close(CLOSE_CHECK_MILLIS * 30);
+    }
+
+    private static void closeQuietly(Session session) {
+        try {
+            session.close();
+        } catch (JMSException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Error closing server session", e);
+        }
+    }
+
+    private final class PooledServerSession implements ServerSession, Runnable {
+
+        private final Session session;
+
+        PooledServerSession(Session session) {
+            this.session = session;
+        }
+
+        @Override
+        public Session getSession() {
+            return session;
+        }
+
+        @Override
+        public void start() throws JMSException {
+            checkOpen();
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                idleSessions.offer(this);
+                JMSException rejected = new IllegalStateException("Server session pool is closed");
+                rejected.initCause(e);
+                throw rejected;
+            }
+        }
+
+        /**
+         * Delivers the messages the consumer loaded into the session to the listener.
+         */
+        @Override
+        public void run() {
+            try {
+                session.run();
+                if (sessionMode == Session.SESSION_TRANSACTED) {
+                    session.commit();
+                }
+                completedRuns.incrementAndGet();
+            } catch (JMSException | RuntimeException e) {
+                failedRuns.incrementAndGet();
+                LOGGER.log(Level.WARNING, "Server session delivery failed", e);
+                if (sessionMode == Session.SESSION_TRANSACTED) {
+                    try {
+                        session.rollback();
+                    } catch (JMSException rollbackFailure) {
+                        LOGGER.log(Level.FINE, "Rollback of server session failed", rollbackFailure);
+                    }
+                }
+            } finally {
+                if (!closed) {
+                    idleSessions.offer(this);
+                }
+            }
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.example.ibmmq.adapter.MessageWrappers.*;
 import com.example.ibmmq.adapter.DestinationWrappers.*;
 
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Adapter to bridge between Jakarta JMS (jakarta.jms.*) and IBM MQ Client (javax.jms.*)
@@ -29,7 +31,7 @@ public class JakartaJMSAdapter {
             try {
                 return new ConnectionWrapper(delegate.createConnection());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -38,28 +40,36 @@ public class JakartaJMSAdapter {
             try {
                 return new ConnectionWrapper(delegate.createConnection(userName, password));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
         @Override
         public jakarta.jms.JMSContext createContext() {
-            throw new UnsupportedOperationException("JMSContext not supported in IBM MQ Client adapter");
+            return createContext(jakarta.jms.JMSContext.AUTO_ACKNOWLEDGE);
         }
 
         @Override
         public jakarta.jms.JMSContext createContext(String userName, String password) {
-            throw new UnsupportedOperationException("JMSContext not supported in IBM MQ Client adapter");
+            return createContext(userName, password, jakarta.jms.JMSContext.AUTO_ACKNOWLEDGE);
         }
 
         @Override
         public jakarta.jms.JMSContext createContext(String userName, String password, int sessionMode) {
-            throw new UnsupportedOperationException("JMSContext not supported in IBM MQ Client adapter");
+            try {
+                return new ConnectionJMSContext(createConnection(userName, password), sessionMode);
+            } catch (JMSException e) {
+                throw ConnectionJMSContext.toRuntimeException(e);
+            }
         }
 
         @Override
         public jakarta.jms.JMSContext createContext(int sessionMode) {
-            throw new UnsupportedOperationException("JMSContext not supported in IBM MQ Client adapter");
+            try {
+                return new ConnectionJMSContext(createConnection(), sessionMode);
+            } catch (JMSException e) {
+                throw ConnectionJMSContext.toRuntimeException(e);
+            }
         }
     }
 
@@ -78,7 +88,7 @@ public class JakartaJMSAdapter {
             try {
                 return new SessionWrapper(delegate.createSession(transacted, acknowledgeMode));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -87,7 +97,7 @@ public class JakartaJMSAdapter {
             try {
                 return new SessionWrapper(delegate.createSession(sessionMode));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -96,7 +106,7 @@ public class JakartaJMSAdapter {
             try {
                 return new SessionWrapper(delegate.createSession());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -105,7 +115,7 @@ public class JakartaJMSAdapter {
             try {
                 return delegate.getClientID();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -114,16 +124,17 @@ public class JakartaJMSAdapter {
             try {
                 delegate.setClientID(clientID);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
         @Override
         public jakarta.jms.ConnectionMetaData getMetaData() throws JMSException {
             try {
+                // Not cached: the pool validates connections through this call, so it has to reach the client
                 return new ConnectionMetaDataWrapper(delegate.getMetaData());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -131,9 +142,12 @@ public class JakartaJMSAdapter {
         public jakarta.jms.ExceptionListener getExceptionListener() throws JMSException {
             try {
                 javax.jms.ExceptionListener listener = delegate.getExceptionListener();
+                if (listener instanceof JavaxExceptionListenerWrapper) {
+                    return ((JavaxExceptionListenerWrapper) listener).delegate;
+                }
                 return listener != null ? new ExceptionListenerWrapper(listener) : null;
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -146,7 +160,7 @@ public class JakartaJMSAdapter {
                     delegate.setExceptionListener(null);
                 }
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -155,7 +169,7 @@ public class JakartaJMSAdapter {
             try {
                 delegate.start();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -164,7 +178,7 @@ public class JakartaJMSAdapter {
             try {
                 delegate.stop();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -173,28 +187,58 @@ public class JakartaJMSAdapter {
             try {
                 delegate.close();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
+        /**
+         * Server-driven delivery through the IBM MQ client's application server facilities: the
+         * client loads up to {@code maxMessages} messages into a session taken from the pool and
+         * starts it. The pool's sessions must be created on this connection (not through a
+         * caching pooled connection), e.g. by an {@link ExecutorServerSessionPool}.
+         */
         @Override
         public jakarta.jms.ConnectionConsumer createConnectionConsumer(jakarta.jms.Destination destination, String messageSelector, jakarta.jms.ServerSessionPool sessionPool, int maxMessages) throws JMSException {
-            throw new UnsupportedOperationException("ConnectionConsumer not supported in adapter");
+            try {
+                javax.jms.Destination javaxDest = ((DestinationWrapper) destination).getDelegate();
+                return new ConnectionConsumerWrapper(delegate.createConnectionConsumer(
+                    javaxDest, messageSelector, new JavaxServerSessionPoolWrapper(sessionPool), maxMessages), sessionPool);
+            } catch (javax.jms.JMSException e) {
+                throw convertException(e);
+            }
         }
 
         @Override
         public jakarta.jms.ConnectionConsumer createSharedConnectionConsumer(jakarta.jms.Topic topic, String subscriptionName, String messageSelector, jakarta.jms.ServerSessionPool sessionPool, int maxMessages) throws JMSException {
-            throw new UnsupportedOperationException("ConnectionConsumer not supported in adapter");
+            try {
+                javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
+                return new ConnectionConsumerWrapper(delegate.createSharedConnectionConsumer(
+                    javaxTopic, subscriptionName, messageSelector, new JavaxServerSessionPoolWrapper(sessionPool), maxMessages), sessionPool);
+            } catch (javax.jms.JMSException e) {
+                throw convertException(e);
+            }
         }
 
         @Override
         public jakarta.jms.ConnectionConsumer createDurableConnectionConsumer(jakarta.jms.Topic topic, String subscriptionName, String messageSelector, jakarta.jms.ServerSessionPool sessionPool, int maxMessages) throws JMSException {
-            throw new UnsupportedOperationException("ConnectionConsumer not supported in adapter");
+            try {
+                javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
+                return new ConnectionConsumerWrapper(delegate.createDurableConnectionConsumer(
+                    javaxTopic, subscriptionName, messageSelector, new JavaxServerSessionPoolWrapper(sessionPool), maxMessages), sessionPool);
+            } catch (javax.jms.JMSException e) {
+                throw convertException(e);
+            }
         }
 
         @Override
         public jakarta.jms.ConnectionConsumer createSharedDurableConnectionConsumer(jakarta.jms.Topic topic, String subscriptionName, String messageSelector, jakarta.jms.ServerSessionPool sessionPool, int maxMessages) throws JMSException {
-            throw new UnsupportedOperationException("ConnectionConsumer not supported in adapter");
+            try {
+                javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
+                return new ConnectionConsumerWrapper(delegate.createSharedDurableConnectionConsumer(
+                    javaxTopic, subscriptionName, messageSelector, new JavaxServerSessionPoolWrapper(sessionPool), maxMessages), sessionPool);
+            } catch (javax.jms.JMSException e) {
+                throw convertException(e);
+            }
         }
     }
 
@@ -202,7 +246,22 @@ public class JakartaJMSAdapter {
      * Wraps a javax.jms.Session to provide Jakarta JMS interface
      */
     public static class SessionWrapper implements jakarta.jms.Session {
+        private static final int MAX_CACHED_DESTINATIONS = 32;
+
         private final javax.jms.Session delegate;
+        // Sessions are single-threaded, so the session's own destination cache needs no locking
+        private final Map<String, QueueWrapper> queues = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, QueueWrapper> eldest) {
+                return size() > MAX_CACHED_DESTINATIONS;
+            }
+        };
+        private final Map<String, TopicWrapper> topics = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TopicWrapper> eldest) {
+                return size() > MAX_CACHED_DESTINATIONS;
+            }
+        };
 
         public SessionWrapper(javax.jms.Session delegate) {
             this.delegate = delegate;
@@ -213,7 +272,7 @@ public class JakartaJMSAdapter {
             try {
                 return new BytesMessageWrapper(delegate.createBytesMessage());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -222,7 +281,7 @@ public class JakartaJMSAdapter {
             try {
                 return new MapMessageWrapper(delegate.createMapMessage());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -231,7 +290,7 @@ public class JakartaJMSAdapter {
             try {
                 return new MessageWrapper(delegate.createMessage());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -240,7 +299,7 @@ public class JakartaJMSAdapter {
             try {
                 return new ObjectMessageWrapper(delegate.createObjectMessage());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -249,7 +308,7 @@ public class JakartaJMSAdapter {
             try {
                 return new ObjectMessageWrapper(delegate.createObjectMessage(object));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -258,7 +317,7 @@ public class JakartaJMSAdapter {
             try {
                 return new StreamMessageWrapper(delegate.createStreamMessage());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -267,7 +326,7 @@ public class JakartaJMSAdapter {
             try {
                 return new TextMessageWrapper(delegate.createTextMessage());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -276,7 +335,7 @@ public class JakartaJMSAdapter {
             try {
                 return new TextMessageWrapper(delegate.createTextMessage(text));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -285,7 +344,7 @@ public class JakartaJMSAdapter {
             try {
                 return delegate.getTransacted();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -294,7 +353,7 @@ public class JakartaJMSAdapter {
             try {
                 return delegate.getAcknowledgeMode();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -303,7 +362,7 @@ public class JakartaJMSAdapter {
             try {
                 delegate.commit();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -312,7 +371,7 @@ public class JakartaJMSAdapter {
             try {
                 delegate.rollback();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -321,7 +380,7 @@ public class JakartaJMSAdapter {
             try {
                 delegate.close();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -330,7 +389,7 @@ public class JakartaJMSAdapter {
             try {
                 delegate.recover();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -338,9 +397,12 @@ public class JakartaJMSAdapter {
         public jakarta.jms.MessageListener getMessageListener() throws JMSException {
             try {
                 javax.jms.MessageListener listener = delegate.getMessageListener();
+                if (listener instanceof JavaxMessageListenerWrapper) {
+                    return ((JavaxMessageListenerWrapper) listener).delegate;
+                }
                 return listener != null ? new MessageListenerWrapper(listener) : null;
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -353,7 +415,7 @@ public class JakartaJMSAdapter {
                     delegate.setMessageListener(null);
                 }
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -369,7 +431,7 @@ public class JakartaJMSAdapter {
                     ((DestinationWrapper) destination).getDelegate() : null;
                 return new MessageProducerWrapper(delegate.createProducer(javaxDest));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -379,7 +441,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Destination javaxDest = destination != null ? ((DestinationWrapper) destination).getDelegate() : null;
                 return new MessageConsumerWrapper(delegate.createConsumer(javaxDest));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -389,7 +451,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Destination javaxDest = destination != null ? ((DestinationWrapper) destination).getDelegate() : null;
                 return new MessageConsumerWrapper(delegate.createConsumer(javaxDest, messageSelector));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -399,7 +461,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Destination javaxDest = destination != null ? ((DestinationWrapper) destination).getDelegate() : null;
                 return new MessageConsumerWrapper(delegate.createConsumer(javaxDest, messageSelector, noLocal));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -409,7 +471,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
                 return new MessageConsumerWrapper(delegate.createSharedConsumer(javaxTopic, sharedSubscriptionName));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -419,25 +481,35 @@ public class JakartaJMSAdapter {
                 javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
                 return new MessageConsumerWrapper(delegate.createSharedConsumer(javaxTopic, sharedSubscriptionName, messageSelector));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
         @Override
         public jakarta.jms.Queue createQueue(String queueName) throws JMSException {
             try {
-                return new QueueWrapper(delegate.createQueue(queueName));
+                QueueWrapper queue = queues.get(queueName);
+                if (queue == null) {
+                    queue = new QueueWrapper(delegate.createQueue(queueName));
+                    queues.put(queueName, queue);
+                }
+                return queue;
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
         @Override
         public jakarta.jms.Topic createTopic(String topicName) throws JMSException {
             try {
-                return new TopicWrapper(delegate.createTopic(topicName));
+                TopicWrapper topic = topics.get(topicName);
+                if (topic == null) {
+                    topic = new TopicWrapper(delegate.createTopic(topicName));
+                    topics.put(topicName, topic);
+                }
+                return topic;
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -447,7 +519,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
                 return new TopicSubscriberWrapper(delegate.createDurableSubscriber(javaxTopic, name));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -457,7 +529,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
                 return new TopicSubscriberWrapper(delegate.createDurableSubscriber(javaxTopic, name, messageSelector, noLocal));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -467,7 +539,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
                 return new MessageConsumerWrapper(delegate.createDurableConsumer(javaxTopic, name));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -477,7 +549,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
                 return new MessageConsumerWrapper(delegate.createDurableConsumer(javaxTopic, name, messageSelector, noLocal));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -487,7 +559,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
                 return new MessageConsumerWrapper(delegate.createSharedDurableConsumer(javaxTopic, name));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -497,7 +569,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Topic javaxTopic = (javax.jms.Topic) ((DestinationWrapper) topic).getDelegate();
                 return new MessageConsumerWrapper(delegate.createSharedDurableConsumer(javaxTopic, name, messageSelector));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -507,7 +579,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Queue javaxQueue = (javax.jms.Queue) ((DestinationWrapper) queue).getDelegate();
                 return new QueueBrowserWrapper(delegate.createBrowser(javaxQueue));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -517,7 +589,7 @@ public class JakartaJMSAdapter {
                 javax.jms.Queue javaxQueue = (javax.jms.Queue) ((DestinationWrapper) queue).getDelegate();
                 return new QueueBrowserWrapper(delegate.createBrowser(javaxQueue, messageSelector));
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -526,7 +598,7 @@ public class JakartaJMSAdapter {
             try {
                 return new TemporaryQueueWrapper(delegate.createTemporaryQueue());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -535,7 +607,7 @@ public class JakartaJMSAdapter {
             try {
                 return new TemporaryTopicWrapper(delegate.createTemporaryTopic());
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -544,7 +616,7 @@ public class JakartaJMSAdapter {
             try {
                 delegate.unsubscribe(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -559,7 +631,7 @@ public class JakartaJMSAdapter {
 
         @Override
         public void onException(JMSException exception) {
-            delegate.onException(new javax.jms.JMSException(exception.getMessage()));
+            delegate.onException(convertException(exception));
         }
     }
 
@@ -572,7 +644,7 @@ public class JakartaJMSAdapter {
 
         @Override
         public void onException(javax.jms.JMSException exception) {
-            delegate.onException(new JMSException(exception.getMessage()));
+            delegate.onException(convertException(exception));
         }
     }
 
@@ -591,6 +663,82 @@ public class JakartaJMSAdapter {
         }
     }
 
+    private static class ConnectionConsumerWrapper implements jakarta.jms.ConnectionConsumer {
+        private final javax.jms.ConnectionConsumer delegate;
+        private final jakarta.jms.ServerSessionPool sessionPool;
+
+        public ConnectionConsumerWrapper(javax.jms.ConnectionConsumer delegate, jakarta.jms.ServerSessionPool sessionPool) {
+            this.delegate = delegate;
+            this.sessionPool = sessionPool;
+        }
+
+        @Override
+        public jakarta.jms.ServerSessionPool getServerSessionPool() {
+            return sessionPool;
+        }
+
+        @Override
+        public void close() throws JMSException {
+            try {
+                delegate.close();
+            } catch (javax.jms.JMSException e) {
+                throw convertException(e);
+            }
+        }
+    }
+
+    /**
+     * Lets the IBM MQ client take server sessions from a Jakarta pool. The client loads messages
+     * into the javax session behind the Jakarta one, so that must be an adapted session.
+     */
+    private static class JavaxServerSessionPoolWrapper implements javax.jms.ServerSessionPool {
+        private final jakarta.jms.ServerSessionPool delegate;
+
+        public JavaxServerSessionPoolWrapper(jakarta.jms.ServerSessionPool delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public javax.jms.ServerSession getServerSession() throws javax.jms.JMSException {
+            try {
+                return new JavaxServerSessionWrapper(delegate.getServerSession());
+            } catch (JMSException e) {
+                throw convertException(e);
+            }
+        }
+    }
+
+    private static class JavaxServerSessionWrapper implements javax.jms.ServerSession {
+        private final jakarta.jms.ServerSession delegate;
+
+        public JavaxServerSessionWrapper(jakarta.jms.ServerSession delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public javax.jms.Session getSession() throws javax.jms.JMSException {
+            try {
+                jakarta.jms.Session session = delegate.getSession();
+                if (!(session instanceof SessionWrapper)) {
+                    throw new javax.jms.IllegalStateException("Server session must be created on the IBM MQ connection " +
+                                                              "the ConnectionConsumer belongs to, got " + session);
+                }
+                return ((SessionWrapper) session).delegate;
+            } catch (JMSException e) {
+                throw convertException(e);
+            }
+        }
+
+        @Override
+        public void start() throws javax.jms.JMSException {
+            try {
+                delegate.start();
+            } catch (JMSException e) {
+                throw convertException(e);
+            }
+        }
+    }
+
     private static class JavaxMessageListenerWrapper implements javax.jms.MessageListener {
         private final jakarta.jms.MessageListener delegate;
 
@@ -600,22 +748,22 @@ public class JakartaJMSAdapter {
 
         @Override
         public void onMessage(javax.jms.Message message) {
-            // Convert javax message to Jakarta message for the delegate
-            delegate.onMessage(new MessageWrapper(message));
+            delegate.onMessage(MessageWrappers.wrap(message));
         }
     }
 
-    // Utility method to convert javax.jms exceptions to jakarta.jms exceptions
+    // Utility method to convert javax.jms exceptions to jakarta.jms exceptions, keeping subtype,
+    // error code and linked exception, with the original as the cause (see TranslatedJMSExceptions)
     public static JMSException convertException(javax.jms.JMSException javaxException) {
-        JMSException jakartaException = new JMSException(javaxException.getMessage());
-        jakartaException.setLinkedException(javaxException.getLinkedException());
-        return jakartaException;
+        return TranslatedJMSExceptions.translate(javaxException);
     }
 
     // Utility method to convert jakarta.jms exceptions to javax.jms exceptions
     public static javax.jms.JMSException convertException(JMSException jakartaException) {
-        javax.jms.JMSException javaxException = new javax.jms.JMSException(jakartaException.getMessage());
+        javax.jms.JMSException javaxException = new javax.jms.JMSException(jakartaException.getMessage(),
+                                                                           jakartaException.getErrorCode());
         javaxException.setLinkedException(jakartaException.getLinkedException());
+        javaxException.initCause(jakartaException);
         return javaxException;
     }
 }
\ No newline at end of file
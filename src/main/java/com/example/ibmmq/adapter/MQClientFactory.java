@@ -0,0 +1,249 @@
+package com.example.ibmmq.adapter;
+
+import com.ibm.mq.jms.MQConnectionFactory;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.logging.Logger;
+
+/**
+ * An IBM MQ connection factory in one of two client modes, configured through the same setters
+ * as {@link MQConnectionFactory}:
+ * <ul>
+ *   <li>{@code adapter}: the javax client ({@code com.ibm.mq.allclient}) behind the
+ *       {@link JakartaJMSAdapter} wrappers;</li>
+ *   <li>{@code jakarta}: IBM's Jakarta-native client ({@code com.ibm.mq.jakarta.client}), whose
+ *       connections are handed out as they are, without a wrapper per object and call.</li>
+ * </ul>
+ * The native client is loaded by name, as it is an optional runtime dependency (the
+ * {@code ibmmq-jakarta} build profile). When it is selected but not on the classpath the
+ * adapter is used instead. Property names are the same in both clients.
+ */
+public final class MQClientFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MQClientFactory.class.getName());
+
+    public static final String MODE_ADAPTER = "adapter";
+    public static final String MODE_JAKARTA = "jakarta";
+
+    static final String JAKARTA_FACTORY_CLASS = "com.ibm.mq.jakarta.jms.MQConnectionFactory";
+
+    private final MQConnectionFactory javaxFactory;
+    private final ConnectionFactory jakartaFactory;
+
+    private MQClientFactory(MQConnectionFactory javaxFactory, ConnectionFactory jakartaFactory) {
+        this.javaxFactory = javaxFactory;
+        this.jakartaFactory = jakartaFactory;
+    }
+
+    /**
+     * A new, unconfigured factory for {@code ibm.mq.client.mode}; anything but {@code jakarta}
+     * selects the adapter.
+     */
+    public static MQClientFactory create(String mode) {
+        if (MODE_JAKARTA.equalsIgnoreCase(mode)) {
+            ConnectionFactory nativeFactory = newJakartaFactory();
+            if (nativeFactory != null) {
+                return new MQClientFactory(null, nativeFactory);
+            }
+            LOGGER.warning("Jakarta-native IBM MQ client (" + JAKARTA_FACTORY_CLASS +
+                           ") not found on the classpath, falling back to the javax client adapter");
+        }
+        return new MQClientFactory(new MQConnectionFactory(), null);
+    }
+
+    /**
+     * Wraps a ready-made Jakarta-native factory, e.g. one created by a stand-in.
+     */
+    public static MQClientFactory ofJakarta(ConnectionFactory nativeFactory) {
+        return new MQClientFactory(null, nativeFactory);
+    }
+
+    public static boolean isJakartaClientAvailable() {
+        try {
+            Class.forName(JAKARTA_FACTORY_CLASS, false, MQClientFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static ConnectionFactory newJakartaFactory() {
+        try {
+            Class<?> type = Class.forName(JAKARTA_FACTORY_CLASS, true, MQClientFactory.class.getClassLoader());
+            return (ConnectionFactory) type.getConstructor().newInstance();
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate " + JAKARTA_FACTORY_CLASS, e);
+        }
+    }
+
+    public String getMode() {
+        return jakartaFactory != null ? MODE_JAKARTA : MODE_ADAPTER;
+    }
+
+    public boolean isJakartaNative() {
+        return jakartaFactory != null;
+    }
+
+    /**
+     * The javax factory in adapter mode, {@code null} in native mode.
+     */
+    public MQConnectionFactory getJavaxFactory() {
+        return javaxFactory;
+    }
+
+    /**
+     * The Jakarta ConnectionFactory to hand to the application: the native one, or the javax one
+     * behind a {@link JakartaJMSAdapter.ConnectionFactoryWrapper}.
+     */
+    public ConnectionFactory toConnectionFactory() {
+        return jakartaFactory != null ? jakartaFactory : new JakartaJMSAdapter.ConnectionFactoryWrapper(javaxFactory);
+    }
+
+    /**
+     * Connects to the queue manager. In adapter mode the connect runs through the
+     * {@link BlockingCallOffloader}; native connections are not wrapped, so their calls are not
+     * offloaded.
+     */
+    public Connection createConnection() throws JMSException {
+        if (jakartaFactory != null) {
+            return jakartaFactory.createConnection();
+        }
+        try {
+            return new JakartaJMSAdapter.ConnectionWrapper(BlockingCallOffloader.call(javaxFactory::createConnection));
+        } catch (javax.jms.JMSException e) {
+            throw JakartaJMSAdapter.convertException(e);
+        }
+    }
+
+    public void setHostName(String hostName) throws JMSException {
+        if (javaxFactory != null) {
+            javaxFactory.setHostName(hostName);
+        } else {
+            invoke("setHostName", new Class<?>[]{String.class}, hostName);
+        }
+    }
+
+    public void setPort(int port) throws JMSException {
+        if (javaxFactory != null) {
+            try {
+                javaxFactory.setPort(port);
+            } catch (javax.jms.JMSException e) {
+                throw JakartaJMSAdapter.convertException(e);
+            }
+        } else {
+            invoke("setPort", new Class<?>[]{int.class}, port);
+        }
+    }
+
+    public void setChannel(String channel) throws JMSException {
+        if (javaxFactory != null) {
+            try {
+                javaxFactory.setChannel(channel);
+            } catch (javax.jms.JMSException e) {
+                throw JakartaJMSAdapter.convertException(e);
+            }
+        } else {
+            invoke("setChannel", new Class<?>[]{String.class}, channel);
+        }
+    }
+
+    public void setQueueManager(String queueManager) throws JMSException {
+        if (javaxFactory != null) {
+            try {
+                javaxFactory.setQueueManager(queueManager);
+            } catch (javax.jms.JMSException e) {
+                throw JakartaJMSAdapter.convertException(e);
+            }
+        } else {
+            invoke("setQueueManager", new Class<?>[]{String.class}, queueManager);
+        }
+    }
+
+    public void setTransportType(int transportType) throws JMSException {
+        if (javaxFactory != null) {
+            try {
+                javaxFactory.setTransportType(transportType);
+            } catch (javax.jms.JMSException e) {
+                throw JakartaJMSAdapter.convertException(e);
+            }
+        } else {
+            invoke("setTransportType", new Class<?>[]{int.class}, transportType);
+        }
+    }
+
+    public void setStringProperty(String name, String value) throws JMSException {
+        if (javaxFactory != null) {
+            try {
+                javaxFactory.setStringProperty(name, value);
+            } catch (javax.jms.JMSException e) {
+                throw JakartaJMSAdapter.convertException(e);
+            }
+        } else {
+            invoke("setStringProperty", new Class<?>[]{String.class, String.class}, name, value);
+        }
+    }
+
+    public void setBooleanProperty(String name, boolean value) throws JMSException {
+        if (javaxFactory != null) {
+            try {
+                javaxFactory.setBooleanProperty(name, value);
+            } catch (javax.jms.JMSException e) {
+                throw JakartaJMSAdapter.convertException(e);
+            }
+        } else {
+            invoke("setBooleanProperty", new Class<?>[]{String.class, boolean.class}, name, value);
+        }
+    }
+
+    public void setIntProperty(String name, int value) throws JMSException {
+        if (javaxFactory != null) {
+            try {
+                javaxFactory.setIntProperty(name, value);
+            } catch (javax.jms.JMSException e) {
+                throw JakartaJMSAdapter.convertException(e);
+            }
+        } else {
+            invoke("setIntProperty", new Class<?>[]{String.class, int.class}, name, value);
+        }
+    }
+
+    public void setObjectProperty(String name, Object value) throws JMSException {
+        if (javaxFactory != null) {
+            try {
+                javaxFactory.setObjectProperty(name, value);
+            } catch (javax.jms.JMSException e) {
+                throw JakartaJMSAdapter.convertException(e);
+            }
+        } else {
+            invoke("setObjectProperty", new Class<?>[]{String.class, Object.class}, name, value);
+        }
+    }
+
+    /**
+     * Calls a setter on the native factory. Only used while configuring it, so reflection
+     * costs nothing per message.
+     */
+    private void invoke(String setter, Class<?>[] parameterTypes, Object... args) throws JMSException {
+        try {
+            Method method = jakartaFactory.getClass().getMethod(setter, parameterTypes);
+            method.invoke(jakartaFactory, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof JMSException) {
+                throw (JMSException) e.getCause();
+            }
+            JMSException failure = new JMSException(setter + " failed on the Jakarta IBM MQ client: " + e.getCause());
+            failure.initCause(e.getCause());
+            throw failure;
+        } catch (ReflectiveOperationException e) {
+            JMSException failure = new JMSException(setter + " not supported by " + jakartaFactory.getClass().getName());
+            failure.initCause(e);
+            throw failure;
+        }
+    }
+}
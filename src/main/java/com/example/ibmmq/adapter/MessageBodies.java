@@ -0,0 +1,273 @@
+package com.example.ibmmq.adapter;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Piecewise access to BytesMessage bodies through pooled {@link BodyBufferPool} chunks: as a
+ * stream, into a caller's ByteBuffer, or decoded straight to text in the character set the
+ * queue manager recorded for the message. Works for any Jakarta BytesMessage, adapted or native.
+ */
+public final class MessageBodies {
+
+    private static final Logger LOGGER = Logger.getLogger(MessageBodies.class.getName());
+
+    /** Character set of the message body, as a CCSID ({@code 1208}) or a Java charset name. */
+    public static final String CHARACTER_SET_PROPERTY = "JMS_IBM_Character_Set";
+
+    /** CCSIDs whose Java name is not {@code Cp<ccsid>}, zero-padded to three digits. */
+    private static final Map<Integer, Charset> CCSID_CHARSETS = Map.of(
+        1208, StandardCharsets.UTF_8,
+        1200, StandardCharsets.UTF_16BE,
+        13488, StandardCharsets.UTF_16BE,
+        17584, StandardCharsets.UTF_16BE,
+        1202, StandardCharsets.UTF_16LE,
+        819, StandardCharsets.ISO_8859_1,
+        367, StandardCharsets.US_ASCII,
+        5348, Charset.forName("windows-1252"));
+
+    private MessageBodies() {
+    }
+
+    /**
+     * The charset of {@code JMS_IBM_Character_Set}, or UTF-8 when unset or not supported here.
+     */
+    public static Charset charsetOf(Message message) throws JMSException {
+        Object characterSet = message.getObjectProperty(CHARACTER_SET_PROPERTY);
+        return characterSet != null ? forCharacterSet(characterSet.toString().trim()) : StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Maps a CCSID or a Java charset name to a Charset, falling back to UTF-8.
+     */
+    public static Charset forCharacterSet(String characterSet) {
+        if (characterSet.isEmpty()) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            if (Character.isDigit(characterSet.charAt(0))) {
+                int ccsid = Integer.parseInt(characterSet);
+                Charset known = CCSID_CHARSETS.get(ccsid);
+                return known != null ? known : Charset.forName(String.format("Cp%03d", ccsid));
+            }
+            return Charset.forName(characterSet);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Unsupported message character set " + characterSet + ", decoding as UTF-8");
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    /**
+     * The body, read from the start, decoded in the message's character set.
+     */
+    public static String readString(BytesMessage message) throws JMSException {
+        return readString(message, charsetOf(message), BodyBufferPool.shared());
+    }
+
+    /**
+     * The body decoded in {@code charset}. Bodies up to the pool's body size are read into a
+     * reused buffer and decoded in one pass; larger ones chunk by chunk, so no body-sized byte
+     * array is allocated either way. Malformed input is replaced, as {@code new String} does.
+     */
+    public static String readString(BytesMessage message, Charset charset, BodyBufferPool pool) throws JMSException {
+        long remaining = message.getBodyLength();
+        if (remaining <= 0) {
+            return "";
+        }
+        if (remaining > pool.getMaxBodySize()) {
+            return decodeChunked(message, remaining, charset, pool);
+        }
+        byte[] body = pool.acquireBody((int) remaining);
+        try {
+            // readBytes(byte[]) reads the whole body when the array can hold it
+            int read = message.readBytes(body);
+            return read > 0 ? new String(body, 0, (int) Math.min(read, remaining), charset) : "";
+        } finally {
+            pool.releaseBody(body);
+        }
+    }
+
+    private static String decodeChunked(BytesMessage message, long remaining, Charset charset, BodyBufferPool pool)
+            throws JMSException {
+        CharsetDecoder decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        StringBuilder text = new StringBuilder((int) Math.min(Integer.MAX_VALUE - 8,
+            (long) Math.ceil(remaining * (double) decoder.averageCharsPerByte())));
+
+        BodyBufferPool.Chunk chunk = pool.acquire();
+        try {
+            ByteBuffer carry = chunk.carry;
+            while (remaining > 0) {
+                int read = message.readBytes(chunk.bytes);
+                if (read <= 0) {
+                    break;
+                }
+                read = (int) Math.min(read, remaining);
+                remaining -= read;
+                ByteBuffer in = chunk.view;
+                in.clear().limit(read);
+
+                if (carry.position() > 0) {
+                    // Finish the character split across the previous chunk and this one
+                    int carried = carry.position();
+                    int take = Math.min(carry.remaining(), read);
+                    carry.put(chunk.bytes, 0, take).flip();
+                    decode(decoder, carry, chunk.chars, text, false);
+                    int consumed = carry.position() - carried;
+                    if (consumed < 0) {
+                        // Still incomplete: this chunk was shorter than the character
+                        carry.compact();
+                        continue;
+                    }
+                    carry.clear();
+                    in.position(consumed);
+                }
+                decode(decoder, in, chunk.chars, text, false);
+                carry.put(in);
+            }
+            carry.flip();
+            decode(decoder, carry, chunk.chars, text, true);
+            decoder.flush(chunk.chars);
+            drain(chunk.chars, text);
+            return text.toString();
+        } finally {
+            pool.release(chunk);
+        }
+    }
+
+    private static void decode(CharsetDecoder decoder, ByteBuffer in, CharBuffer out, StringBuilder text,
+                               boolean endOfInput) throws JMSException {
+        while (true) {
+            CoderResult result = decoder.decode(in, out, endOfInput);
+            if (result.isOverflow()) {
+                drain(out, text);
+            } else if (result.isUnderflow()) {
+                drain(out, text);
+                return;
+            } else {
+                try {
+                    result.throwException();
+                } catch (CharacterCodingException e) {
+                    JMSException failure = new jakarta.jms.MessageFormatException("Cannot decode message body: " + e);
+                    failure.initCause(e);
+                    throw failure;
+                }
+            }
+        }
+    }
+
+    private static void drain(CharBuffer out, StringBuilder text) {
+        text.append(out.array(), out.arrayOffset(), out.position());
+        out.clear();
+    }
+
+    /**
+     * Reads up to {@code target.remaining()} body bytes into {@code target}, returning the count,
+     * or -1 at the end of the body. Heap buffers at offset 0 are filled in place.
+     */
+    public static int read(BytesMessage message, ByteBuffer target, BodyBufferPool pool) throws JMSException {
+        if (!target.hasRemaining()) {
+            return 0;
+        }
+        if (target.hasArray() && target.arrayOffset() + target.position() == 0) {
+            int read = message.readBytes(target.array(), target.remaining());
+            if (read > 0) {
+                target.position(target.position() + read);
+            }
+            return read;
+        }
+        BodyBufferPool.Chunk chunk = pool.acquire();
+        try {
+            int read = message.readBytes(chunk.bytes, Math.min(chunk.bytes.length, target.remaining()));
+            if (read > 0) {
+                target.put(chunk.bytes, 0, read);
+            }
+            return read;
+        } finally {
+            pool.release(chunk);
+        }
+    }
+
+    /**
+     * The body, from the start, as a stream. Reads into the caller's array go straight to the
+     * message; the stream holds no buffer of its own.
+     */
+    public static InputStream openStream(BytesMessage message) throws JMSException {
+        return new BodyInputStream(message, message.getBodyLength(), BodyBufferPool.shared());
+    }
+
+    private static final class BodyInputStream extends InputStream {
+
+        private final BytesMessage message;
+        private final BodyBufferPool pool;
+        private long remaining;
+
+        BodyInputStream(BytesMessage message, long length, BodyBufferPool pool) {
+            this.message = message;
+            this.remaining = length;
+            this.pool = pool;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            try {
+                int value = message.readUnsignedByte();
+                remaining--;
+                return value;
+            } catch (JMSException e) {
+                throw new IOException("Failed to read message body", e);
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            java.util.Objects.checkFromIndexSize(offset, length, buffer.length);
+            if (length == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return -1;
+            }
+            int wanted = (int) Math.min(length, remaining);
+            try {
+                int read;
+                if (offset == 0) {
+                    read = message.readBytes(buffer, wanted);
+                } else {
+                    read = MessageBodies.read(message, ByteBuffer.wrap(buffer, offset, wanted).slice(), pool);
+                }
+                if (read <= 0) {
+                    remaining = 0;
+                    return -1;
+                }
+                remaining -= read;
+                return read;
+            } catch (JMSException e) {
+                throw new IOException("Failed to read message body", e);
+            }
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0, remaining));
+        }
+    }
+}
@@ -4,11 +4,43 @@ import jakarta.jms.*;
 
 import java.util.Enumeration;
 
+import static com.example.ibmmq.adapter.JakartaJMSAdapter.convertException;
+
 /**
  * Message wrapper classes for Jakarta JMS to javax JMS adapter
  */
 public class MessageWrappers {
 
+    /**
+     * Wrapper constructor per concrete client message class. The IBM MQ client hands out a
+     * handful of classes, so the type dispatch runs once per class instead of per message.
+     */
+    private static final ClassValue<java.util.function.Function<javax.jms.Message, MessageWrapper>> WRAPPERS =
+        new ClassValue<>() {
+            @Override
+            protected java.util.function.Function<javax.jms.Message, MessageWrapper> computeValue(Class<?> type) {
+                if (javax.jms.TextMessage.class.isAssignableFrom(type)) {
+                    return message -> new TextMessageWrapper((javax.jms.TextMessage) message);
+                } else if (javax.jms.BytesMessage.class.isAssignableFrom(type)) {
+                    return message -> new BytesMessageWrapper((javax.jms.BytesMessage) message);
+                } else if (javax.jms.ObjectMessage.class.isAssignableFrom(type)) {
+                    return message -> new ObjectMessageWrapper((javax.jms.ObjectMessage) message);
+                } else if (javax.jms.MapMessage.class.isAssignableFrom(type)) {
+                    return message -> new MapMessageWrapper((javax.jms.MapMessage) message);
+                } else if (javax.jms.StreamMessage.class.isAssignableFrom(type)) {
+                    return message -> new StreamMessageWrapper((javax.jms.StreamMessage) message);
+                }
+                return MessageWrapper::new;
+            }
+        };
+
+    /**
+     * Wraps a client message in the Jakarta wrapper matching its type; {@code null} stays null.
+     */
+    public static MessageWrapper wrap(javax.jms.Message message) {
+        return message != null ? WRAPPERS.get(message.getClass()).apply(message) : null;
+    }
+
     /**
      * Base wrapper for all message types
      */
@@ -28,7 +60,7 @@ public class MessageWrappers {
             try {
                 return delegate.getJMSMessageID();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -37,7 +69,7 @@ public class MessageWrappers {
             try {
                 delegate.setJMSMessageID(id);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -46,7 +78,7 @@ public class MessageWrappers {
             try {
                 return delegate.getJMSTimestamp();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -55,7 +87,7 @@ public class MessageWrappers {
             try {
                 delegate.setJMSTimestamp(timestamp);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -64,7 +96,7 @@ public class MessageWrappers {
             try {
                 return delegate.getJMSCorrelationIDAsBytes();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -73,7 +105,7 @@ public class MessageWrappers {
             try {
                 delegate.setJMSCorrelationIDAsBytes(correlationID);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -82,7 +114,7 @@ public class MessageWrappers {
             try {
                 delegate.setJMSCorrelationID(correlationID);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -91,7 +123,7 @@ public class MessageWrappers {
             try {
                 return delegate.getJMSCorrelationID();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -109,7 +141,7 @@ public class MessageWrappers {
                     return new DestinationWrappers.DestinationWrapper(javaxDest);
                 }
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -123,7 +155,7 @@ public class MessageWrappers {
                     delegate.setJMSReplyTo(null);
                 }
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -141,7 +173,7 @@ public class MessageWrappers {
                     return new DestinationWrappers.DestinationWrapper(javaxDest);
                 }
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -155,7 +187,7 @@ public class MessageWrappers {
                     delegate.setJMSDestination(null);
                 }
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -164,7 +196,7 @@ public class MessageWrappers {
             try {
                 return delegate.getJMSDeliveryMode();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -173,7 +205,7 @@ public class MessageWrappers {
             try {
                 delegate.setJMSDeliveryMode(deliveryMode);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -182,7 +214,7 @@ public class MessageWrappers {
             try {
                 return delegate.getJMSRedelivered();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -191,7 +223,7 @@ public class MessageWrappers {
             try {
                 delegate.setJMSRedelivered(redelivered);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -200,7 +232,7 @@ public class MessageWrappers {
             try {
                 return delegate.getJMSType();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -209,7 +241,7 @@ public class MessageWrappers {
             try {
                 delegate.setJMSType(type);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -218,7 +250,7 @@ public class MessageWrappers {
             try {
                 return delegate.getJMSExpiration();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -227,7 +259,7 @@ public class MessageWrappers {
             try {
                 delegate.setJMSExpiration(expiration);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -236,7 +268,7 @@ public class MessageWrappers {
             try {
                 return delegate.getJMSDeliveryTime();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -245,7 +277,7 @@ public class MessageWrappers {
             try {
                 delegate.setJMSDeliveryTime(deliveryTime);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -254,7 +286,7 @@ public class MessageWrappers {
             try {
                 return delegate.getJMSPriority();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -263,7 +295,7 @@ public class MessageWrappers {
             try {
                 delegate.setJMSPriority(priority);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -272,7 +304,7 @@ public class MessageWrappers {
             try {
                 delegate.clearProperties();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -281,7 +313,7 @@ public class MessageWrappers {
             try {
                 return delegate.propertyExists(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -290,7 +322,7 @@ public class MessageWrappers {
             try {
                 return delegate.getBooleanProperty(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -299,7 +331,7 @@ public class MessageWrappers {
             try {
                 return delegate.getByteProperty(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -308,7 +340,7 @@ public class MessageWrappers {
             try {
                 return delegate.getShortProperty(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -317,7 +349,7 @@ public class MessageWrappers {
             try {
                 return delegate.getIntProperty(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -326,7 +358,7 @@ public class MessageWrappers {
             try {
                 return delegate.getLongProperty(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -335,7 +367,7 @@ public class MessageWrappers {
             try {
                 return delegate.getFloatProperty(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -344,7 +376,7 @@ public class MessageWrappers {
             try {
                 return delegate.getDoubleProperty(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -353,7 +385,7 @@ public class MessageWrappers {
             try {
                 return delegate.getStringProperty(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -362,7 +394,7 @@ public class MessageWrappers {
             try {
                 return delegate.getObjectProperty(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -371,7 +403,7 @@ public class MessageWrappers {
             try {
                 return delegate.getPropertyNames();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -380,7 +412,7 @@ public class MessageWrappers {
             try {
                 delegate.setBooleanProperty(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -389,7 +421,7 @@ public class MessageWrappers {
             try {
                 delegate.setByteProperty(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -398,7 +430,7 @@ public class MessageWrappers {
             try {
                 delegate.setShortProperty(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -407,7 +439,7 @@ public class MessageWrappers {
             try {
                 delegate.setIntProperty(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -416,7 +448,7 @@ public class MessageWrappers {
             try {
                 delegate.setLongProperty(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -425,7 +457,7 @@ public class MessageWrappers {
             try {
                 delegate.setFloatProperty(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -434,7 +466,7 @@ public class MessageWrappers {
             try {
                 delegate.setDoubleProperty(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -443,7 +475,7 @@ public class MessageWrappers {
             try {
                 delegate.setStringProperty(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -452,7 +484,7 @@ public class MessageWrappers {
             try {
                 delegate.setObjectProperty(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -461,7 +493,7 @@ public class MessageWrappers {
             try {
                 delegate.acknowledge();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -470,7 +502,7 @@ public class MessageWrappers {
             try {
                 delegate.clearBody();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -479,7 +511,7 @@ public class MessageWrappers {
             try {
                 return delegate.getBody(c);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -488,7 +520,7 @@ public class MessageWrappers {
             try {
                 return delegate.isBodyAssignableTo(c);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -509,7 +541,7 @@ public class MessageWrappers {
             try {
                 textDelegate.setText(string);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -518,7 +550,7 @@ public class MessageWrappers {
             try {
                 return textDelegate.getText();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -539,7 +571,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.getBodyLength();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -548,7 +580,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readBoolean();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -557,7 +589,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readByte();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -566,7 +598,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readUnsignedByte();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -575,7 +607,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readShort();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -584,7 +616,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readUnsignedShort();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -593,7 +625,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readChar();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -602,7 +634,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readInt();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -611,7 +643,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readLong();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -620,7 +652,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readFloat();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -629,7 +661,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readDouble();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -638,7 +670,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readUTF();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -647,7 +679,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readBytes(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -656,7 +688,7 @@ public class MessageWrappers {
             try {
                 return bytesDelegate.readBytes(value, length);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -665,7 +697,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeBoolean(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -674,7 +706,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeByte(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -683,7 +715,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeShort(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -692,7 +724,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeChar(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -701,7 +733,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeInt(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -710,7 +742,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeLong(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -719,7 +751,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeFloat(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -728,7 +760,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeDouble(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -737,7 +769,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeUTF(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -746,7 +778,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeBytes(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -755,7 +787,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeBytes(value, offset, length);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -764,7 +796,7 @@ public class MessageWrappers {
             try {
                 bytesDelegate.writeObject(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -773,9 +805,37 @@ public class MessageWrappers {
             try {
                 bytesDelegate.reset();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
+
+        /**
+         * Fills {@code target} with the next body bytes; -1 at the end of the body.
+         */
+        public int readBody(java.nio.ByteBuffer target) throws JMSException {
+            return MessageBodies.read(this, target, BodyBufferPool.shared());
+        }
+
+        /**
+         * The body as a stream, read through to the client without an intermediate array.
+         */
+        public java.io.InputStream getBodyStream() throws JMSException {
+            return MessageBodies.openStream(this);
+        }
+
+        /**
+         * The body's character set, from {@code JMS_IBM_Character_Set}.
+         */
+        public java.nio.charset.Charset getBodyCharset() throws JMSException {
+            return MessageBodies.charsetOf(this);
+        }
+
+        /**
+         * The body decoded in {@link #getBodyCharset()} through pooled chunks.
+         */
+        public String readBodyAsString() throws JMSException {
+            return MessageBodies.readString(this);
+        }
     }
 
     /**
@@ -794,7 +854,7 @@ public class MessageWrappers {
             try {
                 objectDelegate.setObject(object);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -803,7 +863,7 @@ public class MessageWrappers {
             try {
                 return objectDelegate.getObject();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -824,7 +884,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getBoolean(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -833,7 +893,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getByte(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -842,7 +902,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getShort(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -851,7 +911,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getChar(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -860,7 +920,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getInt(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -869,7 +929,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getLong(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -878,7 +938,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getFloat(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -887,7 +947,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getDouble(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -896,7 +956,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getString(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -905,7 +965,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getBytes(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -914,7 +974,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getObject(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -923,7 +983,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.getMapNames();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -932,7 +992,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setBoolean(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -941,7 +1001,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setByte(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -950,7 +1010,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setShort(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -959,7 +1019,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setChar(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -968,7 +1028,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setInt(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -977,7 +1037,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setLong(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -986,7 +1046,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setFloat(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -995,7 +1055,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setDouble(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1004,7 +1064,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setString(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1013,7 +1073,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setBytes(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1022,7 +1082,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setBytes(name, value, offset, length);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1031,7 +1091,7 @@ public class MessageWrappers {
             try {
                 mapDelegate.setObject(name, value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1040,7 +1100,7 @@ public class MessageWrappers {
             try {
                 return mapDelegate.itemExists(name);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -1061,7 +1121,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readBoolean();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1070,7 +1130,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readByte();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1079,7 +1139,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readShort();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1088,7 +1148,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readChar();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1097,7 +1157,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readInt();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1106,7 +1166,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readLong();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1115,7 +1175,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readFloat();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1124,7 +1184,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readDouble();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1133,7 +1193,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readString();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1142,7 +1202,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readBytes(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1151,7 +1211,7 @@ public class MessageWrappers {
             try {
                 return streamDelegate.readObject();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1160,7 +1220,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeBoolean(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1169,7 +1229,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeByte(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1178,7 +1238,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeShort(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1187,7 +1247,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeChar(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1196,7 +1256,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeInt(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1205,7 +1265,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeLong(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1214,7 +1274,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeFloat(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1223,7 +1283,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeDouble(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1232,7 +1292,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeString(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1241,7 +1301,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeBytes(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1250,7 +1310,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeBytes(value, offset, length);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1259,7 +1319,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.writeObject(value);
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
 
@@ -1268,7 +1328,7 @@ public class MessageWrappers {
             try {
                 streamDelegate.reset();
             } catch (javax.jms.JMSException e) {
-                throw new JMSException(e.getMessage());
+                throw convertException(e);
             }
         }
     }
@@ -0,0 +1,134 @@
+package com.example.ibmmq.adapter;
+
+import jakarta.jms.JMSException;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Translates IBM MQ client (javax) exceptions into their Jakarta counterparts. Subtype,
+ * message, error code (e.g. the MQRC reason) and linked exception carry over, and the original
+ * becomes the cause. The translated exception is thrown right where the original was caught,
+ * so instead of walking the stack a second time it takes over the original's recorded trace.
+ * The concrete classes are private; metrics report them under their public JMS type.
+ */
+final class TranslatedJMSExceptions {
+
+    private static final Map<Class<?>, BiFunction<String, String, JMSException>> BY_JAVAX_TYPE = Map.ofEntries(
+        Map.entry(javax.jms.IllegalStateException.class, IllegalState::new),
+        Map.entry(javax.jms.InvalidClientIDException.class, InvalidClientID::new),
+        Map.entry(javax.jms.InvalidDestinationException.class, InvalidDestination::new),
+        Map.entry(javax.jms.InvalidSelectorException.class, InvalidSelector::new),
+        Map.entry(javax.jms.JMSSecurityException.class, Security::new),
+        Map.entry(javax.jms.MessageEOFException.class, MessageEOF::new),
+        Map.entry(javax.jms.MessageFormatException.class, MessageFormat::new),
+        Map.entry(javax.jms.MessageNotReadableException.class, MessageNotReadable::new),
+        Map.entry(javax.jms.MessageNotWriteableException.class, MessageNotWriteable::new),
+        Map.entry(javax.jms.ResourceAllocationException.class, ResourceAllocation::new),
+        Map.entry(javax.jms.TransactionInProgressException.class, TransactionInProgress::new),
+        Map.entry(javax.jms.TransactionRolledBackException.class, TransactionRolledBack::new));
+
+    /** Factory per concrete client exception class, resolved once by walking up to a JMS type. */
+    private static final ClassValue<BiFunction<String, String, JMSException>> FACTORIES = new ClassValue<>() {
+        @Override
+        protected BiFunction<String, String, JMSException> computeValue(Class<?> type) {
+            for (Class<?> c = type; c != null && c != javax.jms.JMSException.class; c = c.getSuperclass()) {
+                BiFunction<String, String, JMSException> factory = BY_JAVAX_TYPE.get(c);
+                if (factory != null) {
+                    return factory;
+                }
+            }
+            return Plain::new;
+        }
+    };
+
+    private TranslatedJMSExceptions() {
+    }
+
+    static JMSException translate(javax.jms.JMSException javaxException) {
+        JMSException translated = FACTORIES.get(javaxException.getClass())
+            .apply(javaxException.getMessage(), javaxException.getErrorCode());
+        translated.setLinkedException(javaxException.getLinkedException());
+        translated.initCause(javaxException);
+        translated.setStackTrace(javaxException.getStackTrace());
+        return translated;
+    }
+
+    private static final class Plain extends JMSException {
+        private static final long serialVersionUID = 1L;
+        Plain(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class IllegalState extends jakarta.jms.IllegalStateException {
+        private static final long serialVersionUID = 1L;
+        IllegalState(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class InvalidClientID extends jakarta.jms.InvalidClientIDException {
+        private static final long serialVersionUID = 1L;
+        InvalidClientID(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class InvalidDestination extends jakarta.jms.InvalidDestinationException {
+        private static final long serialVersionUID = 1L;
+        InvalidDestination(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class InvalidSelector extends jakarta.jms.InvalidSelectorException {
+        private static final long serialVersionUID = 1L;
+        InvalidSelector(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class Security extends jakarta.jms.JMSSecurityException {
+        private static final long serialVersionUID = 1L;
+        Security(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class MessageEOF extends jakarta.jms.MessageEOFException {
+        private static final long serialVersionUID = 1L;
+        MessageEOF(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class MessageFormat extends jakarta.jms.MessageFormatException {
+        private static final long serialVersionUID = 1L;
+        MessageFormat(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class MessageNotReadable extends jakarta.jms.MessageNotReadableException {
+        private static final long serialVersionUID = 1L;
+        MessageNotReadable(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class MessageNotWriteable extends jakarta.jms.MessageNotWriteableException {
+        private static final long serialVersionUID = 1L;
+        MessageNotWriteable(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class ResourceAllocation extends jakarta.jms.ResourceAllocationException {
+        private static final long serialVersionUID = 1L;
+        ResourceAllocation(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class TransactionInProgress extends jakarta.jms.TransactionInProgressException {
+        private static final long serialVersionUID = 1L;
+        TransactionInProgress(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+
+    private static final class TransactionRolledBack extends jakarta.jms.TransactionRolledBackException {
+        private static final long serialVersionUID = 1L;
+        TransactionRolledBack(String reason, String errorCode) { super(reason, errorCode); }
+        @Override public synchronized Throwable fillInStackTrace() { return this; }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.ibmmq.config.BackoutQueueConfig;
 import com.example.ibmmq.config.IBMMQConfig;
 import com.example.ibmmq.entity.MQMessage;
 import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.SessionLease;
 import com.example.ibmmq.repository.MQMessageRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -43,14 +44,12 @@ public class SimpleBackoutQueueService {
             return;
         }
 
-        Connection connection = null;
+        SessionLease lease = null;
         try {
-            connection = connectionPool.getConnection();
-            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            lease = connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE);
+            Session session = lease.getSession();
 
             String backoutQueueName = mqMessage.getQueueName() + backoutConfig.getBackoutQueueSuffix();
-            Queue backoutQueue = session.createQueue(backoutQueueName);
-            MessageProducer producer = session.createProducer(backoutQueue);
 
             // Originale Nachricht UNVERÄNDERT senden
             TextMessage backoutMessage = session.createTextMessage(mqMessage.getMessageContent());
@@ -70,7 +69,7 @@ public class SimpleBackoutQueueService {
                 backoutMessage.setJMSPriority(mqMessage.getPriority());
             }
 
-            producer.send(backoutMessage);
+            lease.send(backoutQueueName, backoutMessage);
 
             // Datenbank-Status aktualisieren
             mqMessage.markAsBackout(errorReason);
@@ -81,13 +80,16 @@ public class SimpleBackoutQueueService {
                        " - Reason: " + errorReason);
 
         } catch (Exception e) {
+            if (lease != null) {
+                lease.invalidate();
+            }
             LOGGER.log(Level.SEVERE, "Failed to send message to Backout Queue: " + mqMessage.getMessageId(), e);
             // Fallback: Message als failed markieren
             mqMessage.markAsFailed("Backout failed: " + e.getMessage() + " | Original: " + errorReason);
             messageRepository.save(mqMessage);
         } finally {
-            if (connection != null) {
-                connectionPool.releaseConnection(connection);
+            if (lease != null) {
+                lease.close();
             }
         }
     }
@@ -101,14 +103,12 @@ public class SimpleBackoutQueueService {
             return;
         }
 
-        Connection connection = null;
+        SessionLease lease = null;
         try {
-            connection = connectionPool.getConnection();
-            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            lease = connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE);
+            Session session = lease.getSession();
 
             String backoutQueueName = originalQueue + backoutConfig.getBackoutQueueSuffix();
-            Queue backoutQueue = session.createQueue(backoutQueueName);
-            MessageProducer producer = session.createProducer(backoutQueue);
 
             // Originalnaricht kopieren und senden
             Message backoutMessage = copyMessage(session, originalMessage);
@@ -119,17 +119,20 @@ public class SimpleBackoutQueueService {
             backoutMessage.setStringProperty("BACKOUT_TIMESTAMP", LocalDateTime.now().toString());
             backoutMessage.setStringProperty("APP_ID", "PayaraIBMMQApp");
 
-            producer.send(backoutMessage);
+            lease.send(backoutQueueName, backoutMessage);
 
             LOGGER.info("Original message sent to Backout Queue: " + backoutQueueName +
                        " - Message ID: " + originalMessage.getJMSMessageID() +
                        " - Reason: " + errorReason);
 
         } catch (Exception e) {
+            if (lease != null) {
+                lease.invalidate();
+            }
             LOGGER.log(Level.SEVERE, "Failed to send original message to Backout Queue", e);
         } finally {
-            if (connection != null) {
-                connectionPool.releaseConnection(connection);
+            if (lease != null) {
+                lease.close();
             }
         }
     }
@@ -140,22 +143,24 @@ public class SimpleBackoutQueueService {
     public BackoutQueueStats getBackoutQueueStats(String originalQueueName) {
         String backoutQueueName = originalQueueName + backoutConfig.getBackoutQueueSuffix();
 
-        Connection connection = null;
+        SessionLease lease = null;
         try {
-            connection = connectionPool.getConnection();
-            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            lease = connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE);
 
-            int backoutMessageCount = countMessagesInQueue(session, backoutQueueName);
+            int backoutMessageCount = countMessagesInQueue(lease, backoutQueueName);
             long dbBackoutCount = messageRepository.countByStatus(MQMessage.MessageStatus.BACKOUT);
 
             return new BackoutQueueStats(backoutQueueName, backoutMessageCount, dbBackoutCount);
 
         } catch (Exception e) {
+            if (lease != null) {
+                lease.invalidate();
+            }
             LOGGER.log(Level.WARNING, "Failed to get backout queue stats for: " + originalQueueName, e);
             return new BackoutQueueStats(backoutQueueName, -1, -1);
         } finally {
-            if (connection != null) {
-                connectionPool.releaseConnection(connection);
+            if (lease != null) {
+                lease.close();
             }
         }
     }
@@ -164,27 +169,22 @@ public class SimpleBackoutQueueService {
      * Verschiebt ALLE Nachrichten von der Backout Queue zurück zur Original-Queue
      */
     public int moveAllBackToOriginalQueue(String backoutQueueName, String originalQueueName) {
-        Connection connection = null;
+        SessionLease lease = null;
         int movedCount = 0;
         try {
-            connection = connectionPool.getConnection();
-            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            lease = connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE);
+            Session session = lease.getSession();
 
-            Queue backoutQueue = session.createQueue(backoutQueueName);
-            Queue originalQueue = session.createQueue(originalQueueName);
-
-            MessageConsumer consumer = session.createConsumer(backoutQueue);
-            MessageProducer producer = session.createProducer(originalQueue);
-            connection.start();
+            lease.start();
 
             Message message;
-            while ((message = consumer.receive(1000)) != null) {
+            while ((message = lease.receive(backoutQueueName, 1000)) != null) {
                 // Backout-Properties entfernen und zurück zur Original-Queue senden
                 Message cleanMessage = copyMessage(session, message);
                 cleanMessage.clearProperties();
                 copyOriginalProperties(message, cleanMessage);
 
-                producer.send(cleanMessage);
+                lease.send(originalQueueName, cleanMessage);
                 movedCount++;
             }
 
@@ -192,11 +192,14 @@ public class SimpleBackoutQueueService {
             return movedCount;
 
         } catch (Exception e) {
+            if (lease != null) {
+                lease.invalidate();
+            }
             LOGGER.log(Level.SEVERE, "Failed to move all messages back from " + backoutQueueName + " to " + originalQueueName, e);
             return movedCount;
         } finally {
-            if (connection != null) {
-                connectionPool.releaseConnection(connection);
+            if (lease != null) {
+                lease.close();
             }
         }
     }
@@ -205,27 +208,22 @@ public class SimpleBackoutQueueService {
      * Verschiebt eine bestimmte Anzahl von Nachrichten von der Backout Queue zurück zur Original-Queue
      */
     public int moveBatchBackToOriginalQueue(String backoutQueueName, String originalQueueName, int batchSize) {
-        Connection connection = null;
+        SessionLease lease = null;
         int movedCount = 0;
         try {
-            connection = connectionPool.getConnection();
-            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            lease = connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE);
+            Session session = lease.getSession();
 
-            Queue backoutQueue = session.createQueue(backoutQueueName);
-            Queue originalQueue = session.createQueue(originalQueueName);
-
-            MessageConsumer consumer = session.createConsumer(backoutQueue);
-            MessageProducer producer = session.createProducer(originalQueue);
-            connection.start();
+            lease.start();
 
             Message message;
-            while (movedCount < batchSize && (message = consumer.receive(1000)) != null) {
+            while (movedCount < batchSize && (message = lease.receive(backoutQueueName, 1000)) != null) {
                 // Backout-Properties entfernen und zurück zur Original-Queue senden
                 Message cleanMessage = copyMessage(session, message);
                 cleanMessage.clearProperties();
                 copyOriginalProperties(message, cleanMessage);
 
-                producer.send(cleanMessage);
+                lease.send(originalQueueName, cleanMessage);
                 movedCount++;
             }
 
@@ -233,11 +231,14 @@ public class SimpleBackoutQueueService {
             return movedCount;
 
         } catch (Exception e) {
+            if (lease != null) {
+                lease.invalidate();
+            }
             LOGGER.log(Level.SEVERE, "Failed to move batch messages back from " + backoutQueueName + " to " + originalQueueName, e);
             return movedCount;
         } finally {
-            if (connection != null) {
-                connectionPool.releaseConnection(connection);
+            if (lease != null) {
+                lease.close();
             }
         }
     }
@@ -287,18 +288,17 @@ public class SimpleBackoutQueueService {
         }
     }
 
-    private int countMessagesInQueue(Session session, String queueName) throws JMSException {
-        Queue queue = session.createQueue(queueName);
-        QueueBrowser browser = session.createBrowser(queue);
+    private int countMessagesInQueue(SessionLease lease, String queueName) throws JMSException {
+        try (QueueBrowser browser = lease.createBrowser(queueName)) {
+            int count = 0;
+            java.util.Enumeration<?> messages = browser.getEnumeration();
+            while (messages.hasMoreElements()) {
+                messages.nextElement();
+                count++;
+            }
 
-        int count = 0;
-        java.util.Enumeration<?> messages = browser.getEnumeration();
-        while (messages.hasMoreElements()) {
-            messages.nextElement();
-            count++;
+            return count;
         }
-
-        return count;
     }
 
     public static class BackoutQueueStats {
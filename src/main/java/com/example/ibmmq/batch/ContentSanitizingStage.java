@@ -0,0 +1,72 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.config.ProcessingConfig;
+import com.example.ibmmq.entity.MQMessage;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.logging.Logger;
+
+/**
+ * Trims message content, cuts it to the configured length, removes control characters and logs
+ * messages that contain one of the configured keywords. Content that is empty after trimming
+ * fails the message.
+ */
+@ApplicationScoped
+public class ContentSanitizingStage implements ProcessingStage {
+
+    public static final int ORDER = 100;
+
+    private static final Logger LOGGER = Logger.getLogger(ContentSanitizingStage.class.getName());
+
+    @Inject
+    private ProcessingConfig processingConfig;
+
+    private volatile MessageContentScanner scanner;
+
+    @Override
+    public int order() {
+        return ORDER;
+    }
+
+    @Override
+    public String name() {
+        return "sanitize";
+    }
+
+    @Override
+    public void process(MQMessage message) {
+        String content = message.getMessageContent();
+        if (content == null) {
+            return;
+        }
+
+        // Trim, size limit, control characters and keywords in one pass over the content
+        MessageContentScanner.Result scanned = scanner().scan(content);
+
+        if (scanned.isEmpty()) {
+            LOGGER.warning("Empty message content for message ID: " + message.getMessageId());
+            message.markAsFailed("Empty message content");
+            return;
+        }
+
+        if (scanned.isTruncated()) {
+            LOGGER.warning("Message content too large for message ID: " + message.getMessageId());
+        }
+
+        message.setMessageContent(scanned.getContent());
+
+        if (scanned.getKeyword() != null) {
+            LOGGER.warning("Message contains error indicators: " + message.getMessageId());
+        }
+    }
+
+    private MessageContentScanner scanner() {
+        MessageContentScanner current = scanner;
+        if (current == null) {
+            current = new MessageContentScanner(processingConfig.getMaxContentLength(), processingConfig.getKeywords());
+            scanner = current;
+        }
+        return current;
+    }
+}
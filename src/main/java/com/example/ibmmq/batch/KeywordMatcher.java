@@ -0,0 +1,167 @@
+package com.example.ibmmq.batch;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Aho-Corasick automaton that finds any of a set of keywords, ignoring case, in one pass over
+ * the text and without allocating. The automaton is a full transition table: ASCII characters
+ * index it directly, so each one costs a single lookup, while other characters go through the
+ * sorted alphabet of the keywords first and, if no keyword contains them, share one column.
+ * A state is the offset of its row in the ASCII table.
+ *
+ * Instances are immutable and safe to share; a scan keeps its state in an {@code int}:
+ * <pre>
+ * int state = KeywordMatcher.START;
+ * for (...) {
+ *     state = matcher.next(state, c);
+ *     if (matcher.keywordAt(state) >= 0) ...
+ * }
+ * </pre>
+ */
+public final class KeywordMatcher {
+
+    public static final int START = 0;
+
+    private final String[] keywords;
+    private final char[] alphabet;
+    private final int width;
+    private final int[] ascii;
+    private final int[] transitions;
+    private final int[] output;
+
+    public KeywordMatcher(Collection<String> keywords) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            if (keyword != null && !keyword.isBlank()) {
+                distinct.add(keyword.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.keywords = distinct.toArray(new String[0]);
+
+        StringBuilder chars = new StringBuilder();
+        int maxStates = 1;
+        for (String keyword : this.keywords) {
+            maxStates += keyword.length();
+            for (int i = 0; i < keyword.length(); i++) {
+                if (chars.indexOf(String.valueOf(keyword.charAt(i))) < 0) {
+                    chars.append(keyword.charAt(i));
+                }
+            }
+        }
+        alphabet = chars.toString().toCharArray();
+        Arrays.sort(alphabet);
+        // Symbol 0 stands for every character no keyword contains
+        width = alphabet.length + 1;
+
+        int[] delta = new int[maxStates * width];
+        Arrays.fill(delta, -1);
+        int[] out = new int[maxStates];
+        Arrays.fill(out, -1);
+        int states = 1;
+        for (int k = 0; k < this.keywords.length; k++) {
+            int state = START;
+            for (int i = 0; i < this.keywords[k].length(); i++) {
+                int edge = state * width + lookup(this.keywords[k].charAt(i));
+                if (delta[edge] < 0) {
+                    delta[edge] = states++;
+                }
+                state = delta[edge];
+            }
+            if (out[state] < 0) {
+                out[state] = k;
+            }
+        }
+
+        // Breadth-first, so a state's failure state is complete before the state itself
+        int[] failure = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < width; symbol++) {
+            int target = delta[symbol];
+            if (target < 0) {
+                delta[symbol] = START;
+            } else {
+                failure[target] = START;
+                queue.add(target);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            if (out[state] < 0) {
+                out[state] = out[failure[state]];
+            }
+            for (int symbol = 0; symbol < width; symbol++) {
+                int edge = state * width + symbol;
+                int fallback = delta[failure[state] * width + symbol];
+                if (delta[edge] < 0) {
+                    delta[edge] = fallback;
+                } else {
+                    failure[delta[edge]] = fallback;
+                    queue.add(delta[edge]);
+                }
+            }
+        }
+
+        transitions = new int[states * width];
+        for (int edge = 0; edge < transitions.length; edge++) {
+            transitions[edge] = delta[edge] << 7;
+        }
+        ascii = new int[states << 7];
+        for (char c = 0; c < 128; c++) {
+            int symbol = lookup(Character.toLowerCase(c));
+            for (int state = 0; state < states; state++) {
+                ascii[(state << 7) + c] = transitions[state * width + symbol];
+            }
+        }
+        output = Arrays.copyOf(out, states);
+    }
+
+    /**
+     * The state after reading {@code c} in {@code state}.
+     */
+    public int next(int state, char c) {
+        if (c < 128) {
+            return ascii[state + c];
+        }
+        return transitions[(state >> 7) * width + lookup(Character.toLowerCase(c))];
+    }
+
+    /**
+     * Index of a keyword that ends at {@code state}, or -1.
+     */
+    public int keywordAt(int state) {
+        return output[state >> 7];
+    }
+
+    public String keyword(int index) {
+        return keywords[index];
+    }
+
+    public boolean isEmpty() {
+        return keywords.length == 0;
+    }
+
+    /**
+     * The first keyword found in {@code text}, or null.
+     */
+    public String find(CharSequence text) {
+        int state = START;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            int keyword = output[state >> 7];
+            if (keyword >= 0) {
+                return keywords[keyword];
+            }
+        }
+        return null;
+    }
+
+    private int lookup(char c) {
+        int index = Arrays.binarySearch(alphabet, c);
+        return index < 0 ? 0 : index + 1;
+    }
+}
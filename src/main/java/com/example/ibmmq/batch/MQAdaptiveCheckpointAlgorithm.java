@@ -0,0 +1,150 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.config.ChunkSizingConfig;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.CheckpointAlgorithm;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Ends chunks so that each takes about the target time from its first read to its commit.
+ *
+ * After every committed chunk the time per item (reading, processing, writing and committing,
+ * smoothed over recent chunks) gives the size that fits the target; the next chunk may grow by
+ * at most half and shrinks right away. A chunk still open at the target time is committed
+ * early, so when the queue delivers slower than the step can work the size follows the arrival
+ * rate instead of holding messages back. A chunk that never reaches {@link #endCheckpoint()}
+ * was rolled back: the size is halved and does not grow again until rollbacks have become
+ * rare.
+ *
+ * Sizes stay within {@code batch.chunk.min.size} and {@code batch.chunk.max.size}. With
+ * {@code sizing=fixed} every chunk has the configured size, like {@code checkpoint-policy="item"}.
+ */
+@Dependent
+@Named
+public class MQAdaptiveCheckpointAlgorithm implements CheckpointAlgorithm {
+
+    private static final Logger LOGGER = Logger.getLogger(MQAdaptiveCheckpointAlgorithm.class.getName());
+
+    private static final double SMOOTHING = 0.3;
+    // Share of recent chunks rolled back above which chunks do not grow
+    private static final double FAILURE_THRESHOLD = 0.1;
+
+    @Inject
+    private StepContext stepContext;
+
+    @Inject
+    private ChunkSizingConfig sizingConfig;
+
+    @Inject
+    private MQMetricsService metricsService;
+
+    @Inject
+    @BatchProperty(name = "size")
+    private String sizeProperty;
+
+    @Inject
+    @BatchProperty(name = "sizing")
+    private String sizingProperty;
+
+    private boolean initialized;
+    private boolean adaptive;
+    private int minSize;
+    private int maxSize;
+    private long targetNanos;
+
+    private int size;
+    private int items;
+    private long chunkStart;
+    private boolean open;
+    private double nanosPerItem;
+    private double failureRate;
+
+    @Override
+    public int checkpointTimeout() throws Exception {
+        return 0;
+    }
+
+    @Override
+    public void beginCheckpoint() throws Exception {
+        initialize();
+        if (open) {
+            rolledBack();
+        }
+        open = true;
+        items = 0;
+        chunkStart = System.nanoTime();
+    }
+
+    @Override
+    public boolean isReadyToCheckpoint() throws Exception {
+        initialize();
+        items++;
+        if (items >= size) {
+            return true;
+        }
+        return adaptive && System.nanoTime() - chunkStart >= targetNanos;
+    }
+
+    @Override
+    public void endCheckpoint() throws Exception {
+        open = false;
+        failureRate *= 1 - SMOOTHING;
+        if (adaptive && items > 0) {
+            resize(System.nanoTime() - chunkStart);
+        }
+    }
+
+    /**
+     * Items the current chunk is committed at, unless the target time comes first.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    private void resize(long chunkNanos) {
+        double perItem = (double) chunkNanos / items;
+        nanosPerItem = nanosPerItem == 0 ? perItem : nanosPerItem + SMOOTHING * (perItem - nanosPerItem);
+
+        long fitting = (long) (targetNanos / nanosPerItem);
+        long ceiling = failureRate > FAILURE_THRESHOLD ? size : size + Math.max(1, size / 2);
+        setSize(Math.min(fitting, ceiling));
+    }
+
+    private void rolledBack() {
+        failureRate += SMOOTHING * (1 - failureRate);
+        if (adaptive) {
+            setSize(size / 2);
+            LOGGER.info("Chunk rolled back in step " + stepContext.getStepName() + ", next chunks have " + size + " items");
+        }
+    }
+
+    private void setSize(long next) {
+        int bounded = (int) Math.max(minSize, Math.min(maxSize, next));
+        if (bounded != size) {
+            LOGGER.fine("Chunk size for step " + stepContext.getStepName() + ": " + size + " -> " + bounded);
+        }
+        size = bounded;
+        metricsService.recordChunkSize(stepContext.getStepName(), size);
+    }
+
+    private void initialize() {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+        String sizing = sizingProperty != null && !sizingProperty.isBlank() ? sizingProperty.trim() : sizingConfig.getSizing();
+        adaptive = ChunkSizingConfig.SIZING_ADAPTIVE.equalsIgnoreCase(sizing);
+        int initial = sizeProperty != null && !sizeProperty.isBlank() ? Integer.parseInt(sizeProperty.trim()) : sizingConfig.getChunkSize();
+        minSize = Math.max(1, sizingConfig.getMinSize());
+        maxSize = Math.max(minSize, sizingConfig.getMaxSize());
+        targetNanos = TimeUnit.MILLISECONDS.toNanos(sizingConfig.getTargetTime());
+        size = adaptive ? Math.max(minSize, Math.min(maxSize, initial)) : Math.max(1, initial);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.ibmmq.batch;
 
+import com.example.ibmmq.monitoring.MQMetricsService;
+import io.micrometer.core.instrument.Timer;
 import jakarta.batch.api.listener.JobListener;
 import jakarta.batch.runtime.context.JobContext;
 import jakarta.enterprise.context.Dependent;
@@ -17,6 +19,11 @@ public class MQBatchJobListener implements JobListener {
     @Inject
     private JobContext jobContext;
 
+    @Inject
+    private MQMetricsService metricsService;
+
+    private Timer.Sample jobTimer;
+
     @Override
     public void beforeJob() throws Exception {
         LOGGER.info("Starting MQ to PostgreSQL batch job: " + jobContext.getJobName() +
@@ -24,6 +31,7 @@ public class MQBatchJobListener implements JobListener {
 
         long startTime = System.currentTimeMillis();
         jobContext.getProperties().setProperty("job.start.time", String.valueOf(startTime));
+        jobTimer = metricsService.startBatchJobTimer();
     }
 
     @Override
@@ -42,6 +50,17 @@ public class MQBatchJobListener implements JobListener {
                    " - Exit Status: " + exitStatus);
 
         jobContext.getProperties().setProperty("job.duration", String.valueOf(duration));
+        if (jobTimer != null) {
+            metricsService.stopBatchJobTimer(jobTimer, jobContext.getJobName(), exitStatus != null ? exitStatus : batchStatus);
+            jobTimer = null;
+        }
+
+        String itemsWritten = jobContext.getProperties().getProperty(MQPartitionAnalyzer.ITEMS_WRITTEN);
+        if (itemsWritten != null && duration > 0) {
+            LOGGER.info("Wrote " + itemsWritten + " messages across " +
+                       jobContext.getProperties().getProperty(MQPartitionAnalyzer.PARTITIONS_COMPLETED) +
+                       " partitions - " + (Long.parseLong(itemsWritten) * 1000 / duration) + " messages/s");
+        }
 
         if ("FAILED".equals(exitStatus)) {
             LOGGER.severe("Batch job failed - check application logs for details");
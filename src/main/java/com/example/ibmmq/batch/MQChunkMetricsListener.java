@@ -0,0 +1,151 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.entity.MQMessage;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.batch.api.chunk.listener.ChunkListener;
+import jakarta.batch.api.chunk.listener.ItemProcessListener;
+import jakarta.batch.api.chunk.listener.ItemReadListener;
+import jakarta.batch.api.chunk.listener.ItemWriteListener;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.util.List;
+
+/**
+ * Times every chunk of the step and splits its time into reading (waiting for messages),
+ * processing, writing and committing, next to the items it carried and, once committed, each
+ * message's lag since it was put on the queue.
+ *
+ * Listed after the other step listeners so that its {@code beforeWrite} runs after chunk
+ * processing, which is counted as processing time, and its {@code afterChunk} after the MQ
+ * commit, which is counted as commit time.
+ */
+@Dependent
+@Named
+public class MQChunkMetricsListener implements ChunkListener, ItemReadListener, ItemProcessListener, ItemWriteListener {
+
+    @Inject
+    private StepContext stepContext;
+
+    @Inject
+    private MQMetricsService metricsService;
+
+    private long chunkStart;
+    private long phaseStart;
+    private long phaseEnd;
+    private long readNanos;
+    private long processNanos;
+    private long writeNanos;
+    private int items;
+    private long[] putTimestamps = new long[16];
+    private int written;
+
+    @Override
+    public void beforeChunk() throws Exception {
+        chunkStart = System.nanoTime();
+        phaseEnd = chunkStart;
+        readNanos = 0;
+        processNanos = 0;
+        writeNanos = 0;
+        items = 0;
+        written = 0;
+    }
+
+    @Override
+    public void beforeRead() throws Exception {
+        phaseStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterRead(Object item) throws Exception {
+        readNanos += endPhase();
+        if (item != null) {
+            items++;
+        }
+    }
+
+    @Override
+    public void onReadError(Exception ex) throws Exception {
+        readNanos += endPhase();
+    }
+
+    @Override
+    public void beforeProcess(Object item) throws Exception {
+        phaseStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterProcess(Object item, Object result) throws Exception {
+        processNanos += endPhase();
+    }
+
+    @Override
+    public void onProcessError(Object item, Exception ex) throws Exception {
+        processNanos += endPhase();
+    }
+
+    @Override
+    public void beforeWrite(List<Object> items) throws Exception {
+        phaseStart = System.nanoTime();
+        // Chunk processing runs in the write listeners ahead of this one
+        processNanos += phaseStart - phaseEnd;
+
+        if (putTimestamps.length < items.size()) {
+            putTimestamps = new long[items.size()];
+        }
+        written = 0;
+        for (Object item : items) {
+            if (item instanceof MQMessage && ((MQMessage) item).getPutTimestamp() != null) {
+                putTimestamps[written++] = ((MQMessage) item).getPutTimestamp();
+            }
+        }
+    }
+
+    @Override
+    public void afterWrite(List<Object> items) throws Exception {
+        writeNanos += endPhase();
+    }
+
+    @Override
+    public void onWriteError(List<Object> items, Exception ex) throws Exception {
+        writeNanos += endPhase();
+        written = 0;
+    }
+
+    @Override
+    public void afterChunk() throws Exception {
+        if (items == 0) {
+            // The empty chunk that finds the end of the queue says nothing about chunk sizing
+            return;
+        }
+        long now = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        String stepName = stepContext.getStepName();
+
+        metricsService.recordBatchChunk(stepName, items, now - chunkStart, "committed");
+        metricsService.recordBatchChunkPhase(stepName, "read", readNanos);
+        metricsService.recordBatchChunkPhase(stepName, "process", processNanos);
+        metricsService.recordBatchChunkPhase(stepName, "write", writeNanos);
+        metricsService.recordBatchChunkPhase(stepName, "commit", now - phaseEnd);
+
+        if (written > 0) {
+            long[] lagMillis = new long[written];
+            for (int i = 0; i < written; i++) {
+                lagMillis[i] = nowMillis - putTimestamps[i];
+            }
+            metricsService.recordBatchLag(stepName, lagMillis);
+        }
+    }
+
+    @Override
+    public void onError(Exception ex) throws Exception {
+        metricsService.recordBatchChunk(stepContext.getStepName(), items, System.nanoTime() - chunkStart, "rolled-back");
+    }
+
+    private long endPhase() {
+        phaseEnd = System.nanoTime();
+        return phaseEnd - phaseStart;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.entity.MQMessage;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.listener.ItemWriteListener;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Processes a whole chunk right before it is written when the step runs with
+ * {@code processing=chunk}. {@link MQMessageProcessor} then only passes messages through, and
+ * the {@link ProcessingPipeline} works on the chunk's messages in parallel instead of one item
+ * at a time.
+ */
+@Dependent
+@Named
+public class MQChunkProcessingListener implements ItemWriteListener {
+
+    public static final String PROCESSING_PROPERTY = "processing";
+    public static final String CHUNK_PROCESSING = "chunk";
+
+    @Inject
+    private ProcessingPipeline pipeline;
+
+    @Inject
+    @BatchProperty(name = PROCESSING_PROPERTY)
+    private String processingProperty;
+
+    @Override
+    public void beforeWrite(List<Object> items) throws Exception {
+        if (!CHUNK_PROCESSING.equals(processingProperty)) {
+            return;
+        }
+        List<MQMessage> messages = new ArrayList<>(items.size());
+        for (Object item : items) {
+            if (item instanceof MQMessage) {
+                messages.add((MQMessage) item);
+            }
+        }
+        pipeline.processAll(messages);
+    }
+
+    @Override
+    public void afterWrite(List<Object> items) throws Exception {
+    }
+
+    @Override
+    public void onWriteError(List<Object> items, Exception ex) throws Exception {
+    }
+}
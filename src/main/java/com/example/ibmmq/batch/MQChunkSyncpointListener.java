@@ -0,0 +1,61 @@
+package com.example.ibmmq.batch;
+
+import jakarta.batch.api.chunk.listener.ChunkListener;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Ends the transacted {@link MQMessageReader}'s syncpoint at each chunk boundary: commit after
+ * the chunk is written, rollback when it fails so its messages return to the queue. The gets of
+ * a chunk then cost one MQ commit between them instead of one each.
+ *
+ * If the commit itself fails after the rows were written, the messages are delivered again and
+ * the writer's upsert overwrites the same rows.
+ */
+@Dependent
+@Named
+public class MQChunkSyncpointListener implements ChunkListener {
+
+    private static final Logger LOGGER = Logger.getLogger(MQChunkSyncpointListener.class.getName());
+
+    @Inject
+    private StepContext stepContext;
+
+    @Override
+    public void beforeChunk() throws Exception {
+        // The syncpoint begins with the chunk's first get
+    }
+
+    @Override
+    public void afterChunk() throws Exception {
+        MQMessageReader reader = reader();
+        if (reader != null) {
+            reader.commit();
+        }
+    }
+
+    @Override
+    public void onError(Exception ex) throws Exception {
+        MQMessageReader reader = reader();
+        if (reader == null) {
+            return;
+        }
+        LOGGER.warning("Chunk failed, returning its messages to the queue: " + ex.getMessage());
+        try {
+            reader.rollback();
+        } catch (Exception rollbackFailure) {
+            // Closing the session on step end rolls the chunk back as well
+            LOGGER.log(Level.WARNING, "Rollback of failed chunk failed", rollbackFailure);
+        }
+    }
+
+    private MQMessageReader reader() {
+        Object data = stepContext.getTransientUserData();
+        return data instanceof MQMessageReader ? (MQMessageReader) data : null;
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.ibmmq.batch;
 
+import com.example.ibmmq.adapter.MessageBodies;
 import com.example.ibmmq.config.IBMMQConfig;
 import com.example.ibmmq.entity.MQMessage;
+import jakarta.batch.api.BatchProperty;
 import jakarta.batch.api.chunk.ItemReader;
+import jakarta.batch.runtime.context.StepContext;
 import jakarta.enterprise.context.Dependent;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -12,6 +15,14 @@ import java.io.Serializable;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Receives the step's messages from MQ. By default the session is transacted: the gets of a
+ * chunk stay under one syncpoint that {@link MQChunkSyncpointListener} commits once the chunk
+ * is written and rolls back when it fails, so a message leaves the queue only together with
+ * its row. A restart therefore needs no checkpoint; whatever was not committed is still queued.
+ * The {@code transacted} property set to {@code false} restores auto-acknowledge, where each
+ * get is its own syncpoint.
+ */
 @Dependent
 @Named
 public class MQMessageReader implements ItemReader {
@@ -24,27 +35,49 @@ public class MQMessageReader implements ItemReader {
     @Inject
     private IBMMQConfig config;
 
+    /** Queue assigned by the partition plan; the configured request queue when unset. */
+    @Inject
+    @BatchProperty(name = MQPartitionMapper.QUEUE_PROPERTY)
+    private String queueProperty;
+
+    @Inject
+    @BatchProperty(name = "transacted")
+    private String transactedProperty;
+
+    @Inject
+    private StepContext stepContext;
+
     private Connection connection;
     private Session session;
     private MessageConsumer consumer;
     private String queueName;
+    private boolean transacted;
     private long timeout = 5000;
 
     @Override
     public void open(Serializable checkpoint) throws Exception {
         LOGGER.info("Opening MQ Message Reader");
 
-        queueName = config.getRequestQueue();
+        queueName = queueProperty != null && !queueProperty.isBlank() ? queueProperty : config.getRequestQueue();
+
+        transacted = !"false".equalsIgnoreCase(transactedProperty);
 
         connection = connectionFactory.createConnection();
-        session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        session = transacted ? connection.createSession(true, Session.SESSION_TRANSACTED)
+                             : connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
 
         Queue queue = session.createQueue(queueName);
         consumer = session.createConsumer(queue);
 
         connection.start();
 
-        LOGGER.info("MQ Message Reader opened successfully for queue: " + queueName);
+        if (transacted) {
+            // Picked up by the chunk listener of the same step (or partition) to end the syncpoint
+            stepContext.setTransientUserData(this);
+        }
+
+        LOGGER.info("MQ Message Reader opened successfully for queue: " + queueName
+                    + (transacted ? " (transacted)" : ""));
     }
 
     @Override
@@ -56,6 +89,7 @@ public class MQMessageReader implements ItemReader {
                 consumer.close();
             }
             if (session != null) {
+                // A transacted session rolls back whatever the last chunk left uncommitted
                 session.close();
             }
             if (connection != null) {
@@ -80,27 +114,7 @@ public class MQMessageReader implements ItemReader {
 
             LOGGER.info("Message received from queue: " + queueName);
 
-            MQMessage mqMessage = new MQMessage();
-            mqMessage.setQueueName(queueName);
-            mqMessage.setMessageId(message.getJMSMessageID());
-            mqMessage.setCorrelationId(message.getJMSCorrelationID());
-            mqMessage.setPriority(message.getJMSPriority());
-            mqMessage.setExpiry(message.getJMSExpiration());
-
-            if (message instanceof TextMessage) {
-                TextMessage textMessage = (TextMessage) message;
-                mqMessage.setMessageContent(textMessage.getText());
-                mqMessage.setMessageType("TEXT");
-            } else if (message instanceof BytesMessage) {
-                BytesMessage bytesMessage = (BytesMessage) message;
-                byte[] bytes = new byte[(int) bytesMessage.getBodyLength()];
-                bytesMessage.readBytes(bytes);
-                mqMessage.setMessageContent(new String(bytes));
-                mqMessage.setMessageType("BYTES");
-            } else {
-                mqMessage.setMessageContent(message.toString());
-                mqMessage.setMessageType(message.getClass().getSimpleName());
-            }
+            MQMessage mqMessage = toMQMessage(message, queueName);
 
             LOGGER.info("Created MQMessage entity for message ID: " + mqMessage.getMessageId());
             return mqMessage;
@@ -111,6 +125,55 @@ public class MQMessageReader implements ItemReader {
         }
     }
 
+    /**
+     * The entity for a received message, with its body as text; also used by the streaming
+     * ingestion so both paths store messages alike.
+     */
+    public static MQMessage toMQMessage(Message message, String queueName) throws JMSException {
+        MQMessage mqMessage = new MQMessage();
+        mqMessage.setQueueName(queueName);
+        mqMessage.setMessageId(message.getJMSMessageID());
+        mqMessage.setCorrelationId(message.getJMSCorrelationID());
+        mqMessage.setPriority(message.getJMSPriority());
+        mqMessage.setExpiry(message.getJMSExpiration());
+        if (message.getJMSTimestamp() > 0) {
+            mqMessage.setPutTimestamp(message.getJMSTimestamp());
+        }
+
+        if (message instanceof TextMessage) {
+            TextMessage textMessage = (TextMessage) message;
+            mqMessage.setMessageContent(textMessage.getText());
+            mqMessage.setMessageType("TEXT");
+        } else if (message instanceof BytesMessage) {
+            // Decoded chunk by chunk in the message's CCSID, without a body-sized byte array
+            mqMessage.setMessageContent(MessageBodies.readString((BytesMessage) message));
+            mqMessage.setMessageType("BYTES");
+        } else {
+            mqMessage.setMessageContent(message.toString());
+            mqMessage.setMessageType(message.getClass().getSimpleName());
+        }
+
+        return mqMessage;
+    }
+
+    /**
+     * Removes the messages received since the last commit from the queue.
+     */
+    void commit() throws JMSException {
+        if (transacted && session != null) {
+            session.commit();
+        }
+    }
+
+    /**
+     * Puts the messages received since the last commit back on the queue.
+     */
+    void rollback() throws JMSException {
+        if (transacted && session != null) {
+            session.rollback();
+        }
+    }
+
     @Override
     public Serializable checkpointInfo() throws Exception {
         return null;
@@ -8,6 +8,8 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -31,11 +33,16 @@ public class MQMessageWriter implements ItemWriter {
         LOGGER.info("Closing MQ Message Writer");
     }
 
+    /**
+     * Writes the chunk with one upsert in one transaction. Only when that fails is the chunk
+     * split in halves and each written on its own, down to the single messages at fault, which
+     * are stored as failed instead.
+     */
     @Override
     public void writeItems(List<Object> items) throws Exception {
         LOGGER.info("Writing " + items.size() + " messages to PostgreSQL");
 
-        int successCount = 0;
+        List<MQMessage> messages = new ArrayList<>(items.size());
         int errorCount = 0;
 
         for (Object item : items) {
@@ -45,46 +52,53 @@ public class MQMessageWriter implements ItemWriter {
                 errorCount++;
                 continue;
             }
-
-            MQMessage message = (MQMessage) item;
-
-            try {
-                if (messageRepository.findByMessageId(message.getMessageId()).isPresent()) {
-                    LOGGER.warning("Message with ID already exists, updating: " + message.getMessageId());
-                    MQMessage existing = messageRepository.findByMessageId(message.getMessageId()).get();
-                    existing.setMessageContent(message.getMessageContent());
-                    existing.setStatus(message.getStatus());
-                    existing.setErrorMessage(message.getErrorMessage());
-                    existing.setProcessedAt(message.getProcessedAt());
-                    existing.setRetryCount(message.getRetryCount());
-                    messageRepository.save(existing);
-                } else {
-                    messageRepository.save(message);
-                }
-
-                successCount++;
-                LOGGER.fine("Successfully saved message ID: " + message.getMessageId());
-
-            } catch (Exception e) {
-                errorCount++;
-                LOGGER.log(Level.SEVERE, "Failed to save message ID: " + message.getMessageId(), e);
-
-                try {
-                    message.markAsFailed("Database save error: " + e.getMessage());
-                    messageRepository.save(message);
-                } catch (Exception saveErrorException) {
-                    LOGGER.log(Level.SEVERE, "Failed to save error state for message ID: " + message.getMessageId(), saveErrorException);
-                }
-            }
+            messages.add((MQMessage) item);
         }
 
-        LOGGER.info("Batch write completed - Success: " + successCount + ", Errors: " + errorCount);
+        errorCount += write(messageRepository, messages);
+
+        LOGGER.info("Batch write completed - Success: " + (items.size() - errorCount) + ", Errors: " + errorCount);
 
         if (errorCount > 0) {
             throw new Exception("Failed to write " + errorCount + " out of " + items.size() + " messages");
         }
     }
 
+    /**
+     * Upserts {@code messages}, splitting them in halves on failure down to the single messages
+     * at fault, which are stored as failed instead. Also used by the streaming ingestion.
+     *
+     * @return number of messages that could not be written
+     */
+    public static int write(MQMessageRepository messageRepository, List<MQMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        try {
+            messageRepository.upsertAll(messages);
+            return 0;
+        } catch (Exception e) {
+            if (messages.size() == 1) {
+                markFailed(messageRepository, messages.get(0), e);
+                return 1;
+            }
+            LOGGER.warning("Writing " + messages.size() + " messages failed, retrying in halves: " + e.getMessage());
+            int half = messages.size() / 2;
+            return write(messageRepository, messages.subList(0, half))
+                + write(messageRepository, messages.subList(half, messages.size()));
+        }
+    }
+
+    private static void markFailed(MQMessageRepository messageRepository, MQMessage message, Exception e) {
+        LOGGER.log(Level.SEVERE, "Failed to save message ID: " + message.getMessageId(), e);
+        try {
+            message.markAsFailed("Database save error: " + e.getMessage());
+            messageRepository.upsertAll(Collections.singletonList(message));
+        } catch (Exception saveErrorException) {
+            LOGGER.log(Level.SEVERE, "Failed to save error state for message ID: " + message.getMessageId(), saveErrorException);
+        }
+    }
+
     @Override
     public Serializable checkpointInfo() throws Exception {
         return null;
@@ -0,0 +1,72 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.batch.api.partition.PartitionAnalyzer;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.io.Serializable;
+import java.util.logging.Logger;
+
+/**
+ * Adds what each partition reports to job-level totals, kept in the job context as
+ * {@code items.read}, {@code items.written} and {@code items.skipped} and counted in the batch
+ * metrics as they arrive. The batch runtime calls the analyzer on the step's thread only, one
+ * report at a time, so the totals need no locking.
+ */
+@Dependent
+@Named
+public class MQPartitionAnalyzer implements PartitionAnalyzer {
+
+    private static final Logger LOGGER = Logger.getLogger(MQPartitionAnalyzer.class.getName());
+
+    public static final String ITEMS_READ = "items.read";
+    public static final String ITEMS_WRITTEN = "items.written";
+    public static final String ITEMS_SKIPPED = "items.skipped";
+    public static final String PARTITIONS_COMPLETED = "partitions.completed";
+
+    @Inject
+    private JobContext jobContext;
+
+    @Inject
+    private MQMetricsService metricsService;
+
+    private long read;
+    private long written;
+    private long skipped;
+    private int completed;
+
+    @Override
+    public void analyzeCollectorData(Serializable data) throws Exception {
+        if (!(data instanceof PartitionProgress)) {
+            return;
+        }
+        PartitionProgress progress = (PartitionProgress) data;
+        read += progress.getRead();
+        written += progress.getWritten();
+        skipped += progress.getSkipped();
+
+        jobContext.getProperties().setProperty(ITEMS_READ, String.valueOf(read));
+        jobContext.getProperties().setProperty(ITEMS_WRITTEN, String.valueOf(written));
+        jobContext.getProperties().setProperty(ITEMS_SKIPPED, String.valueOf(skipped));
+
+        metricsService.recordBatchJobMetrics(jobContext.getJobName(), progress.getRead(), progress.getWritten(),
+                                             progress.getSkipped());
+    }
+
+    @Override
+    public void analyzeStatus(BatchStatus batchStatus, String exitStatus) throws Exception {
+        completed++;
+        jobContext.getProperties().setProperty(PARTITIONS_COMPLETED, String.valueOf(completed));
+
+        if (batchStatus == BatchStatus.COMPLETED) {
+            LOGGER.info("Partition finished (" + completed + " so far) - Read: " + read + ", Written: " + written
+                        + ", Skipped: " + skipped);
+        } else {
+            LOGGER.warning("Partition ended with status " + batchStatus + " (exit status " + exitStatus + ")");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.ibmmq.batch;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.partition.PartitionCollector;
+import jakarta.batch.runtime.Metric;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.io.Serializable;
+
+/**
+ * Runs on each partition thread after every chunk and reports what the partition's step
+ * metrics gained since the last report.
+ */
+@Dependent
+@Named
+public class MQPartitionCollector implements PartitionCollector {
+
+    @Inject
+    private StepContext stepContext;
+
+    @Inject
+    @BatchProperty(name = MQPartitionMapper.PARTITION_PROPERTY)
+    private String partition;
+
+    private long reportedRead;
+    private long reportedWritten;
+    private long reportedSkipped;
+
+    @Override
+    public Serializable collectPartitionData() throws Exception {
+        long read = 0;
+        long written = 0;
+        long skipped = 0;
+        for (Metric metric : stepContext.getMetrics()) {
+            switch (metric.getType()) {
+                case READ_COUNT:
+                    read = metric.getValue();
+                    break;
+                case WRITE_COUNT:
+                    written = metric.getValue();
+                    break;
+                case READ_SKIP_COUNT:
+                case PROCESS_SKIP_COUNT:
+                case WRITE_SKIP_COUNT:
+                    skipped += metric.getValue();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        PartitionProgress progress = new PartitionProgress(partition != null ? Integer.parseInt(partition) : 0,
+                                                           read - reportedRead, written - reportedWritten,
+                                                           skipped - reportedSkipped);
+        reportedRead = read;
+        reportedWritten = written;
+        reportedSkipped = skipped;
+        return progress;
+    }
+}
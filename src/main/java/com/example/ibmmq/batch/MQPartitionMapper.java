@@ -0,0 +1,82 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.config.IBMMQConfig;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.partition.PartitionMapper;
+import jakarta.batch.api.partition.PartitionPlan;
+import jakarta.batch.api.partition.PartitionPlanImpl;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * Splits the MQ-to-PostgreSQL step into {@code partitions} reader/processor/writer threads,
+ * taken from the job parameter of that name (default 1). The partitions are competing
+ * consumers on the same queue, each with its own connection and session, so the queue
+ * manager hands every message to exactly one of them.
+ */
+@Dependent
+@Named
+public class MQPartitionMapper implements PartitionMapper {
+
+    private static final Logger LOGGER = Logger.getLogger(MQPartitionMapper.class.getName());
+
+    /** Partition plan property holding the partition's number, from 0. */
+    public static final String PARTITION_PROPERTY = "partition";
+
+    /** Partition plan property holding the queue the partition reads. */
+    public static final String QUEUE_PROPERTY = "queue";
+
+    public static final int MAX_PARTITIONS = 64;
+
+    @Inject
+    @BatchProperty(name = "partitions")
+    private String partitions;
+
+    @Inject
+    @BatchProperty(name = "queue")
+    private String queue;
+
+    @Inject
+    private IBMMQConfig config;
+
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        int count = partitionCount(partitions);
+        String queueName = queue != null && !queue.isBlank() ? queue : config.getRequestQueue();
+
+        Properties[] partitionProperties = new Properties[count];
+        for (int i = 0; i < count; i++) {
+            partitionProperties[i] = new Properties();
+            partitionProperties[i].setProperty(PARTITION_PROPERTY, String.valueOf(i));
+            partitionProperties[i].setProperty(QUEUE_PROPERTY, queueName);
+        }
+
+        PartitionPlanImpl plan = new PartitionPlanImpl();
+        plan.setPartitions(count);
+        plan.setThreads(count);
+        plan.setPartitionProperties(partitionProperties);
+
+        LOGGER.info("Reading queue " + queueName + " with " + count + " partitions");
+        return plan;
+    }
+
+    /**
+     * The requested partition count, or 1 when it is missing or not a number, at most
+     * {@link #MAX_PARTITIONS}.
+     */
+    static int partitionCount(String requested) {
+        if (requested == null || requested.isBlank()) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_PARTITIONS, Integer.parseInt(requested.trim())));
+        } catch (NumberFormatException e) {
+            LOGGER.warning("Ignoring partitions job parameter that is not a number: " + requested);
+            return 1;
+        }
+    }
+}
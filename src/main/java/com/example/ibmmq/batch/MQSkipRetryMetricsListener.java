@@ -0,0 +1,64 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.batch.api.chunk.listener.RetryProcessListener;
+import jakarta.batch.api.chunk.listener.RetryReadListener;
+import jakarta.batch.api.chunk.listener.RetryWriteListener;
+import jakarta.batch.api.chunk.listener.SkipProcessListener;
+import jakarta.batch.api.chunk.listener.SkipReadListener;
+import jakarta.batch.api.chunk.listener.SkipWriteListener;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.util.List;
+
+/**
+ * Counts the items the step skips and the retries it makes, by phase and exception type.
+ */
+@Dependent
+@Named
+public class MQSkipRetryMetricsListener implements SkipReadListener, SkipProcessListener, SkipWriteListener,
+                                                   RetryReadListener, RetryProcessListener, RetryWriteListener {
+
+    @Inject
+    private StepContext stepContext;
+
+    @Inject
+    private MQMetricsService metricsService;
+
+    @Override
+    public void onSkipReadItem(Exception ex) throws Exception {
+        metricsService.recordBatchSkip(stepContext.getStepName(), "read", type(ex), 1);
+    }
+
+    @Override
+    public void onSkipProcessItem(Object item, Exception ex) throws Exception {
+        metricsService.recordBatchSkip(stepContext.getStepName(), "process", type(ex), 1);
+    }
+
+    @Override
+    public void onSkipWriteItem(List<Object> items, Exception ex) throws Exception {
+        metricsService.recordBatchSkip(stepContext.getStepName(), "write", type(ex), items.size());
+    }
+
+    @Override
+    public void onRetryReadException(Exception ex) throws Exception {
+        metricsService.recordBatchRetry(stepContext.getStepName(), "read", type(ex));
+    }
+
+    @Override
+    public void onRetryProcessException(Object item, Exception ex) throws Exception {
+        metricsService.recordBatchRetry(stepContext.getStepName(), "process", type(ex));
+    }
+
+    @Override
+    public void onRetryWriteException(List<Object> items, Exception ex) throws Exception {
+        metricsService.recordBatchRetry(stepContext.getStepName(), "write", type(ex));
+    }
+
+    private static String type(Exception ex) {
+        return ex != null ? MQMetricsService.errorType(ex) : "unknown";
+    }
+}
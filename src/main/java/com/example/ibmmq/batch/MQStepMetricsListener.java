@@ -0,0 +1,59 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.batch.api.listener.StepListener;
+import jakarta.batch.runtime.Metric;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.util.logging.Logger;
+
+/**
+ * Records the duration, item counts and items per second of each step execution; in a
+ * partitioned step each partition reports on its own.
+ */
+@Dependent
+@Named
+public class MQStepMetricsListener implements StepListener {
+
+    private static final Logger LOGGER = Logger.getLogger(MQStepMetricsListener.class.getName());
+
+    @Inject
+    private StepContext stepContext;
+
+    @Inject
+    private MQMetricsService metricsService;
+
+    private long stepStart;
+
+    @Override
+    public void beforeStep() throws Exception {
+        stepStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterStep() throws Exception {
+        long nanos = System.nanoTime() - stepStart;
+        long read = 0;
+        long written = 0;
+        Metric[] metrics = stepContext.getMetrics();
+        if (metrics != null) {
+            for (Metric metric : metrics) {
+                if (metric.getType() == Metric.MetricType.READ_COUNT) {
+                    read = metric.getValue();
+                } else if (metric.getType() == Metric.MetricType.WRITE_COUNT) {
+                    written = metric.getValue();
+                }
+            }
+        }
+
+        String status = stepContext.getExitStatus() != null ? stepContext.getExitStatus()
+            : String.valueOf(stepContext.getBatchStatus());
+        metricsService.recordBatchStep(stepContext.getStepName(), nanos, read, written, status);
+
+        LOGGER.fine("Step " + stepContext.getStepName() + " read " + read + " and wrote " + written +
+                    " messages in " + nanos / 1_000_000 + "ms");
+    }
+}
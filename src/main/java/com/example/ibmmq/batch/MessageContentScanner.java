@@ -0,0 +1,134 @@
+package com.example.ibmmq.batch;
+
+import java.util.Collection;
+
+/**
+ * Cleans message content for storage in one pass: trims it, cuts it to {@code maxLength}
+ * characters with a {@link #TRUNCATION_MARKER}, removes ASCII control characters other than
+ * CR, LF and TAB, and meanwhile looks for the configured keywords in the text that remains.
+ * A new string is only built when one of these steps changes the content.
+ */
+public final class MessageContentScanner {
+
+    public static final String TRUNCATION_MARKER = "... [TRUNCATED]";
+
+    private final int maxLength;
+    private final KeywordMatcher matcher;
+
+    /**
+     * @param maxLength characters kept after trimming; 0 or less keeps everything
+     */
+    public MessageContentScanner(int maxLength, Collection<String> keywords) {
+        this.maxLength = maxLength > 0 ? maxLength : Integer.MAX_VALUE;
+        this.matcher = new KeywordMatcher(keywords);
+    }
+
+    public Result scan(String content) {
+        int length = content.length();
+        int start = 0;
+        int end = length;
+        while (start < end && content.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && content.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return new Result(content, true, false, null);
+        }
+
+        boolean truncated = end - start > maxLength;
+        int limit = truncated ? start + maxLength : end;
+        StringBuilder copy = null;
+        int run = start;
+        int state = KeywordMatcher.START;
+        int keyword = -1;
+
+        for (int i = start; i < limit; i++) {
+            char c = content.charAt(i);
+            if (isRemoved(c)) {
+                if (copy == null) {
+                    copy = new StringBuilder(limit - start + (truncated ? TRUNCATION_MARKER.length() : 0));
+                }
+                copy.append(content, run, i);
+                run = i + 1;
+                continue;
+            }
+            if (keyword < 0) {
+                state = matcher.next(state, c);
+                keyword = matcher.keywordAt(state);
+            }
+        }
+        if (copy != null) {
+            copy.append(content, run, limit);
+        }
+
+        String cleaned;
+        if (truncated) {
+            if (copy == null) {
+                copy = new StringBuilder(limit - start + TRUNCATION_MARKER.length());
+                copy.append(content, start, limit);
+            }
+            for (int i = 0; i < TRUNCATION_MARKER.length() && keyword < 0; i++) {
+                state = matcher.next(state, TRUNCATION_MARKER.charAt(i));
+                keyword = matcher.keywordAt(state);
+            }
+            cleaned = copy.append(TRUNCATION_MARKER).toString();
+        } else if (copy != null) {
+            cleaned = copy.toString();
+        } else if (start == 0 && end == length) {
+            cleaned = content;
+        } else {
+            cleaned = content.substring(start, end);
+        }
+        return new Result(cleaned, false, truncated, keyword >= 0 ? matcher.keyword(keyword) : null);
+    }
+
+    /**
+     * ASCII control characters except TAB, LF and CR, the same set as
+     * {@code [\p{Cntrl}&&[^\r\n\t]]}.
+     */
+    private static boolean isRemoved(char c) {
+        return (c < ' ' && c != '\t' && c != '\n' && c != '\r') || c == 0x7F;
+    }
+
+    public static final class Result {
+
+        private final String content;
+        private final boolean empty;
+        private final boolean truncated;
+        private final String keyword;
+
+        private Result(String content, boolean empty, boolean truncated, String keyword) {
+            this.content = content;
+            this.empty = empty;
+            this.truncated = truncated;
+            this.keyword = keyword;
+        }
+
+        /**
+         * The cleaned content; the scanned string itself when nothing had to change.
+         */
+        public String getContent() {
+            return content;
+        }
+
+        /**
+         * Whether nothing but whitespace was left after trimming.
+         */
+        public boolean isEmpty() {
+            return empty;
+        }
+
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        /**
+         * The first configured keyword the content contains, or null.
+         */
+        public String getKeyword() {
+            return keyword;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.entity.MQMessage;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Rejects messages without an ID, a queue name or content.
+ */
+@ApplicationScoped
+public class MessageValidationStage implements ProcessingStage {
+
+    public static final int ORDER = 200;
+
+    @Override
+    public int order() {
+        return ORDER;
+    }
+
+    @Override
+    public String name() {
+        return "validate";
+    }
+
+    @Override
+    public void process(MQMessage message) throws Exception {
+        if (message.getMessageId() == null || message.getMessageId().trim().isEmpty()) {
+            throw new Exception("Message ID is required");
+        }
+
+        if (message.getQueueName() == null || message.getQueueName().trim().isEmpty()) {
+            throw new Exception("Queue name is required");
+        }
+
+        if (message.getMessageContent() == null) {
+            throw new Exception("Message content cannot be null");
+        }
+    }
+}
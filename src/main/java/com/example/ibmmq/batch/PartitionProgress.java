@@ -0,0 +1,46 @@
+package com.example.ibmmq.batch;
+
+import java.io.Serializable;
+
+/**
+ * Items one partition read, wrote and skipped since its previous report, sent from the
+ * partition thread to the {@link MQPartitionAnalyzer} after every chunk.
+ */
+public class PartitionProgress implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int partition;
+    private final long read;
+    private final long written;
+    private final long skipped;
+
+    public PartitionProgress(int partition, long read, long written, long skipped) {
+        this.partition = partition;
+        this.read = read;
+        this.written = written;
+        this.skipped = skipped;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    public long getRead() {
+        return read;
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionProgress{partition=" + partition + ", read=" + read + ", written=" + written
+            + ", skipped=" + skipped + "}";
+    }
+}
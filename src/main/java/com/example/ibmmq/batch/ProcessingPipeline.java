@@ -0,0 +1,189 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.backout.SimpleBackoutQueueService;
+import com.example.ibmmq.config.BackoutQueueConfig;
+import com.example.ibmmq.config.ProcessingConfig;
+import com.example.ibmmq.entity.MQMessage;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+
+/**
+ * Runs the {@link ProcessingStage}s over messages and handles what surrounds them: the status
+ * transitions, a timing per stage and message, and the backout decision when a stage throws.
+ *
+ * {@link #processAll(List)} spreads the messages of a chunk over a ForkJoinPool of
+ * {@code batch.processor.parallelism} threads. Each message is still processed by one thread
+ * from the first stage to the last, and the list keeps its order.
+ */
+@ApplicationScoped
+public class ProcessingPipeline {
+
+    private static final Logger LOGGER = Logger.getLogger(ProcessingPipeline.class.getName());
+
+    @Inject
+    @Any
+    private Instance<ProcessingStage> stageBeans;
+
+    @Inject
+    private SimpleBackoutQueueService backoutQueueService;
+
+    @Inject
+    private BackoutQueueConfig backoutConfig;
+
+    @Inject
+    private ProcessingConfig processingConfig;
+
+    @Inject
+    private MQMetricsService metricsService;
+
+    private volatile List<ProcessingStage> stages;
+    private ForkJoinPool pool;
+
+    /**
+     * Runs all stages for {@code message}. A message a stage marked failed stays failed; one a
+     * stage threw for is failed or sent to the backout queue.
+     */
+    public void process(MQMessage message) {
+        LOGGER.info("Processing message ID: " + message.getMessageId());
+
+        try {
+            message.markAsProcessing();
+
+            for (ProcessingStage stage : getStages()) {
+                long start = System.nanoTime();
+                try {
+                    stage.process(message);
+                } catch (Exception e) {
+                    metricsService.recordProcessingStage(stage.name(), System.nanoTime() - start, "failed");
+                    throw e;
+                }
+                boolean rejected = message.getStatus() == MQMessage.MessageStatus.FAILED;
+                metricsService.recordProcessingStage(stage.name(), System.nanoTime() - start, rejected ? "rejected" : "passed");
+                if (rejected) {
+                    return;
+                }
+            }
+
+            message.markAsProcessed();
+
+            LOGGER.info("Successfully processed message ID: " + message.getMessageId());
+
+        } catch (Exception e) {
+            LOGGER.severe("Error processing message ID: " + message.getMessageId() + " - " + e.getMessage());
+
+            // Check if message should go to backout queue
+            if (shouldSendToBackoutQueue(message)) {
+                backoutQueueService.sendToBackoutQueue(message, "Processing error: " + e.getMessage());
+            } else {
+                message.markAsFailed("Processing error: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs {@link #process(MQMessage)} for every message, in parallel when there is more than
+     * one message and more than one thread, and returns once all are done.
+     */
+    public void processAll(List<MQMessage> messages) {
+        if (messages.size() < 2 || processingConfig.getParallelism() < 2) {
+            messages.forEach(this::process);
+            return;
+        }
+        pool().invoke(new ChunkTask(messages, 0, messages.size()));
+    }
+
+    /**
+     * The stages in the order they run.
+     */
+    public List<ProcessingStage> getStages() {
+        List<ProcessingStage> current = stages;
+        if (current == null) {
+            List<ProcessingStage> discovered = new ArrayList<>();
+            stageBeans.forEach(discovered::add);
+            discovered.sort(Comparator.comparingInt(ProcessingStage::order));
+            LOGGER.info("Processing stages: " + discovered.stream().map(ProcessingStage::name).toList());
+            current = List.copyOf(discovered);
+            stages = current;
+        }
+        return current;
+    }
+
+    private synchronized ForkJoinPool pool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(processingConfig.getParallelism(), forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("mq-processing-" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+        }
+        return pool;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private boolean shouldSendToBackoutQueue(MQMessage message) {
+        // Check if backout queues are enabled
+        if (!backoutConfig.isBackoutEnabled()) {
+            return false;
+        }
+
+        // Check if message has exceeded retry threshold
+        if (message.getRetryCount() >= backoutConfig.getBackoutThreshold()) {
+            return true;
+        }
+
+        // Check if message has been processed multiple times unsuccessfully
+        return message.getBackoutCount() > 0;
+    }
+
+    // Setters for testing
+    public void setStages(List<ProcessingStage> stages) {
+        List<ProcessingStage> sorted = new ArrayList<>(stages);
+        sorted.sort(Comparator.comparingInt(ProcessingStage::order));
+        this.stages = List.copyOf(sorted);
+    }
+
+    /**
+     * Halves the range until single messages are left, so idle workers steal the other halves.
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+        private final List<MQMessage> messages;
+        private final int from;
+        private final int to;
+
+        ChunkTask(List<MQMessage> messages, int from, int to) {
+            this.messages = messages;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                process(messages.get(from));
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(messages, from, middle), new ChunkTask(messages, middle, to));
+        }
+    }
+}
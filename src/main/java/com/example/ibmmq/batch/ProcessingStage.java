@@ -0,0 +1,30 @@
+package com.example.ibmmq.batch;
+
+import com.example.ibmmq.entity.MQMessage;
+
+/**
+ * One step of message processing. Every CDI bean implementing this interface joins the
+ * {@link ProcessingPipeline}, which runs the stages in ascending {@link #order()} for each
+ * message; {@link ContentSanitizingStage} and {@link MessageValidationStage} are the default set.
+ *
+ * A stage changes the message in place. Throwing fails the message, or sends it to the backout
+ * queue; marking it failed ends the pipeline for that message without an error. With chunk
+ * processing the pipeline runs messages through a stage concurrently, so stages must be
+ * thread-safe.
+ */
+public interface ProcessingStage {
+
+    /**
+     * Position in the pipeline; stages with lower values run first.
+     */
+    int order();
+
+    /**
+     * Name the stage's timings are recorded under.
+     */
+    default String name() {
+        return getClass().getSimpleName();
+    }
+
+    void process(MQMessage message) throws Exception;
+}
@@ -0,0 +1,63 @@
+package com.example.ibmmq.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+@ApplicationScoped
+public class ChunkSizingConfig {
+
+    public static final String SIZING_ADAPTIVE = "adaptive";
+    public static final String SIZING_FIXED = "fixed";
+
+    @ConfigProperty(name = "batch.chunk.size", defaultValue = "10")
+    private int chunkSize = 10;
+
+    @ConfigProperty(name = "batch.chunk.sizing", defaultValue = SIZING_ADAPTIVE)
+    private String sizing = SIZING_ADAPTIVE;
+
+    @ConfigProperty(name = "batch.chunk.min.size", defaultValue = "1")
+    private int minSize = 1;
+
+    @ConfigProperty(name = "batch.chunk.max.size", defaultValue = "1000")
+    private int maxSize = 1000;
+
+    @ConfigProperty(name = "batch.chunk.target.time", defaultValue = "500")
+    private long targetTime = 500;
+
+    /**
+     * Items per chunk with fixed sizing, and the first chunk's size with adaptive sizing.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * {@code adaptive} resizes chunks towards the target time, {@code fixed} keeps the chunk size.
+     */
+    public String getSizing() {
+        return sizing;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Milliseconds from a chunk's first read until its commit that adaptive sizing aims for;
+     * a chunk open that long is also committed before it is full.
+     */
+    public long getTargetTime() {
+        return targetTime;
+    }
+
+    // Setters for testing
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+    public void setSizing(String sizing) { this.sizing = sizing; }
+    public void setMinSize(int minSize) { this.minSize = minSize; }
+    public void setMaxSize(int maxSize) { this.maxSize = maxSize; }
+    public void setTargetTime(long targetTime) { this.targetTime = targetTime; }
+}
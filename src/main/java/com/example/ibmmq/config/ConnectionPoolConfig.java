@@ -6,6 +6,15 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 @ApplicationScoped
 public class ConnectionPoolConfig {
 
+    public static final String ENGINE_QUEUE = "queue";
+    public static final String ENGINE_BAG = "bag";
+
+    public static final String BALANCING_LEAST_ACTIVE = "least-active";
+    public static final String BALANCING_WEIGHTED = "weighted";
+
+    public static final String SIZING_STATIC = "static";
+    public static final String SIZING_ADAPTIVE = "adaptive";
+
     @ConfigProperty(name = "ibm.mq.pool.initial.size", defaultValue = "5")
     private int initialPoolSize;
 
@@ -21,18 +30,84 @@ public class ConnectionPoolConfig {
     @ConfigProperty(name = "ibm.mq.pool.max.wait.time", defaultValue = "30000")
     private long maxWaitTime;
 
+    @ConfigProperty(name = "ibm.mq.pool.warmup.parallelism", defaultValue = "8")
+    private int warmupParallelism;
+
+    @ConfigProperty(name = "ibm.mq.pool.warmup.timeout", defaultValue = "10000")
+    private long warmupTimeout;
+
+    @ConfigProperty(name = "ibm.mq.pool.max.waiters", defaultValue = "200")
+    private int maxWaiters;
+
     @ConfigProperty(name = "ibm.mq.pool.validation.enabled", defaultValue = "true")
     private boolean validationEnabled;
 
     @ConfigProperty(name = "ibm.mq.pool.validation.timeout", defaultValue = "5000")
     private long validationTimeout;
 
+    @ConfigProperty(name = "ibm.mq.pool.validation.idle.threshold", defaultValue = "500")
+    private long validationIdleThreshold;
+
+    @ConfigProperty(name = "ibm.mq.pool.max.lifetime", defaultValue = "1800000")
+    private long maxLifetime;
+
+    @ConfigProperty(name = "ibm.mq.pool.housekeeping.interval", defaultValue = "30000")
+    private long housekeepingInterval;
+
+    @ConfigProperty(name = "ibm.mq.pool.leak.detection.threshold", defaultValue = "0")
+    private long leakDetectionThreshold;
+
     @ConfigProperty(name = "ibm.mq.pool.retry.attempts", defaultValue = "3")
     private int retryAttempts;
 
     @ConfigProperty(name = "ibm.mq.pool.retry.interval", defaultValue = "1000")
     private long retryInterval;
 
+    @ConfigProperty(name = "ibm.mq.pool.engine", defaultValue = ENGINE_QUEUE)
+    private String poolEngine;
+
+    @ConfigProperty(name = "ibm.mq.pool.session.cache.size", defaultValue = "10")
+    private int sessionCacheSize;
+
+    @ConfigProperty(name = "ibm.mq.pool.session.cache.idle.time", defaultValue = "60000")
+    private long sessionCacheIdleTime;
+
+    @ConfigProperty(name = "ibm.mq.pool.session.cache.destinations", defaultValue = "16")
+    private int sessionCacheDestinations;
+
+    @ConfigProperty(name = "ibm.mq.pool.producer.max.in.flight", defaultValue = "64")
+    private int producerMaxInFlight;
+
+    @ConfigProperty(name = "ibm.mq.pool.producer.max.wait.time", defaultValue = "5000")
+    private long producerMaxWaitTime;
+
+    @ConfigProperty(name = "ibm.mq.pool.connection.factory.enabled", defaultValue = "true")
+    private boolean pooledConnectionFactory;
+
+    @ConfigProperty(name = "ibm.mq.pool.balancing", defaultValue = BALANCING_LEAST_ACTIVE)
+    private String balancing;
+
+    @ConfigProperty(name = "ibm.mq.pool.ejection.failures", defaultValue = "3")
+    private int ejectionFailures;
+
+    @ConfigProperty(name = "ibm.mq.pool.ejection.base.time", defaultValue = "1000")
+    private long ejectionBaseTime;
+
+    @ConfigProperty(name = "ibm.mq.pool.ejection.max.time", defaultValue = "60000")
+    private long ejectionMaxTime;
+
+    @ConfigProperty(name = "ibm.mq.pool.sizing", defaultValue = SIZING_STATIC)
+    private String sizing;
+
+    @ConfigProperty(name = "ibm.mq.pool.sizing.headroom", defaultValue = "1.25")
+    private double sizingHeadroom;
+
+    @ConfigProperty(name = "ibm.mq.pool.sizing.smoothing", defaultValue = "0.3")
+    private double sizingSmoothing;
+
+    @ConfigProperty(name = "ibm.mq.pool.sizing.max.step", defaultValue = "4")
+    private int sizingMaxStep;
+
     @ConfigProperty(name = "ibm.mq.connection.heartbeat.interval", defaultValue = "300")
     private int heartbeatInterval;
 
@@ -62,6 +137,29 @@ public class ConnectionPoolConfig {
         return maxWaitTime;
     }
 
+    /**
+     * Number of threads opening the initial connections concurrently.
+     */
+    public int getWarmupParallelism() {
+        return warmupParallelism;
+    }
+
+    /**
+     * How long start-up waits for the initial connections before leaving the rest to
+     * finish in the background; zero does not wait at all.
+     */
+    public long getWarmupTimeout() {
+        return warmupTimeout;
+    }
+
+    /**
+     * Maximum number of threads allowed to wait for a connection at once; further callers
+     * are rejected immediately. Zero or a negative value means no limit.
+     */
+    public int getMaxWaiters() {
+        return maxWaiters;
+    }
+
     public boolean isValidationEnabled() {
         return validationEnabled;
     }
@@ -70,6 +168,33 @@ public class ConnectionPoolConfig {
         return validationTimeout;
     }
 
+    /**
+     * A connection used or validated more recently than this is handed out and taken back
+     * without a validation round trip. Zero validates on every acquire and release.
+     */
+    public long getValidationIdleThreshold() {
+        return validationIdleThreshold;
+    }
+
+    /**
+     * Upper bound on a connection's age before the pool replaces it; zero disables rotation.
+     */
+    public long getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    public long getHousekeepingInterval() {
+        return housekeepingInterval;
+    }
+
+    /**
+     * A lease held longer than this is logged with the borrower's stack trace; zero disables
+     * leak detection and the per-borrow stack capture it needs.
+     */
+    public long getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
     public int getRetryAttempts() {
         return retryAttempts;
     }
@@ -78,6 +203,101 @@ public class ConnectionPoolConfig {
         return retryInterval;
     }
 
+    public String getPoolEngine() {
+        return poolEngine;
+    }
+
+    public boolean isBagEngine() {
+        return ENGINE_BAG.equalsIgnoreCase(getPoolEngine());
+    }
+
+    public int getSessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    public long getSessionCacheIdleTime() {
+        return sessionCacheIdleTime;
+    }
+
+    public int getSessionCacheDestinations() {
+        return sessionCacheDestinations;
+    }
+
+    /**
+     * Asynchronous sends a cached producer may have outstanding before further sends wait for a
+     * completion. Zero or a negative value means no limit.
+     */
+    public int getProducerMaxInFlight() {
+        return producerMaxInFlight;
+    }
+
+    /**
+     * How long an asynchronous send waits for room in a full in-flight window before it is
+     * rejected.
+     */
+    public long getProducerMaxWaitTime() {
+        return producerMaxWaitTime;
+    }
+
+    public boolean isPooledConnectionFactory() {
+        return pooledConnectionFactory;
+    }
+
+    public String getBalancing() {
+        return balancing;
+    }
+
+    public boolean isWeightedBalancing() {
+        return BALANCING_WEIGHTED.equalsIgnoreCase(getBalancing());
+    }
+
+    /**
+     * Consecutive connect failures after which a queue manager is taken out of rotation.
+     */
+    public int getEjectionFailures() {
+        return ejectionFailures;
+    }
+
+    /**
+     * First ejection period; it doubles for every failed probe up to {@link #getEjectionMaxTime()}.
+     */
+    public long getEjectionBaseTime() {
+        return ejectionBaseTime;
+    }
+
+    public long getEjectionMaxTime() {
+        return ejectionMaxTime;
+    }
+
+    public String getSizing() {
+        return sizing;
+    }
+
+    public boolean isAdaptiveSizing() {
+        return SIZING_ADAPTIVE.equalsIgnoreCase(getSizing());
+    }
+
+    /**
+     * Factor applied to the estimated demand, leaving spare connections for bursts.
+     */
+    public double getSizingHeadroom() {
+        return sizingHeadroom;
+    }
+
+    /**
+     * Weight of the latest sample in the demand average; lower values react more slowly.
+     */
+    public double getSizingSmoothing() {
+        return sizingSmoothing;
+    }
+
+    /**
+     * Most connections the adaptive target may grow by per housekeeping pass.
+     */
+    public int getSizingMaxStep() {
+        return sizingMaxStep;
+    }
+
     public int getHeartbeatInterval() {
         return heartbeatInterval;
     }
@@ -23,7 +23,7 @@ public class DatabaseConfig {
 
             // Database connection properties
             properties.put("jakarta.persistence.jdbc.driver", "org.postgresql.Driver");
-            properties.put("jakarta.persistence.jdbc.url", "jdbc:postgresql://localhost:10201/mqdb");
+            properties.put("jakarta.persistence.jdbc.url", "jdbc:postgresql://localhost:10201/mqdb?reWriteBatchedInserts=true");
             properties.put("jakarta.persistence.jdbc.user", "mquser");
             properties.put("jakarta.persistence.jdbc.password", "mqpassword");
 
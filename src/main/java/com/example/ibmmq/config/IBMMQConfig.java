@@ -3,6 +3,9 @@ package com.example.ibmmq.config;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.util.List;
+import java.util.Optional;
+
 @ApplicationScoped
 public class IBMMQConfig {
 
@@ -24,12 +27,18 @@ public class IBMMQConfig {
     @ConfigProperty(name = "ibm.mq.password", defaultValue = "passw0rd")
     private String password;
 
+    @ConfigProperty(name = "ibm.mq.queue.managers")
+    private Optional<String> queueManagers;
+
     @ConfigProperty(name = "ibm.mq.queue.request", defaultValue = "DEV.QUEUE.1")
     private String requestQueue;
 
     @ConfigProperty(name = "ibm.mq.queue.response", defaultValue = "DEV.QUEUE.2")
     private String responseQueue;
 
+    @ConfigProperty(name = "ibm.mq.client.mode", defaultValue = "adapter")
+    private String clientMode;
+
     public String getQueueManager() {
         return queueManager;
     }
@@ -54,6 +63,14 @@ public class IBMMQConfig {
         return password;
     }
 
+    /**
+     * Queue managers to spread pooled connections across, from {@code ibm.mq.queue.managers}.
+     * Empty when unset, in which case the single {@code hostname}/{@code port} is used.
+     */
+    public List<QueueManagerEndpoint> getQueueManagerEndpoints() {
+        return QueueManagerEndpoint.parseList(queueManagers != null ? queueManagers.orElse(null) : null);
+    }
+
     public String getRequestQueue() {
         return requestQueue;
     }
@@ -61,4 +78,12 @@ public class IBMMQConfig {
     public String getResponseQueue() {
         return responseQueue;
     }
+
+    /**
+     * {@code adapter} for the javax IBM MQ client behind the Jakarta adapter, or {@code jakarta}
+     * for IBM's Jakarta-native client, which falls back to the adapter when it is not deployed.
+     */
+    public String getClientMode() {
+        return clientMode;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.example.ibmmq.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Optional;
+
+@ApplicationScoped
+public class IngestionConfig {
+
+    @ConfigProperty(name = "ibm.mq.ingest.queue")
+    private Optional<String> queue;
+
+    @ConfigProperty(name = "ibm.mq.ingest.sessions", defaultValue = "4")
+    private int sessions;
+
+    @ConfigProperty(name = "ibm.mq.ingest.batch.size", defaultValue = "100")
+    private int batchSize;
+
+    @ConfigProperty(name = "ibm.mq.ingest.batch.max.wait", defaultValue = "50")
+    private long batchMaxWait;
+
+    @ConfigProperty(name = "ibm.mq.ingest.backout.threshold", defaultValue = "3")
+    private int backoutThreshold;
+
+    @ConfigProperty(name = "ibm.mq.ingest.autostart", defaultValue = "false")
+    private boolean autostart;
+
+    /**
+     * Queue to ingest from; the request queue when not set.
+     */
+    public Optional<String> getQueue() {
+        return queue != null ? queue.filter(name -> !name.isBlank()) : Optional.empty();
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Milliseconds a message waits in a micro-batch before the batch is written regardless of size.
+     */
+    public long getBatchMaxWait() {
+        return batchMaxWait;
+    }
+
+    /**
+     * Times a micro-batch may be rolled back to the queue for a failed write. A batch holding a
+     * message redelivered this often is written in halves instead, storing the rows that still
+     * fail as failed, so one unwritable message cannot block the queue.
+     */
+    public int getBackoutThreshold() {
+        return backoutThreshold;
+    }
+
+    public boolean isAutostart() {
+        return autostart;
+    }
+
+    // Setters for testing
+    public void setQueue(String queue) { this.queue = Optional.ofNullable(queue); }
+    public void setSessions(int sessions) { this.sessions = sessions; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+    public void setBatchMaxWait(long batchMaxWait) { this.batchMaxWait = batchMaxWait; }
+    public void setBackoutThreshold(int backoutThreshold) { this.backoutThreshold = backoutThreshold; }
+    public void setAutostart(boolean autostart) { this.autostart = autostart; }
+}
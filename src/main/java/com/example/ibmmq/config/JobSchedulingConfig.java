@@ -0,0 +1,105 @@
+package com.example.ibmmq.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@ApplicationScoped
+public class JobSchedulingConfig {
+
+    @ConfigProperty(name = "batch.job.max.concurrent", defaultValue = "1")
+    private int maxConcurrent = 1;
+
+    @ConfigProperty(name = "batch.scheduler.enabled", defaultValue = "false")
+    private boolean enabled;
+
+    @ConfigProperty(name = "batch.scheduler.queues")
+    private Optional<String> queues;
+
+    @ConfigProperty(name = "batch.scheduler.interval", defaultValue = "10000")
+    private long interval = 10000;
+
+    @ConfigProperty(name = "batch.scheduler.depth.threshold", defaultValue = "100")
+    private long depthThreshold = 100;
+
+    @ConfigProperty(name = "batch.scheduler.depth.cache", defaultValue = "5000")
+    private long depthCache = 5000;
+
+    @ConfigProperty(name = "batch.scheduler.messages.per.partition", defaultValue = "1000")
+    private long messagesPerPartition = 1000;
+
+    @ConfigProperty(name = "batch.scheduler.max.partitions", defaultValue = "8")
+    private int maxPartitions = 8;
+
+    /**
+     * Executions of the MQ-to-PostgreSQL job allowed to run at once on the same queue, whether
+     * started by the scheduler or over REST; 0 for no limit.
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the scheduler watches, from the comma-separated {@code batch.scheduler.queues};
+     * empty when unset, in which case the request queue is watched.
+     */
+    public List<String> getQueues() {
+        if (queues == null || queues.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(queues.get().split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .toList();
+    }
+
+    /**
+     * Milliseconds between two looks at queue depth and job state.
+     */
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * Queue depth at which the scheduler starts a job.
+     */
+    public long getDepthThreshold() {
+        return depthThreshold;
+    }
+
+    /**
+     * Milliseconds a queue depth is reused before the queue manager is asked again.
+     */
+    public long getDepthCache() {
+        return depthCache;
+    }
+
+    /**
+     * Backlog one partition is expected to drain; a scheduled job gets one partition per this
+     * many messages.
+     */
+    public long getMessagesPerPartition() {
+        return messagesPerPartition;
+    }
+
+    public int getMaxPartitions() {
+        return maxPartitions;
+    }
+
+    // Setters for testing
+    public void setMaxConcurrent(int maxConcurrent) { this.maxConcurrent = maxConcurrent; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public void setQueues(String queues) { this.queues = Optional.ofNullable(queues); }
+    public void setInterval(long interval) { this.interval = interval; }
+    public void setDepthThreshold(long depthThreshold) { this.depthThreshold = depthThreshold; }
+    public void setDepthCache(long depthCache) { this.depthCache = depthCache; }
+    public void setMessagesPerPartition(long messagesPerPartition) { this.messagesPerPartition = messagesPerPartition; }
+    public void setMaxPartitions(int maxPartitions) { this.maxPartitions = maxPartitions; }
+}
@@ -0,0 +1,56 @@
+package com.example.ibmmq.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class ProcessingConfig {
+
+    public static final int DEFAULT_MAX_CONTENT_LENGTH = 10000;
+    public static final String DEFAULT_KEYWORDS = "error,exception,failed";
+
+    @ConfigProperty(name = "batch.processor.max.content.length", defaultValue = "10000")
+    private int maxContentLength = DEFAULT_MAX_CONTENT_LENGTH;
+
+    @ConfigProperty(name = "batch.processor.keywords", defaultValue = DEFAULT_KEYWORDS)
+    private String keywords = DEFAULT_KEYWORDS;
+
+    @ConfigProperty(name = "batch.processor.parallelism", defaultValue = "0")
+    private int parallelism;
+
+    /**
+     * Characters of message content kept after trimming; 0 keeps all of it.
+     */
+    public int getMaxContentLength() {
+        return maxContentLength;
+    }
+
+    /**
+     * Words whose presence in a message is logged as an error indicator, matched ignoring case.
+     */
+    public List<String> getKeywords() {
+        if (keywords == null || keywords.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(keywords.split(","))
+            .map(String::trim)
+            .filter(keyword -> !keyword.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Threads that process the messages of a chunk in parallel; 0 uses one per processor.
+     */
+    public int getParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    // Setters for testing
+    public void setMaxContentLength(int maxContentLength) { this.maxContentLength = maxContentLength; }
+    public void setKeywords(String keywords) { this.keywords = keywords; }
+    public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+}
@@ -0,0 +1,78 @@
+package com.example.ibmmq.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One queue manager of a multi-queue-manager setup, written as {@code QM1@host(1414)} with an
+ * optional {@code :weight} suffix, e.g. {@code QM1@mq1.example.com(1414):2}.
+ */
+public class QueueManagerEndpoint {
+
+    private static final Pattern FORMAT = Pattern.compile("([^@\\s]+)@([^()\\s]+)\\((\\d+)\\)(?::(\\d+))?");
+
+    private final String queueManager;
+    private final String hostname;
+    private final int port;
+    private final int weight;
+
+    public QueueManagerEndpoint(String queueManager, String hostname, int port, int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Queue manager weight must be at least 1: " + weight);
+        }
+        this.queueManager = queueManager;
+        this.hostname = hostname;
+        this.port = port;
+        this.weight = weight;
+    }
+
+    public static QueueManagerEndpoint parse(String value) {
+        Matcher matcher = FORMAT.matcher(value.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid queue manager endpoint '" + value +
+                                               "', expected QMNAME@host(port)[:weight]");
+        }
+        int weight = matcher.group(4) != null ? Integer.parseInt(matcher.group(4)) : 1;
+        return new QueueManagerEndpoint(matcher.group(1), matcher.group(2), Integer.parseInt(matcher.group(3)), weight);
+    }
+
+    /**
+     * Parses a comma-separated list; a blank value yields an empty list.
+     */
+    public static List<QueueManagerEndpoint> parseList(String value) {
+        if (value == null || value.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<QueueManagerEndpoint> endpoints = new ArrayList<>();
+        for (String entry : value.split(",")) {
+            if (!entry.isBlank()) {
+                endpoints.add(parse(entry));
+            }
+        }
+        return endpoints;
+    }
+
+    public String getQueueManager() {
+        return queueManager;
+    }
+
+    public String getHostname() {
+        return hostname;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return queueManager + "@" + hostname + "(" + port + "):" + weight;
+    }
+}
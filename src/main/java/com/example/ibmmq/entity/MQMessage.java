@@ -12,8 +12,17 @@ import java.time.LocalDateTime;
 })
 public class MQMessage {
 
+    /**
+     * IDs come from this sequence in blocks of {@link #ID_ALLOCATION_SIZE}: one {@code nextval}
+     * reserves the block ending at the returned value, so inserts can be batched and the JPA
+     * provider and {@code MQMessageRepository.upsertAll} never hand out the same ID.
+     */
+    public static final String ID_SEQUENCE = "mq_messages_id_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mq_messages_id")
+    @SequenceGenerator(name = "mq_messages_id", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "message_id", unique = true)
@@ -59,6 +68,11 @@ public class MQMessage {
     @Column(name = "backout_at")
     private LocalDateTime backoutAt;
 
+    /**
+     * When the message was put on the queue (JMSTimestamp, epoch millis); not stored.
+     */
+    @Transient
+    private Long putTimestamp;
 
     @Version
     private Long version;
@@ -226,4 +240,7 @@ public class MQMessage {
     public LocalDateTime getBackoutAt() { return backoutAt; }
     public void setBackoutAt(LocalDateTime backoutAt) { this.backoutAt = backoutAt; }
 
+    public Long getPutTimestamp() { return putTimestamp; }
+    public void setPutTimestamp(Long putTimestamp) { this.putTimestamp = putTimestamp; }
+
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.example.ibmmq.monitoring;
+
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reports the instance as ready (under {@code /health/ready}) only once the connection pool
+ * holds its configured minimum, so traffic is not routed to a pod still warming up.
+ */
+@Readiness
+@ApplicationScoped
+public class ConnectionPoolReadinessCheck implements HealthCheck {
+
+    @Inject
+    private IBMMQConnectionPool connectionPool;
+
+    @Override
+    public HealthCheckResponse call() {
+        IBMMQConnectionPool.PoolStatus poolStatus = connectionPool.getPoolStatus();
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("totalConnections", (long) poolStatus.getTotalConnections());
+        data.put("minPoolSize", (long) poolStatus.getMinPoolSize());
+        data.put("maxPoolSize", (long) poolStatus.getMaxPoolSize());
+        return new HealthCheckResponse("ibm-mq-connection-pool",
+            connectionPool.isReady() ? HealthCheckResponse.Status.UP : HealthCheckResponse.Status.DOWN,
+            Optional.of(data));
+    }
+}
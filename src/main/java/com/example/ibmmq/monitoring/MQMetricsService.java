@@ -2,8 +2,12 @@ package com.example.ibmmq.monitoring;
 
 import com.example.ibmmq.entity.MQMessage;
 import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PoolMetricsListener;
 import com.example.ibmmq.repository.MQMessageRepository;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -11,10 +15,12 @@ import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.lang.reflect.Modifier;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
@@ -93,6 +99,84 @@ public class MQMetricsService {
             .tag("application", "payara-ibm-mq")
             .register(meterRegistry);
 
+        Gauge.builder("mq.connection.pool.waiting", connectionPool, IBMMQConnectionPool::getWaitingThreadCount)
+            .description("Number of threads waiting for a pooled connection")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
+        Gauge.builder("mq.connection.pool.target", connectionPool, IBMMQConnectionPool::getTargetSize)
+            .description("Number of connections the sizing policy keeps open")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
+        FunctionTimer.builder("mq.connection.pool.wait", connectionPool,
+                              IBMMQConnectionPool::getWaitCount,
+                              IBMMQConnectionPool::getTotalWaitNanos, TimeUnit.NANOSECONDS)
+            .description("Time callers spent waiting for a pooled connection")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("mq.connection.pool.rejections", connectionPool,
+                                IBMMQConnectionPool::getTimeoutRejectionCount)
+            .description("Connection requests rejected because the pool was exhausted")
+            .tag("reason", "timeout")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("mq.connection.pool.rejections", connectionPool,
+                                IBMMQConnectionPool::getWaiterLimitRejectionCount)
+            .description("Connection requests rejected because the pool was exhausted")
+            .tag("reason", "waiter_limit")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
+        Timer acquireTimer = Timer.builder("mq.connection.pool.acquire")
+            .description("Time from requesting a pooled connection until it was handed out")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
+        Timer leaseTimer = Timer.builder("mq.connection.pool.lease")
+            .description("Time a pooled connection was held before being returned")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
+        connectionPool.setMetricsListener(new PoolMetricsListener() {
+            @Override
+            public void connectionAcquired(long acquireNanos) {
+                acquireTimer.record(acquireNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void connectionReleased(long leaseMillis) {
+                leaseTimer.record(leaseMillis, TimeUnit.MILLISECONDS);
+            }
+        });
+
+        FunctionCounter.builder("mq.connection.pool.created", connectionPool, IBMMQConnectionPool::getCreatedCount)
+            .description("Connections opened by the pool")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("mq.connection.pool.destroyed", connectionPool, IBMMQConnectionPool::getDestroyedCount)
+            .description("Connections closed by the pool")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("mq.connection.pool.validation.failures", connectionPool,
+                                IBMMQConnectionPool::getValidationFailureCount)
+            .description("Pooled connections that failed validation")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("mq.connection.pool.leaks", connectionPool, IBMMQConnectionPool::getLeakCount)
+            .description("Leases held beyond the leak detection threshold")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+
         Gauge.builder("mq.batch.jobs.active", activeBatchJobs, AtomicLong::doubleValue)
             .description("Number of currently active batch jobs")
             .tag("application", "payara-ibm-mq")
@@ -147,6 +231,75 @@ public class MQMetricsService {
         incrementQueueCounter(queueName + ".failed");
     }
 
+    /**
+     * Tag value for a failure: the simple name of the first public class in its hierarchy, so an
+     * exception translated by the JMS adapter is reported under its public JMS type.
+     */
+    public static String errorType(Throwable error) {
+        Class<?> type = error.getClass();
+        while (!Modifier.isPublic(type.getModifiers()) && type.getSuperclass() != null) {
+            type = type.getSuperclass();
+        }
+        return type.getSimpleName();
+    }
+
+    /**
+     * Records the time from handing a message to the producer until the send was confirmed or
+     * failed. {@code mode} tells blocking sends from asynchronous ones.
+     */
+    public void recordSendLatency(String queueName, String mode, long nanos, String status) {
+        Timer.builder("mq.message.send.duration")
+            .description("Time from handing a message to the producer until the put was confirmed")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .tag("queue", queueName)
+            .tag("mode", mode)
+            .tag("status", status)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a micro-batch the streaming ingestion wrote (or failed to write) in one commit,
+     * and for a written one the time from each message's put until its row was committed.
+     */
+    public void recordIngestionBatch(String queueName, int size, long[] putToRowMillis, String status) {
+        Counter.builder("mq.ingest.messages")
+            .tag("queue", queueName)
+            .tag("status", status)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .increment(size);
+
+        if (putToRowMillis == null || putToRowMillis.length == 0) {
+            return;
+        }
+        Timer latency = Timer.builder("mq.ingest.put.to.row")
+            .description("Time from putting a message on the queue until its row was committed")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .tag("queue", queueName)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+        for (long millis : putToRowMillis) {
+            latency.record(Math.max(0, millis), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Records how long one processing stage took for one message; {@code status} is passed,
+     * rejected (the stage failed the message) or failed (the stage threw).
+     */
+    public void recordProcessingStage(String stage, long nanos, String status) {
+        Timer.builder("mq.processing.stage.duration")
+            .description("Time a processing stage took for one message")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .tag("stage", stage)
+            .tag("status", status)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void recordMessageProcessed(String queueName) {
         Counter.builder("mq.messages.processed")
             .tag("queue", queueName)
@@ -204,6 +357,152 @@ public class MQMetricsService {
             .increment(itemsSkipped);
     }
 
+    /**
+     * Records one chunk of a batch step: the time from its first read until it was committed
+     * or rolled back, and how many items it carried.
+     */
+    public void recordBatchChunk(String stepName, int items, long nanos, String status) {
+        Timer.builder("mq.batch.chunk.duration")
+            .description("Time from the first read of a chunk until it was committed or rolled back")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .tag("step", stepName)
+            .tag("status", status)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("mq.batch.chunk.items")
+            .description("Items per chunk")
+            .baseUnit("items")
+            .tag("step", stepName)
+            .tag("status", status)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .record(items);
+    }
+
+    /**
+     * Records a chunk size the step's checkpoint algorithm chose.
+     */
+    public void recordChunkSize(String stepName, int size) {
+        DistributionSummary.builder("mq.batch.chunk.size")
+            .description("Chunk sizes chosen by the checkpoint algorithm")
+            .baseUnit("items")
+            .tag("step", stepName)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .record(size);
+    }
+
+    /**
+     * Records the part of a committed chunk's time spent in one phase: read (waiting for
+     * messages), process, write or commit.
+     */
+    public void recordBatchChunkPhase(String stepName, String phase, long nanos) {
+        Timer.builder("mq.batch.chunk.phase")
+            .description("Time a chunk spent reading, processing, writing or committing")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .tag("step", stepName)
+            .tag("phase", phase)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records, for each message of a committed chunk, the time from its put until the commit.
+     */
+    public void recordBatchLag(String stepName, long[] lagMillis) {
+        Timer lag = Timer.builder("mq.batch.lag")
+            .description("Time from putting a message on the queue until the batch step committed it")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .tag("step", stepName)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry);
+        for (long millis : lagMillis) {
+            lag.record(Math.max(0, millis), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Records one execution of a batch step, or of one partition of it, with the items it
+     * wrote per second.
+     */
+    public void recordBatchStep(String stepName, long nanos, long itemsRead, long itemsWritten, String status) {
+        Timer.builder("mq.batch.step.duration")
+            .description("Time a batch step or step partition ran")
+            .tag("step", stepName)
+            .tag("status", status)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+
+        Counter.builder("mq.batch.step.items")
+            .tag("step", stepName)
+            .tag("outcome", "read")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .increment(itemsRead);
+
+        Counter.builder("mq.batch.step.items")
+            .tag("step", stepName)
+            .tag("outcome", "written")
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .increment(itemsWritten);
+
+        if (nanos > 0) {
+            DistributionSummary.builder("mq.batch.step.throughput")
+                .description("Items written per second by a batch step or step partition")
+                .baseUnit("items/s")
+                .tag("step", stepName)
+                .tag("application", "payara-ibm-mq")
+                .register(meterRegistry)
+                .record(itemsWritten * 1e9 / nanos);
+        }
+    }
+
+    /**
+     * Counts items a batch step skipped; {@code phase} is read, process or write.
+     */
+    public void recordBatchSkip(String stepName, String phase, String exceptionType, int items) {
+        Counter.builder("mq.batch.skips")
+            .tag("step", stepName)
+            .tag("phase", phase)
+            .tag("exception", exceptionType)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .increment(items);
+    }
+
+    /**
+     * Counts retries of a batch step after a retryable exception in {@code phase}.
+     */
+    public void recordBatchRetry(String stepName, String phase, String exceptionType) {
+        Counter.builder("mq.batch.retries")
+            .tag("step", stepName)
+            .tag("phase", phase)
+            .tag("exception", exceptionType)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * Counts decisions of the batch job scheduler; {@code action} is STARTED, IDLE, BUSY or FAILED.
+     */
+    public void recordSchedulingDecision(String queueName, String action) {
+        Counter.builder("mq.batch.scheduler.decisions")
+            .description("Batch job scheduler decisions by queue and action")
+            .tag("queue", queueName)
+            .tag("action", action)
+            .tag("application", "payara-ibm-mq")
+            .register(meterRegistry)
+            .increment();
+    }
+
     public void startMessageProcessing(String messageId) {
         Timer.Sample sample = Timer.start(meterRegistry);
         activeTimers.put(messageId, sample);
@@ -0,0 +1,126 @@
+package com.example.ibmmq.monitoring;
+
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.config.JobSchedulingConfig;
+import com.ibm.mq.MQException;
+import com.ibm.mq.MQQueue;
+import com.ibm.mq.MQQueueManager;
+import com.ibm.mq.constants.CMQC;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Current depth of queues on the queue manager, for deciding when to start the batch job.
+ *
+ * A depth is one inquiry on a handle opened for inquire only, over a single client connection
+ * of the IBM MQ base classes kept open between inquiries; browsing the queue through JMS would
+ * cost a round trip per message instead. Depths are reused for {@code batch.scheduler.depth.cache}
+ * ms, so polling the depth more often than that does not reach the queue manager. The
+ * connection goes to {@code ibm.mq.hostname}, also when pooled connections are spread across
+ * several queue managers. After a failed inquiry the connection is dropped and opened again on
+ * the next one.
+ */
+@ApplicationScoped
+public class QueueDepthMonitor {
+
+    private static final Logger LOGGER = Logger.getLogger(QueueDepthMonitor.class.getName());
+
+    /** Depth reported when the queue manager could not be asked. */
+    public static final long UNKNOWN = -1;
+
+    @Inject
+    private IBMMQConfig config;
+
+    @Inject
+    private JobSchedulingConfig schedulingConfig;
+
+    private final Map<String, long[]> cached = new HashMap<>();
+    private final Map<String, MQQueue> handles = new HashMap<>();
+    private MQQueueManager queueManager;
+
+    /**
+     * The depth of {@code queueName}, at most {@code batch.scheduler.depth.cache} ms old, or
+     * {@link #UNKNOWN} when the inquiry failed.
+     */
+    public synchronized long getDepth(String queueName) {
+        long now = System.nanoTime();
+        long[] entry = cached.get(queueName);
+        if (entry != null && now - entry[1] < TimeUnit.MILLISECONDS.toNanos(schedulingConfig.getDepthCache())) {
+            return entry[0];
+        }
+        try {
+            long depth = inquireDepth(queueName);
+            cached.put(queueName, new long[]{depth, now});
+            return depth;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to inquire depth of queue " + queueName, e);
+            cached.remove(queueName);
+            disconnect();
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * Forgets cached depths, so the next {@link #getDepth} asks the queue manager.
+     */
+    public synchronized void invalidate() {
+        cached.clear();
+    }
+
+    /**
+     * Asks the queue manager for the current depth of {@code queueName}.
+     */
+    protected long inquireDepth(String queueName) throws MQException {
+        MQQueue handle = handles.get(queueName);
+        if (handle == null) {
+            handle = connect().accessQueue(queueName, CMQC.MQOO_INQUIRE | CMQC.MQOO_FAIL_IF_QUIESCING);
+            handles.put(queueName, handle);
+        }
+        return handle.getCurrentDepth();
+    }
+
+    private MQQueueManager connect() throws MQException {
+        if (queueManager == null) {
+            Hashtable<String, Object> properties = new Hashtable<>();
+            properties.put(CMQC.TRANSPORT_PROPERTY, CMQC.TRANSPORT_MQSERIES_CLIENT);
+            properties.put(CMQC.HOST_NAME_PROPERTY, config.getHostname());
+            properties.put(CMQC.PORT_PROPERTY, config.getPort());
+            properties.put(CMQC.CHANNEL_PROPERTY, config.getChannel());
+            if (config.getUsername() != null && !config.getUsername().isBlank()) {
+                properties.put(CMQC.USER_ID_PROPERTY, config.getUsername());
+                properties.put(CMQC.PASSWORD_PROPERTY, config.getPassword());
+                properties.put(CMQC.USE_MQCSP_AUTHENTICATION_PROPERTY, true);
+            }
+            queueManager = new MQQueueManager(config.getQueueManager(), properties);
+        }
+        return queueManager;
+    }
+
+    @PreDestroy
+    public synchronized void disconnect() {
+        for (MQQueue handle : handles.values()) {
+            try {
+                handle.close();
+            } catch (MQException e) {
+                LOGGER.log(Level.FINE, "Error closing inquire handle", e);
+            }
+        }
+        handles.clear();
+        if (queueManager != null) {
+            try {
+                queueManager.disconnect();
+            } catch (MQException e) {
+                LOGGER.log(Level.FINE, "Error disconnecting depth inquiry connection", e);
+            }
+            queueManager = null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.ibmmq.pool;
+
+/**
+ * Sizes the pool from observed demand using Little's law: the connections busy on average are
+ * the borrow rate times the mean lease time. Threads queued for a connection and connections
+ * currently leased are added as a floor, since neither shows up in completed leases yet.
+ *
+ * The estimate is smoothed with an exponentially weighted moving average and scaled by a
+ * headroom factor. The target grows by at most {@code maxStep} connections per pass but
+ * shrinks by only one, so a short lull does not tear down connections the next burst needs.
+ */
+public class AdaptivePoolSizingPolicy implements PoolSizingPolicy {
+
+    private final double headroom;
+    private final double smoothing;
+    private final int maxStep;
+    private double smoothedDemand = -1;
+
+    public AdaptivePoolSizingPolicy(double headroom, double smoothing, int maxStep) {
+        if (headroom < 1.0) {
+            throw new IllegalArgumentException("Sizing headroom must be at least 1.0: " + headroom);
+        }
+        if (smoothing <= 0 || smoothing > 1.0) {
+            throw new IllegalArgumentException("Sizing smoothing must be in (0, 1]: " + smoothing);
+        }
+        this.headroom = headroom;
+        this.smoothing = smoothing;
+        this.maxStep = Math.max(1, maxStep);
+    }
+
+    @Override
+    public synchronized int targetSize(Sample sample) {
+        double inUse = sample.getArrivalRate() * sample.getMeanLeaseMillis() / 1000.0;
+        double demand = Math.max(inUse, sample.getActiveConnections()) + sample.getWaitingThreads();
+
+        smoothedDemand = smoothedDemand < 0 ? demand : smoothing * demand + (1 - smoothing) * smoothedDemand;
+
+        int desired = (int) Math.ceil(smoothedDemand * headroom);
+        int current = sample.getCurrentTarget();
+        int target;
+        if (desired > current) {
+            target = Math.min(desired, current + maxStep);
+        } else if (desired < current) {
+            target = current - 1;
+        } else {
+            target = current;
+        }
+        return Math.max(sample.getMinPoolSize(), Math.min(target, sample.getMaxPoolSize()));
+    }
+
+    double getSmoothedDemand() {
+        return smoothedDemand;
+    }
+}
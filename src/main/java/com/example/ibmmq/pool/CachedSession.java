@@ -0,0 +1,168 @@
+package com.example.ibmmq.pool;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An open session together with the queues, producers and consumers created on it.
+ * Only the holder of the owning {@link SessionLease} touches it, so no locking is needed.
+ */
+class CachedSession {
+
+    private static final Logger LOGGER = Logger.getLogger(CachedSession.class.getName());
+
+    private final Session session;
+    private final boolean transacted;
+    private final int acknowledgeMode;
+    private final Map<String, Queue> queues;
+    private final Map<String, MessageProducer> producers;
+    private final Map<String, MessageConsumer> consumers;
+    private final Map<String, SendWindow> sendWindows;
+    private final int maxInFlightSends;
+    private final long maxInFlightWait;
+    private volatile long lastUsed;
+
+    CachedSession(Session session, boolean transacted, int acknowledgeMode, int maxDestinations,
+                  int maxInFlightSends, long maxInFlightWait) {
+        this.session = session;
+        this.transacted = transacted;
+        this.acknowledgeMode = acknowledgeMode;
+        this.queues = new LruMap<>(maxDestinations);
+        this.producers = new LruMap<>(maxDestinations);
+        this.consumers = new LruMap<>(maxDestinations);
+        this.sendWindows = new LruMap<>(maxDestinations);
+        this.maxInFlightSends = maxInFlightSends;
+        this.maxInFlightWait = maxInFlightWait;
+        this.lastUsed = System.currentTimeMillis();
+    }
+
+    Session getSession() {
+        return session;
+    }
+
+    boolean isTransacted() {
+        return transacted;
+    }
+
+    int getAcknowledgeMode() {
+        return acknowledgeMode;
+    }
+
+    /**
+     * Whether received messages stay unacknowledged until the borrower acknowledges them; such
+     * a session is recovered before its next borrower gets it.
+     */
+    boolean isClientAcknowledge() {
+        return !transacted && acknowledgeMode == Session.CLIENT_ACKNOWLEDGE;
+    }
+
+    long getLastUsed() {
+        return lastUsed;
+    }
+
+    void touch() {
+        lastUsed = System.currentTimeMillis();
+    }
+
+    Queue getQueue(String queueName) throws JMSException {
+        Queue queue = queues.get(queueName);
+        if (queue == null) {
+            queue = session.createQueue(queueName);
+            queues.put(queueName, queue);
+        }
+        return queue;
+    }
+
+    MessageProducer getProducer(String queueName) throws JMSException {
+        MessageProducer producer = producers.get(queueName);
+        if (producer == null) {
+            producer = session.createProducer(getQueue(queueName));
+            producers.put(queueName, producer);
+        }
+        return producer;
+    }
+
+    /**
+     * The in-flight window of the producer for {@code queueName}. It outlives leases, so sends
+     * handed off by earlier holders of this session still count against it.
+     */
+    SendWindow getSendWindow(String queueName) {
+        return sendWindows.computeIfAbsent(queueName, name -> new SendWindow(maxInFlightSends, maxInFlightWait));
+    }
+
+    MessageConsumer getConsumer(String queueName) throws JMSException {
+        MessageConsumer consumer = consumers.get(queueName);
+        if (consumer == null) {
+            consumer = session.createConsumer(getQueue(queueName));
+            consumers.put(queueName, consumer);
+        }
+        return consumer;
+    }
+
+    /**
+     * Closes a cached consumer whose state (e.g. a message listener) must not leak to the next user.
+     */
+    void discardConsumer(String queueName) {
+        MessageConsumer consumer = consumers.remove(queueName);
+        if (consumer != null) {
+            closeQuietly(consumer);
+        }
+    }
+
+    void close() {
+        for (MessageProducer producer : producers.values()) {
+            closeQuietly(producer);
+        }
+        for (MessageConsumer consumer : consumers.values()) {
+            closeQuietly(consumer);
+        }
+        producers.clear();
+        consumers.clear();
+        sendWindows.clear();
+        queues.clear();
+        closeQuietly(session);
+    }
+
+    private static void closeQuietly(AutoCloseable resource) {
+        try {
+            if (resource != null) {
+                resource.close();
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Error closing cached JMS resource", e);
+        }
+    }
+
+    /**
+     * Access-ordered map that closes the least recently used producer or consumer
+     * once more than {@code maxEntries} destinations are cached.
+     */
+    private static final class LruMap<V> extends LinkedHashMap<String, V> {
+
+        private final int maxEntries;
+
+        LruMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = Math.max(1, maxEntries);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+            if (size() <= maxEntries) {
+                return false;
+            }
+            if (eldest.getValue() instanceof AutoCloseable) {
+                closeQuietly((AutoCloseable) eldest.getValue());
+            }
+            return true;
+        }
+    }
+}
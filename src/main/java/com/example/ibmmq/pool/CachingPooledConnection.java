@@ -0,0 +1,75 @@
+package com.example.ibmmq.pool;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pooled connection whose sessions come from the connection's {@link SessionCache}.
+ * Closing it closes (i.e. returns) any session the caller left open, then gives the
+ * connection back to the pool.
+ */
+public class CachingPooledConnection extends PooledConnectionHandle {
+
+    private static final Logger LOGGER = Logger.getLogger(CachingPooledConnection.class.getName());
+
+    private final SessionCache sessionCache;
+    private final List<PooledSession> sessions = new ArrayList<>(1);
+    // Not a monitor: close() returns sessions to the cache, which may close them on the broker
+    private final ReentrantLock sessionsLock = new ReentrantLock();
+
+    public CachingPooledConnection(IBMMQConnectionPool pool, PooledConnection pooledConnection, SessionCache sessionCache) {
+        super(pool, pooledConnection);
+        this.sessionCache = sessionCache;
+    }
+
+    @Override
+    public Session createSession(boolean transacted, int acknowledgeMode) throws JMSException {
+        delegate();
+        PooledSession session = new PooledSession(sessionCache, sessionCache.acquire(transacted, acknowledgeMode));
+        sessionsLock.lock();
+        try {
+            sessions.removeIf(PooledSession::isClosed);
+            sessions.add(session);
+        } finally {
+            sessionsLock.unlock();
+        }
+        return session;
+    }
+
+    @Override
+    public Session createSession(int sessionMode) throws JMSException {
+        return createSession(sessionMode == Session.SESSION_TRANSACTED, sessionMode);
+    }
+
+    @Override
+    public Session createSession() throws JMSException {
+        return createSession(false, Session.AUTO_ACKNOWLEDGE);
+    }
+
+    @Override
+    public void close() throws JMSException {
+        if (isReleased()) {
+            return;
+        }
+        sessionsLock.lock();
+        try {
+            for (PooledSession session : sessions) {
+                try {
+                    session.close();
+                } catch (JMSException e) {
+                    LOGGER.log(Level.FINE, "Error returning session to cache", e);
+                }
+            }
+            sessions.clear();
+        } finally {
+            sessionsLock.unlock();
+        }
+        super.close();
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.ibmmq.pool;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.example.ibmmq.pool.PooledConnection.STATE_IN_USE;
+import static com.example.ibmmq.pool.PooledConnection.STATE_NOT_IN_USE;
+import static com.example.ibmmq.pool.PooledConnection.STATE_REMOVED;
+import static com.example.ibmmq.pool.PooledConnection.STATE_RESERVED;
+
+/**
+ * Lock-free container for pooled connections, modelled on HikariCP's ConcurrentBag.
+ *
+ * Borrowing first scans the connections recently returned by the calling thread, then the
+ * shared list, and only then parks on a fair hand-off queue; a borrower that finds others
+ * parked skips the scans and parks behind them. Ownership is claimed with a CAS
+ * on {@link PooledConnection#compareAndSetState}, so neither borrow nor requite takes a lock.
+ */
+public class ConnectionBag {
+
+    private static final int MAX_THREAD_LOCAL_ENTRIES = 16;
+
+    private final CopyOnWriteArrayList<PooledConnection> sharedList = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<List<WeakReference<PooledConnection>>> threadList =
+        ThreadLocal.withInitial(() -> new ArrayList<>(MAX_THREAD_LOCAL_ENTRIES));
+    private final SynchronousQueue<PooledConnection> handoffQueue = new SynchronousQueue<>(true);
+    private final AtomicInteger waiters = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * Borrows an idle connection, waiting up to the given timeout for one to be returned.
+     * While other threads are waiting, a new arrival does not scan for idle connections but
+     * queues behind them, so waiters are served in arrival order.
+     *
+     * @return the borrowed connection (now {@code STATE_IN_USE}) or {@code null} on timeout
+     */
+    public PooledConnection borrow(long timeout, TimeUnit unit) throws InterruptedException {
+        if (waiters.get() == 0) {
+            PooledConnection entry = claimIdle();
+            if (entry != null) {
+                return entry;
+            }
+        }
+        if (timeout <= 0) {
+            return null;
+        }
+
+        int queued = waiters.getAndIncrement();
+        try {
+            if (queued == 0) {
+                // A connection returned since the scan above saw no waiter and was not handed off
+                PooledConnection entry = claimShared();
+                if (entry != null) {
+                    return entry;
+                }
+            }
+
+            long remaining = unit.toNanos(timeout);
+            while (remaining > 0 && !closed) {
+                long start = System.nanoTime();
+                PooledConnection entry = handoffQueue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (entry == null || entry.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+                    return entry;
+                }
+                remaining -= System.nanoTime() - start;
+            }
+            return null;
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    private PooledConnection claimIdle() {
+        List<WeakReference<PooledConnection>> list = threadList.get();
+        for (int i = list.size() - 1; i >= 0; i--) {
+            PooledConnection entry = list.remove(i).get();
+            if (entry != null && entry.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+                return entry;
+            }
+        }
+        return claimShared();
+    }
+
+    private PooledConnection claimShared() {
+        for (PooledConnection entry : sharedList) {
+            if (entry.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a borrowed connection. A waiting borrower gets it directly; otherwise it is
+     * remembered by the returning thread so the next borrow on that thread hits it first.
+     */
+    public void requite(PooledConnection entry) {
+        entry.markAsAvailable();
+
+        for (int i = 0; waiters.get() > 0 && !closed; i++) {
+            if (entry.getState() != STATE_NOT_IN_USE || handoffQueue.offer(entry)) {
+                return;
+            }
+            if ((i & 0xff) == 0xff) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+            } else {
+                Thread.yield();
+            }
+        }
+
+        List<WeakReference<PooledConnection>> list = threadList.get();
+        if (list.size() < MAX_THREAD_LOCAL_ENTRIES) {
+            list.add(new WeakReference<>(entry));
+        }
+    }
+
+    /**
+     * Adds a new idle connection and offers it to any waiting borrower.
+     */
+    public void add(PooledConnection entry) {
+        if (closed) {
+            throw new IllegalStateException("ConnectionBag has been closed");
+        }
+        sharedList.add(entry);
+
+        while (waiters.get() > 0 && entry.getState() == STATE_NOT_IN_USE && !handoffQueue.offer(entry)) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Adds a freshly created connection that is handed straight to its creator.
+     */
+    public void addInUse(PooledConnection entry) {
+        if (closed) {
+            throw new IllegalStateException("ConnectionBag has been closed");
+        }
+        entry.markAsActive();
+        sharedList.add(entry);
+    }
+
+    /**
+     * Removes a connection that is borrowed or reserved by the caller.
+     */
+    public boolean remove(PooledConnection entry) {
+        if (!entry.compareAndSetState(STATE_IN_USE, STATE_REMOVED)
+            && !entry.compareAndSetState(STATE_RESERVED, STATE_REMOVED)
+            && !closed) {
+            return false;
+        }
+        entry.setState(STATE_REMOVED);
+        return sharedList.remove(entry);
+    }
+
+    /**
+     * Takes an idle connection out of circulation without borrowing it, e.g. for eviction.
+     */
+    public boolean reserve(PooledConnection entry) {
+        return entry.compareAndSetState(STATE_NOT_IN_USE, STATE_RESERVED);
+    }
+
+    public void unreserve(PooledConnection entry) {
+        if (entry.compareAndSetState(STATE_RESERVED, STATE_NOT_IN_USE)) {
+            while (waiters.get() > 0 && entry.getState() == STATE_NOT_IN_USE && !handoffQueue.offer(entry)) {
+                Thread.yield();
+            }
+        }
+    }
+
+    public List<PooledConnection> values() {
+        return new ArrayList<>(sharedList);
+    }
+
+    public List<PooledConnection> values(int state) {
+        List<PooledConnection> result = new ArrayList<>();
+        for (PooledConnection entry : sharedList) {
+            if (entry.getState() == state) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    public int getCount(int state) {
+        int count = 0;
+        for (PooledConnection entry : sharedList) {
+            if (entry.getState() == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return sharedList.size();
+    }
+
+    public int getWaitingThreadCount() {
+        return waiters.get();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void close() {
+        closed = true;
+    }
+}
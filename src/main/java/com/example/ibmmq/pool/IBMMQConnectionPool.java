@@ -2,7 +2,10 @@ package com.example.ibmmq.pool;
 
 import com.example.ibmmq.config.ConnectionPoolConfig;
 import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.config.QueueManagerEndpoint;
+import com.example.ibmmq.adapter.BlockingCallOffloader;
 import com.example.ibmmq.adapter.JakartaJMSAdapter;
+import com.example.ibmmq.adapter.MQClientFactory;
 import com.ibm.mq.jms.MQConnectionFactory;
 import com.ibm.msg.client.wmq.WMQConstants;
 import jakarta.annotation.PostConstruct;
@@ -12,11 +15,22 @@ import jakarta.inject.Inject;
 import jakarta.jms.Connection;
 import jakarta.jms.JMSException;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -32,22 +46,57 @@ public class IBMMQConnectionPool {
     private ConnectionPoolConfig poolConfig;
 
     private MQConnectionFactory connectionFactory;
+    private MQClientFactory clientFactory;
     private BlockingQueue<PooledConnection> availableConnections;
     private ConcurrentMap<Connection, PooledConnection> activeConnections;
     private AtomicInteger totalConnections;
+    private ConnectionBag connectionBag;
+    private ScheduledExecutorService housekeeper;
+    private ExecutorService warmupExecutor;
+    private QueueManagerRouter router;
     private volatile boolean isShutdown = false;
 
+    private final AtomicInteger waitingThreads = new AtomicInteger();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder timeoutRejections = new LongAdder();
+    private final LongAdder waiterLimitRejections = new LongAdder();
+    private final LongAdder createdConnections = new LongAdder();
+    private final LongAdder destroyedConnections = new LongAdder();
+    private final LongAdder validationFailures = new LongAdder();
+    private final LongAdder leaksDetected = new LongAdder();
+    private volatile PoolMetricsListener metricsListener = PoolMetricsListener.NONE;
+
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder leaseMillisTotal = new LongAdder();
+    private volatile PoolSizingPolicy sizingPolicy;
+    private volatile int targetSize = -1;
+    private long lastSampleNanos = System.nanoTime();
+    private long lastBorrows;
+    private long lastLeases;
+    private long lastLeaseMillis;
+
     @PostConstruct
     public void initialize() {
         try {
             LOGGER.info("Initializing IBM MQ Connection Pool");
 
+            List<QueueManagerEndpoint> endpoints = mqConfig.getQueueManagerEndpoints();
+            if (endpoints.size() > 1) {
+                initializeRouter(endpoints);
+                return;
+            }
+
             createConnectionFactory();
             initializePool();
+            startHousekeeper();
 
             LOGGER.info("IBM MQ Connection Pool initialized successfully - " +
-                       "Initial Size: " + poolConfig.getInitialPoolSize() +
-                       ", Max Size: " + poolConfig.getMaxPoolSize());
+                       "Engine: " + (connectionBag != null ? ConnectionPoolConfig.ENGINE_BAG : ConnectionPoolConfig.ENGINE_QUEUE) +
+                       ", Connected: " + totalConnections.get() + "/" + poolConfig.getInitialPoolSize() +
+                       ", Max Size: " + poolConfig.getMaxPoolSize() +
+                       ", Ready: " + isReady());
 
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to initialize IBM MQ Connection Pool", e);
@@ -55,12 +104,37 @@ public class IBMMQConnectionPool {
         }
     }
 
-    private void createConnectionFactory() throws javax.jms.JMSException {
-        connectionFactory = new MQConnectionFactory();
-        connectionFactory.setHostName(mqConfig.getHostname());
-        connectionFactory.setPort(mqConfig.getPort());
+    private void initializeRouter(List<QueueManagerEndpoint> endpoints) throws JMSException {
+        List<QueueManagerRouter.Member> members = new ArrayList<>(endpoints.size());
+        for (QueueManagerEndpoint endpoint : endpoints) {
+            IBMMQConnectionPool pool = new IBMMQConnectionPool();
+            pool.poolConfig = poolConfig;
+            pool.mqConfig = mqConfig;
+            pool.clientFactory = newConnectionFactory(endpoint.getQueueManager(), endpoint.getHostname(), endpoint.getPort());
+            pool.connectionFactory = pool.clientFactory.getJavaxFactory();
+            pool.metricsListener = metricsListener;
+            members.add(new QueueManagerRouter.Member(endpoint.getQueueManager(), endpoint.getWeight(), pool));
+        }
+        router = new QueueManagerRouter(poolConfig, members);
+        router.start();
+
+        LOGGER.info("IBM MQ Connection Pool initialized successfully - Queue managers: " + endpoints +
+                   ", Balancing: " + poolConfig.getBalancing() +
+                   ", Connected: " + getPoolStatus().getTotalConnections() +
+                   ", Ready: " + isReady());
+    }
+
+    private void createConnectionFactory() throws JMSException {
+        clientFactory = newConnectionFactory(mqConfig.getQueueManager(), mqConfig.getHostname(), mqConfig.getPort());
+        connectionFactory = clientFactory.getJavaxFactory();
+    }
+
+    private MQClientFactory newConnectionFactory(String queueManager, String hostname, int port) throws JMSException {
+        MQClientFactory connectionFactory = MQClientFactory.create(mqConfig.getClientMode());
+        connectionFactory.setHostName(hostname);
+        connectionFactory.setPort(port);
         connectionFactory.setChannel(mqConfig.getChannel());
-        connectionFactory.setQueueManager(mqConfig.getQueueManager());
+        connectionFactory.setQueueManager(queueManager);
         connectionFactory.setTransportType(WMQConstants.WMQ_CM_CLIENT);
 
         if (mqConfig.getUsername() != null && !mqConfig.getUsername().isEmpty()) {
@@ -69,10 +143,9 @@ public class IBMMQConnectionPool {
         }
 
         connectionFactory.setBooleanProperty(WMQConstants.USER_AUTHENTICATION_MQCSP, true);
-        connectionFactory.setStringProperty(WMQConstants.WMQ_CONNECTION_NAME_LIST,
-            mqConfig.getHostname() + "(" + mqConfig.getPort() + ")");
+        connectionFactory.setStringProperty(WMQConstants.WMQ_CONNECTION_NAME_LIST, hostname + "(" + port + ")");
 
-        // Set connection properties using MQConnectionFactory methods
+        // Set connection properties using the IBM MQ property names
         if (poolConfig.getReceiveTimeout() > 0) {
             connectionFactory.setIntProperty("XMSC_WMQ_RECEIVE_TIMEOUT", (int) poolConfig.getReceiveTimeout());
         }
@@ -86,80 +159,468 @@ public class IBMMQConnectionPool {
         // Enable connection sharing and temporary models
         connectionFactory.setStringProperty("XMSC_WMQ_TEMP_Q_PREFIX", "AMQ.JMS.TEMP");
         connectionFactory.setBooleanProperty("XMSC_WMQ_SHARE_CONV_ALLOWED", true);
+        return connectionFactory;
     }
 
-    private void initializePool() {
-        availableConnections = new ArrayBlockingQueue<>(poolConfig.getMaxPoolSize());
-        activeConnections = new ConcurrentHashMap<>();
+    /**
+     * Starts a pool created outside CDI, such as a {@link QueueManagerRouter} member: warm-up
+     * and housekeeping, with the connection factory already set by the creator.
+     */
+    void start() {
+        initializePool();
+        startHousekeeper();
+    }
+
+    protected void initializePool() {
         totalConnections = new AtomicInteger(0);
+        if (sizingPolicy == null) {
+            sizingPolicy = PoolSizingPolicy.forConfig(poolConfig);
+        }
+        if (poolConfig.isBagEngine()) {
+            connectionBag = new ConnectionBag();
+        } else {
+            // Fair, so threads blocked in poll() are served in arrival order
+            availableConnections = new ArrayBlockingQueue<>(poolConfig.getMaxPoolSize(), true);
+            activeConnections = new ConcurrentHashMap<>();
+        }
 
-        for (int i = 0; i < poolConfig.getInitialPoolSize(); i++) {
-            try {
-                PooledConnection pooledConnection = createPooledConnection();
-                availableConnections.offer(pooledConnection);
-                totalConnections.incrementAndGet();
-            } catch (Exception e) {
-                LOGGER.log(Level.WARNING, "Failed to create initial connection " + (i + 1), e);
+        warmUp();
+    }
+
+    /**
+     * Opens the initial connections in parallel and waits for them at most
+     * {@code ibm.mq.pool.warmup.timeout} ms. Connections still being opened when the budget
+     * runs out are added in the background; until {@link #isReady()} the readiness check
+     * keeps traffic away.
+     */
+    private void warmUp() {
+        int target = Math.min(poolConfig.getInitialPoolSize(), poolConfig.getMaxPoolSize());
+        if (target <= 0) {
+            return;
+        }
+
+        int parallelism = Math.max(1, Math.min(target, poolConfig.getWarmupParallelism()));
+        AtomicInteger threadCount = new AtomicInteger();
+        warmupExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "ibmmq-pool-warmup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CountDownLatch finished = new CountDownLatch(target);
+        for (int i = 0; i < target; i++) {
+            int index = i + 1;
+            warmupExecutor.execute(() -> {
+                try {
+                    addInitialConnection(index);
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        // Lets the queued tasks run to completion, then the threads exit
+        warmupExecutor.shutdown();
+
+        long startTime = System.nanoTime();
+        try {
+            if (!finished.await(poolConfig.getWarmupTimeout(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("Connection pool warm-up exceeded " + poolConfig.getWarmupTimeout() + "ms with " +
+                               totalConnections.get() + "/" + target + " connections, continuing in background");
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Warm-up opened " + totalConnections.get() + " connections in " +
+                       TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + "ms using " + parallelism + " threads");
         }
     }
 
+    /**
+     * The slot is claimed before connecting because requests may already be borrowing and
+     * opening connections of their own while warm-up continues in the background.
+     */
+    private void addInitialConnection(int index) {
+        int current;
+        do {
+            current = totalConnections.get();
+            if (isShutdown || current >= poolConfig.getMaxPoolSize()) {
+                return;
+            }
+        } while (!totalConnections.compareAndSet(current, current + 1));
+
+        try {
+            PooledConnection pooledConnection = newConnection();
+            if (isShutdown) {
+                closePooledConnection(pooledConnection);
+            } else if (connectionBag != null) {
+                connectionBag.add(pooledConnection);
+                return;
+            } else if (availableConnections.offer(pooledConnection)) {
+                return;
+            } else {
+                closePooledConnection(pooledConnection);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to create initial connection " + index, e);
+        }
+        totalConnections.decrementAndGet();
+    }
+
+    /**
+     * Ready once the pool holds at least {@code minPoolSize} connections. A pool that could not
+     * reach the queue manager at start-up becomes ready when the housekeeper has refilled it.
+     */
+    public boolean isReady() {
+        if (router != null) {
+            return router.isReady();
+        }
+        if (isShutdown) {
+            return false;
+        }
+        // Counts open connections only; totalConnections also includes slots still connecting
+        int connected;
+        if (connectionBag != null) {
+            connected = connectionBag.size();
+        } else if (availableConnections != null) {
+            connected = availableConnections.size() + activeConnections.size();
+        } else {
+            return false;
+        }
+        return connected >= Math.min(poolConfig.getMinPoolSize(), poolConfig.getMaxPoolSize());
+    }
+
     public Connection getConnection() throws JMSException {
+        if (router != null) {
+            return router.getConnection();
+        }
         if (isShutdown) {
             throw new JMSException("Connection pool is shutdown");
         }
 
+        if (connectionBag != null) {
+            return new PooledConnectionHandle(this, borrowFromBag());
+        }
+
+        long acquireStart = System.nanoTime();
+        long deadline = acquireStart + TimeUnit.MILLISECONDS.toNanos(poolConfig.getMaxWaitTime());
         PooledConnection pooledConnection = null;
 
         try {
-            pooledConnection = availableConnections.poll();
-
-            if (pooledConnection == null) {
-                if (totalConnections.get() < poolConfig.getMaxPoolSize()) {
-                    pooledConnection = createPooledConnection();
-                    totalConnections.incrementAndGet();
-                    LOGGER.fine("Created new connection, total: " + totalConnections.get());
-                } else {
-                    long startTime = System.currentTimeMillis();
-                    pooledConnection = availableConnections.take();
-                    long waitTime = System.currentTimeMillis() - startTime;
+            // An idle connection goes to the longest waiter, not to a thread that just arrived
+            if (waitingThreads.get() == 0) {
+                pooledConnection = availableConnections.poll();
+            }
 
-                    if (waitTime > poolConfig.getMaxWaitTime()) {
-                        LOGGER.warning("Connection wait time exceeded: " + waitTime + "ms");
+            while (true) {
+                if (pooledConnection == null) {
+                    pooledConnection = createConnectionIfBelowMax();
+                }
+                if (pooledConnection == null) {
+                    long startTime = enterWait();
+                    try {
+                        pooledConnection = availableConnections.poll(Math.max(0, deadline - System.nanoTime()),
+                                                                     TimeUnit.NANOSECONDS);
+                    } finally {
+                        exitWait(startTime);
+                    }
+                    if (pooledConnection == null) {
+                        throw timedOut(startTime);
                     }
                 }
-            }
-
-            if (poolConfig.isValidationEnabled() && !isConnectionValid(pooledConnection)) {
+                if (isUsable(pooledConnection)) {
+                    break;
+                }
+                // The freed slot is taken through the same reservation as any other new connection
                 LOGGER.warning("Invalid connection detected, creating new one");
                 closePooledConnection(pooledConnection);
                 totalConnections.decrementAndGet();
-                pooledConnection = createPooledConnection();
-                totalConnections.incrementAndGet();
+                pooledConnection = null;
             }
 
             pooledConnection.markAsActive();
             activeConnections.put(pooledConnection.getConnection(), pooledConnection);
+            startLease(pooledConnection, acquireStart);
 
-            LOGGER.fine("Connection acquired - Active: " + activeConnections.size() +
-                       ", Available: " + availableConnections.size() +
-                       ", Total: " + totalConnections.get());
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Connection acquired - Active: " + activeConnections.size() +
+                           ", Available: " + availableConnections.size() +
+                           ", Total: " + totalConnections.get());
+            }
 
             return pooledConnection.getConnection();
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new JMSException("Interrupted while waiting for connection");
+        } catch (PoolExhaustedException e) {
+            throw e;
         } catch (Exception e) {
             if (pooledConnection != null) {
                 closePooledConnection(pooledConnection);
                 totalConnections.decrementAndGet();
             }
+            replenishForWaiters();
             throw new JMSException("Failed to get connection from pool: " + e.getMessage());
         }
     }
 
+    /**
+     * Borrows a connection together with a cached session of the requested mode. Closing the
+     * lease returns both; callers should obtain queues, producers and consumers from the lease.
+     */
+    public SessionLease acquireSession(boolean transacted, int acknowledgeMode) throws JMSException {
+        if (router != null) {
+            return router.acquireSession(transacted, acknowledgeMode);
+        }
+        Connection connection = getConnection();
+        try {
+            return new SessionLease(this, connection, sessionCacheFor(pooledConnectionFor(connection)),
+                                    transacted, acknowledgeMode);
+        } catch (JMSException | RuntimeException e) {
+            releaseConnection(connection);
+            throw e;
+        }
+    }
+
+    /**
+     * Borrows a connection whose sessions come from the connection's {@link SessionCache} and
+     * whose {@code close()} returns it to the pool. This is what the pooled
+     * {@link PooledConnectionFactory} hands to code written against plain JMS.
+     */
+    public Connection getCachingConnection() throws JMSException {
+        if (router != null) {
+            return router.getCachingConnection();
+        }
+        if (isShutdown) {
+            throw new JMSException("Connection pool is shutdown");
+        }
+
+        PooledConnection pooledConnection;
+        if (connectionBag != null) {
+            pooledConnection = borrowFromBag();
+        } else {
+            pooledConnection = pooledConnectionFor(getConnection());
+        }
+
+        try {
+            return new CachingPooledConnection(this, pooledConnection, sessionCacheFor(pooledConnection));
+        } catch (RuntimeException e) {
+            releaseConnection(new PooledConnectionHandle(this, pooledConnection));
+            throw e;
+        }
+    }
+
+    private PooledConnection pooledConnectionFor(Connection connection) throws JMSException {
+        PooledConnection pooledConnection = connection instanceof PooledConnectionHandle
+            ? ((PooledConnectionHandle) connection).getPooledConnection()
+            : activeConnections.get(connection);
+        if (pooledConnection == null) {
+            throw new JMSException("Connection is not managed by this pool");
+        }
+        return pooledConnection;
+    }
+
+    private SessionCache sessionCacheFor(PooledConnection pooledConnection) {
+        SessionCache sessionCache = pooledConnection.getSessionCache();
+        if (sessionCache == null) {
+            sessionCache = new SessionCache(pooledConnection.getConnection(),
+                                            poolConfig.getSessionCacheSize(),
+                                            poolConfig.getSessionCacheIdleTime(),
+                                            poolConfig.getSessionCacheDestinations(),
+                                            poolConfig.getProducerMaxInFlight(),
+                                            poolConfig.getProducerMaxWaitTime());
+            pooledConnection.setSessionCache(sessionCache);
+        }
+        return sessionCache;
+    }
+
+    /**
+     * Borrow path of the {@code bag} engine: thread-local and shared-list hits are lock-free,
+     * a new connection is opened while below the maximum, and only then does the caller wait.
+     */
+    private PooledConnection borrowFromBag() throws JMSException {
+        long acquireStart = System.nanoTime();
+        long deadline = acquireStart + TimeUnit.MILLISECONDS.toNanos(poolConfig.getMaxWaitTime());
+        PooledConnection pooledConnection = null;
+
+        try {
+            pooledConnection = connectionBag.borrow(0, TimeUnit.MILLISECONDS);
+
+            while (true) {
+                if (pooledConnection == null) {
+                    pooledConnection = createConnectionIfBelowMax();
+                }
+                if (pooledConnection == null) {
+                    long startTime = enterWait();
+                    try {
+                        pooledConnection = connectionBag.borrow(Math.max(0, deadline - System.nanoTime()),
+                                                                TimeUnit.NANOSECONDS);
+                    } finally {
+                        exitWait(startTime);
+                    }
+                    if (pooledConnection == null) {
+                        throw timedOut(startTime);
+                    }
+                }
+                if (isUsable(pooledConnection)) {
+                    break;
+                }
+                LOGGER.warning("Invalid connection detected, creating new one");
+                destroyBagConnection(pooledConnection);
+                pooledConnection = null;
+            }
+
+            pooledConnection.touch();
+            startLease(pooledConnection, acquireStart);
+            return pooledConnection;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMSException("Interrupted while waiting for connection");
+        } catch (JMSException e) {
+            if (pooledConnection != null) {
+                destroyBagConnection(pooledConnection);
+            }
+            throw e;
+        } catch (Exception e) {
+            if (pooledConnection != null) {
+                destroyBagConnection(pooledConnection);
+            }
+            throw new JMSException("Failed to get connection from pool: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Registers the caller as a waiter, rejecting it straight away once
+     * {@code ibm.mq.pool.max.waiters} threads are already queued.
+     *
+     * @return the wait start in {@link System#nanoTime()} terms
+     */
+    private long enterWait() throws PoolExhaustedException {
+        int maxWaiters = poolConfig.getMaxWaiters();
+        if (waitingThreads.incrementAndGet() > maxWaiters && maxWaiters > 0) {
+            waitingThreads.decrementAndGet();
+            waiterLimitRejections.increment();
+            throw new PoolExhaustedException("Connection pool exhausted: " + maxWaiters +
+                                             " threads already waiting", PoolExhaustedException.Reason.WAITER_LIMIT, 0);
+        }
+        return System.nanoTime();
+    }
+
+    private void exitWait(long startTime) {
+        waitingThreads.decrementAndGet();
+        waitCount.increment();
+        waitNanos.add(System.nanoTime() - startTime);
+    }
+
+    private PoolExhaustedException timedOut(long startTime) {
+        timeoutRejections.increment();
+        long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        LOGGER.warning("Connection pool exhausted, timed out after " + waited + "ms");
+        return new PoolExhaustedException("Timed out after " + poolConfig.getMaxWaitTime() +
+                                          "ms waiting for a pooled connection", PoolExhaustedException.Reason.TIMEOUT, waited);
+    }
+
+    private PooledConnection createConnectionIfBelowMax() throws JMSException {
+        int current;
+        do {
+            current = totalConnections.get();
+            if (current >= poolConfig.getMaxPoolSize()) {
+                return null;
+            }
+        } while (!totalConnections.compareAndSet(current, current + 1));
+
+        try {
+            PooledConnection pooledConnection = newConnection();
+            if (connectionBag != null) {
+                connectionBag.addInUse(pooledConnection);
+            }
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Created new connection, total: " + totalConnections.get());
+            }
+            return pooledConnection;
+        } catch (JMSException | RuntimeException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void releaseToBag(PooledConnectionHandle handle) {
+        if (!handle.markReleased()) {
+            return;
+        }
+
+        PooledConnection pooledConnection = handle.getPooledConnection();
+        endLease(pooledConnection);
+        if (isShutdown) {
+            closePooledConnection(pooledConnection);
+            return;
+        }
+
+        if (!handle.restoreState() || !isUsable(pooledConnection)) {
+            destroyBagConnection(pooledConnection);
+            replenishForWaiters();
+            return;
+        }
+
+        connectionBag.requite(pooledConnection);
+    }
+
+    private void destroyBagConnection(PooledConnection pooledConnection) {
+        if (connectionBag.remove(pooledConnection)) {
+            totalConnections.decrementAndGet();
+        }
+        closePooledConnection(pooledConnection);
+    }
+
+    /**
+     * Waiters only wake up on a hand-off, so a connection destroyed while others are
+     * queued has to be replaced or they would sit out their full timeout.
+     */
+    private void replenishForWaiters() {
+        int waiting = connectionBag != null ? connectionBag.getWaitingThreadCount() : waitingThreads.get();
+        if (waiting == 0 || isShutdown) {
+            return;
+        }
+        try {
+            PooledConnection replacement = createConnectionIfBelowMax();
+            if (replacement == null) {
+                return;
+            }
+            if (connectionBag != null) {
+                connectionBag.requite(replacement);
+            } else {
+                replacement.markAsAvailable();
+                if (!availableConnections.offer(replacement)) {
+                    closePooledConnection(replacement);
+                    totalConnections.decrementAndGet();
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Failed to replace destroyed connection for waiting threads", e);
+        }
+    }
+
     public void releaseConnection(Connection connection) {
+        if (router != null) {
+            router.releaseConnection(connection);
+            return;
+        }
+        boolean restored = true;
+        if (connection instanceof PooledConnectionHandle) {
+            PooledConnectionHandle handle = (PooledConnectionHandle) connection;
+            if (connectionBag != null) {
+                releaseToBag(handle);
+                return;
+            }
+            if (!handle.markReleased()) {
+                return;
+            }
+            restored = handle.restoreState();
+            connection = handle.getPooledConnection().getConnection();
+        }
+
         if (connection == null || isShutdown) {
             return;
         }
@@ -169,60 +630,106 @@ public class IBMMQConnectionPool {
             LOGGER.warning("Attempted to release unknown connection");
             return;
         }
+        endLease(pooledConnection);
 
         try {
-            if (isConnectionValid(pooledConnection)) {
+            if (restored && isUsable(pooledConnection)) {
                 pooledConnection.markAsAvailable();
 
-                if (availableConnections.size() < poolConfig.getMinPoolSize() ||
+                if (waitingThreads.get() > 0 || availableConnections.size() < poolConfig.getMinPoolSize() ||
                     (System.currentTimeMillis() - pooledConnection.getLastUsed()) < poolConfig.getMaxIdleTime()) {
                     availableConnections.offer(pooledConnection);
                     LOGGER.fine("Connection returned to pool");
                 } else {
                     closePooledConnection(pooledConnection);
                     totalConnections.decrementAndGet();
-                    LOGGER.fine("Connection closed due to idle time, total: " + totalConnections.get());
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.fine("Connection closed due to idle time, total: " + totalConnections.get());
+                    }
                 }
             } else {
                 closePooledConnection(pooledConnection);
                 totalConnections.decrementAndGet();
-                LOGGER.fine("Invalid connection closed, total: " + totalConnections.get());
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.fine("Invalid connection closed, total: " + totalConnections.get());
+                }
+                replenishForWaiters();
             }
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Error releasing connection", e);
             closePooledConnection(pooledConnection);
             totalConnections.decrementAndGet();
+            replenishForWaiters();
         }
     }
 
-    private PooledConnection createPooledConnection() throws JMSException {
+    protected PooledConnection createPooledConnection() throws JMSException {
+        if (clientFactory != null && clientFactory.isJakartaNative()) {
+            // Jakarta-native client: no wrapper and no offload, the connection is used as it is
+            return new PooledConnection(clientFactory.createConnection());
+        }
         try {
             // Create javax.jms connection from IBM MQ factory
-            javax.jms.Connection javaxConnection = connectionFactory.createConnection();
+            javax.jms.Connection javaxConnection = BlockingCallOffloader.call(connectionFactory::createConnection);
             // Wrap it to provide Jakarta JMS interface
             Connection jakartaConnection = new JakartaJMSAdapter.ConnectionWrapper(javaxConnection);
             return new PooledConnection(jakartaConnection);
         } catch (javax.jms.JMSException e) {
-            throw new JMSException(e.getMessage());
+            throw JakartaJMSAdapter.convertException(e);
+        }
+    }
+
+    /**
+     * Applies the jittered max lifetime to every connection the pool opens, so connections
+     * created together at start-up are not all retired in the same housekeeping run.
+     */
+    private PooledConnection newConnection() throws JMSException {
+        PooledConnection pooledConnection = createPooledConnection();
+        createdConnections.increment();
+        long maxLifetime = poolConfig.getMaxLifetime();
+        if (maxLifetime > 0) {
+            long jitter = maxLifetime >= 10 ? ThreadLocalRandom.current().nextLong(maxLifetime / 10) : 0;
+            pooledConnection.setExpiresAt(System.currentTimeMillis() + maxLifetime - jitter);
+        }
+        return pooledConnection;
+    }
+
+    /**
+     * Whether a connection may be handed out or taken back. Only connections not known to be
+     * alive within {@code ibm.mq.pool.validation.idle.threshold} cost a validation round trip;
+     * the housekeeper validates the rest out of band.
+     */
+    private boolean isUsable(PooledConnection pooledConnection) {
+        if (pooledConnection.isExpired()) {
+            return false;
         }
+        return !poolConfig.isValidationEnabled()
+            || pooledConnection.getTimeSinceLastCheck() < poolConfig.getValidationIdleThreshold()
+            || isConnectionValid(pooledConnection);
     }
 
     private boolean isConnectionValid(PooledConnection pooledConnection) {
         if (pooledConnection == null || pooledConnection.getConnection() == null) {
+            validationFailures.increment();
             return false;
         }
 
         try {
             pooledConnection.getConnection().getMetaData();
+            pooledConnection.markValidated();
             return true;
         } catch (Exception e) {
-            LOGGER.fine("Connection validation failed: " + e.getMessage());
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Connection validation failed: " + e.getMessage());
+            }
+            validationFailures.increment();
             return false;
         }
     }
 
     private void closePooledConnection(PooledConnection pooledConnection) {
         if (pooledConnection != null) {
+            destroyedConnections.increment();
             try {
                 pooledConnection.close();
             } catch (Exception e) {
@@ -231,11 +738,271 @@ public class IBMMQConnectionPool {
         }
     }
 
+    private void startHousekeeper() {
+        long interval = poolConfig.getHousekeepingInterval();
+        long leakThreshold = poolConfig.getLeakDetectionThreshold();
+        if (interval <= 0 && leakThreshold <= 0) {
+            return;
+        }
+        housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ibmmq-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (interval > 0) {
+            housekeeper.scheduleWithFixedDelay(this::housekeep, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        if (leakThreshold > 0) {
+            long period = Math.max(100, leakThreshold / 2);
+            housekeeper.scheduleWithFixedDelay(this::detectLeaks, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void startLease(PooledConnection pooledConnection, long acquireStart) {
+        pooledConnection.recordBorrow(poolConfig.getLeakDetectionThreshold() > 0);
+        borrowCount.increment();
+        metricsListener.connectionAcquired(System.nanoTime() - acquireStart);
+    }
+
+    private void endLease(PooledConnection pooledConnection) {
+        boolean reported = pooledConnection.isLeakReported();
+        long leaseMillis = pooledConnection.recordReturn();
+        leaseCount.increment();
+        leaseMillisTotal.add(leaseMillis);
+        metricsListener.connectionReleased(leaseMillis);
+        if (reported) {
+            LOGGER.info("Connection " + pooledConnection.getId() + " previously reported as leaked was returned after " +
+                        leaseMillis + "ms");
+        }
+    }
+
+    /**
+     * Reports every lease held longer than {@code ibm.mq.pool.leak.detection.threshold} once,
+     * with the stack trace of the borrow, so the code path that does not release it can be found.
+     */
+    protected void detectLeaks() {
+        long threshold = poolConfig.getLeakDetectionThreshold();
+        if (isShutdown || threshold <= 0) {
+            return;
+        }
+        for (PooledConnection pooledConnection : inUseConnections()) {
+            long leaseMillis = pooledConnection.getLeaseTime();
+            if (leaseMillis > threshold && !pooledConnection.isLeakReported()) {
+                pooledConnection.markLeakReported();
+                leaksDetected.increment();
+                LOGGER.log(Level.WARNING, "Connection " + pooledConnection.getId() + " held by thread '" +
+                           pooledConnection.getHolder() + "' for " + leaseMillis + "ms, possible connection leak",
+                           pooledConnection.getBorrowTrace());
+            }
+        }
+    }
+
+    private List<PooledConnection> inUseConnections() {
+        if (connectionBag != null) {
+            return connectionBag.values(PooledConnection.STATE_IN_USE);
+        }
+        return activeConnections != null ? new ArrayList<>(activeConnections.values()) : Collections.emptyList();
+    }
+
+    /**
+     * One housekeeping pass over the idle connections: updates the target size from the
+     * sizing policy, retires connections past their lifetime, idle beyond {@code maxIdleTime}
+     * while above the target, or failing validation, trims idle cached sessions, and then
+     * refills the pool to the target.
+     */
+    protected void housekeep() {
+        if (isShutdown) {
+            return;
+        }
+        try {
+            resize();
+            int retired = connectionBag != null ? housekeepBag() : housekeepQueue();
+            int created = fillToTarget();
+            if ((retired > 0 || created > 0) && LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Housekeeping retired " + retired + " and opened " + created +
+                           " connections, total: " + totalConnections.get());
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Connection pool housekeeping failed", e);
+        }
+    }
+
+    private int housekeepBag() {
+        int retired = 0;
+        for (PooledConnection pooledConnection : connectionBag.values(PooledConnection.STATE_NOT_IN_USE)) {
+            if (!connectionBag.reserve(pooledConnection)) {
+                continue;
+            }
+            if (shouldRetire(pooledConnection)) {
+                destroyBagConnection(pooledConnection);
+                retired++;
+            } else {
+                evictIdleSessions(pooledConnection);
+                connectionBag.unreserve(pooledConnection);
+            }
+        }
+        return retired;
+    }
+
+    /**
+     * The queue has no reservation state, so each idle connection is taken out for the check
+     * and offered back at the tail; borrowers keep being served from the rest meanwhile.
+     */
+    private int housekeepQueue() {
+        int retired = 0;
+        for (int i = availableConnections.size(); i > 0; i--) {
+            PooledConnection pooledConnection = availableConnections.poll();
+            if (pooledConnection == null) {
+                break;
+            }
+            if (shouldRetire(pooledConnection)) {
+                closePooledConnection(pooledConnection);
+                totalConnections.decrementAndGet();
+                replenishForWaiters();
+                retired++;
+            } else {
+                evictIdleSessions(pooledConnection);
+                availableConnections.offer(pooledConnection);
+            }
+        }
+        return retired;
+    }
+
+    private boolean shouldRetire(PooledConnection pooledConnection) {
+        if (pooledConnection.isExpired()) {
+            return true;
+        }
+        if (pooledConnection.getIdleTime() > poolConfig.getMaxIdleTime()
+            && totalConnections.get() > getTargetSize()) {
+            return true;
+        }
+        return poolConfig.isValidationEnabled()
+            && pooledConnection.getTimeSinceLastCheck() >= poolConfig.getValidationIdleThreshold()
+            && !isConnectionValid(pooledConnection);
+    }
+
+    private void evictIdleSessions(PooledConnection pooledConnection) {
+        SessionCache sessionCache = pooledConnection.getSessionCache();
+        if (sessionCache != null) {
+            sessionCache.evictIdle();
+        }
+    }
+
+    /**
+     * Feeds the demand seen since the previous pass to the sizing policy and adopts its target.
+     * Only the housekeeper thread calls this, so the sample baseline needs no synchronisation.
+     */
+    private void resize() {
+        long now = System.nanoTime();
+        long borrows = borrowCount.sum();
+        long leases = leaseCount.sum();
+        long leaseMillis = leaseMillisTotal.sum();
+        int min = Math.min(poolConfig.getMinPoolSize(), poolConfig.getMaxPoolSize());
+        int max = poolConfig.getMaxPoolSize();
+        int current = getTargetSize();
+
+        PoolSizingPolicy.Sample sample = new PoolSizingPolicy.Sample(
+            TimeUnit.NANOSECONDS.toMillis(now - lastSampleNanos), borrows - lastBorrows, leases - lastLeases,
+            leaseMillis - lastLeaseMillis, waitingThreads.get(), getActiveCount(), current, min, max);
+        lastSampleNanos = now;
+        lastBorrows = borrows;
+        lastLeases = leases;
+        lastLeaseMillis = leaseMillis;
+
+        PoolSizingPolicy policy = sizingPolicy;
+        int target = (policy != null ? policy : PoolSizingPolicy.STATIC).targetSize(sample);
+        target = Math.max(min, Math.min(target, max));
+        if (target != current) {
+            LOGGER.info("Pool target size " + current + " -> " + target + " (" +
+                        String.format("%.1f", sample.getArrivalRate()) + " borrows/s, " +
+                        String.format("%.0f", sample.getMeanLeaseMillis()) + "ms mean lease, " +
+                        sample.getWaitingThreads() + " waiting)");
+        }
+        targetSize = target;
+    }
+
+    /**
+     * Number of connections the housekeeper keeps open, as last decided by the sizing policy;
+     * {@code minPoolSize} until the first housekeeping pass.
+     */
+    public int getTargetSize() {
+        if (router != null) {
+            return (int) router.sum(IBMMQConnectionPool::getTargetSize);
+        }
+        int target = targetSize;
+        return target >= 0 ? target : Math.min(poolConfig.getMinPoolSize(), poolConfig.getMaxPoolSize());
+    }
+
+    /**
+     * Replaces the sizing policy; the supplier is asked once per pool, as adaptive policies
+     * keep per-pool state.
+     */
+    public void setSizingPolicy(Supplier<PoolSizingPolicy> policyFactory) {
+        if (router != null) {
+            router.setSizingPolicy(policyFactory);
+            return;
+        }
+        sizingPolicy = policyFactory.get();
+    }
+
+    private int fillToTarget() {
+        int created = 0;
+        while (!isShutdown) {
+            int current = totalConnections.get();
+            if (current >= getTargetSize()) {
+                break;
+            }
+            if (!totalConnections.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            PooledConnection pooledConnection;
+            try {
+                pooledConnection = newConnection();
+            } catch (Exception e) {
+                totalConnections.decrementAndGet();
+                LOGGER.log(Level.WARNING, "Failed to refill connection pool to target size", e);
+                break;
+            }
+            if (connectionBag != null) {
+                connectionBag.add(pooledConnection);
+            } else if (!availableConnections.offer(pooledConnection)) {
+                closePooledConnection(pooledConnection);
+                totalConnections.decrementAndGet();
+                break;
+            }
+            created++;
+        }
+        return created;
+    }
+
     @PreDestroy
     public void shutdown() {
         LOGGER.info("Shutting down IBM MQ Connection Pool");
         isShutdown = true;
 
+        if (router != null) {
+            router.shutdown();
+            LOGGER.info("IBM MQ Connection Pool shutdown completed");
+            return;
+        }
+
+        if (housekeeper != null) {
+            housekeeper.shutdownNow();
+        }
+        if (warmupExecutor != null) {
+            warmupExecutor.shutdownNow();
+        }
+
+        if (connectionBag != null) {
+            connectionBag.close();
+            for (PooledConnection pooledConnection : connectionBag.values()) {
+                connectionBag.remove(pooledConnection);
+                closePooledConnection(pooledConnection);
+            }
+            LOGGER.info("IBM MQ Connection Pool shutdown completed");
+            return;
+        }
+
         for (PooledConnection pooledConnection : activeConnections.values()) {
             closePooledConnection(pooledConnection);
         }
@@ -249,7 +1016,107 @@ public class IBMMQConnectionPool {
         LOGGER.info("IBM MQ Connection Pool shutdown completed");
     }
 
+    /**
+     * Whether a raw connection handed out by the {@code queue} engine belongs to this pool.
+     */
+    boolean owns(Connection connection) {
+        return activeConnections != null && activeConnections.containsKey(connection);
+    }
+
+    int getActiveCount() {
+        if (connectionBag != null) {
+            return connectionBag.getCount(PooledConnection.STATE_IN_USE);
+        }
+        return activeConnections != null ? activeConnections.size() : 0;
+    }
+
+    /** Threads currently blocked waiting for a connection. */
+    public int getWaitingThreadCount() {
+        return router != null ? (int) router.sum(IBMMQConnectionPool::getWaitingThreadCount) : waitingThreads.get();
+    }
+
+    /** Number of acquisitions that had to wait, successful or not. */
+    public long getWaitCount() {
+        return router != null ? router.sum(IBMMQConnectionPool::getWaitCount) : waitCount.sum();
+    }
+
+    /** Total time spent by callers waiting for a connection, in nanoseconds. */
+    public long getTotalWaitNanos() {
+        return router != null ? router.sum(IBMMQConnectionPool::getTotalWaitNanos) : waitNanos.sum();
+    }
+
+    public long getTimeoutRejectionCount() {
+        return router != null ? router.sum(IBMMQConnectionPool::getTimeoutRejectionCount) : timeoutRejections.sum();
+    }
+
+    public long getWaiterLimitRejectionCount() {
+        return router != null ? router.sum(IBMMQConnectionPool::getWaiterLimitRejectionCount) : waiterLimitRejections.sum();
+    }
+
+    public long getCreatedCount() {
+        return router != null ? router.sum(IBMMQConnectionPool::getCreatedCount) : createdConnections.sum();
+    }
+
+    public long getDestroyedCount() {
+        return router != null ? router.sum(IBMMQConnectionPool::getDestroyedCount) : destroyedConnections.sum();
+    }
+
+    public long getValidationFailureCount() {
+        return router != null ? router.sum(IBMMQConnectionPool::getValidationFailureCount) : validationFailures.sum();
+    }
+
+    public long getLeakCount() {
+        return router != null ? router.sum(IBMMQConnectionPool::getLeakCount) : leaksDetected.sum();
+    }
+
+    /**
+     * Registers the receiver of acquire and lease timings, replacing any previous one.
+     */
+    public void setMetricsListener(PoolMetricsListener listener) {
+        metricsListener = listener != null ? listener : PoolMetricsListener.NONE;
+        if (router != null) {
+            router.setMetricsListener(metricsListener);
+        }
+    }
+
+    /**
+     * A snapshot of every connection currently owned by the pool, in use or idle.
+     */
+    public List<ConnectionInfo> getConnectionDetails() {
+        if (router != null) {
+            return router.getConnectionDetails();
+        }
+        return describeConnections(null);
+    }
+
+    List<ConnectionInfo> describeConnections(String queueManager) {
+        List<PooledConnection> connections = new ArrayList<>();
+        if (connectionBag != null) {
+            connections.addAll(connectionBag.values());
+        } else if (availableConnections != null) {
+            connections.addAll(activeConnections.values());
+            connections.addAll(availableConnections);
+        }
+        List<ConnectionInfo> details = new ArrayList<>(connections.size());
+        for (PooledConnection pooledConnection : connections) {
+            details.add(new ConnectionInfo(pooledConnection, queueManager));
+        }
+        return details;
+    }
+
     public PoolStatus getPoolStatus() {
+        if (router != null) {
+            return router.getPoolStatus();
+        }
+        if (connectionBag != null) {
+            return new PoolStatus(
+                totalConnections.get(),
+                connectionBag.getCount(PooledConnection.STATE_IN_USE),
+                connectionBag.getCount(PooledConnection.STATE_NOT_IN_USE),
+                poolConfig.getMaxPoolSize(),
+                poolConfig.getMinPoolSize()
+            );
+        }
         return new PoolStatus(
             totalConnections.get(),
             activeConnections.size(),
@@ -265,14 +1132,22 @@ public class IBMMQConnectionPool {
         private final int availableConnections;
         private final int maxPoolSize;
         private final int minPoolSize;
+        private final List<QueueManagerStatus> queueManagers;
 
         public PoolStatus(int totalConnections, int activeConnections, int availableConnections,
                          int maxPoolSize, int minPoolSize) {
+            this(totalConnections, activeConnections, availableConnections, maxPoolSize, minPoolSize,
+                 Collections.emptyList());
+        }
+
+        public PoolStatus(int totalConnections, int activeConnections, int availableConnections,
+                         int maxPoolSize, int minPoolSize, List<QueueManagerStatus> queueManagers) {
             this.totalConnections = totalConnections;
             this.activeConnections = activeConnections;
             this.availableConnections = availableConnections;
             this.maxPoolSize = maxPoolSize;
             this.minPoolSize = minPoolSize;
+            this.queueManagers = queueManagers;
         }
 
         public int getTotalConnections() { return totalConnections; }
@@ -280,5 +1155,74 @@ public class IBMMQConnectionPool {
         public int getAvailableConnections() { return availableConnections; }
         public int getMaxPoolSize() { return maxPoolSize; }
         public int getMinPoolSize() { return minPoolSize; }
+        /** Per-queue-manager breakdown; empty when the pool connects to a single queue manager. */
+        public List<QueueManagerStatus> getQueueManagers() { return queueManagers; }
+    }
+
+    public static class QueueManagerStatus {
+        private final String queueManager;
+        private final int weight;
+        private final boolean available;
+        private final int consecutiveFailures;
+        private final long ejectedUntil;
+        private final PoolStatus pool;
+
+        public QueueManagerStatus(String queueManager, int weight, boolean available, int consecutiveFailures,
+                                  long ejectedUntil, PoolStatus pool) {
+            this.queueManager = queueManager;
+            this.weight = weight;
+            this.available = available;
+            this.consecutiveFailures = consecutiveFailures;
+            this.ejectedUntil = ejectedUntil;
+            this.pool = pool;
+        }
+
+        public String getQueueManager() { return queueManager; }
+        public int getWeight() { return weight; }
+        public boolean isAvailable() { return available; }
+        public int getConsecutiveFailures() { return consecutiveFailures; }
+        /** Epoch millis after which the next probe is allowed; zero while in rotation. */
+        public long getEjectedUntil() { return ejectedUntil; }
+        public PoolStatus getPool() { return pool; }
+    }
+
+    public static class ConnectionInfo {
+        private final long id;
+        private final String queueManager;
+        private final String state;
+        private final long ageMillis;
+        private final long idleMillis;
+        private final long leaseMillis;
+        private final String holder;
+        private final boolean leakSuspected;
+
+        ConnectionInfo(PooledConnection pooledConnection, String queueManager) {
+            this.id = pooledConnection.getId();
+            this.queueManager = queueManager;
+            this.state = stateName(pooledConnection.getState());
+            this.ageMillis = pooledConnection.getAge();
+            this.idleMillis = pooledConnection.isInUse() ? 0 : pooledConnection.getIdleTime();
+            this.leaseMillis = pooledConnection.getLeaseTime();
+            this.holder = pooledConnection.getHolder();
+            this.leakSuspected = pooledConnection.isLeakReported();
+        }
+
+        private static String stateName(int state) {
+            switch (state) {
+                case PooledConnection.STATE_IN_USE: return "IN_USE";
+                case PooledConnection.STATE_NOT_IN_USE: return "IDLE";
+                case PooledConnection.STATE_RESERVED: return "RESERVED";
+                default: return "REMOVED";
+            }
+        }
+
+        public long getId() { return id; }
+        public String getQueueManager() { return queueManager; }
+        public String getState() { return state; }
+        public long getAgeMillis() { return ageMillis; }
+        public long getIdleMillis() { return idleMillis; }
+        public long getLeaseMillis() { return leaseMillis; }
+        public String getHolder() { return holder; }
+        public boolean isLeakSuspected() { return leakSuspected; }
     }
-}
\ No newline at end of file
+}
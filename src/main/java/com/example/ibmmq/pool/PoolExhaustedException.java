@@ -0,0 +1,59 @@
+package com.example.ibmmq.pool;
+
+import jakarta.jms.JMSException;
+
+/**
+ * Thrown when no pooled connection could be handed out: either the caller waited the full
+ * {@code ibm.mq.pool.max.wait.time} or too many threads were already waiting. Also thrown when
+ * an asynchronous send found its producer's in-flight window full for
+ * {@code ibm.mq.pool.producer.max.wait.time}. This is back pressure, not a broker failure,
+ * and the REST layer answers it with 503.
+ */
+public class PoolExhaustedException extends JMSException {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String ERROR_CODE = "MQPOOL_EXHAUSTED";
+
+    public enum Reason {
+        /** The caller waited until its deadline without a connection being returned. */
+        TIMEOUT,
+        /** The caller was rejected without waiting because the waiter limit was reached. */
+        WAITER_LIMIT,
+        /** The producer's asynchronous sends stayed at the in-flight limit until the deadline. */
+        IN_FLIGHT_LIMIT
+    }
+
+    private final Reason reason;
+    private final long waitedMillis;
+
+    public PoolExhaustedException(String message, Reason reason, long waitedMillis) {
+        super(message, ERROR_CODE);
+        this.reason = reason;
+        this.waitedMillis = waitedMillis;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public long getWaitedMillis() {
+        return waitedMillis;
+    }
+
+    /**
+     * Finds a pool exhaustion in the cause chain, e.g. behind the RuntimeException the
+     * services wrap JMS failures in.
+     */
+    public static PoolExhaustedException find(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof PoolExhaustedException) {
+                return (PoolExhaustedException) t;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return null;
+    }
+}
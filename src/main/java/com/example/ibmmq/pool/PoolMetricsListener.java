@@ -0,0 +1,24 @@
+package com.example.ibmmq.pool;
+
+/**
+ * Receives per-borrow timings from {@link IBMMQConnectionPool}, so that they can be recorded
+ * as distributions without the pool depending on a metrics library.
+ */
+public interface PoolMetricsListener {
+
+    PoolMetricsListener NONE = new PoolMetricsListener() {
+    };
+
+    /**
+     * @param acquireNanos time from the borrow call until a connection was handed out,
+     *                     including any wait and connect
+     */
+    default void connectionAcquired(long acquireNanos) {
+    }
+
+    /**
+     * @param leaseMillis how long the connection was held before being returned
+     */
+    default void connectionReleased(long leaseMillis) {
+    }
+}
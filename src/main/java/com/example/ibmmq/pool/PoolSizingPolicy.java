@@ -0,0 +1,81 @@
+package com.example.ibmmq.pool;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+
+/**
+ * Decides how many connections the pool keeps open between bursts. The housekeeper asks for a
+ * new target on every pass, refills up to it and only retires idle connections above it;
+ * {@code maxPoolSize} stays the hard limit for borrowers either way.
+ */
+public interface PoolSizingPolicy {
+
+    /** Keeps {@code minPoolSize} open regardless of demand. */
+    PoolSizingPolicy STATIC = sample -> sample.getMinPoolSize();
+
+    /**
+     * @return the number of connections to keep open; the pool clamps it to
+     *         {@code [minPoolSize, maxPoolSize]}
+     */
+    int targetSize(Sample sample);
+
+    /**
+     * A fresh policy for {@code ibm.mq.pool.sizing}; adaptive policies are stateful, so every
+     * pool gets its own.
+     */
+    static PoolSizingPolicy forConfig(ConnectionPoolConfig poolConfig) {
+        if (poolConfig.isAdaptiveSizing()) {
+            return new AdaptivePoolSizingPolicy(poolConfig.getSizingHeadroom(), poolConfig.getSizingSmoothing(),
+                                                poolConfig.getSizingMaxStep());
+        }
+        return STATIC;
+    }
+
+    /**
+     * Pool demand observed since the previous housekeeping pass.
+     */
+    class Sample {
+        private final long elapsedMillis;
+        private final long borrows;
+        private final long completedLeases;
+        private final long totalLeaseMillis;
+        private final int waitingThreads;
+        private final int activeConnections;
+        private final int currentTarget;
+        private final int minPoolSize;
+        private final int maxPoolSize;
+
+        public Sample(long elapsedMillis, long borrows, long completedLeases, long totalLeaseMillis,
+                      int waitingThreads, int activeConnections, int currentTarget,
+                      int minPoolSize, int maxPoolSize) {
+            this.elapsedMillis = elapsedMillis;
+            this.borrows = borrows;
+            this.completedLeases = completedLeases;
+            this.totalLeaseMillis = totalLeaseMillis;
+            this.waitingThreads = waitingThreads;
+            this.activeConnections = activeConnections;
+            this.currentTarget = currentTarget;
+            this.minPoolSize = minPoolSize;
+            this.maxPoolSize = maxPoolSize;
+        }
+
+        /** Borrows per second over the sample window. */
+        public double getArrivalRate() {
+            return elapsedMillis > 0 ? borrows * 1000.0 / elapsedMillis : 0;
+        }
+
+        /** Mean duration of the leases returned in the window, in milliseconds. */
+        public double getMeanLeaseMillis() {
+            return completedLeases > 0 ? (double) totalLeaseMillis / completedLeases : 0;
+        }
+
+        public long getElapsedMillis() { return elapsedMillis; }
+        public long getBorrows() { return borrows; }
+        public long getCompletedLeases() { return completedLeases; }
+        public long getTotalLeaseMillis() { return totalLeaseMillis; }
+        public int getWaitingThreads() { return waitingThreads; }
+        public int getActiveConnections() { return activeConnections; }
+        public int getCurrentTarget() { return currentTarget; }
+        public int getMinPoolSize() { return minPoolSize; }
+        public int getMaxPoolSize() { return maxPoolSize; }
+    }
+}
@@ -3,20 +3,43 @@ package com.example.ibmmq.pool;
 import jakarta.jms.Connection;
 import jakarta.jms.JMSException;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class PooledConnection {
 
+    public static final int STATE_NOT_IN_USE = 0;
+    public static final int STATE_IN_USE = 1;
+    public static final int STATE_REMOVED = -1;
+    public static final int STATE_RESERVED = -2;
+
+    private static final AtomicIntegerFieldUpdater<PooledConnection> STATE_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(PooledConnection.class, "state");
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final long id = IDS.incrementAndGet();
     private final Connection connection;
     private final long createdTime;
     private volatile long lastUsed;
-    private final AtomicBoolean inUse;
+    private volatile long lastValidated;
+    private volatile long expiresAt;
+    private volatile int state;
+    private volatile SessionCache sessionCache;
+    private volatile String holder;
+    private volatile long borrowedAt;
+    private volatile Throwable borrowTrace;
+    private volatile boolean leakReported;
 
     public PooledConnection(Connection connection) {
         this.connection = connection;
         this.createdTime = System.currentTimeMillis();
         this.lastUsed = createdTime;
-        this.inUse = new AtomicBoolean(false);
+        this.state = STATE_NOT_IN_USE;
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Connection getConnection() {
@@ -32,16 +55,44 @@ public class PooledConnection {
     }
 
     public boolean isInUse() {
-        return inUse.get();
+        return state == STATE_IN_USE;
+    }
+
+    public int getState() {
+        return state;
+    }
+
+    public void setState(int newState) {
+        state = newState;
+    }
+
+    /**
+     * Atomically moves the connection from one state to another; used by the
+     * {@link ConnectionBag} so that borrowing needs no lock or lookup map.
+     */
+    public boolean compareAndSetState(int expectedState, int newState) {
+        return STATE_UPDATER.compareAndSet(this, expectedState, newState);
     }
 
     public void markAsActive() {
-        inUse.set(true);
+        state = STATE_IN_USE;
         lastUsed = System.currentTimeMillis();
     }
 
     public void markAsAvailable() {
-        inUse.set(false);
+        state = STATE_NOT_IN_USE;
+        lastUsed = System.currentTimeMillis();
+    }
+
+    public SessionCache getSessionCache() {
+        return sessionCache;
+    }
+
+    public void setSessionCache(SessionCache sessionCache) {
+        this.sessionCache = sessionCache;
+    }
+
+    public void touch() {
         lastUsed = System.currentTimeMillis();
     }
 
@@ -53,9 +104,81 @@ public class PooledConnection {
         return System.currentTimeMillis() - lastUsed;
     }
 
+    /**
+     * Records a successful validation without counting as use, so idle eviction still applies.
+     */
+    public void markValidated() {
+        lastValidated = System.currentTimeMillis();
+    }
+
+    /**
+     * Time since the connection was last used or validated, i.e. last known to be alive.
+     */
+    public long getTimeSinceLastCheck() {
+        return System.currentTimeMillis() - Math.max(lastUsed, lastValidated);
+    }
+
+    /**
+     * Sets the point in time after which the connection is retired; zero means never.
+     */
+    public void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired() {
+        return expiresAt > 0 && System.currentTimeMillis() >= expiresAt;
+    }
+
+    /**
+     * Records the borrowing thread; with leak detection on, also where it borrowed from.
+     */
+    public void recordBorrow(boolean captureTrace) {
+        holder = Thread.currentThread().getName();
+        borrowTrace = captureTrace ? new Throwable("Connection " + id + " borrowed here") : null;
+        leakReported = false;
+        borrowedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Clears the holder and returns how long the lease lasted in milliseconds.
+     */
+    public long recordReturn() {
+        long start = borrowedAt;
+        borrowedAt = 0;
+        holder = null;
+        borrowTrace = null;
+        return start > 0 ? System.currentTimeMillis() - start : 0;
+    }
+
+    /** Name of the thread currently holding the connection, or {@code null} when idle. */
+    public String getHolder() {
+        return holder;
+    }
+
+    public long getLeaseTime() {
+        long start = borrowedAt;
+        return start > 0 ? System.currentTimeMillis() - start : 0;
+    }
+
+    public Throwable getBorrowTrace() {
+        return borrowTrace;
+    }
+
+    public boolean isLeakReported() {
+        return leakReported;
+    }
+
+    public void markLeakReported() {
+        leakReported = true;
+    }
+
     public void close() throws JMSException {
         if (connection != null) {
             connection.close();
         }
     }
-}
\ No newline at end of file
+}
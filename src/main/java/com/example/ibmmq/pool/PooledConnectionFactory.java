@@ -0,0 +1,65 @@
+package com.example.ibmmq.pool;
+
+import com.example.ibmmq.adapter.ConnectionJMSContext;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.JMSRuntimeException;
+
+/**
+ * ConnectionFactory backed by {@link IBMMQConnectionPool}. {@link #createConnection()} borrows a
+ * pooled connection instead of connecting to the queue manager, and closing that connection
+ * returns it; its sessions, producers and consumers come from the session cache. The same
+ * holds for {@link JMSContext}s, which are built on a pooled connection.
+ */
+public class PooledConnectionFactory implements ConnectionFactory {
+
+    private final IBMMQConnectionPool pool;
+
+    public PooledConnectionFactory(IBMMQConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public Connection createConnection() throws JMSException {
+        return pool.getCachingConnection();
+    }
+
+    /**
+     * Pooled connections are authenticated with the configured credentials, so per-call
+     * credentials are not supported.
+     */
+    @Override
+    public Connection createConnection(String userName, String password) throws JMSException {
+        throw new JMSException("Per-connection credentials are not supported by the pooled ConnectionFactory");
+    }
+
+    /**
+     * A context on a pooled connection; contexts created from it share that connection, which
+     * goes back to the pool when the last of them is closed.
+     */
+    @Override
+    public JMSContext createContext() {
+        return createContext(JMSContext.AUTO_ACKNOWLEDGE);
+    }
+
+    @Override
+    public JMSContext createContext(String userName, String password) {
+        return createContext(userName, password, JMSContext.AUTO_ACKNOWLEDGE);
+    }
+
+    @Override
+    public JMSContext createContext(String userName, String password, int sessionMode) {
+        throw new JMSRuntimeException("Per-connection credentials are not supported by the pooled ConnectionFactory");
+    }
+
+    @Override
+    public JMSContext createContext(int sessionMode) {
+        try {
+            return new ConnectionJMSContext(pool.getCachingConnection(), sessionMode);
+        } catch (JMSException e) {
+            throw ConnectionJMSContext.toRuntimeException(e);
+        }
+    }
+}
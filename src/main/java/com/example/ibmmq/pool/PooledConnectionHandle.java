@@ -0,0 +1,195 @@
+package com.example.ibmmq.pool;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionConsumer;
+import jakarta.jms.ConnectionMetaData;
+import jakarta.jms.Destination;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.JMSException;
+import jakarta.jms.ServerSessionPool;
+import jakarta.jms.Session;
+import jakarta.jms.Topic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Connection handed out by the pool for a single borrow. It carries its {@link PooledConnection}
+ * so that returning it needs no lookup, and {@link #close()} gives the physical connection back
+ * to the pool instead of disconnecting from the queue manager.
+ *
+ * Connection-level state outlives the borrow, so what a borrower changes is undone when the
+ * connection goes back: its exception listener is removed, its connection consumers are closed
+ * and a connection it stopped is started again. A client ID cannot be taken back and is
+ * refused.
+ */
+public class PooledConnectionHandle implements Connection {
+
+    private static final AtomicIntegerFieldUpdater<PooledConnectionHandle> RELEASED_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(PooledConnectionHandle.class, "released");
+
+    private final IBMMQConnectionPool pool;
+    private final PooledConnection pooledConnection;
+    private final Connection delegate;
+    private volatile int released;
+
+    // Connection state this borrower changed, restored on release
+    private boolean stopped;
+    private boolean exceptionListenerSet;
+    private final List<ConnectionConsumer> connectionConsumers = new ArrayList<>();
+
+    public PooledConnectionHandle(IBMMQConnectionPool pool, PooledConnection pooledConnection) {
+        this.pool = pool;
+        this.pooledConnection = pooledConnection;
+        this.delegate = pooledConnection.getConnection();
+    }
+
+    public PooledConnection getPooledConnection() {
+        return pooledConnection;
+    }
+
+    IBMMQConnectionPool getPool() {
+        return pool;
+    }
+
+    public boolean isReleased() {
+        return released != 0;
+    }
+
+    /**
+     * Marks this handle as returned; only the first caller wins.
+     */
+    boolean markReleased() {
+        return RELEASED_UPDATER.compareAndSet(this, 0, 1);
+    }
+
+    /**
+     * Undoes the changes this borrower made to the connection; called by the pool before the
+     * connection is handed to the next borrower.
+     *
+     * @return false if the connection could not be restored and should not be reused
+     */
+    synchronized boolean restoreState() {
+        boolean restored = true;
+        for (ConnectionConsumer consumer : connectionConsumers) {
+            try {
+                consumer.close();
+            } catch (JMSException e) {
+                restored = false;
+            }
+        }
+        connectionConsumers.clear();
+        try {
+            if (exceptionListenerSet) {
+                delegate.setExceptionListener(null);
+                exceptionListenerSet = false;
+            }
+            if (stopped) {
+                delegate.start();
+                stopped = false;
+            }
+        } catch (JMSException | RuntimeException e) {
+            restored = false;
+        }
+        return restored;
+    }
+
+    protected Connection delegate() throws JMSException {
+        if (released != 0) {
+            throw new IllegalStateException("Connection has already been returned to the pool");
+        }
+        return delegate;
+    }
+
+    @Override
+    public Session createSession(boolean transacted, int acknowledgeMode) throws JMSException {
+        return delegate().createSession(transacted, acknowledgeMode);
+    }
+
+    @Override
+    public Session createSession(int sessionMode) throws JMSException {
+        return delegate().createSession(sessionMode);
+    }
+
+    @Override
+    public Session createSession() throws JMSException {
+        return delegate().createSession();
+    }
+
+    @Override
+    public String getClientID() throws JMSException {
+        return delegate().getClientID();
+    }
+
+    @Override
+    public void setClientID(String clientID) throws JMSException {
+        delegate();
+        throw new IllegalStateException("A pooled connection's client ID cannot be set");
+    }
+
+    @Override
+    public ConnectionMetaData getMetaData() throws JMSException {
+        return delegate().getMetaData();
+    }
+
+    @Override
+    public ExceptionListener getExceptionListener() throws JMSException {
+        return delegate().getExceptionListener();
+    }
+
+    @Override
+    public synchronized void setExceptionListener(ExceptionListener listener) throws JMSException {
+        delegate().setExceptionListener(listener);
+        exceptionListenerSet = true;
+    }
+
+    @Override
+    public synchronized void start() throws JMSException {
+        delegate().start();
+        stopped = false;
+    }
+
+    @Override
+    public synchronized void stop() throws JMSException {
+        delegate().stop();
+        stopped = true;
+    }
+
+    @Override
+    public void close() throws JMSException {
+        if (released == 0) {
+            pool.releaseConnection(this);
+        }
+    }
+
+    @Override
+    public ConnectionConsumer createConnectionConsumer(Destination destination, String messageSelector,
+                                                       ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+        return track(delegate().createConnectionConsumer(destination, messageSelector, sessionPool, maxMessages));
+    }
+
+    @Override
+    public ConnectionConsumer createSharedConnectionConsumer(Topic topic, String subscriptionName, String messageSelector,
+                                                             ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+        return track(delegate().createSharedConnectionConsumer(topic, subscriptionName, messageSelector, sessionPool, maxMessages));
+    }
+
+    @Override
+    public ConnectionConsumer createDurableConnectionConsumer(Topic topic, String subscriptionName, String messageSelector,
+                                                              ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+        return track(delegate().createDurableConnectionConsumer(topic, subscriptionName, messageSelector, sessionPool, maxMessages));
+    }
+
+    @Override
+    public ConnectionConsumer createSharedDurableConnectionConsumer(Topic topic, String subscriptionName, String messageSelector,
+                                                                    ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+        return track(delegate().createSharedDurableConnectionConsumer(topic, subscriptionName, messageSelector, sessionPool, maxMessages));
+    }
+
+    private synchronized ConnectionConsumer track(ConnectionConsumer consumer) {
+        connectionConsumers.add(consumer);
+        return consumer;
+    }
+}
@@ -0,0 +1,623 @@
+package com.example.ibmmq.pool;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Destination;
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.JMSException;
+import jakarta.jms.MapMessage;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.ObjectMessage;
+import jakarta.jms.Queue;
+import jakarta.jms.QueueBrowser;
+import jakarta.jms.Session;
+import jakarta.jms.StreamMessage;
+import jakarta.jms.TemporaryQueue;
+import jakarta.jms.TemporaryTopic;
+import jakarta.jms.TextMessage;
+import jakarta.jms.Topic;
+import jakarta.jms.TopicSubscriber;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Session handed out by a {@link CachingPooledConnection}. Producers and selector-less consumers
+ * on named queues come from the {@link CachedSession} and survive {@code close()}; everything
+ * else is created on demand and closed together with this session. {@link #close()} returns
+ * the underlying session to the {@link SessionCache}.
+ */
+public class PooledSession implements Session {
+
+    private static final Logger LOGGER = Logger.getLogger(PooledSession.class.getName());
+
+    private final SessionCache sessionCache;
+    private final CachedSession cachedSession;
+    private final Session delegate;
+    private final List<PooledProducer> cachedProducers = new ArrayList<>();
+    private final List<PooledConsumer> cachedConsumers = new ArrayList<>();
+    private final List<AutoCloseable> ownedResources = new ArrayList<>();
+    private final List<TemporaryQueue> temporaryQueues = new ArrayList<>();
+    private final List<TemporaryTopic> temporaryTopics = new ArrayList<>();
+    private boolean failed;
+    private volatile boolean closed;
+
+    PooledSession(SessionCache sessionCache, CachedSession cachedSession) {
+        this.sessionCache = sessionCache;
+        this.cachedSession = cachedSession;
+        this.delegate = cachedSession.getSession();
+    }
+
+    private Session delegate() throws JMSException {
+        if (closed) {
+            throw new IllegalStateException("Session has already been returned to the pool");
+        }
+        return delegate;
+    }
+
+    private <T extends AutoCloseable> T own(T resource) {
+        ownedResources.add(resource);
+        return resource;
+    }
+
+    private JMSException fail(JMSException e) {
+        failed = true;
+        return e;
+    }
+
+    private static boolean isCacheable(Destination destination) {
+        return destination instanceof Queue && !(destination instanceof TemporaryQueue);
+    }
+
+    @Override
+    public MessageProducer createProducer(Destination destination) throws JMSException {
+        try {
+            Session session = delegate();
+            if (!isCacheable(destination)) {
+                return own(session.createProducer(destination));
+            }
+            String queueName = ((Queue) destination).getQueueName();
+            PooledProducer producer = new PooledProducer(this, cachedSession.getProducer(queueName));
+            cachedProducers.add(producer);
+            return producer;
+        } catch (JMSException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public MessageConsumer createConsumer(Destination destination) throws JMSException {
+        try {
+            Session session = delegate();
+            if (!isCacheable(destination)) {
+                return own(session.createConsumer(destination));
+            }
+            String queueName = ((Queue) destination).getQueueName();
+            PooledConsumer consumer = new PooledConsumer(this, queueName, cachedSession.getConsumer(queueName));
+            cachedConsumers.add(consumer);
+            return consumer;
+        } catch (JMSException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public MessageConsumer createConsumer(Destination destination, String messageSelector) throws JMSException {
+        if (messageSelector == null || messageSelector.isEmpty()) {
+            return createConsumer(destination);
+        }
+        return own(delegate().createConsumer(destination, messageSelector));
+    }
+
+    @Override
+    public MessageConsumer createConsumer(Destination destination, String messageSelector, boolean noLocal) throws JMSException {
+        return own(delegate().createConsumer(destination, messageSelector, noLocal));
+    }
+
+    @Override
+    public MessageConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName) throws JMSException {
+        return own(delegate().createSharedConsumer(topic, sharedSubscriptionName));
+    }
+
+    @Override
+    public MessageConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName, String messageSelector) throws JMSException {
+        return own(delegate().createSharedConsumer(topic, sharedSubscriptionName, messageSelector));
+    }
+
+    @Override
+    public Queue createQueue(String queueName) throws JMSException {
+        try {
+            delegate();
+            return cachedSession.getQueue(queueName);
+        } catch (JMSException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public Topic createTopic(String topicName) throws JMSException {
+        return delegate().createTopic(topicName);
+    }
+
+    @Override
+    public TopicSubscriber createDurableSubscriber(Topic topic, String name) throws JMSException {
+        return own(delegate().createDurableSubscriber(topic, name));
+    }
+
+    @Override
+    public TopicSubscriber createDurableSubscriber(Topic topic, String name, String messageSelector, boolean noLocal) throws JMSException {
+        return own(delegate().createDurableSubscriber(topic, name, messageSelector, noLocal));
+    }
+
+    @Override
+    public MessageConsumer createDurableConsumer(Topic topic, String name) throws JMSException {
+        return own(delegate().createDurableConsumer(topic, name));
+    }
+
+    @Override
+    public MessageConsumer createDurableConsumer(Topic topic, String name, String messageSelector, boolean noLocal) throws JMSException {
+        return own(delegate().createDurableConsumer(topic, name, messageSelector, noLocal));
+    }
+
+    @Override
+    public MessageConsumer createSharedDurableConsumer(Topic topic, String name) throws JMSException {
+        return own(delegate().createSharedDurableConsumer(topic, name));
+    }
+
+    @Override
+    public MessageConsumer createSharedDurableConsumer(Topic topic, String name, String messageSelector) throws JMSException {
+        return own(delegate().createSharedDurableConsumer(topic, name, messageSelector));
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue) throws JMSException {
+        return own(delegate().createBrowser(queue));
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue, String messageSelector) throws JMSException {
+        return own(delegate().createBrowser(queue, messageSelector));
+    }
+
+    @Override
+    public TemporaryQueue createTemporaryQueue() throws JMSException {
+        TemporaryQueue queue = delegate().createTemporaryQueue();
+        temporaryQueues.add(queue);
+        return queue;
+    }
+
+    @Override
+    public TemporaryTopic createTemporaryTopic() throws JMSException {
+        TemporaryTopic topic = delegate().createTemporaryTopic();
+        temporaryTopics.add(topic);
+        return topic;
+    }
+
+    @Override
+    public void unsubscribe(String name) throws JMSException {
+        delegate().unsubscribe(name);
+    }
+
+    @Override
+    public BytesMessage createBytesMessage() throws JMSException {
+        return delegate().createBytesMessage();
+    }
+
+    @Override
+    public MapMessage createMapMessage() throws JMSException {
+        return delegate().createMapMessage();
+    }
+
+    @Override
+    public Message createMessage() throws JMSException {
+        return delegate().createMessage();
+    }
+
+    @Override
+    public ObjectMessage createObjectMessage() throws JMSException {
+        return delegate().createObjectMessage();
+    }
+
+    @Override
+    public ObjectMessage createObjectMessage(Serializable object) throws JMSException {
+        return delegate().createObjectMessage(object);
+    }
+
+    @Override
+    public StreamMessage createStreamMessage() throws JMSException {
+        return delegate().createStreamMessage();
+    }
+
+    @Override
+    public TextMessage createTextMessage() throws JMSException {
+        return delegate().createTextMessage();
+    }
+
+    @Override
+    public TextMessage createTextMessage(String text) throws JMSException {
+        return delegate().createTextMessage(text);
+    }
+
+    @Override
+    public boolean getTransacted() throws JMSException {
+        return delegate().getTransacted();
+    }
+
+    @Override
+    public int getAcknowledgeMode() throws JMSException {
+        return delegate().getAcknowledgeMode();
+    }
+
+    @Override
+    public void commit() throws JMSException {
+        try {
+            delegate().commit();
+        } catch (JMSException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public void rollback() throws JMSException {
+        try {
+            delegate().rollback();
+        } catch (JMSException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public void recover() throws JMSException {
+        delegate().recover();
+    }
+
+    @Override
+    public MessageListener getMessageListener() throws JMSException {
+        return delegate().getMessageListener();
+    }
+
+    @Override
+    public void setMessageListener(MessageListener listener) throws JMSException {
+        // A session-level listener cannot be handed to the next borrower
+        failed = true;
+        delegate().setMessageListener(listener);
+    }
+
+    @Override
+    public void run() {
+        delegate.run();
+    }
+
+    /**
+     * Returns the session to the cache, like closing a plain session: owned producers,
+     * consumers and browsers are closed, temporary destinations are deleted (the underlying
+     * session outlives the borrower, so they would otherwise stay on the queue manager for
+     * as long as the connection is pooled), an open transaction is rolled back and messages left
+     * unacknowledged in client-acknowledge mode are recovered, so the next borrower neither
+     * commits nor acknowledges them.
+     */
+    @Override
+    public void close() throws JMSException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        for (AutoCloseable resource : ownedResources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                LOGGER.log(Level.FINE, "Error closing session resource", e);
+            }
+        }
+        ownedResources.clear();
+
+        try {
+            for (TemporaryQueue queue : temporaryQueues) {
+                queue.delete();
+            }
+            for (TemporaryTopic topic : temporaryTopics) {
+                topic.delete();
+            }
+        } catch (JMSException e) {
+            LOGGER.log(Level.FINE, "Failed to delete temporary destination, discarding session", e);
+            failed = true;
+        }
+        temporaryQueues.clear();
+        temporaryTopics.clear();
+
+        try {
+            for (PooledProducer producer : cachedProducers) {
+                producer.resetIfModified();
+            }
+            for (PooledConsumer consumer : cachedConsumers) {
+                if (consumer.listenerSet) {
+                    cachedSession.discardConsumer(consumer.queueName);
+                }
+            }
+            if (!failed && cachedSession.isTransacted()) {
+                delegate.rollback();
+            } else if (!failed && cachedSession.isClientAcknowledge()) {
+                delegate.recover();
+            }
+        } catch (JMSException e) {
+            LOGGER.log(Level.FINE, "Failed to reset pooled session, discarding it", e);
+            failed = true;
+        }
+
+        if (failed) {
+            cachedSession.close();
+        } else {
+            sessionCache.release(cachedSession);
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Cached producer; {@code close()} is a no-op and modified defaults are restored when the
+     * session goes back to the cache. A failed send discards the session instead.
+     */
+    static final class PooledProducer implements MessageProducer {
+
+        private final PooledSession session;
+        private final MessageProducer delegate;
+        private boolean modified;
+
+        PooledProducer(PooledSession session, MessageProducer delegate) {
+            this.session = session;
+            this.delegate = delegate;
+        }
+
+        private MessageProducer delegate() throws JMSException {
+            if (session.closed) {
+                throw new IllegalStateException("Producer belongs to a session that was returned to the pool");
+            }
+            return delegate;
+        }
+
+        void resetIfModified() throws JMSException {
+            if (!modified) {
+                return;
+            }
+            delegate.setDisableMessageID(false);
+            delegate.setDisableMessageTimestamp(false);
+            delegate.setDeliveryMode(Message.DEFAULT_DELIVERY_MODE);
+            delegate.setPriority(Message.DEFAULT_PRIORITY);
+            delegate.setTimeToLive(Message.DEFAULT_TIME_TO_LIVE);
+            delegate.setDeliveryDelay(Message.DEFAULT_DELIVERY_DELAY);
+            modified = false;
+        }
+
+        @Override
+        public void setDisableMessageID(boolean value) throws JMSException {
+            modified = true;
+            delegate().setDisableMessageID(value);
+        }
+
+        @Override
+        public boolean getDisableMessageID() throws JMSException {
+            return delegate().getDisableMessageID();
+        }
+
+        @Override
+        public void setDisableMessageTimestamp(boolean value) throws JMSException {
+            modified = true;
+            delegate().setDisableMessageTimestamp(value);
+        }
+
+        @Override
+        public boolean getDisableMessageTimestamp() throws JMSException {
+            return delegate().getDisableMessageTimestamp();
+        }
+
+        @Override
+        public void setDeliveryMode(int deliveryMode) throws JMSException {
+            modified = true;
+            delegate().setDeliveryMode(deliveryMode);
+        }
+
+        @Override
+        public int getDeliveryMode() throws JMSException {
+            return delegate().getDeliveryMode();
+        }
+
+        @Override
+        public void setPriority(int defaultPriority) throws JMSException {
+            modified = true;
+            delegate().setPriority(defaultPriority);
+        }
+
+        @Override
+        public int getPriority() throws JMSException {
+            return delegate().getPriority();
+        }
+
+        @Override
+        public void setTimeToLive(long timeToLive) throws JMSException {
+            modified = true;
+            delegate().setTimeToLive(timeToLive);
+        }
+
+        @Override
+        public long getTimeToLive() throws JMSException {
+            return delegate().getTimeToLive();
+        }
+
+        @Override
+        public void setDeliveryDelay(long deliveryDelay) throws JMSException {
+            modified = true;
+            delegate().setDeliveryDelay(deliveryDelay);
+        }
+
+        @Override
+        public long getDeliveryDelay() throws JMSException {
+            return delegate().getDeliveryDelay();
+        }
+
+        @Override
+        public Destination getDestination() throws JMSException {
+            return delegate().getDestination();
+        }
+
+        @Override
+        public void close() {
+            // Cached on the session; released with it
+        }
+
+        @Override
+        public void send(Message message) throws JMSException {
+            try {
+                delegate().send(message);
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+
+        @Override
+        public void send(Message message, int deliveryMode, int priority, long timeToLive) throws JMSException {
+            try {
+                delegate().send(message, deliveryMode, priority, timeToLive);
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+
+        @Override
+        public void send(Destination destination, Message message) throws JMSException {
+            try {
+                delegate().send(destination, message);
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+
+        @Override
+        public void send(Destination destination, Message message, int deliveryMode, int priority, long timeToLive) throws JMSException {
+            try {
+                delegate().send(destination, message, deliveryMode, priority, timeToLive);
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+
+        @Override
+        public void send(Message message, CompletionListener completionListener) throws JMSException {
+            try {
+                delegate().send(message, completionListener);
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+
+        @Override
+        public void send(Message message, int deliveryMode, int priority, long timeToLive,
+                         CompletionListener completionListener) throws JMSException {
+            try {
+                delegate().send(message, deliveryMode, priority, timeToLive, completionListener);
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+
+        @Override
+        public void send(Destination destination, Message message, CompletionListener completionListener) throws JMSException {
+            try {
+                delegate().send(destination, message, completionListener);
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+
+        @Override
+        public void send(Destination destination, Message message, int deliveryMode, int priority, long timeToLive,
+                         CompletionListener completionListener) throws JMSException {
+            try {
+                delegate().send(destination, message, deliveryMode, priority, timeToLive, completionListener);
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+    }
+
+    /**
+     * Cached consumer; {@code close()} is a no-op. A consumer that was given a message listener
+     * is closed when the session goes back to the cache; a failed receive discards the session.
+     */
+    static final class PooledConsumer implements MessageConsumer {
+
+        private final PooledSession session;
+        private final String queueName;
+        private final MessageConsumer delegate;
+        private boolean listenerSet;
+
+        PooledConsumer(PooledSession session, String queueName, MessageConsumer delegate) {
+            this.session = session;
+            this.queueName = queueName;
+            this.delegate = delegate;
+        }
+
+        private MessageConsumer delegate() throws JMSException {
+            if (session.closed) {
+                throw new IllegalStateException("Consumer belongs to a session that was returned to the pool");
+            }
+            return delegate;
+        }
+
+        @Override
+        public String getMessageSelector() throws JMSException {
+            return delegate().getMessageSelector();
+        }
+
+        @Override
+        public MessageListener getMessageListener() throws JMSException {
+            return delegate().getMessageListener();
+        }
+
+        @Override
+        public void setMessageListener(MessageListener listener) throws JMSException {
+            listenerSet = true;
+            delegate().setMessageListener(listener);
+        }
+
+        @Override
+        public Message receive() throws JMSException {
+            try {
+                return delegate().receive();
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+
+        @Override
+        public Message receive(long timeout) throws JMSException {
+            try {
+                return delegate().receive(timeout);
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+
+        @Override
+        public Message receiveNoWait() throws JMSException {
+            try {
+                return delegate().receiveNoWait();
+            } catch (JMSException e) {
+                throw session.fail(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            // Cached on the session; released with it
+        }
+    }
+}
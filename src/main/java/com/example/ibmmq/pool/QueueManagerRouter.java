@@ -0,0 +1,307 @@
+package com.example.ibmmq.pool;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Spreads borrows across one {@link IBMMQConnectionPool} per queue manager.
+ *
+ * The target is the member with the fewest active connections per unit of weight, or the next
+ * one in smooth weighted round-robin order. A member that fails {@code ibm.mq.pool.ejection.failures}
+ * times in a row is ejected; once its ejection period has passed, a single borrow is let
+ * through as a probe. A failed probe doubles the period, a successful one restores the member.
+ * Connect failures and pool exhaustion both move the borrow on to the remaining members, but
+ * only connect failures count towards ejection: an exhausted member is back pressure rather
+ * than a broken queue manager. Exhaustion is reported only once every member was exhausted.
+ */
+public class QueueManagerRouter {
+
+    private static final Logger LOGGER = Logger.getLogger(QueueManagerRouter.class.getName());
+
+    private final ConnectionPoolConfig poolConfig;
+    private final List<Member> members;
+
+    public QueueManagerRouter(ConnectionPoolConfig poolConfig, List<Member> members) {
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("At least one queue manager is required");
+        }
+        this.poolConfig = poolConfig;
+        this.members = List.copyOf(members);
+    }
+
+    @FunctionalInterface
+    interface Borrow<T> {
+        T from(IBMMQConnectionPool pool) throws JMSException;
+    }
+
+    public void start() {
+        for (Member member : members) {
+            member.pool.start();
+        }
+    }
+
+    public Connection getConnection() throws JMSException {
+        return borrow(IBMMQConnectionPool::getConnection);
+    }
+
+    public Connection getCachingConnection() throws JMSException {
+        return borrow(IBMMQConnectionPool::getCachingConnection);
+    }
+
+    public SessionLease acquireSession(boolean transacted, int acknowledgeMode) throws JMSException {
+        return borrow(pool -> pool.acquireSession(transacted, acknowledgeMode));
+    }
+
+    <T> T borrow(Borrow<T> borrow) throws JMSException {
+        JMSException lastFailure = null;
+        PoolExhaustedException exhausted = null;
+        for (Member member : candidates()) {
+            try {
+                T result = borrow.from(member.pool);
+                member.recordSuccess();
+                return result;
+            } catch (PoolExhaustedException e) {
+                member.endProbe();
+                exhausted = e;
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.fine("Queue manager " + member.name + " exhausted, trying next: " + e.getMessage());
+                }
+            } catch (JMSException e) {
+                member.recordFailure(poolConfig);
+                lastFailure = e;
+                LOGGER.warning("Queue manager " + member.name + " failed, trying next: " + e.getMessage());
+            } catch (RuntimeException e) {
+                member.endProbe();
+                throw e;
+            }
+        }
+        if (exhausted != null) {
+            throw exhausted;
+        }
+        throw lastFailure != null ? lastFailure : new JMSException("No queue manager available");
+    }
+
+    /**
+     * Members in the order they should be tried: a due probe first, then the healthy members
+     * starting with the one chosen by the balancing policy. When every member is ejected they
+     * are all tried, soonest probe first, rather than failing without an attempt.
+     */
+    List<Member> candidates() {
+        long now = System.currentTimeMillis();
+        List<Member> healthy = new ArrayList<>(members.size());
+        List<Member> ejected = new ArrayList<>();
+        Member probe = null;
+        for (Member member : members) {
+            if (!member.isEjected()) {
+                healthy.add(member);
+            } else if (probe == null && member.tryStartProbe(now)) {
+                probe = member;
+            } else {
+                ejected.add(member);
+            }
+        }
+
+        List<Member> ordered = new ArrayList<>(members.size());
+        if (probe != null) {
+            ordered.add(probe);
+        }
+        if (!healthy.isEmpty()) {
+            Member first = poolConfig.isWeightedBalancing() ? nextWeighted(healthy) : leastActive(healthy);
+            ordered.add(first);
+            healthy.remove(first);
+            healthy.sort(Comparator.comparingDouble(Member::load));
+            ordered.addAll(healthy);
+        } else if (probe == null) {
+            ejected.sort(Comparator.comparingLong(member -> member.ejectedUntil));
+            ordered.addAll(ejected);
+        }
+        return ordered;
+    }
+
+    private static Member leastActive(List<Member> healthy) {
+        Member best = healthy.get(0);
+        double bestLoad = best.load();
+        for (int i = 1; i < healthy.size(); i++) {
+            double load = healthy.get(i).load();
+            if (load < bestLoad) {
+                best = healthy.get(i);
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Smooth weighted round-robin: spreads picks evenly in proportion to weight instead of
+     * sending bursts of {@code weight} consecutive borrows to the same member.
+     */
+    private synchronized Member nextWeighted(List<Member> healthy) {
+        int totalWeight = 0;
+        Member best = null;
+        for (Member member : healthy) {
+            member.currentWeight += member.weight;
+            totalWeight += member.weight;
+            if (best == null || member.currentWeight > best.currentWeight) {
+                best = member;
+            }
+        }
+        best.currentWeight -= totalWeight;
+        return best;
+    }
+
+    public void releaseConnection(Connection connection) {
+        if (connection instanceof PooledConnectionHandle) {
+            ((PooledConnectionHandle) connection).getPool().releaseConnection(connection);
+            return;
+        }
+        for (Member member : members) {
+            if (member.pool.owns(connection)) {
+                member.pool.releaseConnection(connection);
+                return;
+            }
+        }
+        LOGGER.warning("Attempted to release connection not owned by any queue manager pool");
+    }
+
+    public boolean isReady() {
+        for (Member member : members) {
+            if (member.pool.isReady()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long sum(ToLongFunction<IBMMQConnectionPool> metric) {
+        long total = 0;
+        for (Member member : members) {
+            total += metric.applyAsLong(member.pool);
+        }
+        return total;
+    }
+
+    public IBMMQConnectionPool.PoolStatus getPoolStatus() {
+        int total = 0;
+        int active = 0;
+        int available = 0;
+        int maxPoolSize = 0;
+        int minPoolSize = 0;
+        List<IBMMQConnectionPool.QueueManagerStatus> queueManagers = new ArrayList<>(members.size());
+        for (Member member : members) {
+            IBMMQConnectionPool.PoolStatus status = member.pool.getPoolStatus();
+            total += status.getTotalConnections();
+            active += status.getActiveConnections();
+            available += status.getAvailableConnections();
+            maxPoolSize += status.getMaxPoolSize();
+            minPoolSize += status.getMinPoolSize();
+            queueManagers.add(new IBMMQConnectionPool.QueueManagerStatus(
+                member.name, member.weight, !member.isEjected(), member.consecutiveFailures,
+                member.ejectedUntil, status));
+        }
+        return new IBMMQConnectionPool.PoolStatus(total, active, available, maxPoolSize, minPoolSize, queueManagers);
+    }
+
+    public void setMetricsListener(PoolMetricsListener listener) {
+        for (Member member : members) {
+            member.pool.setMetricsListener(listener);
+        }
+    }
+
+    public void setSizingPolicy(Supplier<PoolSizingPolicy> policyFactory) {
+        for (Member member : members) {
+            member.pool.setSizingPolicy(policyFactory);
+        }
+    }
+
+    public List<IBMMQConnectionPool.ConnectionInfo> getConnectionDetails() {
+        List<IBMMQConnectionPool.ConnectionInfo> details = new ArrayList<>();
+        for (Member member : members) {
+            details.addAll(member.pool.describeConnections(member.name));
+        }
+        return details;
+    }
+
+    public void shutdown() {
+        for (Member member : members) {
+            member.pool.shutdown();
+        }
+    }
+
+    /**
+     * A queue manager's sub-pool together with its routing weight and health state.
+     */
+    public static class Member {
+
+        private final String name;
+        private final int weight;
+        private final IBMMQConnectionPool pool;
+        private final AtomicBoolean probing = new AtomicBoolean();
+        private volatile int consecutiveFailures;
+        private volatile long ejectedUntil;
+        private int ejections;
+        private int currentWeight;
+
+        public Member(String name, int weight, IBMMQConnectionPool pool) {
+            this.name = name;
+            this.weight = Math.max(1, weight);
+            this.pool = pool;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public IBMMQConnectionPool getPool() {
+            return pool;
+        }
+
+        double load() {
+            return (double) pool.getActiveCount() / weight;
+        }
+
+        boolean isEjected() {
+            return ejectedUntil != 0;
+        }
+
+        boolean tryStartProbe(long now) {
+            return now >= ejectedUntil && probing.compareAndSet(false, true);
+        }
+
+        void endProbe() {
+            probing.set(false);
+        }
+
+        synchronized void recordSuccess() {
+            if (ejectedUntil != 0) {
+                LOGGER.info("Queue manager " + name + " is reachable again, restored to rotation");
+            }
+            consecutiveFailures = 0;
+            ejections = 0;
+            ejectedUntil = 0;
+            probing.set(false);
+        }
+
+        synchronized void recordFailure(ConnectionPoolConfig poolConfig) {
+            consecutiveFailures++;
+            if (ejectedUntil != 0 || consecutiveFailures >= Math.max(1, poolConfig.getEjectionFailures())) {
+                ejections++;
+                long period = Math.min(poolConfig.getEjectionBaseTime() << Math.min(ejections - 1, 20),
+                                       poolConfig.getEjectionMaxTime());
+                ejectedUntil = System.currentTimeMillis() + Math.max(1, period);
+                LOGGER.warning("Queue manager " + name + " ejected for " + period + "ms after " +
+                               consecutiveFailures + " consecutive failures");
+            }
+            probing.set(false);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.ibmmq.pool;
+
+import jakarta.jms.JMSException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the asynchronous sends a producer has outstanding. A send takes a slot before it is
+ * handed to the client and the completion callback gives it back, so a slow queue manager
+ * makes senders wait instead of letting unconfirmed messages pile up in memory.
+ *
+ * Slots are taken by the lease holder and returned on the client's callback thread.
+ */
+final class SendWindow {
+
+    private final int maxInFlight;
+    private final long maxWaitMillis;
+    private final Semaphore slots;
+
+    SendWindow(int maxInFlight, long maxWaitMillis) {
+        this.maxInFlight = maxInFlight;
+        this.maxWaitMillis = maxWaitMillis;
+        this.slots = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+    }
+
+    /**
+     * Takes a slot, waiting up to the configured time for one to be returned.
+     *
+     * @throws PoolExhaustedException if the window stayed full for the whole wait
+     */
+    void enter(String queueName) throws JMSException {
+        if (slots == null || slots.tryAcquire()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            if (maxWaitMillis > 0 && slots.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMSException("Interrupted waiting for an in-flight send slot on " + queueName);
+        }
+        long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        throw new PoolExhaustedException("Producer for " + queueName + " already has " + maxInFlight
+                                         + " sends in flight", PoolExhaustedException.Reason.IN_FLIGHT_LIMIT, waited);
+    }
+
+    void leave() {
+        if (slots != null) {
+            slots.release();
+        }
+    }
+
+    int getInFlight() {
+        return slots == null ? 0 : maxInFlight - slots.availablePermits();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.ibmmq.pool;
+
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Idle sessions of one physical connection, keyed by session mode. Each session keeps the
+ * producers and consumers opened on it, so a repeated send to the same queue costs a single
+ * put instead of session, queue and producer round trips to the queue manager.
+ *
+ * The cache is bounded by {@code maxIdleSessions}; sessions idle longer than
+ * {@code maxIdleTime} are closed on the next release or {@link #evictIdle()}.
+ */
+public class SessionCache {
+
+    private static final Logger LOGGER = Logger.getLogger(SessionCache.class.getName());
+
+    private final Connection connection;
+    private final int maxIdleSessions;
+    private final long maxIdleTime;
+    private final int maxDestinations;
+    private final int maxInFlightSends;
+    private final long maxInFlightWait;
+    private final ConcurrentMap<Integer, Deque<CachedSession>> idleSessions = new ConcurrentHashMap<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    public SessionCache(Connection connection, int maxIdleSessions, long maxIdleTime, int maxDestinations) {
+        this(connection, maxIdleSessions, maxIdleTime, maxDestinations, 0, 0);
+    }
+
+    /**
+     * @param maxInFlightSends asynchronous sends each cached producer may have outstanding,
+     *                         zero or negative for no limit
+     * @param maxInFlightWait  milliseconds a send waits for room in a full window
+     */
+    public SessionCache(Connection connection, int maxIdleSessions, long maxIdleTime, int maxDestinations,
+                        int maxInFlightSends, long maxInFlightWait) {
+        this.connection = connection;
+        this.maxIdleSessions = maxIdleSessions;
+        this.maxIdleTime = maxIdleTime;
+        this.maxDestinations = maxDestinations;
+        this.maxInFlightSends = maxInFlightSends;
+        this.maxInFlightWait = maxInFlightWait;
+    }
+
+    CachedSession acquire(boolean transacted, int acknowledgeMode) throws JMSException {
+        Deque<CachedSession> deque = idleSessions.get(modeKey(transacted, acknowledgeMode));
+        if (deque != null) {
+            CachedSession cached;
+            while ((cached = deque.pollFirst()) != null) {
+                idleCount.decrementAndGet();
+                if (!isExpired(cached, System.currentTimeMillis())) {
+                    cached.touch();
+                    return cached;
+                }
+                cached.close();
+            }
+        }
+
+        Session session = connection.createSession(transacted, acknowledgeMode);
+        return new CachedSession(session, transacted, acknowledgeMode, maxDestinations,
+                                 maxInFlightSends, maxInFlightWait);
+    }
+
+    void release(CachedSession cached) {
+        if (idleCount.incrementAndGet() > maxIdleSessions) {
+            idleCount.decrementAndGet();
+            cached.close();
+            return;
+        }
+        cached.touch();
+        idleSessions
+            .computeIfAbsent(modeKey(cached.isTransacted(), cached.getAcknowledgeMode()), key -> new ConcurrentLinkedDeque<>())
+            .offerFirst(cached);
+        evictIdle();
+    }
+
+    /**
+     * Closes sessions that have been idle longer than the configured idle time.
+     *
+     * @return number of sessions closed
+     */
+    public int evictIdle() {
+        if (maxIdleTime <= 0) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        for (Deque<CachedSession> deque : idleSessions.values()) {
+            Iterator<CachedSession> it = deque.descendingIterator();
+            while (it.hasNext()) {
+                CachedSession cached = it.next();
+                if (!isExpired(cached, now)) {
+                    break;
+                }
+                if (deque.removeLastOccurrence(cached)) {
+                    idleCount.decrementAndGet();
+                    cached.close();
+                    evicted++;
+                }
+            }
+        }
+        if (evicted > 0 && LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Evicted " + evicted + " idle cached sessions");
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return idleCount.get();
+    }
+
+    public void close() {
+        for (Deque<CachedSession> deque : idleSessions.values()) {
+            CachedSession cached;
+            while ((cached = deque.pollFirst()) != null) {
+                idleCount.decrementAndGet();
+                cached.close();
+            }
+        }
+    }
+
+    private boolean isExpired(CachedSession cached, long now) {
+        return maxIdleTime > 0 && now - cached.getLastUsed() > maxIdleTime;
+    }
+
+    private static int modeKey(boolean transacted, int acknowledgeMode) {
+        return transacted ? Session.SESSION_TRANSACTED : acknowledgeMode;
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.ibmmq.pool;
+
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.QueueBrowser;
+import jakarta.jms.Session;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A pooled connection plus a cached session, borrowed for the duration of one unit of work.
+ * Queues, producers and consumers obtained from the lease are cached on the session and must
+ * not be closed by the caller. {@link #close()} gives the session back to the
+ * {@link SessionCache} and the connection back to the pool.
+ *
+ * A transacted lease that is closed without {@link #commit()} is rolled back first. After any
+ * JMS failure in the lease's own methods, or an explicit {@link #invalidate()}, the session is
+ * closed instead of cached. Prefer {@link #send} and {@link #receive} over using the producer
+ * or consumer directly; a caller that does must invalidate the lease when a call on them fails.
+ */
+public class SessionLease implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(SessionLease.class.getName());
+
+    private final IBMMQConnectionPool pool;
+    private final Connection connection;
+    private final SessionCache sessionCache;
+    private final CachedSession cachedSession;
+    private boolean transactionPending;
+    private volatile boolean invalid;
+    private boolean closed;
+
+    public SessionLease(IBMMQConnectionPool pool, Connection connection, SessionCache sessionCache,
+                        boolean transacted, int acknowledgeMode) throws JMSException {
+        this.pool = pool;
+        this.connection = connection;
+        this.sessionCache = sessionCache;
+        this.cachedSession = sessionCache.acquire(transacted, acknowledgeMode);
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * The underlying session, for creating messages. Do not close it.
+     */
+    public Session getSession() {
+        return cachedSession.getSession();
+    }
+
+    public Queue getQueue(String queueName) throws JMSException {
+        try {
+            return cachedSession.getQueue(queueName);
+        } catch (JMSException e) {
+            invalid = true;
+            throw e;
+        }
+    }
+
+    public MessageProducer getProducer(String queueName) throws JMSException {
+        try {
+            markTransactionPending();
+            return cachedSession.getProducer(queueName);
+        } catch (JMSException e) {
+            invalid = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Sends {@code message} with the cached producer for {@code queueName}.
+     */
+    public void send(String queueName, Message message) throws JMSException {
+        MessageProducer producer = getProducer(queueName);
+        try {
+            producer.send(message);
+        } catch (JMSException | RuntimeException e) {
+            invalid = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Receives from {@code queueName} with the cached consumer, waiting at most {@code timeout}
+     * milliseconds; returns null when no message arrived.
+     */
+    public Message receive(String queueName, long timeout) throws JMSException {
+        MessageConsumer consumer = getConsumer(queueName);
+        try {
+            return consumer.receive(timeout);
+        } catch (JMSException | RuntimeException e) {
+            invalid = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Hands {@code message} to the cached producer for {@code queueName} without waiting for
+     * the queue manager. The future completes on the client's callback thread once the put is
+     * confirmed; dependent stages must not use the session, but should close the lease then.
+     * Closing it earlier would let the next borrower or the housekeeper use the session while
+     * the put is still in flight. A failed put invalidates the lease.
+     *
+     * Each cached producer allows {@code ibm.mq.pool.producer.max.in.flight} unconfirmed sends,
+     * counted across leases. When they are all outstanding this waits for a confirmation and
+     * throws {@link PoolExhaustedException} if none arrives in time.
+     */
+    public CompletableFuture<Message> sendAsync(String queueName, Message message) throws JMSException {
+        MessageProducer producer = getProducer(queueName);
+        SendWindow window = cachedSession.getSendWindow(queueName);
+        window.enter(queueName);
+
+        CompletableFuture<Message> future = new CompletableFuture<>();
+        try {
+            producer.send(message, new CompletionListener() {
+                @Override
+                public void onCompletion(Message sent) {
+                    window.leave();
+                    future.complete(sent);
+                }
+
+                @Override
+                public void onException(Message failed, Exception exception) {
+                    window.leave();
+                    invalid = true;
+                    future.completeExceptionally(exception);
+                }
+            });
+        } catch (JMSException | RuntimeException e) {
+            window.leave();
+            invalid = true;
+            throw e;
+        }
+        return future;
+    }
+
+    public MessageConsumer getConsumer(String queueName) throws JMSException {
+        try {
+            markTransactionPending();
+            return cachedSession.getConsumer(queueName);
+        } catch (JMSException e) {
+            invalid = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Browsers are not cached since each enumeration is a snapshot; close the returned browser.
+     */
+    public QueueBrowser createBrowser(String queueName) throws JMSException {
+        try {
+            return cachedSession.getSession().createBrowser(getQueue(queueName));
+        } catch (JMSException e) {
+            invalid = true;
+            throw e;
+        }
+    }
+
+    public void start() throws JMSException {
+        connection.start();
+    }
+
+    public void commit() throws JMSException {
+        try {
+            cachedSession.getSession().commit();
+            transactionPending = false;
+        } catch (JMSException e) {
+            invalid = true;
+            throw e;
+        }
+    }
+
+    public void rollback() throws JMSException {
+        try {
+            cachedSession.getSession().rollback();
+            transactionPending = false;
+        } catch (JMSException e) {
+            invalid = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Discards the session on close instead of returning it to the cache.
+     */
+    public void invalidate() {
+        invalid = true;
+    }
+
+    public boolean isInvalid() {
+        return invalid;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            if (transactionPending && !invalid) {
+                try {
+                    cachedSession.getSession().rollback();
+                } catch (JMSException e) {
+                    LOGGER.log(Level.FINE, "Rollback of uncommitted session failed, discarding it", e);
+                    invalid = true;
+                }
+            }
+
+            if (!invalid && cachedSession.isClientAcknowledge()) {
+                // Unacknowledged messages would otherwise be acknowledged by the next lease
+                try {
+                    cachedSession.getSession().recover();
+                } catch (JMSException e) {
+                    LOGGER.log(Level.FINE, "Recover of client-acknowledge session failed, discarding it", e);
+                    invalid = true;
+                }
+            }
+
+            if (invalid) {
+                cachedSession.close();
+            } else {
+                sessionCache.release(cachedSession);
+            }
+        } finally {
+            pool.releaseConnection(connection);
+        }
+    }
+
+    private void markTransactionPending() {
+        if (cachedSession.isTransacted()) {
+            transactionPending = true;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.ibmmq.producer;
 
+import com.example.ibmmq.config.ConnectionPoolConfig;
 import com.example.ibmmq.config.IBMMQConfig;
-import com.example.ibmmq.adapter.JakartaJMSAdapter;
-import com.ibm.mq.jms.MQConnectionFactory;
+import com.example.ibmmq.adapter.MQClientFactory;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PooledConnectionFactory;
 import com.ibm.msg.client.wmq.WMQConstants;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
@@ -21,12 +23,23 @@ public class IBMMQConnectionFactoryProducer {
     @Inject
     private IBMMQConfig config;
 
+    @Inject
+    private ConnectionPoolConfig poolConfig;
+
+    @Inject
+    private IBMMQConnectionPool connectionPool;
+
     @Produces
     @ApplicationScoped
     public ConnectionFactory createJakartaConnectionFactory() {
+        if (poolConfig.isPooledConnectionFactory()) {
+            LOGGER.info("Jakarta JMS ConnectionFactory created successfully (backed by IBMMQConnectionPool)");
+            return new PooledConnectionFactory(connectionPool);
+        }
+
         try {
-            // Create the IBM MQ ConnectionFactory (javax.jms)
-            MQConnectionFactory mqConnectionFactory = new MQConnectionFactory();
+            // Create the IBM MQ ConnectionFactory for the configured client mode
+            MQClientFactory mqConnectionFactory = MQClientFactory.create(config.getClientMode());
 
             mqConnectionFactory.setHostName(config.getHostname());
             mqConnectionFactory.setPort(config.getPort());
@@ -43,13 +56,14 @@ public class IBMMQConnectionFactoryProducer {
             mqConnectionFactory.setStringProperty(WMQConstants.WMQ_CONNECTION_NAME_LIST,
                 config.getHostname() + "(" + config.getPort() + ")");
 
-            // Wrap the IBM MQ ConnectionFactory to provide Jakarta JMS interface
-            ConnectionFactory jakartaConnectionFactory = new JakartaJMSAdapter.ConnectionFactoryWrapper(mqConnectionFactory);
+            // Native Jakarta factory, or the javax one wrapped to provide the Jakarta JMS interface
+            ConnectionFactory jakartaConnectionFactory = mqConnectionFactory.toConnectionFactory();
 
-            LOGGER.info("Jakarta JMS ConnectionFactory created successfully (wrapping IBM MQ Client)");
+            LOGGER.info("Jakarta JMS ConnectionFactory created successfully (IBM MQ client mode: " +
+                       mqConnectionFactory.getMode() + ")");
             return jakartaConnectionFactory;
 
-        } catch (javax.jms.JMSException e) {
+        } catch (JMSException e) {
             LOGGER.log(Level.SEVERE, "Failed to create Jakarta JMS ConnectionFactory", e);
             throw new RuntimeException("Failed to create Jakarta JMS ConnectionFactory", e);
         }
@@ -5,19 +5,42 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @ApplicationScoped
 public class MQMessageRepository {
 
+    /** Rows per upsert statement; 15 parameters a row stays well below PostgreSQL's 32767. */
+    static final int MAX_UPSERT_ROWS = 500;
+
+    private static final String UPSERT_COLUMNS =
+        "INSERT INTO mq_messages (id, message_id, correlation_id, queue_name, message_content, message_type, "
+        + "priority, expiry, received_at, processed_at, status, error_message, retry_count, backout_count, "
+        + "backout_at, version) VALUES ";
+
+    private static final String UPSERT_ROW =
+        "(?, ?, ?, ?, ?, ?, CAST(? AS INTEGER), CAST(? AS BIGINT), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP), "
+        + "?, ?, CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS TIMESTAMP), 1)";
+
+    private static final String UPSERT_CONFLICT =
+        " ON CONFLICT (message_id) DO UPDATE SET message_content = EXCLUDED.message_content, "
+        + "status = EXCLUDED.status, error_message = EXCLUDED.error_message, "
+        + "processed_at = EXCLUDED.processed_at, retry_count = EXCLUDED.retry_count, "
+        + "version = mq_messages.version + 1";
+
     @Inject
     private EntityManagerFactory emf;
 
+    private final PooledSequence idSequence = new PooledSequence(MQMessage.ID_SEQUENCE, MQMessage.ID_ALLOCATION_SIZE);
+
     public MQMessage save(MQMessage message) {
         EntityManager em = emf.createEntityManager();
         try {
@@ -39,6 +62,84 @@ public class MQMessageRepository {
         }
     }
 
+    /**
+     * Inserts the messages, or updates content, status, error, processing time and retry count
+     * of those whose message ID is already stored, in one transaction with one statement per
+     * {@link #MAX_UPSERT_ROWS} rows. Either all rows are written or none; the caller isolates a
+     * failing row. A message ID occurring twice is written once, with its last occurrence.
+     *
+     * @return number of rows inserted or updated
+     */
+    public int upsertAll(List<MQMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        List<MQMessage> rows = lastPerMessageId(messages);
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            int written = 0;
+            for (int from = 0; from < rows.size(); from += MAX_UPSERT_ROWS) {
+                List<MQMessage> slice = rows.subList(from, Math.min(rows.size(), from + MAX_UPSERT_ROWS));
+                written += upsertStatement(em, slice).executeUpdate();
+            }
+            em.getTransaction().commit();
+            return written;
+        } catch (Exception e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            throw new RuntimeException("Failed to upsert " + rows.size() + " messages", e);
+        } finally {
+            em.close();
+        }
+    }
+
+    private Query upsertStatement(EntityManager em, List<MQMessage> slice) {
+        StringBuilder sql = new StringBuilder(UPSERT_COLUMNS.length() + slice.size() * (UPSERT_ROW.length() + 2)
+                                              + UPSERT_CONFLICT.length());
+        sql.append(UPSERT_COLUMNS);
+        for (int i = 0; i < slice.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(UPSERT_ROW);
+        }
+        sql.append(UPSERT_CONFLICT);
+
+        Query query = em.createNativeQuery(sql.toString());
+        int position = 1;
+        for (MQMessage message : slice) {
+            query.setParameter(position++, idSequence.next(em));
+            query.setParameter(position++, message.getMessageId());
+            query.setParameter(position++, message.getCorrelationId());
+            query.setParameter(position++, message.getQueueName());
+            query.setParameter(position++, message.getMessageContent());
+            query.setParameter(position++, message.getMessageType());
+            query.setParameter(position++, message.getPriority());
+            query.setParameter(position++, message.getExpiry());
+            query.setParameter(position++, message.getReceivedAt());
+            query.setParameter(position++, message.getProcessedAt());
+            query.setParameter(position++, message.getStatus() != null ? message.getStatus().name() : null);
+            query.setParameter(position++, message.getErrorMessage());
+            query.setParameter(position++, message.getRetryCount());
+            query.setParameter(position++, message.getBackoutCount());
+            query.setParameter(position++, message.getBackoutAt());
+        }
+        return query;
+    }
+
+    /**
+     * PostgreSQL rejects a statement that would update the same row twice.
+     */
+    private static List<MQMessage> lastPerMessageId(List<MQMessage> messages) {
+        Map<Object, MQMessage> byMessageId = new LinkedHashMap<>();
+        for (MQMessage message : messages) {
+            // Rows without a message ID never conflict, key them by identity
+            Object key = message.getMessageId() != null ? message.getMessageId() : new Object();
+            byMessageId.remove(key);
+            byMessageId.put(key, message);
+        }
+        return byMessageId.size() == messages.size() ? messages : new ArrayList<>(byMessageId.values());
+    }
+
     public Optional<MQMessage> findById(Long id) {
         EntityManager em = emf.createEntityManager();
         try {
@@ -0,0 +1,38 @@
+package com.example.ibmmq.repository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Hands out IDs from a database sequence that increments by {@code allocationSize}, with one
+ * {@code nextval} per block: the value returned reserves the block ending at it. This is the
+ * same reading of the sequence the JPA provider uses for a {@code @SequenceGenerator} with that
+ * allocation size, so IDs from both never collide. A value below the allocation size, as from a
+ * sequence that still starts at 1, would reserve a block reaching zero and below; it is skipped
+ * and the next one taken.
+ */
+final class PooledSequence {
+
+    private final String sequenceName;
+    private final int allocationSize;
+    private long next;
+    private long hi;
+
+    PooledSequence(String sequenceName, int allocationSize) {
+        this.sequenceName = sequenceName;
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * The next ID, fetching a new block through {@code em} when the current one is used up.
+     */
+    synchronized long next(EntityManager em) {
+        if (hi == 0 || next > hi) {
+            do {
+                Number value = (Number) em.createNativeQuery("SELECT nextval('" + sequenceName + "')").getSingleResult();
+                hi = value.longValue();
+            } while (hi < allocationSize);
+            next = hi - allocationSize + 1;
+        }
+        return next++;
+    }
+}
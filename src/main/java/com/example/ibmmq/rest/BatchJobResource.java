@@ -1,6 +1,8 @@
 package com.example.ibmmq.rest;
 
+import com.example.ibmmq.service.BatchJobScheduler;
 import com.example.ibmmq.service.BatchJobService;
+import com.example.ibmmq.service.SchedulingDecision;
 import jakarta.batch.runtime.JobExecution;
 import jakarta.batch.runtime.JobInstance;
 import jakarta.batch.runtime.StepExecution;
@@ -9,6 +11,7 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -24,6 +27,9 @@ public class BatchJobResource {
     @Inject
     private BatchJobService batchJobService;
 
+    @Inject
+    private BatchJobScheduler scheduler;
+
     @POST
     @Path("/jobs/start")
     public Response startJob() {
@@ -32,6 +38,10 @@ public class BatchJobResource {
             return Response.ok()
                 .entity("{\"status\":\"success\",\"executionId\":" + executionId + ",\"message\":\"Batch job started\"}")
                 .build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
+                .build();
         } catch (Exception e) {
             LOGGER.severe("Failed to start batch job: " + e.getMessage());
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -61,6 +71,10 @@ public class BatchJobResource {
             return Response.ok()
                 .entity("{\"status\":\"success\",\"executionId\":" + executionId + ",\"message\":\"Batch job started with parameters\"}")
                 .build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
+                .build();
         } catch (Exception e) {
             LOGGER.severe("Failed to start batch job with parameters: " + e.getMessage());
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -77,6 +91,10 @@ public class BatchJobResource {
             return Response.ok()
                 .entity("{\"status\":\"success\",\"executionId\":" + newExecutionId + ",\"message\":\"Batch job restarted\"}")
                 .build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
+                .build();
         } catch (Exception e) {
             LOGGER.severe("Failed to restart batch job " + executionId + ": " + e.getMessage());
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -232,6 +250,60 @@ public class BatchJobResource {
         }
     }
 
+    /**
+     * Whether the scheduler runs, the last decision for each watched queue and recent decisions.
+     */
+    @GET
+    @Path("/scheduler")
+    public Response getScheduler() {
+        StringBuilder json = new StringBuilder("{\"running\":").append(scheduler.isRunning()).append(",\"queues\":[");
+        List<String> queues = scheduler.getQueues();
+        for (int i = 0; i < queues.size(); i++) {
+            String queue = queues.get(i);
+            if (i > 0) json.append(",");
+            SchedulingDecision last = scheduler.getLastDecision(queue);
+            json.append("{\"queue\":\"").append(queue).append("\",\"lastDecision\":")
+                .append(last != null ? toJson(last) : "null").append("}");
+        }
+        json.append("],\"history\":");
+        appendDecisions(json, scheduler.getHistory());
+        json.append("}");
+        return Response.ok().entity(json.toString()).build();
+    }
+
+    @POST
+    @Path("/scheduler/start")
+    public Response startScheduler() {
+        scheduler.start();
+        return getScheduler();
+    }
+
+    @POST
+    @Path("/scheduler/stop")
+    public Response stopScheduler() {
+        scheduler.stop();
+        return getScheduler();
+    }
+
+    /**
+     * Looks at the watched queues now, whether or not the scheduler runs, and returns what it decided.
+     */
+    @POST
+    @Path("/scheduler/evaluate")
+    public Response evaluateScheduler() {
+        try {
+            StringBuilder json = new StringBuilder("{\"decisions\":");
+            appendDecisions(json, scheduler.evaluate());
+            json.append("}");
+            return Response.ok().entity(json.toString()).build();
+        } catch (Exception e) {
+            LOGGER.severe("Failed to evaluate batch job scheduling: " + e.getMessage());
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
+                .build();
+        }
+    }
+
     @GET
     @Path("/health")
     public Response healthCheck() {
@@ -239,4 +311,28 @@ public class BatchJobResource {
             .entity("{\"status\":\"healthy\",\"service\":\"Batch Job Management\"}")
             .build();
     }
-}
\ No newline at end of file
+
+    private static void appendDecisions(StringBuilder json, List<SchedulingDecision> decisions) {
+        json.append("[");
+        for (int i = 0; i < decisions.size(); i++) {
+            if (i > 0) json.append(",");
+            json.append(toJson(decisions.get(i)));
+        }
+        json.append("]");
+    }
+
+    private static String toJson(SchedulingDecision decision) {
+        return String.format(
+            "{\"queue\":\"%s\",\"time\":\"%s\",\"depth\":%d,\"running\":%d,\"action\":\"%s\"," +
+            "\"partitions\":%d,\"executionId\":%s,\"reason\":\"%s\"}",
+            decision.getQueue(),
+            Instant.ofEpochMilli(decision.getTime()),
+            decision.getDepth(),
+            decision.getRunning(),
+            decision.getAction(),
+            decision.getPartitions(),
+            decision.getExecutionId(),
+            decision.getReason() != null ? decision.getReason().replace("\"", "'") : ""
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.ibmmq.rest;
 
+import com.example.ibmmq.pool.PoolExhaustedException;
 import com.example.ibmmq.service.IBMMQService;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
@@ -22,44 +23,83 @@ public class IBMMQResource {
     @Inject
     private IBMMQService mqService;
 
+    /** {@code ack} value: answer 202 once the client has accepted the message. */
+    public static final String ACK_HANDOFF = "handoff";
+
+    /** {@code ack} value: answer once the queue manager has confirmed the put. */
+    public static final String ACK_CONFIRM = "confirm";
+
     @POST
     @Path("/send")
     @Consumes(MediaType.TEXT_PLAIN)
     @Operation(
         summary = "Send message to default queue",
-        description = "Sends a text message to the default IBM MQ queue"
+        description = "Sends a text message to the default IBM MQ queue. With ack=handoff the call returns "
+            + "202 as soon as the put is handed to the client, with ack=confirm once the queue manager "
+            + "confirmed it; without ack it blocks until the put on a pooled connection returns."
     )
     public Response sendMessage(
+        @Parameter(description = "handoff or confirm for an asynchronous send", example = "confirm")
+        @QueryParam("ack") String ack,
         @Parameter(description = "Message content to send", example = "Hello World", required = true)
         String message) {
         try {
-            mqService.sendMessage(message);
-            return Response.ok()
-                .entity("{\"status\":\"success\",\"message\":\"Message sent successfully\"}")
-                .build();
+            return send(ack, null, message, "Message sent successfully");
         } catch (Exception e) {
             LOGGER.severe("Failed to send message: " + e.getMessage());
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
-                .build();
+            return errorResponse(e);
         }
     }
 
     @POST
     @Path("/send/{queue}")
     @Consumes(MediaType.TEXT_PLAIN)
-    public Response sendMessageToQueue(@PathParam("queue") String queueName, String message) {
+    public Response sendMessageToQueue(@PathParam("queue") String queueName, @QueryParam("ack") String ack,
+                                       String message) {
         try {
-            mqService.sendMessage(queueName, message);
-            return Response.ok()
-                .entity("{\"status\":\"success\",\"message\":\"Message sent to queue " + queueName + "\"}")
-                .build();
+            return send(ack, queueName, message, "Message sent to queue " + queueName);
         } catch (Exception e) {
             LOGGER.severe("Failed to send message to queue " + queueName + ": " + e.getMessage());
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
+            return errorResponse(e);
+        }
+    }
+
+    /**
+     * Sends to {@code queueName}, or the default queue when it is null, the way {@code ack} asks for.
+     */
+    private Response send(String ack, String queueName, String message, String successMessage) {
+        if (ACK_HANDOFF.equalsIgnoreCase(ack)) {
+            if (queueName == null) {
+                mqService.sendMessageAsync(message);
+            } else {
+                mqService.sendMessageAsync(queueName, message);
+            }
+            return Response.accepted()
+                .entity("{\"status\":\"accepted\",\"message\":\"Message handed off for sending\"}")
+                .build();
+        }
+        if (ACK_CONFIRM.equalsIgnoreCase(ack)) {
+            String messageId = queueName == null
+                ? mqService.sendMessageConfirmed(message)
+                : mqService.sendMessageConfirmed(queueName, message);
+            return Response.ok()
+                .entity("{\"status\":\"success\",\"message\":\"" + successMessage
+                        + "\",\"messageId\":\"" + messageId + "\"}")
+                .build();
+        }
+        if (ack != null && !ack.isEmpty()) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity("{\"status\":\"error\",\"message\":\"Unknown ack mode " + ack + "\"}")
                 .build();
         }
+        if (queueName == null) {
+            mqService.sendMessage(message);
+        } else {
+            mqService.sendMessage(queueName, message);
+        }
+        return Response.ok()
+            .entity("{\"status\":\"success\",\"message\":\"" + successMessage + "\"}")
+            .build();
     }
 
     @GET
@@ -78,9 +118,7 @@ public class IBMMQResource {
             }
         } catch (Exception e) {
             LOGGER.severe("Failed to receive message: " + e.getMessage());
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
-                .build();
+            return errorResponse(e);
         }
     }
 
@@ -100,9 +138,7 @@ public class IBMMQResource {
             }
         } catch (Exception e) {
             LOGGER.severe("Failed to receive message from queue " + queueName + ": " + e.getMessage());
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
-                .build();
+            return errorResponse(e);
         }
     }
 
@@ -123,9 +159,7 @@ public class IBMMQResource {
             }
         } catch (Exception e) {
             LOGGER.severe("Failed to send and receive message: " + e.getMessage());
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
-                .build();
+            return errorResponse(e);
         }
     }
 
@@ -136,4 +170,21 @@ public class IBMMQResource {
             .entity("{\"status\":\"healthy\",\"service\":\"IBM MQ Integration\"}")
             .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Pool exhaustion is back pressure, so it is reported as 503 with a retry hint rather
+     * than as a server error.
+     */
+    private Response errorResponse(Exception e) {
+        PoolExhaustedException exhausted = PoolExhaustedException.find(e);
+        if (exhausted != null) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header("Retry-After", 1)
+                .entity("{\"status\":\"unavailable\",\"message\":\"" + exhausted.getMessage() + "\"}")
+                .build();
+        }
+        return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+            .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
+            .build();
+    }
+}
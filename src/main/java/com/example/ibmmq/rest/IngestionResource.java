@@ -0,0 +1,77 @@
+package com.example.ibmmq.rest;
+
+import com.example.ibmmq.service.StreamingIngestionService;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.logging.Logger;
+
+@Path("/ingestion")
+@Produces(MediaType.APPLICATION_JSON)
+public class IngestionResource {
+
+    private static final Logger LOGGER = Logger.getLogger(IngestionResource.class.getName());
+
+    @Inject
+    private StreamingIngestionService ingestionService;
+
+    /**
+     * Starts streaming ingestion, or resumes it when paused.
+     */
+    @POST
+    @Path("/start")
+    public Response start() {
+        try {
+            ingestionService.start();
+            return status();
+        } catch (Exception e) {
+            LOGGER.severe("Failed to start streaming ingestion: " + e.getMessage());
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
+                .build();
+        }
+    }
+
+    @POST
+    @Path("/pause")
+    public Response pause() {
+        try {
+            ingestionService.pause();
+            return status();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
+                .build();
+        } catch (Exception e) {
+            LOGGER.severe("Failed to pause streaming ingestion: " + e.getMessage());
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
+                .build();
+        }
+    }
+
+    @POST
+    @Path("/stop")
+    public Response stop() {
+        ingestionService.stop();
+        return status();
+    }
+
+    @GET
+    @Path("/status")
+    public Response status() {
+        String queueName = ingestionService.getQueueName();
+        String json = String.format(
+            "{\"state\":\"%s\",\"queue\":%s,\"sessions\":%d,\"written\":%d,\"failed\":%d,\"pending\":%d}",
+            ingestionService.getState(),
+            queueName != null ? "\"" + queueName + "\"" : "null",
+            ingestionService.getSessionCount(),
+            ingestionService.getWritten(),
+            ingestionService.getFailed(),
+            ingestionService.getPending()
+        );
+        return Response.ok().entity(json).build();
+    }
+}
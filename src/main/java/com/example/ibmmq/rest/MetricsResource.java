@@ -1,6 +1,7 @@
 package com.example.ibmmq.rest;
 
 import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
@@ -9,6 +10,7 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 @Path("/metrics")
@@ -23,6 +25,9 @@ public class MetricsResource {
     @Inject
     private PrometheusMeterRegistry meterRegistry;
 
+    @Inject
+    private IBMMQConnectionPool connectionPool;
+
     @GET
     @Path("/prometheus")
     @Produces(MediaType.TEXT_PLAIN)
@@ -71,6 +76,66 @@ public class MetricsResource {
         }
     }
 
+    /**
+     * Lists every pooled connection with its age, idle time and, while borrowed, the holding
+     * thread and lease time.
+     */
+    @GET
+    @Path("/pool")
+    public Response getPoolConnections() {
+        try {
+            IBMMQConnectionPool.PoolStatus status = connectionPool.getPoolStatus();
+            List<IBMMQConnectionPool.ConnectionInfo> connections = connectionPool.getConnectionDetails();
+
+            StringBuilder json = new StringBuilder();
+            json.append(String.format(
+                "{\"totalConnections\":%d,\"activeConnections\":%d,\"availableConnections\":%d," +
+                "\"targetSize\":%d,\"waitingThreads\":%d,\"created\":%d,\"destroyed\":%d,\"validationFailures\":%d," +
+                "\"leaks\":%d,\"connections\":[",
+                status.getTotalConnections(),
+                status.getActiveConnections(),
+                status.getAvailableConnections(),
+                connectionPool.getTargetSize(),
+                connectionPool.getWaitingThreadCount(),
+                connectionPool.getCreatedCount(),
+                connectionPool.getDestroyedCount(),
+                connectionPool.getValidationFailureCount(),
+                connectionPool.getLeakCount()));
+            for (int i = 0; i < connections.size(); i++) {
+                IBMMQConnectionPool.ConnectionInfo connection = connections.get(i);
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append(String.format(
+                    "{\"id\":%d,\"queueManager\":%s,\"state\":\"%s\",\"ageMillis\":%d,\"idleMillis\":%d," +
+                    "\"leaseMillis\":%d,\"holder\":%s,\"leakSuspected\":%b}",
+                    connection.getId(),
+                    quote(connection.getQueueManager()),
+                    connection.getState(),
+                    connection.getAgeMillis(),
+                    connection.getIdleMillis(),
+                    connection.getLeaseMillis(),
+                    quote(connection.getHolder()),
+                    connection.isLeakSuspected()));
+            }
+            json.append("]}");
+
+            return Response.ok(json.toString()).build();
+        } catch (Exception e) {
+            LOGGER.severe("Failed to get pool connections: " + e.getMessage());
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity("{\"status\":\"error\",\"message\":\"" + e.getMessage() + "\"}")
+                .build();
+        }
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
     @GET
     @Path("/health")
     public Response healthCheck() {
@@ -1,8 +1,7 @@
 package com.example.ibmmq.security;
 
 import com.example.ibmmq.config.IBMMQConfig;
-import com.example.ibmmq.adapter.JakartaJMSAdapter;
-import com.ibm.mq.jms.MQConnectionFactory;
+import com.example.ibmmq.adapter.MQClientFactory;
 import com.ibm.msg.client.wmq.WMQConstants;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Alternative;
@@ -34,7 +33,7 @@ public class SSLConnectionFactoryProducer {
     @ApplicationScoped
     public ConnectionFactory createSSLConnectionFactory() {
         try {
-            MQConnectionFactory connectionFactory = new MQConnectionFactory();
+            MQClientFactory connectionFactory = MQClientFactory.create(mqConfig.getClientMode());
 
             connectionFactory.setHostName(mqConfig.getHostname());
             connectionFactory.setPort(mqConfig.getPort());
@@ -55,10 +54,11 @@ public class SSLConnectionFactoryProducer {
                 configureSsl(connectionFactory);
             }
 
-            // Wrap the IBM MQ ConnectionFactory to provide Jakarta JMS interface
-            ConnectionFactory jakartaConnectionFactory = new JakartaJMSAdapter.ConnectionFactoryWrapper(connectionFactory);
+            // Native Jakarta factory, or the javax one wrapped to provide the Jakarta JMS interface
+            ConnectionFactory jakartaConnectionFactory = connectionFactory.toConnectionFactory();
 
-            LOGGER.info("SSL-enabled Jakarta JMS ConnectionFactory created successfully (wrapping IBM MQ Client)");
+            LOGGER.info("SSL-enabled Jakarta JMS ConnectionFactory created successfully (IBM MQ client mode: " +
+                       connectionFactory.getMode() + ")");
             return jakartaConnectionFactory;
 
         } catch (Exception e) {
@@ -67,7 +67,7 @@ public class SSLConnectionFactoryProducer {
         }
     }
 
-    private void configureSsl(MQConnectionFactory connectionFactory) throws Exception {
+    private void configureSsl(MQClientFactory connectionFactory) throws Exception {
         LOGGER.info("Configuring SSL for IBM MQ connection");
 
         connectionFactory.setStringProperty(WMQConstants.WMQ_SSL_CIPHER_SUITE, sslConfig.getCipherSuite());
@@ -103,7 +103,7 @@ public class SSLConnectionFactoryProducer {
                    ", Protocol: " + sslConfig.getSslProtocol());
     }
 
-    private void configureJavaSSL(MQConnectionFactory connectionFactory) throws Exception {
+    private void configureJavaSSL(MQClientFactory connectionFactory) throws Exception {
         LOGGER.info("Configuring Java SSL context for IBM MQ");
 
         SSLContext sslContext = createSSLContext();
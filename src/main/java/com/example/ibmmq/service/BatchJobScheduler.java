@@ -0,0 +1,212 @@
+package com.example.ibmmq.service;
+
+import com.example.ibmmq.batch.MQPartitionMapper;
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.config.JobSchedulingConfig;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.monitoring.QueueDepthMonitor;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Starts the MQ-to-PostgreSQL job by itself when messages pile up, instead of waiting for a
+ * {@code POST /batch/jobs/start}. Every {@code batch.scheduler.interval} ms it looks at each
+ * watched queue: when the depth has reached {@code batch.scheduler.depth.threshold} and fewer
+ * than {@code batch.job.max.concurrent} executions run on the queue, it starts one with a
+ * partition per {@code batch.scheduler.messages.per.partition} messages of backlog, at most
+ * {@code batch.scheduler.max.partitions}. {@link BatchJobService} enforces the same limit for
+ * every start, so a scheduled and a manual start cannot overlap either.
+ *
+ * Looks run on the container's managed scheduled executor, so job starts carry the
+ * application's context that the batch runtime resolves the job from, as a request thread does.
+ *
+ * The last decision per queue and a short history are kept for {@code GET /batch/scheduler}.
+ */
+@ApplicationScoped
+public class BatchJobScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchJobScheduler.class.getName());
+
+    private static final int HISTORY_SIZE = 50;
+
+    @Inject
+    private BatchJobService batchJobService;
+
+    @Inject
+    private QueueDepthMonitor depthMonitor;
+
+    @Inject
+    private IBMMQConfig config;
+
+    @Inject
+    private JobSchedulingConfig schedulingConfig;
+
+    @Inject
+    private MQMetricsService metricsService;
+
+    @Resource(lookup = "java:comp/DefaultManagedScheduledExecutorService")
+    private ManagedScheduledExecutorService executor;
+
+    private ScheduledFuture<?> timer;
+    private final Map<String, SchedulingDecision> lastDecisions = new LinkedHashMap<>();
+    private final Deque<SchedulingDecision> history = new ArrayDeque<>();
+
+    void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (schedulingConfig.isEnabled()) {
+            start();
+        }
+    }
+
+    /**
+     * Starts looking at the watched queues; does nothing when already running.
+     */
+    public synchronized void start() {
+        if (timer != null) {
+            return;
+        }
+        long interval = Math.max(100, schedulingConfig.getInterval());
+        timer = executor.scheduleWithFixedDelay(this::evaluateQuietly, 0, interval, TimeUnit.MILLISECONDS);
+        LOGGER.info("Batch job scheduler started for " + getQueues() + " every " + interval + " ms");
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (timer == null) {
+            return;
+        }
+        timer.cancel(false);
+        timer = null;
+        LOGGER.info("Batch job scheduler stopped");
+    }
+
+    public synchronized boolean isRunning() {
+        return timer != null;
+    }
+
+    /**
+     * Queues the scheduler watches: {@code batch.scheduler.queues}, or the request queue.
+     */
+    public List<String> getQueues() {
+        List<String> queues = schedulingConfig.getQueues();
+        return queues.isEmpty() ? List.of(config.getRequestQueue()) : queues;
+    }
+
+    /**
+     * Looks at every watched queue once and starts jobs where needed.
+     */
+    public List<SchedulingDecision> evaluate() {
+        List<SchedulingDecision> decisions = new ArrayList<>();
+        for (String queue : getQueues()) {
+            decisions.add(evaluate(queue));
+        }
+        return decisions;
+    }
+
+    public synchronized SchedulingDecision getLastDecision(String queue) {
+        return lastDecisions.get(queue);
+    }
+
+    /**
+     * Recent decisions, newest first.
+     */
+    public synchronized List<SchedulingDecision> getHistory() {
+        return new ArrayList<>(history);
+    }
+
+    private SchedulingDecision evaluate(String queue) {
+        long now = System.currentTimeMillis();
+        long depth = depthMonitor.getDepth(queue);
+        int running;
+        try {
+            running = batchJobService.getRunningExecutions(queue).size();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to look up running executions on " + queue, e);
+            return decided(new SchedulingDecision(queue, now, depth, -1, SchedulingDecision.Action.FAILED, 0, null,
+                                                  "Job state unavailable: " + e.getMessage()));
+        }
+
+        if (depth == QueueDepthMonitor.UNKNOWN) {
+            return decided(new SchedulingDecision(queue, now, depth, running, SchedulingDecision.Action.FAILED, 0, null,
+                                                  "Queue depth unavailable"));
+        }
+        int maxConcurrent = schedulingConfig.getMaxConcurrent();
+        if (maxConcurrent > 0 && running >= maxConcurrent) {
+            return decided(new SchedulingDecision(queue, now, depth, running, SchedulingDecision.Action.BUSY, 0, null,
+                                                  running + " of " + maxConcurrent + " executions running"));
+        }
+        if (depth < schedulingConfig.getDepthThreshold()) {
+            return decided(new SchedulingDecision(queue, now, depth, running, SchedulingDecision.Action.IDLE, 0, null,
+                                                  "Depth below " + schedulingConfig.getDepthThreshold()));
+        }
+
+        int partitions = partitionsFor(depth);
+        Properties parameters = new Properties();
+        parameters.setProperty(BatchJobService.QUEUE_PARAMETER, queue);
+        parameters.setProperty(BatchJobService.PARTITIONS_PARAMETER, String.valueOf(partitions));
+        try {
+            long executionId = batchJobService.startMQProcessingJob(parameters);
+            depthMonitor.invalidate();
+            return decided(new SchedulingDecision(queue, now, depth, running, SchedulingDecision.Action.STARTED, partitions,
+                                                  executionId, "Depth reached " + schedulingConfig.getDepthThreshold()));
+        } catch (IllegalStateException e) {
+            // Started elsewhere since the look at running executions
+            return decided(new SchedulingDecision(queue, now, depth, running, SchedulingDecision.Action.BUSY, 0, null,
+                                                  e.getMessage()));
+        } catch (RuntimeException e) {
+            return decided(new SchedulingDecision(queue, now, depth, running, SchedulingDecision.Action.FAILED, 0, null,
+                                                  "Start failed: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * One partition per {@code batch.scheduler.messages.per.partition} messages, between 1 and
+     * {@code batch.scheduler.max.partitions}.
+     */
+    int partitionsFor(long depth) {
+        long perPartition = Math.max(1, schedulingConfig.getMessagesPerPartition());
+        int max = Math.max(1, Math.min(MQPartitionMapper.MAX_PARTITIONS, schedulingConfig.getMaxPartitions()));
+        return (int) Math.max(1, Math.min(max, (depth + perPartition - 1) / perPartition));
+    }
+
+    private synchronized SchedulingDecision decided(SchedulingDecision decision) {
+        SchedulingDecision previous = lastDecisions.put(decision.getQueue(), decision);
+        history.addFirst(decision);
+        while (history.size() > HISTORY_SIZE) {
+            history.removeLast();
+        }
+        metricsService.recordSchedulingDecision(decision.getQueue(), decision.getAction().name());
+        if (decision.getAction() == SchedulingDecision.Action.STARTED) {
+            LOGGER.info("Started job execution " + decision.getExecutionId() + " on " + decision.getQueue() + " at depth " +
+                        decision.getDepth() + " with " + decision.getPartitions() + " partitions");
+        } else if (decision.getAction() == SchedulingDecision.Action.FAILED
+                   && (previous == null || previous.getAction() != SchedulingDecision.Action.FAILED)) {
+            LOGGER.warning("Scheduling on " + decision.getQueue() + " failed: " + decision.getReason());
+        }
+        return decision;
+    }
+
+    private void evaluateQuietly() {
+        try {
+            evaluate();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Batch job scheduling failed", e);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.example.ibmmq.service;
 
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.config.JobSchedulingConfig;
 import jakarta.batch.operations.JobOperator;
+import jakarta.batch.operations.NoSuchJobException;
 import jakarta.batch.operations.NoSuchJobExecutionException;
 import jakarta.batch.runtime.BatchRuntime;
 import jakarta.batch.runtime.JobExecution;
 import jakarta.batch.runtime.JobInstance;
 import jakarta.batch.runtime.StepExecution;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import java.util.List;
 import java.util.Properties;
@@ -20,8 +24,19 @@ public class BatchJobService {
     private static final Logger LOGGER = Logger.getLogger(BatchJobService.class.getName());
     private static final String JOB_NAME = "mq-to-postgres-job";
 
+    /** Job parameter naming the queue the job reads; the request queue when not set. */
+    public static final String QUEUE_PARAMETER = "queue";
+    /** Job parameter with the number of partitions reading the queue. */
+    public static final String PARTITIONS_PARAMETER = "partitions";
+
     private final JobOperator jobOperator;
 
+    @Inject
+    private IBMMQConfig config;
+
+    @Inject
+    private JobSchedulingConfig schedulingConfig;
+
     public BatchJobService() {
         this.jobOperator = BatchRuntime.getJobOperator();
     }
@@ -30,7 +45,13 @@ public class BatchJobService {
         return startMQProcessingJob(new Properties());
     }
 
-    public long startMQProcessingJob(Properties jobParameters) {
+    /**
+     * Starts the job on the queue given by the {@code queue} parameter.
+     *
+     * @throws IllegalStateException if {@code batch.job.max.concurrent} executions already run on that queue
+     */
+    public synchronized long startMQProcessingJob(Properties jobParameters) {
+        checkConcurrency(queueOf(jobParameters));
         try {
             LOGGER.info("Starting MQ processing batch job with parameters: " + jobParameters);
 
@@ -45,7 +66,11 @@ public class BatchJobService {
         }
     }
 
-    public long restartJob(long executionId) {
+    /**
+     * @throws IllegalStateException if {@code batch.job.max.concurrent} executions already run on the job's queue
+     */
+    public synchronized long restartJob(long executionId) {
+        checkConcurrency(queueOf(getJobParameters(executionId)));
         try {
             LOGGER.info("Restarting batch job execution: " + executionId);
 
@@ -60,6 +85,43 @@ public class BatchJobService {
         }
     }
 
+    /**
+     * IDs of the job's executions that are starting or running on {@code queueName}.
+     */
+    public List<Long> getRunningExecutions(String queueName) {
+        List<Long> running;
+        try {
+            running = jobOperator.getRunningExecutions(JOB_NAME);
+        } catch (NoSuchJobException e) {
+            return List.of();
+        }
+        return running.stream()
+            .filter(executionId -> queueName.equals(queueOf(getJobParameters(executionId))))
+            .toList();
+    }
+
+    /**
+     * The queue a job with these parameters reads.
+     */
+    public String queueOf(Properties jobParameters) {
+        String queue = jobParameters != null ? jobParameters.getProperty(QUEUE_PARAMETER) : null;
+        return queue != null && !queue.isBlank() ? queue.trim() : config.getRequestQueue();
+    }
+
+    // Two executions on one queue compete for its messages; callers hold the lock, so a start
+    // cannot slip in between the check and the execution it adds
+    private void checkConcurrency(String queueName) {
+        int maxConcurrent = schedulingConfig.getMaxConcurrent();
+        if (maxConcurrent <= 0) {
+            return;
+        }
+        List<Long> running = getRunningExecutions(queueName);
+        if (running.size() >= maxConcurrent) {
+            throw new IllegalStateException("Queue " + queueName + " already has " + running.size() +
+                                            " running job executions " + running);
+        }
+    }
+
     public void stopJob(long executionId) {
         try {
             LOGGER.info("Stopping batch job execution: " + executionId);
@@ -1,10 +1,20 @@
 package com.example.ibmmq.service;
 
+import com.example.ibmmq.config.ConnectionPoolConfig;
 import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PoolExhaustedException;
+import com.example.ibmmq.pool.SessionLease;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.jms.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,6 +29,15 @@ public class IBMMQService {
     @Inject
     private IBMMQConfig config;
 
+    @Inject
+    private IBMMQConnectionPool connectionPool;
+
+    @Inject
+    private ConnectionPoolConfig poolConfig;
+
+    @Inject
+    private MQMetricsService metricsService;
+
     public void sendMessage(String message) {
         sendMessage(config.getRequestQueue(), message);
     }
@@ -41,6 +60,86 @@ public class IBMMQService {
         }
     }
 
+    public CompletableFuture<String> sendMessageAsync(String message) {
+        return sendMessageAsync(config.getRequestQueue(), message);
+    }
+
+    /**
+     * Hands the message to a pooled producer and returns once the client has accepted it. The
+     * future completes with the message ID when the queue manager confirms the put; send
+     * latency and the outcome are recorded either way. The session lease is held until then, so
+     * the put is not in flight on a session that went back to the cache. Throws immediately, with a
+     * {@link PoolExhaustedException} as cause, when no connection or in-flight slot is free.
+     */
+    public CompletableFuture<String> sendMessageAsync(String queueName, String message) {
+        long start = System.nanoTime();
+        SessionLease lease = null;
+        boolean handedOff = false;
+        try {
+            lease = connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE);
+            TextMessage textMessage = lease.getSession().createTextMessage(message);
+
+            SessionLease sending = lease;
+            CompletableFuture<String> result = lease.sendAsync(queueName, textMessage).handle((sent, failure) -> {
+                long nanos = System.nanoTime() - start;
+                if (failure != null) {
+                    sending.invalidate();
+                    sending.close();
+                    metricsService.recordSendLatency(queueName, "async", nanos, "failed");
+                    metricsService.recordMessageFailed(queueName, MQMetricsService.errorType(failure));
+                    LOGGER.log(Level.SEVERE, "Asynchronous send to queue " + queueName + " failed", failure);
+                    throw new CompletionException(failure);
+                }
+                sending.close();
+                metricsService.recordSendLatency(queueName, "async", nanos, "sent");
+                metricsService.recordMessageSent(queueName);
+                try {
+                    return sent.getJMSMessageID();
+                } catch (JMSException e) {
+                    throw new CompletionException(e);
+                }
+            });
+            handedOff = true;
+            return result;
+
+        } catch (JMSException e) {
+            if (lease != null && PoolExhaustedException.find(e) == null) {
+                lease.invalidate();
+            }
+            metricsService.recordMessageFailed(queueName, MQMetricsService.errorType(e));
+            LOGGER.log(Level.SEVERE, "Failed to send message to queue: " + queueName, e);
+            throw new RuntimeException("Failed to send message", e);
+        } finally {
+            if (lease != null && !handedOff) {
+                lease.close();
+            }
+        }
+    }
+
+    public String sendMessageConfirmed(String message) {
+        return sendMessageConfirmed(config.getRequestQueue(), message);
+    }
+
+    /**
+     * Asynchronous send that waits for the queue manager's confirmation, at most
+     * {@code ibm.mq.connection.send.timeout}, and returns the message ID.
+     */
+    public String sendMessageConfirmed(String queueName, String message) {
+        CompletableFuture<String> sent = sendMessageAsync(queueName, message);
+        try {
+            long timeout = poolConfig.getSendTimeout();
+            return timeout > 0 ? sent.get(timeout, TimeUnit.MILLISECONDS) : sent.get();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to send message", e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("No confirmation for message sent to queue " + queueName + " within "
+                                       + poolConfig.getSendTimeout() + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted waiting for send confirmation", e);
+        }
+    }
+
     public String receiveMessage() {
         return receiveMessage(config.getResponseQueue());
     }
@@ -0,0 +1,194 @@
+package com.example.ibmmq.service;
+
+import com.example.ibmmq.batch.MQMessageProcessor;
+import com.example.ibmmq.batch.MQMessageReader;
+import com.example.ibmmq.batch.MQMessageWriter;
+import com.example.ibmmq.entity.MQMessage;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.repository.MQMessageRepository;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+import jakarta.jms.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * One transacted listener session of the streaming ingestion. Delivered messages are processed
+ * and collected into a micro-batch that is upserted and committed together, once it holds
+ * {@code batchSize} messages or its oldest message has waited {@code maxWaitMillis}. A failed
+ * write rolls the batch back to the queue, unless the batch holds a message that was already
+ * rolled back {@code backoutThreshold} times: then the batch is written in halves like a chunk
+ * of the batch job, the rows that still fail are stored as failed and the batch is committed.
+ *
+ * The delivery thread flushes while messages keep arriving; a batch left behind when they stop
+ * is flushed by {@link StreamingIngestionService} with the connection stopped, the only time
+ * another thread may use the session.
+ */
+final class IngestionSession implements MessageListener {
+
+    private static final Logger LOGGER = Logger.getLogger(IngestionSession.class.getName());
+
+    private final Session session;
+    private final String queueName;
+    private final int batchSize;
+    private final long maxWaitMillis;
+    private final int backoutThreshold;
+    private final MQMessageProcessor processor;
+    private final MQMessageRepository repository;
+    private final MQMetricsService metricsService;
+
+    private final List<MQMessage> batch;
+    private final List<Long> putTimes;
+    private long batchStarted;
+    private int maxDeliveryCount;
+    private MessageConsumer consumer;
+    private long written;
+    private long failed;
+
+    IngestionSession(Session session, String queueName, int batchSize, long maxWaitMillis, int backoutThreshold,
+                     MQMessageProcessor processor, MQMessageRepository repository, MQMetricsService metricsService) {
+        this.session = session;
+        this.queueName = queueName;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxWaitMillis = maxWaitMillis;
+        this.backoutThreshold = backoutThreshold;
+        this.processor = processor;
+        this.repository = repository;
+        this.metricsService = metricsService;
+        this.batch = new ArrayList<>(this.batchSize);
+        this.putTimes = new ArrayList<>(this.batchSize);
+    }
+
+    void listen() throws JMSException {
+        consumer = session.createConsumer(session.createQueue(queueName));
+        consumer.setMessageListener(this);
+    }
+
+    @Override
+    public synchronized void onMessage(Message message) {
+        try {
+            Object processed = processor.processItem(MQMessageReader.toMQMessage(message, queueName));
+            if (processed instanceof MQMessage) {
+                if (batch.isEmpty()) {
+                    batchStarted = System.currentTimeMillis();
+                }
+                batch.add((MQMessage) processed);
+                putTimes.add(message.getJMSTimestamp());
+                maxDeliveryCount = Math.max(maxDeliveryCount, deliveryCount(message));
+            }
+        } catch (Exception e) {
+            // Skipped like an unreadable item of the batch job; it is committed away with the batch
+            LOGGER.log(Level.WARNING, "Skipping message that could not be read from " + queueName, e);
+        }
+
+        if (batch.size() >= batchSize || isStale(System.currentTimeMillis())) {
+            flush();
+        }
+    }
+
+    synchronized boolean isStale(long now) {
+        return !batch.isEmpty() && now - batchStarted >= maxWaitMillis;
+    }
+
+    /**
+     * Writes the batch and commits the gets of its messages, or rolls them back when the write fails.
+     */
+    synchronized void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int size = batch.size();
+        try {
+            repository.upsertAll(batch);
+            session.commit();
+            long now = System.currentTimeMillis();
+            long[] putToRow = new long[size];
+            for (int i = 0; i < size; i++) {
+                long putTime = putTimes.get(i);
+                putToRow[i] = putTime > 0 ? now - putTime : 0;
+            }
+            written += size;
+            metricsService.recordIngestionBatch(queueName, size, putToRow, "written");
+        } catch (Exception e) {
+            if (maxDeliveryCount > backoutThreshold) {
+                isolateFailures(size, e);
+                return;
+            }
+            LOGGER.log(Level.WARNING, "Writing " + size + " messages from " + queueName
+                                      + " failed, returning them to the queue", e);
+            failed += size;
+            rollback();
+            metricsService.recordIngestionBatch(queueName, size, null, "rolled-back");
+        } finally {
+            batch.clear();
+            putTimes.clear();
+            maxDeliveryCount = 0;
+        }
+    }
+
+    /**
+     * The batch keeps failing after redelivery, so a rollback would only bring the same messages
+     * back first: write what can be written, store the rest as failed and commit them away.
+     */
+    private void isolateFailures(int size, Exception cause) {
+        LOGGER.log(Level.WARNING, "Writing " + size + " redelivered messages from " + queueName
+                                  + " failed again, isolating the failing ones", cause);
+        int unwritten = MQMessageWriter.write(repository, batch);
+        try {
+            session.commit();
+            written += size - unwritten;
+            failed += unwritten;
+            metricsService.recordIngestionBatch(queueName, size - unwritten, null, "written");
+            metricsService.recordIngestionBatch(queueName, unwritten, null, "failed");
+        } catch (JMSException e) {
+            LOGGER.log(Level.WARNING, "Commit on " + queueName + " failed", e);
+            failed += size;
+            rollback();
+            metricsService.recordIngestionBatch(queueName, size, null, "rolled-back");
+        }
+    }
+
+    private static int deliveryCount(Message message) {
+        try {
+            return message.propertyExists("JMSXDeliveryCount") ? message.getIntProperty("JMSXDeliveryCount") : 1;
+        } catch (JMSException | RuntimeException e) {
+            return 1;
+        }
+    }
+
+    private void rollback() {
+        try {
+            session.rollback();
+        } catch (JMSException e) {
+            LOGGER.log(Level.WARNING, "Rollback on " + queueName + " failed", e);
+        }
+    }
+
+    synchronized int getPending() {
+        return batch.size();
+    }
+
+    synchronized long getWritten() {
+        return written;
+    }
+
+    synchronized long getFailed() {
+        return failed;
+    }
+
+    void close() {
+        try {
+            if (consumer != null) {
+                consumer.close();
+            }
+            session.close();
+        } catch (JMSException e) {
+            LOGGER.log(Level.FINE, "Error closing ingestion session on " + queueName, e);
+        }
+    }
+}
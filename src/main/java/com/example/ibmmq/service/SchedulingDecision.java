@@ -0,0 +1,93 @@
+package com.example.ibmmq.service;
+
+/**
+ * What the {@link BatchJobScheduler} decided for one queue at one look, and what it saw.
+ */
+public class SchedulingDecision {
+
+    public enum Action {
+        /** A job execution was started. */
+        STARTED,
+        /** The depth is below the threshold. */
+        IDLE,
+        /** Executions on the queue are at the concurrency limit. */
+        BUSY,
+        /** The depth could not be inquired or the job could not be started. */
+        FAILED
+    }
+
+    private final String queue;
+    private final long time;
+    private final long depth;
+    private final int running;
+    private final Action action;
+    private final int partitions;
+    private final Long executionId;
+    private final String reason;
+
+    public SchedulingDecision(String queue, long time, long depth, int running, Action action,
+                              int partitions, Long executionId, String reason) {
+        this.queue = queue;
+        this.time = time;
+        this.depth = depth;
+        this.running = running;
+        this.action = action;
+        this.partitions = partitions;
+        this.executionId = executionId;
+        this.reason = reason;
+    }
+
+    public String getQueue() {
+        return queue;
+    }
+
+    /**
+     * When the decision was made, in milliseconds since the epoch.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Queue depth the decision was based on; -1 when it is not known.
+     */
+    public long getDepth() {
+        return depth;
+    }
+
+    /**
+     * Executions running on the queue before the decision.
+     */
+    public int getRunning() {
+        return running;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    /**
+     * Partitions of the started execution; 0 unless one was started.
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * ID of the started execution, or null.
+     */
+    public Long getExecutionId() {
+        return executionId;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulingDecision{queue=" + queue + ", depth=" + depth + ", running=" + running
+            + ", action=" + action + ", partitions=" + partitions + ", executionId=" + executionId
+            + ", reason=" + reason + "}";
+    }
+}
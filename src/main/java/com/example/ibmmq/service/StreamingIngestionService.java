@@ -0,0 +1,225 @@
+package com.example.ibmmq.service;
+
+import com.example.ibmmq.batch.MQMessageProcessor;
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.config.IngestionConfig;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.repository.MQMessageRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Long-running alternative to the MQ-to-PostgreSQL batch job: {@code ibm.mq.ingest.sessions}
+ * transacted sessions on one connection receive through message listeners and write what they
+ * receive in micro-batches (see {@link IngestionSession}), so a message reaches its row within
+ * {@code ibm.mq.ingest.batch.max.wait} ms instead of waiting for the next job run. It reuses the
+ * batch job's processor and the repository's bulk upsert.
+ *
+ * Pausing stops the connection, which holds delivery without giving up the sessions; a
+ * background flusher does the same briefly to write batches whose messages stopped arriving.
+ * It runs on the container's managed scheduled executor, so its writes have the application's
+ * context like those made on listener threads.
+ */
+@ApplicationScoped
+public class StreamingIngestionService {
+
+    private static final Logger LOGGER = Logger.getLogger(StreamingIngestionService.class.getName());
+
+    public enum State { STOPPED, RUNNING, PAUSED }
+
+    @Inject
+    private ConnectionFactory connectionFactory;
+
+    @Inject
+    private IBMMQConfig config;
+
+    @Inject
+    private IngestionConfig ingestionConfig;
+
+    @Inject
+    private MQMessageProcessor processor;
+
+    @Inject
+    private MQMessageRepository repository;
+
+    @Inject
+    private MQMetricsService metricsService;
+
+    @Resource(lookup = "java:comp/DefaultManagedScheduledExecutorService")
+    private ManagedScheduledExecutorService executor;
+
+    private volatile State state = State.STOPPED;
+    private Connection connection;
+    private final List<IngestionSession> sessions = new ArrayList<>();
+    private ScheduledFuture<?> flusher;
+    private String queueName;
+
+    void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (ingestionConfig.isAutostart()) {
+            try {
+                start();
+            } catch (JMSException e) {
+                LOGGER.log(Level.SEVERE, "Failed to start streaming ingestion", e);
+            }
+        }
+    }
+
+    /**
+     * Starts ingesting, or resumes it when paused.
+     */
+    public synchronized State start() throws JMSException {
+        if (state == State.RUNNING) {
+            return state;
+        }
+        if (state == State.PAUSED) {
+            connection.start();
+            state = State.RUNNING;
+            LOGGER.info("Streaming ingestion resumed on " + queueName);
+            return state;
+        }
+
+        queueName = ingestionConfig.getQueue().orElse(config.getRequestQueue());
+        int sessionCount = Math.max(1, ingestionConfig.getSessions());
+        connection = connectionFactory.createConnection();
+        try {
+            for (int i = 0; i < sessionCount; i++) {
+                IngestionSession session = new IngestionSession(connection.createSession(true, Session.SESSION_TRANSACTED),
+                                                                queueName, ingestionConfig.getBatchSize(),
+                                                                ingestionConfig.getBatchMaxWait(),
+                                                                ingestionConfig.getBackoutThreshold(), processor,
+                                                                repository, metricsService);
+                sessions.add(session);
+                session.listen();
+            }
+            connection.start();
+        } catch (JMSException e) {
+            closeSessions();
+            throw e;
+        }
+
+        long interval = Math.max(1, ingestionConfig.getBatchMaxWait() / 2);
+        flusher = executor.scheduleWithFixedDelay(this::flushStale, interval, interval, TimeUnit.MILLISECONDS);
+
+        state = State.RUNNING;
+        LOGGER.info("Streaming ingestion started on " + queueName + " with " + sessionCount + " sessions");
+        return state;
+    }
+
+    /**
+     * Holds delivery and writes what the sessions have collected; {@link #start()} resumes.
+     *
+     * @throws IllegalStateException if ingestion is not running
+     */
+    public synchronized State pause() throws JMSException {
+        if (state == State.STOPPED) {
+            throw new IllegalStateException("Streaming ingestion is not running");
+        }
+        if (state == State.RUNNING) {
+            connection.stop();
+            sessions.forEach(IngestionSession::flush);
+            state = State.PAUSED;
+            LOGGER.info("Streaming ingestion paused on " + queueName);
+        }
+        return state;
+    }
+
+    /**
+     * Writes what the sessions have collected and closes them.
+     */
+    @PreDestroy
+    public synchronized State stop() {
+        if (state == State.STOPPED) {
+            return state;
+        }
+        state = State.STOPPED;
+        flusher.cancel(false);
+        try {
+            connection.stop();
+        } catch (JMSException e) {
+            LOGGER.log(Level.WARNING, "Error stopping ingestion connection", e);
+        }
+        sessions.forEach(IngestionSession::flush);
+        closeSessions();
+        LOGGER.info("Streaming ingestion stopped on " + queueName);
+        return state;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public String getQueueName() {
+        return queueName;
+    }
+
+    public synchronized int getSessionCount() {
+        return sessions.size();
+    }
+
+    public synchronized long getWritten() {
+        return sessions.stream().mapToLong(IngestionSession::getWritten).sum();
+    }
+
+    public synchronized long getFailed() {
+        return sessions.stream().mapToLong(IngestionSession::getFailed).sum();
+    }
+
+    public synchronized int getPending() {
+        return sessions.stream().mapToInt(IngestionSession::getPending).sum();
+    }
+
+    /**
+     * Writes batches that stopped filling up. Delivery is stopped meanwhile, since only a
+     * stopped connection lets another thread use a listener's session.
+     */
+    synchronized void flushStale() {
+        if (state != State.RUNNING) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (sessions.stream().noneMatch(session -> session.isStale(now))) {
+            return;
+        }
+        try {
+            connection.stop();
+            try {
+                for (IngestionSession session : sessions) {
+                    if (session.isStale(now)) {
+                        session.flush();
+                    }
+                }
+            } finally {
+                connection.start();
+            }
+        } catch (JMSException e) {
+            LOGGER.log(Level.WARNING, "Flushing ingestion batches on " + queueName + " failed", e);
+        }
+    }
+
+    private void closeSessions() {
+        sessions.forEach(IngestionSession::close);
+        sessions.clear();
+        try {
+            connection.close();
+        } catch (JMSException e) {
+            LOGGER.log(Level.WARNING, "Error closing ingestion connection", e);
+        }
+        connection = null;
+    }
+}
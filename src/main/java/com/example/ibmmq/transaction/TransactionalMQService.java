@@ -3,6 +3,7 @@ package com.example.ibmmq.transaction;
 import com.example.ibmmq.config.IBMMQConfig;
 import com.example.ibmmq.entity.MQMessage;
 import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.SessionLease;
 import com.example.ibmmq.repository.MQMessageRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -28,20 +29,16 @@ public class TransactionalMQService {
 
     @Transactional
     public void sendMessageTransactional(String queueName, String message) {
-        Connection connection = null;
+        SessionLease lease = null;
         try {
-            connection = connectionPool.getConnection();
-            Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+            lease = connectionPool.acquireSession(true, Session.SESSION_TRANSACTED);
 
-            Queue queue = session.createQueue(queueName);
-            MessageProducer producer = session.createProducer(queue);
-
-            TextMessage textMessage = session.createTextMessage(message);
+            TextMessage textMessage = lease.getSession().createTextMessage(message);
             textMessage.setJMSDeliveryMode(DeliveryMode.PERSISTENT);
             textMessage.setStringProperty("APP_ID", "PayaraIBMMQApp");
             textMessage.setLongProperty("TIMESTAMP", System.currentTimeMillis());
 
-            producer.send(textMessage);
+            lease.send(queueName, textMessage);
 
             MQMessage mqMessage = new MQMessage();
             mqMessage.setMessageId(textMessage.getJMSMessageID());
@@ -53,32 +50,31 @@ public class TransactionalMQService {
 
             messageRepository.save(mqMessage);
 
-            session.commit();
+            lease.commit();
 
             LOGGER.info("Transactional message sent and persisted successfully to queue: " + queueName);
 
         } catch (Exception e) {
+            if (lease != null) {
+                lease.invalidate();
+            }
             LOGGER.log(Level.SEVERE, "Failed to send transactional message", e);
             throw new RuntimeException("Transactional message sending failed", e);
         } finally {
-            if (connection != null) {
-                connectionPool.releaseConnection(connection);
+            if (lease != null) {
+                lease.close();
             }
         }
     }
 
     @Transactional
     public String receiveMessageTransactional(String queueName, long timeout) {
-        Connection connection = null;
+        SessionLease lease = null;
         try {
-            connection = connectionPool.getConnection();
-            connection.start();
-            Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+            lease = connectionPool.acquireSession(true, Session.SESSION_TRANSACTED);
+            lease.start();
 
-            Queue queue = session.createQueue(queueName);
-            MessageConsumer consumer = session.createConsumer(queue);
-
-            Message message = consumer.receive(timeout);
+            Message message = lease.receive(queueName, timeout);
 
             if (message instanceof TextMessage) {
                 TextMessage textMessage = (TextMessage) message;
@@ -96,46 +92,44 @@ public class TransactionalMQService {
 
                 messageRepository.save(mqMessage);
 
-                session.commit();
+                lease.commit();
 
                 LOGGER.info("Transactional message received and persisted from queue: " + queueName);
                 return messageContent;
 
             } else if (message != null) {
-                session.rollback();
+                lease.rollback();
                 LOGGER.warning("Received non-text message, rolling back transaction");
                 return null;
             } else {
-                session.commit();
+                lease.commit();
                 LOGGER.fine("No message received within timeout, committing empty transaction");
                 return null;
             }
 
         } catch (Exception e) {
+            if (lease != null) {
+                lease.invalidate();
+            }
             LOGGER.log(Level.SEVERE, "Failed to receive transactional message", e);
             throw new RuntimeException("Transactional message receiving failed", e);
         } finally {
-            if (connection != null) {
-                connectionPool.releaseConnection(connection);
+            if (lease != null) {
+                lease.close();
             }
         }
     }
 
     @Transactional
     public String sendAndReceiveTransactional(String requestMessage, String requestQueue, String responseQueue) {
-        Connection connection = null;
+        SessionLease lease = null;
         try {
-            connection = connectionPool.getConnection();
-            connection.start();
-            Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+            lease = connectionPool.acquireSession(true, Session.SESSION_TRANSACTED);
+            lease.start();
 
-            Queue reqQueue = session.createQueue(requestQueue);
-            Queue respQueue = session.createQueue(responseQueue);
+            Queue respQueue = lease.getQueue(responseQueue);
 
-            MessageProducer producer = session.createProducer(reqQueue);
-            MessageConsumer consumer = session.createConsumer(respQueue);
-
-            TextMessage request = session.createTextMessage(requestMessage);
+            TextMessage request = lease.getSession().createTextMessage(requestMessage);
             String correlationId = java.util.UUID.randomUUID().toString();
             request.setJMSCorrelationID(correlationId);
             request.setJMSReplyTo(respQueue);
@@ -143,7 +137,7 @@ public class TransactionalMQService {
             request.setStringProperty("APP_ID", "PayaraIBMMQApp");
             request.setLongProperty("TIMESTAMP", System.currentTimeMillis());
 
-            producer.send(request);
+            lease.send(requestQueue, request);
 
             MQMessage requestMsgEntity = new MQMessage();
             requestMsgEntity.setMessageId(request.getJMSMessageID());
@@ -155,7 +149,7 @@ public class TransactionalMQService {
 
             messageRepository.save(requestMsgEntity);
 
-            Message response = consumer.receive(30000);
+            Message response = lease.receive(responseQueue, 30000);
 
             if (response instanceof TextMessage &&
                 correlationId.equals(response.getJMSCorrelationID())) {
@@ -172,33 +166,35 @@ public class TransactionalMQService {
 
                 messageRepository.save(responseMsgEntity);
 
-                session.commit();
+                lease.commit();
 
                 LOGGER.info("Transactional request-response completed for correlation ID: " + correlationId);
                 return responseText;
 
             } else {
-                session.rollback();
+                lease.rollback();
                 LOGGER.warning("No matching response received, rolling back transaction for correlation ID: " + correlationId);
                 return null;
             }
 
         } catch (Exception e) {
+            if (lease != null) {
+                lease.invalidate();
+            }
             LOGGER.log(Level.SEVERE, "Failed to perform transactional send and receive", e);
             throw new RuntimeException("Transactional send and receive failed", e);
         } finally {
-            if (connection != null) {
-                connectionPool.releaseConnection(connection);
+            if (lease != null) {
+                lease.close();
             }
         }
     }
 
     @Transactional
     public void processMessageWithCompensation(String queueName, String message) {
-        Connection connection = null;
+        SessionLease lease = null;
         try {
-            connection = connectionPool.getConnection();
-            Session session = connection.createSession(true, Session.SESSION_TRANSACTED);
+            lease = connectionPool.acquireSession(true, Session.SESSION_TRANSACTED);
 
             MQMessage mqMessage = new MQMessage();
             mqMessage.setQueueName(queueName);
@@ -210,29 +206,29 @@ public class TransactionalMQService {
 
             validateAndProcessMessage(message);
 
-            Queue queue = session.createQueue(queueName);
-            MessageProducer producer = session.createProducer(queue);
-
-            TextMessage textMessage = session.createTextMessage("PROCESSED: " + message);
+            TextMessage textMessage = lease.getSession().createTextMessage("PROCESSED: " + message);
             textMessage.setJMSDeliveryMode(DeliveryMode.PERSISTENT);
             textMessage.setStringProperty("ORIGINAL_MESSAGE_ID", mqMessage.getMessageId());
 
-            producer.send(textMessage);
+            lease.send(queueName, textMessage);
 
             mqMessage.setMessageId(textMessage.getJMSMessageID());
             mqMessage.markAsProcessed();
             messageRepository.save(mqMessage);
 
-            session.commit();
+            lease.commit();
 
             LOGGER.info("Message processed with compensation successfully");
 
         } catch (Exception e) {
+            if (lease != null) {
+                lease.invalidate();
+            }
             LOGGER.log(Level.SEVERE, "Failed to process message with compensation", e);
             throw new RuntimeException("Message processing with compensation failed", e);
         } finally {
-            if (connection != null) {
-                connectionPool.releaseConnection(connection);
+            if (lease != null) {
+                lease.close();
             }
         }
     }
@@ -0,0 +1,13 @@
+-- Message IDs are allocated in blocks of 50 (MQMessage.ID_ALLOCATION_SIZE): one nextval
+-- reserves the 50 IDs ending at the returned value, so inserts no longer need a round trip
+-- per row and can be batched. The sequence must step by the same amount. The first block
+-- starts after the current value, so it cannot overlap existing rows.
+ALTER SEQUENCE mq_messages_id_seq INCREMENT BY 50;
+
+-- Same floor as init.sql: a value is the end of its block, so none may be below 50. An unused
+-- sequence hands out 50 first (block 1-50); a used one is never moved backwards, and one still
+-- below 50 continues from 100 so it cannot reissue IDs already taken.
+SELECT setval('mq_messages_id_seq', GREATEST(50, last_value), is_called) FROM mq_messages_id_seq;
+ALTER SEQUENCE mq_messages_id_seq MINVALUE 50 START WITH 50;
+
+COMMENT ON SEQUENCE mq_messages_id_seq IS 'Pooled ID blocks of 50 for mq_messages, see MQMessage.ID_ALLOCATION_SIZE';
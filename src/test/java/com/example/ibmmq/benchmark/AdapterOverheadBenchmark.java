@@ -0,0 +1,112 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.adapter.DestinationWrappers;
+import com.example.ibmmq.adapter.JakartaJMSAdapter;
+import com.example.ibmmq.adapter.MessageWrappers;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the javax-to-Jakarta adapter layer, with the queue manager taken out of the
+ * picture: receiving and dispatching a message to its wrapper, looking up a queue on a session
+ * and translating a client exception. The {@code legacy*} variants reproduce what the adapter
+ * did before wrappers were reused and exceptions kept their type, as the baseline.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args="AdapterOverheadBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdapterOverheadBenchmark {
+
+    private javax.jms.Message received;
+    private javax.jms.Session javaxSession;
+    private javax.jms.MessageConsumer javaxConsumer;
+    private javax.jms.JMSException failure;
+    private DestinationWrappers.MessageConsumerWrapper consumer;
+    private JakartaJMSAdapter.SessionWrapper session;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        received = stub(javax.jms.TextMessage.class, (proxy, method, args) ->
+            "getText".equals(method.getName()) ? "benchmark payload" : null);
+        javax.jms.Queue queue = stub(javax.jms.Queue.class, (proxy, method, args) ->
+            "getQueueName".equals(method.getName()) ? "DEV.QUEUE.1" : null);
+        javaxSession = stub(javax.jms.Session.class, (proxy, method, args) ->
+            "createQueue".equals(method.getName()) ? queue : null);
+        javaxConsumer = stub(javax.jms.MessageConsumer.class, (proxy, method, args) ->
+            method.getName().startsWith("receive") ? received : null);
+        consumer = new DestinationWrappers.MessageConsumerWrapper(javaxConsumer);
+        session = new JakartaJMSAdapter.SessionWrapper(javaxSession);
+        failure = new javax.jms.InvalidDestinationException("MQRC_UNKNOWN_OBJECT_NAME", "2085");
+    }
+
+    @Benchmark
+    public Message receive() throws JMSException {
+        return consumer.receive(1000);
+    }
+
+    @Benchmark
+    public Message legacyReceive() throws javax.jms.JMSException {
+        return legacyWrap(javaxConsumer.receive(1000));
+    }
+
+    @Benchmark
+    public Queue createQueue() throws JMSException {
+        return session.createQueue("DEV.QUEUE.1");
+    }
+
+    @Benchmark
+    public Queue legacyCreateQueue() throws javax.jms.JMSException {
+        return new DestinationWrappers.QueueWrapper(javaxSession.createQueue("DEV.QUEUE.1"));
+    }
+
+    @Benchmark
+    public JMSException translateException() {
+        return JakartaJMSAdapter.convertException(failure);
+    }
+
+    @Benchmark
+    public JMSException legacyTranslateException() {
+        return new JMSException(failure.getMessage());
+    }
+
+    private static Message legacyWrap(javax.jms.Message message) {
+        if (message instanceof javax.jms.TextMessage) {
+            return new MessageWrappers.TextMessageWrapper((javax.jms.TextMessage) message);
+        } else if (message instanceof javax.jms.BytesMessage) {
+            return new MessageWrappers.BytesMessageWrapper((javax.jms.BytesMessage) message);
+        } else if (message instanceof javax.jms.MapMessage) {
+            return new MessageWrappers.MapMessageWrapper((javax.jms.MapMessage) message);
+        } else if (message instanceof javax.jms.ObjectMessage) {
+            return new MessageWrappers.ObjectMessageWrapper((javax.jms.ObjectMessage) message);
+        } else if (message instanceof javax.jms.StreamMessage) {
+            return new MessageWrappers.StreamMessageWrapper((javax.jms.StreamMessage) message);
+        }
+        return new MessageWrappers.MessageWrapper(message);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(AdapterOverheadBenchmark.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.batch.MQAdaptiveCheckpointAlgorithm;
+import com.example.ibmmq.config.ChunkSizingConfig;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages per second through one transacted MQ-to-PostgreSQL step draining a backlog with
+ * chunks of 10 ({@code fixed}) against chunks sized by {@link MQAdaptiveCheckpointAlgorithm}
+ * ({@code adaptive}) for a 100 ms commit target. Each chunk pays the upsert latency and a
+ * commit round trip once, so while the backlog lasts larger chunks spread them over more
+ * messages; the target keeps how long a chunk holds its gets uncommitted bounded.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args=AdaptiveChunkBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AdaptiveChunkBenchmark {
+
+    private static final int MESSAGES = 2000;
+
+    @Param({"fixed", "adaptive"})
+    public String sizing;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    @Param({"2000"})
+    public long upsertMicros;
+
+    private SimulatedQueueManager queueManager;
+    private SimulatedChunkStep step;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ChunkSizingConfig sizingConfig = new ChunkSizingConfig();
+        sizingConfig.setSizing(sizing);
+        sizingConfig.setTargetTime(100);
+
+        MQMetricsService metricsService = new MQMetricsService();
+        SimulatedChunkStep.inject(metricsService, "meterRegistry", new SimpleMeterRegistry());
+
+        MQAdaptiveCheckpointAlgorithm algorithm = new MQAdaptiveCheckpointAlgorithm();
+        SimulatedChunkStep.inject(algorithm, "sizingConfig", sizingConfig);
+        SimulatedChunkStep.inject(algorithm, "metricsService", metricsService);
+        SimulatedChunkStep.inject(algorithm, "stepContext", SimulatedChunkStep.stepContext());
+
+        queueManager = new SimulatedQueueManager(roundTripMicros, 6);
+        step = new SimulatedChunkStep(queueManager, algorithm, upsertMicros, true);
+        SimulatedChunkStep.quietLogging();
+        java.util.logging.Logger.getLogger(MQAdaptiveCheckpointAlgorithm.class.getName()).setLevel(java.util.logging.Level.WARNING);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long step() throws Exception {
+        queueManager.enqueue(MESSAGES);
+        long written = step.run();
+        if (written != MESSAGES) {
+            throw new IllegalStateException("Wrote " + written + " of " + MESSAGES + " messages");
+        }
+        return written;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PooledConnectionFactory;
+import com.example.ibmmq.service.IBMMQService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends per second through the three {@code POST /api/mq/send} modes on a pooled connection
+ * factory: a blocking put ({@code sync}), an asynchronous send that returns once the client
+ * has the message ({@code handoff}) and one that waits for the confirmation ({@code confirm}).
+ * Handoff throughput is bounded by the in-flight window divided by the round trip, not by the
+ * round trip itself.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args=AsyncSendBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncSendBenchmark {
+
+    @Param({"sync", "handoff", "confirm"})
+    public String ack;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    private IBMMQService service;
+    private IBMMQConnectionPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SimulatedQueueManager queueManager = new SimulatedQueueManager(roundTripMicros, 6);
+        ConnectionPoolConfig poolConfig = new BenchmarkPoolConfig(ConnectionPoolConfig.ENGINE_BAG, 16);
+        pool = queueManager.pool(poolConfig);
+
+        MQMetricsService metricsService = new MQMetricsService();
+        inject(metricsService, "meterRegistry", new SimpleMeterRegistry());
+
+        service = new IBMMQService();
+        inject(service, "connectionFactory", new PooledConnectionFactory(pool));
+        inject(service, "config", new IBMMQConfig());
+        inject(service, "connectionPool", pool);
+        inject(service, "poolConfig", poolConfig);
+        inject(service, "metricsService", metricsService);
+        java.util.logging.Logger.getLogger(IBMMQService.class.getName()).setLevel(java.util.logging.Level.WARNING);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object send() {
+        switch (ack) {
+            case "handoff":
+                return service.sendMessageAsync("DEV.QUEUE.1", "benchmark payload");
+            case "confirm":
+                return service.sendMessageConfirmed("DEV.QUEUE.1", "benchmark payload");
+            default:
+                service.sendMessage("DEV.QUEUE.1", "benchmark payload");
+                return null;
+        }
+    }
+
+    private static void inject(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
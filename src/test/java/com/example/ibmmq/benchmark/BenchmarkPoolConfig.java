@@ -0,0 +1,88 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+
+/**
+ * Pool configuration for benchmarks: a fixed-size pool without validation and with the
+ * production defaults for everything else.
+ */
+class BenchmarkPoolConfig extends ConnectionPoolConfig {
+
+    private final String engine;
+    private final int poolSize;
+
+    BenchmarkPoolConfig(String engine, int poolSize) {
+        this.engine = engine;
+        this.poolSize = poolSize;
+    }
+
+    @Override
+    public int getInitialPoolSize() {
+        return poolSize;
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+        return poolSize;
+    }
+
+    @Override
+    public int getMinPoolSize() {
+        return poolSize;
+    }
+
+    @Override
+    public int getWarmupParallelism() {
+        return 8;
+    }
+
+    @Override
+    public long getWarmupTimeout() {
+        return 30000L;
+    }
+
+    @Override
+    public long getMaxIdleTime() {
+        return 300000L;
+    }
+
+    @Override
+    public long getMaxWaitTime() {
+        return 30000L;
+    }
+
+    @Override
+    public boolean isValidationEnabled() {
+        return false;
+    }
+
+    @Override
+    public String getPoolEngine() {
+        return engine;
+    }
+
+    @Override
+    public int getSessionCacheSize() {
+        return 10;
+    }
+
+    @Override
+    public long getSessionCacheIdleTime() {
+        return 60000L;
+    }
+
+    @Override
+    public int getSessionCacheDestinations() {
+        return 16;
+    }
+
+    @Override
+    public int getProducerMaxInFlight() {
+        return 64;
+    }
+
+    @Override
+    public long getProducerMaxWaitTime() {
+        return 5000L;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.adapter.MessageBodies;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning a UTF-8 BytesMessage body into text: a new body-sized array plus {@code new String},
+ * as the batch reader did ({@code legacyReadString}, here with an explicit charset instead of the
+ * platform default), against {@link MessageBodies#readString} with pooled buffers. Bodies above
+ * the pool's 4 MB body size are decoded in chunks. Run with {@code -prof gc} to compare bytes
+ * allocated per message.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args="BytesBodyBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BytesBodyBenchmark {
+
+    @Param({"1024", "1048576", "8388608"})
+    public int bodySize;
+
+    private byte[] body;
+    private int position;
+    private BytesMessage message;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] pattern = "payload äöü € ".getBytes(StandardCharsets.UTF_8);
+        body = new byte[bodySize];
+        for (int i = 0; i < bodySize; i++) {
+            body[i] = pattern[i % pattern.length];
+        }
+        // Keep the body valid UTF-8 at the end
+        Arrays.fill(body, Math.max(0, bodySize - 4), bodySize, (byte) ' ');
+        message = (BytesMessage) Proxy.newProxyInstance(BytesBodyBenchmark.class.getClassLoader(),
+            new Class<?>[]{BytesMessage.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getBodyLength":
+                        return (long) body.length;
+                    case "readBytes":
+                        byte[] target = (byte[]) args[0];
+                        int length = args.length > 1 ? (Integer) args[1] : target.length;
+                        int count = Math.min(length, body.length - position);
+                        if (count <= 0) {
+                            return -1;
+                        }
+                        System.arraycopy(body, position, target, 0, count);
+                        position += count;
+                        return count;
+                    default:
+                        return null;
+                }
+            });
+    }
+
+    @Setup(Level.Invocation)
+    public void rewind() {
+        position = 0;
+    }
+
+    @Benchmark
+    public String readString() throws JMSException {
+        return MessageBodies.readString(message);
+    }
+
+    @Benchmark
+    public String legacyReadString() throws JMSException {
+        byte[] bytes = new byte[(int) message.getBodyLength()];
+        message.readBytes(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
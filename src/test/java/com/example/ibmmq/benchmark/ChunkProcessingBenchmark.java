@@ -0,0 +1,112 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.batch.ProcessingPipeline;
+import com.example.ibmmq.batch.ProcessingStage;
+import com.example.ibmmq.config.ProcessingConfig;
+import com.example.ibmmq.entity.MQMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages per second through the processing pipeline for a chunk of 100 messages, one item at
+ * a time as {@code MQMessageProcessor} does by default ({@code item}) or all at once on the
+ * pipeline's ForkJoinPool as with {@code processing=chunk} ({@code chunk}). Next to the default
+ * stages a CPU-bound stage hashes each 4 KB message {@code hashRounds} times, standing in for
+ * parsing or enrichment. The speed-up of {@code chunk} is bounded by the cores available.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args=ChunkProcessingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkProcessingBenchmark {
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Param({"item", "chunk"})
+    public String processing;
+
+    @Param({"1", "16"})
+    public int hashRounds;
+
+    private ProcessingPipeline pipeline;
+    private String content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        content = "benchmark payload ".repeat(4096 / 18);
+        pipeline = SimulatedChunkStep.pipeline(new ProcessingConfig(), new HashingStage(hashRounds));
+        SimulatedChunkStep.quietLogging();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SIZE)
+    public List<MQMessage> processChunk() {
+        List<MQMessage> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            chunk.add(new MQMessage("MSG-" + i, "DEV.QUEUE.1", content));
+        }
+        if ("chunk".equals(processing)) {
+            pipeline.processAll(chunk);
+        } else {
+            chunk.forEach(pipeline::process);
+        }
+        return chunk;
+    }
+
+    private static final class HashingStage implements ProcessingStage {
+
+        private final int rounds;
+
+        HashingStage(int rounds) {
+            this.rounds = rounds;
+        }
+
+        @Override
+        public int order() {
+            return 300;
+        }
+
+        @Override
+        public String name() {
+            return "hash";
+        }
+
+        @Override
+        public void process(MQMessage message) throws Exception {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = message.getMessageContent().getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < rounds; i++) {
+                digest.update(bytes);
+            }
+            message.setCorrelationId(HexFormat.of().formatHex(digest.digest(), 0, 12));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.ibmmq.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages per second through one MQ-to-PostgreSQL step with the reader acknowledging every
+ * get ({@code auto}) against one commit per chunk of the transacted session
+ * ({@code transacted}). The acknowledgement of a get is charged one queue manager round trip,
+ * so with chunks of 10 the transacted reader saves nine of them per chunk.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args=ChunkSyncpointBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkSyncpointBenchmark {
+
+    private static final int MESSAGES = 500;
+
+    @Param({"auto", "transacted"})
+    public String ack;
+
+    @Param({"10", "100"})
+    public int chunkSize;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    @Param({"500"})
+    public long upsertMicros;
+
+    private SimulatedQueueManager queueManager;
+    private SimulatedChunkStep step;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queueManager = new SimulatedQueueManager(roundTripMicros, 6);
+        step = new SimulatedChunkStep(queueManager, chunkSize, upsertMicros, "transacted".equals(ack));
+        SimulatedChunkStep.quietLogging();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long step() throws Exception {
+        queueManager.enqueue(MESSAGES);
+        long written = step.run();
+        if (written != MESSAGES) {
+            throw new IllegalStateException("Wrote " + written + " of " + MESSAGES + " messages");
+        }
+        return written;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.adapter.JakartaJMSAdapter;
+import com.example.ibmmq.adapter.MQClientFactory;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same send workload through both {@code ibm.mq.client.mode} settings: the javax client
+ * behind the Jakarta adapter ({@code adapter}) and a Jakarta-native client ({@code jakarta}).
+ * Both talk to one {@link SimulatedQueueManager}, so any difference is the adapter layer. With
+ * {@code roundTripMicros=0} that is all that is measured; with a latency it shows how much of a
+ * real send the adapter accounts for.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args="ClientModeBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientModeBenchmark {
+
+    @Param({MQClientFactory.MODE_ADAPTER, MQClientFactory.MODE_JAKARTA})
+    public String mode;
+
+    @Param({"0", "50"})
+    public long roundTripMicros;
+
+    private Connection connection;
+    private Session session;
+    private MessageProducer producer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JMSException {
+        SimulatedQueueManager queueManager = new SimulatedQueueManager(roundTripMicros, 1);
+        ConnectionFactory connectionFactory = MQClientFactory.MODE_JAKARTA.equals(mode)
+            ? MQClientFactory.ofJakarta(queueManager.connectionFactory()).toConnectionFactory()
+            : new JakartaJMSAdapter.ConnectionFactoryWrapper(queueManager.javaxConnectionFactory());
+
+        connection = connectionFactory.createConnection();
+        session = connection.createSession(Session.AUTO_ACKNOWLEDGE);
+        producer = session.createProducer(session.createQueue("DEV.QUEUE.1"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws JMSException {
+        connection.close();
+    }
+
+    /**
+     * Put on a cached producer, the steady state of a pooled sender.
+     */
+    @Benchmark
+    public TextMessage send() throws JMSException {
+        TextMessage message = session.createTextMessage("benchmark payload");
+        producer.send(message);
+        return message;
+    }
+
+    /**
+     * Session, queue and producer per message, as the non-pooled send path does.
+     */
+    @Benchmark
+    public TextMessage sessionPerSend() throws JMSException {
+        try (Session perSend = connection.createSession(Session.AUTO_ACKNOWLEDGE)) {
+            Queue queue = perSend.createQueue("DEV.QUEUE.1");
+            MessageProducer perSendProducer = perSend.createProducer(queue);
+            TextMessage message = perSend.createTextMessage("benchmark payload");
+            perSendProducer.send(message);
+            return message;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PooledConnection;
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares borrow/return throughput of the {@code queue} and {@code bag} pool engines.
+ * Connections are mocks, so only the pool's own bookkeeping is measured.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args=ConnectionPoolBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+    @Param({ConnectionPoolConfig.ENGINE_QUEUE, ConnectionPoolConfig.ENGINE_BAG})
+    public String engine;
+
+    @Param({"10"})
+    public int poolSize;
+
+    private IBMMQConnectionPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        pool = new MockConnectionPool(new BenchmarkPoolConfig(engine, poolSize));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Connection borrowAndReleaseSingleThread() throws JMSException {
+        return borrowAndRelease();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Connection borrowAndReleaseEightThreads() throws JMSException {
+        return borrowAndRelease();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Connection borrowAndReleaseOversubscribed() throws JMSException {
+        return borrowAndRelease();
+    }
+
+    private Connection borrowAndRelease() throws JMSException {
+        Connection connection = pool.getConnection();
+        pool.releaseConnection(connection);
+        return connection;
+    }
+
+    static final class MockConnectionPool extends IBMMQConnectionPool {
+
+        MockConnectionPool(ConnectionPoolConfig poolConfig) throws Exception {
+            Field configField = IBMMQConnectionPool.class.getDeclaredField("poolConfig");
+            configField.setAccessible(true);
+            configField.set(this, poolConfig);
+            initializePool();
+        }
+
+        @Override
+        protected PooledConnection createPooledConnection() {
+            return new PooledConnection(mock(Connection.class));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.batch.MessageContentScanner;
+import com.example.ibmmq.config.ProcessingConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per message for the processor's content handling: the single-pass
+ * {@link MessageContentScanner} ({@code scan}) against the trim, {@code replaceAll} and
+ * lower-cased {@code contains} calls it replaced ({@code legacy}). Payloads are printable text
+ * ({@code clean}) or text with a control character about every 100 characters ({@code control}),
+ * with the only keyword at the very end so both paths read everything. The size limit is off so that
+ * the 10 MB payload is scanned in full.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args="ContentScanBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentScanBenchmark {
+
+    @Param({"1024", "102400", "10485760"})
+    public int size;
+
+    @Param({"clean", "control"})
+    public String content;
+
+    private String payload;
+    private List<String> keywords;
+    private MessageContentScanner scanner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(1);
+        String[] words = "Lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod tempor".split(" ");
+        StringBuilder builder = new StringBuilder(size);
+        while (builder.length() < size - 7) {
+            builder.append(words[random.nextInt(words.length)]).append(' ');
+            if ("control".equals(content) && random.nextInt(15) == 0) {
+                builder.append('\u0001');
+            }
+        }
+        builder.setLength(size - 7);
+        builder.append(' ');
+        payload = builder.append("failed").toString();
+
+        keywords = new ProcessingConfig().getKeywords();
+        scanner = new MessageContentScanner(0, keywords);
+    }
+
+    @Benchmark
+    public Object scan() {
+        return scanner.scan(payload);
+    }
+
+    @Benchmark
+    public Object legacy() {
+        String cleaned = payload.trim().replaceAll("[\\p{Cntrl}&&[^\r\n\t]]", "");
+        String lower = cleaned.toLowerCase();
+        for (String keyword : keywords) {
+            if (lower.contains(keyword)) {
+                return keyword;
+            }
+        }
+        return cleaned;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PooledConnectionFactory;
+import com.example.ibmmq.service.IBMMQService;
+import jakarta.jms.ConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second through {@link IBMMQService#sendMessage(String, String)}, the code path
+ * behind {@code POST /api/mq/send}, with the plain per-call ConnectionFactory ({@code direct})
+ * versus the pool-backed one ({@code pooled}). The queue manager is simulated with a fixed
+ * latency per round trip and a multi-round-trip connect handshake.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args=MQSendBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MQSendBenchmark {
+
+    @Param({"direct", "pooled"})
+    public String factory;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    @Param({"6"})
+    public int connectRoundTrips;
+
+    private IBMMQService service;
+    private IBMMQConnectionPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SimulatedQueueManager queueManager = new SimulatedQueueManager(roundTripMicros, connectRoundTrips);
+
+        ConnectionFactory connectionFactory;
+        if ("pooled".equals(factory)) {
+            pool = queueManager.pool(new BenchmarkPoolConfig(ConnectionPoolConfig.ENGINE_BAG, 16));
+            connectionFactory = new PooledConnectionFactory(pool);
+        } else {
+            connectionFactory = queueManager.connectionFactory();
+        }
+
+        service = new IBMMQService();
+        inject(service, "connectionFactory", connectionFactory);
+        inject(service, "config", new IBMMQConfig());
+        java.util.logging.Logger.getLogger(IBMMQService.class.getName()).setLevel(java.util.logging.Level.WARNING);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void send() {
+        service.sendMessage("DEV.QUEUE.1", "benchmark payload");
+    }
+
+    private static void inject(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.ibmmq.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages per second through the MQ-to-PostgreSQL step with 1, 4 and 16 partitions. Each
+ * partition runs a {@link SimulatedChunkStep} in chunks of 10 on its own thread and its own
+ * simulated connection, draining a shared backlog as the batch runtime would; a get
+ * costs one queue manager round trip and a chunk upsert a fixed database latency plus a
+ * little per row. One partition spends its time waiting on one of the two in turn, so
+ * throughput grows with the partition count until the queue manager or database saturates.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args=PartitionedStepBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartitionedStepBenchmark {
+
+    private static final int MESSAGES = 1600;
+    private static final int CHUNK_SIZE = 10;
+
+    @Param({"1", "4", "16"})
+    public int partitions;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    @Param({"2000"})
+    public long upsertMicros;
+
+    private SimulatedQueueManager queueManager;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queueManager = new SimulatedQueueManager(roundTripMicros, 6);
+        executor = Executors.newFixedThreadPool(partitions);
+        SimulatedChunkStep.quietLogging();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long step() throws Exception {
+        queueManager.enqueue(MESSAGES);
+        List<Future<Long>> results = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            results.add(executor.submit(new SimulatedChunkStep(queueManager, CHUNK_SIZE, upsertMicros, true)::run));
+        }
+        long written = 0;
+        for (Future<Long> result : results) {
+            written += result.get();
+        }
+        if (written != MESSAGES) {
+            throw new IllegalStateException("Wrote " + written + " of " + MESSAGES + " messages");
+        }
+        return written;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for the pool to open its initial connections, sequentially ({@code parallelism = 1})
+ * versus on the warm-up executor. Connecting costs {@code connectRoundTrips} simulated round
+ * trips, roughly what a TLS handshake to a remote queue manager costs.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args=PoolWarmupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PoolWarmupBenchmark {
+
+    @Param({"5", "20", "50"})
+    public int initialSize;
+
+    @Param({"1", "8"})
+    public int parallelism;
+
+    @Param({"1000"})
+    public long roundTripMicros;
+
+    @Param({"6"})
+    public int connectRoundTrips;
+
+    private SimulatedQueueManager queueManager;
+    private IBMMQConnectionPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queueManager = new SimulatedQueueManager(roundTripMicros, connectRoundTrips);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public IBMMQConnectionPool warmUp() throws Exception {
+        pool = queueManager.pool(new BenchmarkPoolConfig(ConnectionPoolConfig.ENGINE_BAG, initialSize) {
+            @Override
+            public int getWarmupParallelism() {
+                return parallelism;
+            }
+        });
+        return pool;
+    }
+}
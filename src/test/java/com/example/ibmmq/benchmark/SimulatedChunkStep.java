@@ -0,0 +1,204 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.batch.ContentSanitizingStage;
+import com.example.ibmmq.batch.MQChunkSyncpointListener;
+import com.example.ibmmq.batch.MQMessageProcessor;
+import com.example.ibmmq.batch.MQMessageReader;
+import com.example.ibmmq.batch.MQMessageWriter;
+import com.example.ibmmq.batch.MessageValidationStage;
+import com.example.ibmmq.batch.ProcessingPipeline;
+import com.example.ibmmq.batch.ProcessingStage;
+import com.example.ibmmq.config.BackoutQueueConfig;
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.config.ProcessingConfig;
+import com.example.ibmmq.entity.MQMessage;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.repository.MQMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.batch.api.chunk.CheckpointAlgorithm;
+import jakarta.batch.runtime.context.StepContext;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One run of the MQ-to-PostgreSQL step (or one partition of it) outside the batch runtime:
+ * the real reader, processor, writer and syncpoint listener, driven through chunks the way the
+ * runtime drives them, until the reader finds the queue empty. Chunks hold a fixed number of
+ * items, or end where a {@link CheckpointAlgorithm} says, as with {@code checkpoint-policy="custom"}.
+ * PostgreSQL is replaced by a repository whose upsert costs a fixed latency plus a little per row.
+ */
+final class SimulatedChunkStep {
+
+    private final SimulatedQueueManager queueManager;
+    private final int chunkSize;
+    private final long upsertMicros;
+    private final boolean transacted;
+    private final CheckpointAlgorithm checkpointAlgorithm;
+
+    SimulatedChunkStep(SimulatedQueueManager queueManager, int chunkSize, long upsertMicros, boolean transacted) {
+        this(queueManager, chunkSize, upsertMicros, transacted, null);
+    }
+
+    SimulatedChunkStep(SimulatedQueueManager queueManager, CheckpointAlgorithm checkpointAlgorithm, long upsertMicros, boolean transacted) {
+        this(queueManager, 10, upsertMicros, transacted, checkpointAlgorithm);
+    }
+
+    private SimulatedChunkStep(SimulatedQueueManager queueManager, int chunkSize, long upsertMicros, boolean transacted,
+                               CheckpointAlgorithm checkpointAlgorithm) {
+        this.queueManager = queueManager;
+        this.chunkSize = chunkSize;
+        this.upsertMicros = upsertMicros;
+        this.transacted = transacted;
+        this.checkpointAlgorithm = checkpointAlgorithm;
+    }
+
+    static void quietLogging() {
+        for (Class<?> type : new Class<?>[]{MQMessageReader.class, MQMessageProcessor.class, MQMessageWriter.class,
+                                            ProcessingPipeline.class, ContentSanitizingStage.class}) {
+            java.util.logging.Logger.getLogger(type.getName()).setLevel(java.util.logging.Level.WARNING);
+        }
+    }
+
+    /**
+     * @return number of messages written
+     */
+    long run() throws Exception {
+        StepContext stepContext = stepContext();
+
+        MQMessageReader reader = new MQMessageReader();
+        inject(reader, "connectionFactory", queueManager.connectionFactory());
+        inject(reader, "config", new IBMMQConfig());
+        inject(reader, "queueProperty", "DEV.QUEUE.1");
+        inject(reader, "transactedProperty", String.valueOf(transacted));
+        inject(reader, "stepContext", stepContext);
+
+        MQMessageProcessor processor = new MQMessageProcessor();
+        inject(processor, "pipeline", pipeline(new ProcessingConfig()));
+
+        MQMessageWriter writer = new MQMessageWriter();
+        inject(writer, "messageRepository", new SimulatedRepository(upsertMicros));
+
+        MQChunkSyncpointListener listener = new MQChunkSyncpointListener();
+        inject(listener, "stepContext", stepContext);
+
+        long written = 0;
+        reader.open(null);
+        writer.open(null);
+        try {
+            List<Object> chunk = new ArrayList<>(chunkSize);
+            boolean more = true;
+            while (more) {
+                chunk.clear();
+                listener.beforeChunk();
+                if (checkpointAlgorithm != null) {
+                    checkpointAlgorithm.beginCheckpoint();
+                }
+                boolean ready = false;
+                while (!ready) {
+                    Object item = reader.readItem();
+                    if (item == null) {
+                        more = false;
+                        break;
+                    }
+                    Object processed = processor.processItem(item);
+                    if (processed != null) {
+                        chunk.add(processed);
+                    }
+                    ready = checkpointAlgorithm != null ? checkpointAlgorithm.isReadyToCheckpoint() : chunk.size() >= chunkSize;
+                }
+                if (!chunk.isEmpty()) {
+                    writer.writeItems(chunk);
+                    written += chunk.size();
+                }
+                listener.afterChunk();
+                if (checkpointAlgorithm != null) {
+                    checkpointAlgorithm.endCheckpoint();
+                }
+            }
+        } finally {
+            writer.close();
+            reader.close();
+        }
+        return written;
+    }
+
+    /**
+     * A step context that only holds transient user data, which is all the step's artifacts share,
+     * and the step name.
+     */
+    static StepContext stepContext() {
+        Object[] userData = new Object[1];
+        return (StepContext) Proxy.newProxyInstance(SimulatedChunkStep.class.getClassLoader(),
+            new Class<?>[]{StepContext.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "setTransientUserData":
+                        userData[0] = args[0];
+                        return null;
+                    case "getTransientUserData":
+                        return userData[0];
+                    case "getStepName":
+                        return "processMessages";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return null;
+                }
+            });
+    }
+
+    static final class SimulatedRepository extends MQMessageRepository {
+
+        private final long upsertNanos;
+        private final AtomicLong written = new AtomicLong();
+
+        SimulatedRepository(long upsertMicros) {
+            this.upsertNanos = TimeUnit.MICROSECONDS.toNanos(upsertMicros);
+        }
+
+        @Override
+        public int upsertAll(List<MQMessage> messages) {
+            LockSupport.parkNanos(upsertNanos + TimeUnit.MICROSECONDS.toNanos(5) * messages.size());
+            written.addAndGet(messages.size());
+            return messages.size();
+        }
+
+        long getWritten() {
+            return written.get();
+        }
+    }
+
+    /**
+     * The pipeline with the default stages followed by {@code extraStages}, timing into a
+     * simple registry.
+     */
+    static ProcessingPipeline pipeline(ProcessingConfig processingConfig, ProcessingStage... extraStages) throws Exception {
+        ContentSanitizingStage sanitizing = new ContentSanitizingStage();
+        inject(sanitizing, "processingConfig", processingConfig);
+        List<ProcessingStage> stages = new ArrayList<>(List.of(sanitizing, new MessageValidationStage()));
+        stages.addAll(List.of(extraStages));
+
+        MQMetricsService metricsService = new MQMetricsService();
+        inject(metricsService, "meterRegistry", new SimpleMeterRegistry());
+
+        ProcessingPipeline pipeline = new ProcessingPipeline();
+        inject(pipeline, "backoutConfig", new BackoutQueueConfig());
+        inject(pipeline, "processingConfig", processingConfig);
+        inject(pipeline, "metricsService", metricsService);
+        pipeline.setStages(stages);
+        return pipeline;
+    }
+
+    static void inject(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,353 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PooledConnection;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process stand-in for a queue manager used by the benchmarks. Every call that is a network
+ * round trip against a real IBM MQ client (connect, open session, open queue handle, put, get)
+ * parks for a configurable latency; everything else is free. This makes the cost that pooling
+ * and caching remove visible without a broker. An asynchronous send returns at once and is
+ * confirmed on a callback thread one round trip later. Consumers receive text messages while
+ * the {@link #enqueue backlog} lasts, each exactly once across all consumers, and nothing after.
+ * Outside a transacted session every message received costs one more round trip for its
+ * acknowledgement, as an out-of-syncpoint get of a persistent message forces the queue
+ * manager's log; a transacted session pays that once per commit instead. A consumer with a
+ * message listener gets messages pushed on its own thread while its connection is started,
+ * without a round trip each, as with the client's read-ahead; stopping the connection waits
+ * for a delivery in progress to return.
+ */
+final class SimulatedQueueManager {
+
+    /** Calls that need a round trip; connect is charged {@link #connectRoundTrips} times. */
+    private static final Set<String> ROUND_TRIPS = Set.of(
+        "createSession", "createProducer", "createConsumer", "send", "receive", "close", "commit", "rollback");
+
+    /** How long an idle listener thread waits before looking at the queue again. */
+    private static final long LISTENER_IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final long roundTripNanos;
+    private final int connectRoundTrips;
+    private final java.util.Queue<Long> backlog = new ConcurrentLinkedQueue<>();
+    private final AtomicLong delivered = new AtomicLong();
+    private volatile ScheduledExecutorService confirmations;
+
+    SimulatedQueueManager(long roundTripMicros, int connectRoundTrips) {
+        this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        this.connectRoundTrips = connectRoundTrips;
+    }
+
+    void roundTrip() {
+        if (roundTripNanos > 0) {
+            LockSupport.parkNanos(roundTripNanos);
+        }
+    }
+
+    /**
+     * Puts {@code count} messages on the queue for consumers to receive.
+     */
+    void enqueue(long count) {
+        Long putTime = System.currentTimeMillis();
+        for (long i = 0; i < count; i++) {
+            backlog.add(putTime);
+        }
+    }
+
+    Connection connect() {
+        for (int i = 0; i < connectRoundTrips; i++) {
+            roundTrip();
+        }
+        Delivery delivery = new Delivery();
+        return proxy(Connection.class, (p, method, args) -> {
+            String name = method.getName();
+            if (ROUND_TRIPS.contains(name)) {
+                roundTrip();
+            }
+            switch (name) {
+                case "createSession":
+                    return session(isTransacted(args), delivery);
+                case "start":
+                    delivery.started = true;
+                    return null;
+                case "stop":
+                    roundTrip();
+                    delivery.lock.writeLock().lock();
+                    delivery.started = false;
+                    delivery.lock.writeLock().unlock();
+                    return null;
+                case "close":
+                    delivery.closed = true;
+                    return null;
+                default:
+                    return defaultValue(method.getReturnType(), p, method.getName(), args);
+            }
+        });
+    }
+
+    ConnectionFactory connectionFactory() {
+        return new ConnectionFactory() {
+            @Override
+            public Connection createConnection() {
+                return connect();
+            }
+
+            @Override
+            public Connection createConnection(String userName, String password) {
+                return connect();
+            }
+
+            @Override
+            public JMSContext createContext() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public JMSContext createContext(String userName, String password) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public JMSContext createContext(String userName, String password, int sessionMode) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public JMSContext createContext(int sessionMode) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * The same queue manager behind the javax API, as the IBM MQ client the adapter wraps sees it.
+     * Every JMS object a call returns is another simulated object with the same round trips.
+     */
+    javax.jms.ConnectionFactory javaxConnectionFactory() {
+        return javax(javax.jms.ConnectionFactory.class);
+    }
+
+    private <T> T javax(Class<T> type) {
+        return proxy(type, (p, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("createConnection")) {
+                for (int i = 0; i < connectRoundTrips; i++) {
+                    roundTrip();
+                }
+            } else if (ROUND_TRIPS.contains(name)) {
+                roundTrip();
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType.isInterface() && returnType.getName().startsWith("javax.jms.")) {
+                return javax(returnType);
+            }
+            return defaultValue(returnType, p, name, args);
+        });
+    }
+
+    /**
+     * A pool over simulated connections, initialised without CDI.
+     */
+    IBMMQConnectionPool pool(ConnectionPoolConfig poolConfig) throws Exception {
+        SimulatedQueueManager queueManager = this;
+        IBMMQConnectionPool pool = new IBMMQConnectionPool() {
+            @Override
+            protected PooledConnection createPooledConnection() {
+                return new PooledConnection(queueManager.connect());
+            }
+        };
+        Field configField = IBMMQConnectionPool.class.getDeclaredField("poolConfig");
+        configField.setAccessible(true);
+        configField.set(pool, poolConfig);
+        java.lang.reflect.Method initializePool = IBMMQConnectionPool.class.getDeclaredMethod("initializePool");
+        initializePool.setAccessible(true);
+        initializePool.invoke(pool);
+        return pool;
+    }
+
+    private static boolean isTransacted(Object[] args) {
+        if (args == null || args.length == 0) {
+            return false;
+        }
+        if (args.length == 2) {
+            return (Boolean) args[0];
+        }
+        return (Integer) args[0] == Session.SESSION_TRANSACTED;
+    }
+
+    private Session session(boolean transacted, Delivery delivery) {
+        return proxy(Session.class, (p, method, args) -> {
+            String name = method.getName();
+            if (ROUND_TRIPS.contains(name)) {
+                roundTrip();
+            }
+            switch (name) {
+                case "createQueue":
+                    String queueName = (String) args[0];
+                    return proxy(Queue.class, (q, m, a) ->
+                        "getQueueName".equals(m.getName()) ? queueName : defaultValue(m.getReturnType(), q, m.getName(), a));
+                case "createProducer":
+                    return proxy(MessageProducer.class, this::roundTripHandler);
+                case "createConsumer":
+                    AtomicBoolean consumerClosed = new AtomicBoolean();
+                    return proxy(MessageConsumer.class, (c, m, a) -> {
+                        if ("setMessageListener".equals(m.getName())) {
+                            listen((MessageListener) a[0], delivery, consumerClosed);
+                            return null;
+                        }
+                        if ("close".equals(m.getName())) {
+                            consumerClosed.set(true);
+                        }
+                        Object received = roundTripHandler(c, m, a);
+                        if (received instanceof Message && !transacted) {
+                            roundTrip();
+                        }
+                        return received;
+                    });
+                case "createTextMessage":
+                    return proxy(TextMessage.class, (m, mm, a) -> defaultValue(mm.getReturnType(), m, mm.getName(), a));
+                default:
+                    return defaultValue(method.getReturnType(), p, name, args);
+            }
+        });
+    }
+
+    private void listen(MessageListener listener, Delivery delivery, AtomicBoolean consumerClosed) {
+        Thread thread = new Thread(() -> {
+            while (!delivery.closed && !consumerClosed.get()) {
+                Message message = null;
+                delivery.lock.readLock().lock();
+                try {
+                    if (delivery.started) {
+                        message = nextMessage();
+                        if (message != null) {
+                            listener.onMessage(message);
+                        }
+                    }
+                } finally {
+                    delivery.lock.readLock().unlock();
+                }
+                if (message == null) {
+                    LockSupport.parkNanos(LISTENER_IDLE_NANOS);
+                }
+            }
+        }, "simulated-qm-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Start/stop state of one simulated connection, which its listener threads follow.
+     */
+    private static final class Delivery {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        volatile boolean started;
+        volatile boolean closed;
+    }
+
+    private Object roundTripHandler(Object p, java.lang.reflect.Method method, Object[] args) {
+        if (args != null && args[args.length - 1] instanceof CompletionListener) {
+            Message message = (Message) args[args.length - 2];
+            CompletionListener listener = (CompletionListener) args[args.length - 1];
+            confirmations().schedule(() -> listener.onCompletion(message), roundTripNanos, TimeUnit.NANOSECONDS);
+            return null;
+        }
+        if (ROUND_TRIPS.contains(method.getName())) {
+            roundTrip();
+        }
+        if (Message.class.isAssignableFrom(method.getReturnType())) {
+            return method.getName().startsWith("receive") ? nextMessage() : null;
+        }
+        return defaultValue(method.getReturnType(), p, method.getName(), args);
+    }
+
+    private Message nextMessage() {
+        Long putTime = backlog.poll();
+        if (putTime == null) {
+            return null;
+        }
+
+        String messageId = "ID:" + delivered.incrementAndGet();
+        String text = "Simulated message " + messageId;
+        return proxy(TextMessage.class, (m, method, args) -> {
+            switch (method.getName()) {
+                case "getJMSMessageID":
+                    return messageId;
+                case "getText":
+                    return text;
+                case "getJMSPriority":
+                    return 4;
+                case "getJMSTimestamp":
+                    return putTime;
+                default:
+                    return defaultValue(method.getReturnType(), m, method.getName(), args);
+            }
+        });
+    }
+
+    private ScheduledExecutorService confirmations() {
+        if (confirmations == null) {
+            synchronized (this) {
+                if (confirmations == null) {
+                    confirmations = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "simulated-qm-confirmations");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return confirmations;
+    }
+
+    private static Object defaultValue(Class<?> type, Object proxy, String methodName, Object[] args) {
+        if ("equals".equals(methodName)) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(methodName)) {
+            return System.identityHashCode(proxy);
+        }
+        if ("toString".equals(methodName)) {
+            return "Simulated@" + Integer.toHexString(System.identityHashCode(proxy));
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SimulatedQueueManager.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
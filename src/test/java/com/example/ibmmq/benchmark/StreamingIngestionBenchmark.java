@@ -0,0 +1,130 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.batch.MQMessageProcessor;
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.config.ProcessingConfig;
+import com.example.ibmmq.config.IngestionConfig;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.service.StreamingIngestionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Time from putting a message until the streaming ingestion has written its row, with eight
+ * producers putting one message each as soon as their previous one is written. The polling
+ * batch job has no equivalent figure: a message put after a run ends waits for the next one.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args=StreamingIngestionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamingIngestionBenchmark {
+
+    @Param({"5", "50"})
+    public long maxWaitMillis;
+
+    @Param({"4"})
+    public int sessions;
+
+    @Param({"100"})
+    public int batchSize;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    @Param({"500"})
+    public long upsertMicros;
+
+    private final AtomicLong puts = new AtomicLong();
+    private SimulatedQueueManager queueManager;
+    private SimulatedChunkStep.SimulatedRepository repository;
+    private StreamingIngestionService service;
+    private ScheduledExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        queueManager = new SimulatedQueueManager(roundTripMicros, 6);
+        repository = new SimulatedChunkStep.SimulatedRepository(upsertMicros);
+
+        IngestionConfig ingestionConfig = new IngestionConfig();
+        ingestionConfig.setQueue("DEV.QUEUE.1");
+        ingestionConfig.setSessions(sessions);
+        ingestionConfig.setBatchSize(batchSize);
+        ingestionConfig.setBatchMaxWait(maxWaitMillis);
+
+        MQMessageProcessor processor = new MQMessageProcessor();
+        SimulatedChunkStep.inject(processor, "pipeline", SimulatedChunkStep.pipeline(new ProcessingConfig()));
+
+        MQMetricsService metricsService = new MQMetricsService();
+        SimulatedChunkStep.inject(metricsService, "meterRegistry", new SimpleMeterRegistry());
+
+        service = new StreamingIngestionService();
+        SimulatedChunkStep.inject(service, "connectionFactory", queueManager.connectionFactory());
+        SimulatedChunkStep.inject(service, "config", new IBMMQConfig());
+        SimulatedChunkStep.inject(service, "ingestionConfig", ingestionConfig);
+        SimulatedChunkStep.inject(service, "processor", processor);
+        SimulatedChunkStep.inject(service, "repository", repository);
+        SimulatedChunkStep.inject(service, "metricsService", metricsService);
+        executor = Executors.newSingleThreadScheduledExecutor();
+        SimulatedChunkStep.inject(service, "executor", managed(executor));
+        SimulatedChunkStep.quietLogging();
+
+        service.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.stop();
+        executor.shutdownNow();
+    }
+
+    // The container's managed executor, played by a plain one
+    private static ManagedScheduledExecutorService managed(ScheduledExecutorService executor) {
+        return (ManagedScheduledExecutorService) Proxy.newProxyInstance(StreamingIngestionBenchmark.class.getClassLoader(),
+            new Class<?>[]{ManagedScheduledExecutorService.class}, (proxy, method, args) -> {
+                try {
+                    return method.invoke(executor, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long putToRow() {
+        long target = puts.incrementAndGet();
+        queueManager.enqueue(1);
+        long written;
+        while ((written = repository.getWritten()) < target) {
+            LockSupport.parkNanos(20_000);
+        }
+        return written;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.ibmmq.benchmark;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PooledConnectionFactory;
+import com.example.ibmmq.service.IBMMQService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second when {@value #REQUESTS} concurrent requests hit the code path behind
+ * {@code POST /api/mq/send} at once, each on its own virtual thread ({@code virtual}) versus a
+ * 200-thread platform pool as a servlet container would use ({@code platform}). Both share a
+ * 16-connection pool over the simulated queue manager.
+ *
+ * The {@code virtual} case needs a Java 21 runtime; on older runtimes run it with
+ * {@code -p executor=platform}.
+ *
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Djmh.args=VirtualThreadSendBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VirtualThreadSendBenchmark {
+
+    static final int REQUESTS = 10_000;
+
+    @Param({"platform", "virtual"})
+    public String executor;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    private IBMMQService service;
+    private IBMMQConnectionPool pool;
+    private ExecutorService requestExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SimulatedQueueManager queueManager = new SimulatedQueueManager(roundTripMicros, 6);
+        pool = queueManager.pool(new BenchmarkPoolConfig(ConnectionPoolConfig.ENGINE_BAG, 16) {
+            @Override
+            public long getMaxWaitTime() {
+                return 120000L;
+            }
+        });
+
+        service = new IBMMQService();
+        inject(service, "connectionFactory", new PooledConnectionFactory(pool));
+        inject(service, "config", new IBMMQConfig());
+        java.util.logging.Logger.getLogger(IBMMQService.class.getName()).setLevel(java.util.logging.Level.WARNING);
+
+        if ("virtual".equals(executor)) {
+            try {
+                requestExecutor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Virtual threads need Java 21, run with -p executor=platform", e);
+            }
+        } else {
+            requestExecutor = Executors.newFixedThreadPool(200);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void send() throws Exception {
+        List<Future<?>> requests = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            requests.add(requestExecutor.submit(() -> service.sendMessage("DEV.QUEUE.1", "benchmark payload")));
+        }
+        for (Future<?> request : requests) {
+            request.get();
+        }
+    }
+
+    private static void inject(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
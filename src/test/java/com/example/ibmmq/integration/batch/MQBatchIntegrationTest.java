@@ -1,12 +1,17 @@
 package com.example.ibmmq.integration.batch;
 
+import com.example.ibmmq.batch.ContentSanitizingStage;
 import com.example.ibmmq.batch.MQBatchJobListener;
 import com.example.ibmmq.batch.MQMessageProcessor;
 import com.example.ibmmq.batch.MQMessageReader;
 import com.example.ibmmq.batch.MQMessageWriter;
+import com.example.ibmmq.batch.MessageValidationStage;
+import com.example.ibmmq.batch.ProcessingPipeline;
 import com.example.ibmmq.backout.SimpleBackoutQueueService;
 import com.example.ibmmq.config.BackoutQueueConfig;
+import com.example.ibmmq.config.ProcessingConfig;
 import com.example.ibmmq.entity.MQMessage;
+import com.example.ibmmq.monitoring.MQMetricsService;
 import com.example.ibmmq.util.TestDataBuilder;
 import jakarta.batch.runtime.BatchStatus;
 import jakarta.batch.runtime.JobExecution;
@@ -52,6 +57,9 @@ class MQBatchIntegrationTest {
     @Mock
     private BackoutQueueConfig backoutConfig;
 
+    @Mock
+    private MQMetricsService metricsService;
+
     private MQMessage testMessage;
 
     @BeforeEach
@@ -62,22 +70,32 @@ class MQBatchIntegrationTest {
         when(backoutConfig.isBackoutEnabled()).thenReturn(false);
         when(backoutConfig.getBackoutThreshold()).thenReturn(3);
 
-        // Create real processor with mocked dependencies
+        // Create real processor and pipeline with mocked dependencies
         processor = new MQMessageProcessor();
         // Use reflection to inject mocked dependencies
         try {
-            java.lang.reflect.Field backoutServiceField = MQMessageProcessor.class.getDeclaredField("backoutQueueService");
-            backoutServiceField.setAccessible(true);
-            backoutServiceField.set(processor, backoutQueueService);
+            ContentSanitizingStage sanitizingStage = new ContentSanitizingStage();
+            inject(sanitizingStage, "processingConfig", new ProcessingConfig());
+
+            ProcessingPipeline pipeline = new ProcessingPipeline();
+            inject(pipeline, "backoutQueueService", backoutQueueService);
+            inject(pipeline, "backoutConfig", backoutConfig);
+            inject(pipeline, "processingConfig", new ProcessingConfig());
+            inject(pipeline, "metricsService", metricsService);
+            pipeline.setStages(java.util.List.of(sanitizingStage, new MessageValidationStage()));
 
-            java.lang.reflect.Field backoutConfigField = MQMessageProcessor.class.getDeclaredField("backoutConfig");
-            backoutConfigField.setAccessible(true);
-            backoutConfigField.set(processor, backoutConfig);
+            inject(processor, "pipeline", pipeline);
         } catch (Exception e) {
             throw new RuntimeException("Failed to inject dependencies", e);
         }
     }
 
+    private static void inject(Object target, String fieldName, Object value) throws Exception {
+        java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
     @Test
     @DisplayName("Should process batch job with reader, processor, and writer")
     void shouldProcessBatchJobWithReaderProcessorAndWriter() throws Exception {
@@ -29,14 +29,14 @@ public class MQTestOperations {
      * Send a message to the default queue and verify success
      */
     public SuccessResponse sendMessage(String message) throws ApiException {
-        return mqApi.mqSendPost(message);
+        return mqApi.mqSendPost(message, null);
     }
 
     /**
      * Send a message to a specific queue and verify success
      */
     public SuccessResponse sendMessageToQueue(String queueName, String message) throws ApiException {
-        return mqApi.mqSendQueuePost(queueName, message);
+        return mqApi.mqSendQueuePost(queueName, message, null);
     }
 
     /**
@@ -0,0 +1,124 @@
+package com.example.ibmmq.unit.adapter;
+
+import com.example.ibmmq.adapter.BlockingCallOffloader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("BlockingCallOffloader Tests")
+class BlockingCallOffloaderTest {
+
+    @Test
+    @DisplayName("Should run the call on the caller when it is a platform thread")
+    void shouldRunInlineOnPlatformThread() throws Exception {
+        // Given
+        Thread caller = Thread.currentThread();
+
+        // When
+        Thread ranOn = BlockingCallOffloader.call(Thread::currentThread);
+
+        // Then
+        assertThat(BlockingCallOffloader.isVirtual(caller)).isFalse();
+        assertThat(ranOn).isSameAs(caller);
+    }
+
+    @Test
+    @DisplayName("Should propagate JMS exceptions from the call unchanged")
+    void shouldPropagateJmsException() {
+        // Given
+        javax.jms.JMSException failure = new javax.jms.JMSException("MQRC_NO_MSG_AVAILABLE", "2033");
+
+        // When & Then
+        assertThatThrownBy(() -> BlockingCallOffloader.call(() -> {
+            throw failure;
+        })).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("Should offload calls from virtual threads to a platform thread (Java 21+)")
+    void shouldOffloadFromVirtualThread() throws Exception {
+        Method startVirtualThread = findStartVirtualThread();
+        assumeTrue(startVirtualThread != null, "virtual threads need Java 21");
+
+        // Given
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int permits = BlockingCallOffloader.getAvailablePermits();
+
+        // When
+        Thread virtual = (Thread) startVirtualThread.invoke(null, (Runnable) () -> {
+            try {
+                ranOn.set(BlockingCallOffloader.call(Thread::currentThread));
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        virtual.join(5000);
+
+        // Then
+        assertThat(failure.get()).isNull();
+        assertThat(ranOn.get().getName()).startsWith("ibmmq-blocking-");
+        assertThat(BlockingCallOffloader.isVirtual(ranOn.get())).isFalse();
+        assertThat(BlockingCallOffloader.getAvailablePermits()).isEqualTo(permits);
+    }
+
+    @Test
+    @DisplayName("Should hold the permit until an uninterruptible call returns after the caller is interrupted (Java 21+)")
+    void shouldHoldPermitUntilCallReturnsAfterInterrupt() throws Exception {
+        Method startVirtualThread = findStartVirtualThread();
+        assumeTrue(startVirtualThread != null, "virtual threads need Java 21");
+
+        // Given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int permits = BlockingCallOffloader.getAvailablePermits();
+        Thread virtual = (Thread) startVirtualThread.invoke(null, (Runnable) () -> {
+            try {
+                BlockingCallOffloader.call(() -> {
+                    running.countDown();
+                    // Like an MQ client call, ignores interrupts until it completes
+                    while (true) {
+                        try {
+                            release.await();
+                            return null;
+                        } catch (InterruptedException ignored) {
+                        }
+                    }
+                });
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        virtual.interrupt();
+        virtual.join(5000);
+
+        // Then
+        assertThat(failure.get()).isInstanceOf(javax.jms.JMSException.class);
+        assertThat(BlockingCallOffloader.getAvailablePermits()).isEqualTo(permits - 1);
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (BlockingCallOffloader.getAvailablePermits() != permits && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(BlockingCallOffloader.getAvailablePermits()).isEqualTo(permits);
+    }
+
+    private static Method findStartVirtualThread() {
+        try {
+            return Thread.class.getMethod("startVirtualThread", Runnable.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
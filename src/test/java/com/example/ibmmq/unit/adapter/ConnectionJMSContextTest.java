@@ -0,0 +1,204 @@
+package com.example.ibmmq.unit.adapter;
+
+import com.example.ibmmq.adapter.ConnectionJMSContext;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.IllegalStateRuntimeException;
+import jakarta.jms.InvalidDestinationException;
+import jakarta.jms.InvalidDestinationRuntimeException;
+import jakarta.jms.JMSConsumer;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.JMSProducer;
+import jakarta.jms.JMSRuntimeException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageFormatRuntimeException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ConnectionJMSContext Tests")
+class ConnectionJMSContextTest {
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private MessageProducer producer;
+
+    @Mock
+    private MessageConsumer consumer;
+
+    @Mock
+    private TextMessage textMessage;
+
+    @Mock
+    private Queue queue;
+
+    private ConnectionJMSContext context;
+
+    @BeforeEach
+    void setUp() throws JMSException {
+        when(connection.createSession(anyInt())).thenReturn(session);
+        when(session.createProducer(any())).thenReturn(producer);
+        when(session.createConsumer(any())).thenReturn(consumer);
+        when(session.createTextMessage(anyString())).thenReturn(textMessage);
+        when(producer.getDeliveryDelay()).thenReturn(Message.DEFAULT_DELIVERY_DELAY);
+
+        context = new ConnectionJMSContext(connection, JMSContext.AUTO_ACKNOWLEDGE);
+    }
+
+    @Test
+    @DisplayName("Should reuse one producer per destination across sends")
+    void shouldReuseProducerPerDestination() throws Exception {
+        // When
+        context.createProducer().send(queue, "first");
+        context.createProducer().send(queue, "second");
+
+        // Then
+        verify(connection, times(1)).createSession(JMSContext.AUTO_ACKNOWLEDGE);
+        verify(session, times(1)).createProducer(queue);
+        verify(producer, times(2)).send(textMessage, DeliveryMode.PERSISTENT, Message.DEFAULT_PRIORITY,
+                                        Message.DEFAULT_TIME_TO_LIVE);
+    }
+
+    @Test
+    @DisplayName("Should apply send options, properties and headers")
+    void shouldApplySendOptionsPropertiesAndHeaders() throws Exception {
+        // Given
+        JMSProducer jmsProducer = context.createProducer()
+            .setDeliveryMode(DeliveryMode.NON_PERSISTENT)
+            .setPriority(7)
+            .setTimeToLive(5000)
+            .setDeliveryDelay(100)
+            .setProperty("orderId", 42)
+            .setJMSCorrelationID("corr-1")
+            .setJMSType("order");
+
+        // When
+        jmsProducer.send(queue, "payload");
+
+        // Then
+        verify(textMessage).setObjectProperty("orderId", 42);
+        verify(textMessage).setJMSCorrelationID("corr-1");
+        verify(textMessage).setJMSType("order");
+        verify(producer).setDeliveryDelay(100);
+        verify(producer).send(textMessage, DeliveryMode.NON_PERSISTENT, 7, 5000);
+        assertThat(jmsProducer.getLongProperty("orderId")).isEqualTo(42L);
+        assertThat(jmsProducer.getStringProperty("orderId")).isEqualTo("42");
+        assertThatThrownBy(() -> jmsProducer.getBooleanProperty("orderId"))
+            .isInstanceOf(MessageFormatRuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("Should send asynchronously when a completion listener is set")
+    void shouldSendAsynchronously() throws Exception {
+        // Given
+        CompletionListener listener = mock(CompletionListener.class);
+
+        // When
+        context.createProducer().setAsync(listener).send(queue, "payload");
+
+        // Then
+        verify(producer).send(textMessage, DeliveryMode.PERSISTENT, Message.DEFAULT_PRIORITY,
+                              Message.DEFAULT_TIME_TO_LIVE, listener);
+    }
+
+    @Test
+    @DisplayName("Should start connection when creating a consumer and receive bodies")
+    void shouldAutoStartAndReceiveBody() throws Exception {
+        // Given
+        when(consumer.receive(1000)).thenReturn(textMessage);
+        when(textMessage.getBody(String.class)).thenReturn("payload");
+
+        // When
+        JMSConsumer jmsConsumer = context.createConsumer(queue);
+        String body = jmsConsumer.receiveBody(String.class, 1000);
+
+        // Then
+        assertThat(body).isEqualTo("payload");
+        verify(connection, times(1)).start();
+    }
+
+    @Test
+    @DisplayName("Should acknowledge last received message in client acknowledge mode")
+    void shouldAcknowledgeInClientMode() throws Exception {
+        // Given
+        JMSContext clientContext = context.createContext(JMSContext.CLIENT_ACKNOWLEDGE);
+        when(consumer.receiveNoWait()).thenReturn(textMessage);
+        clientContext.createConsumer(queue).receiveNoWait();
+
+        // When
+        clientContext.acknowledge();
+
+        // Then
+        verify(textMessage).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Should close connection only with the last context")
+    void shouldCloseConnectionWithLastContext() throws Exception {
+        // Given
+        JMSContext child = context.createContext(JMSContext.SESSION_TRANSACTED);
+        child.createTextMessage("payload");
+
+        // When
+        child.close();
+
+        // Then
+        verify(session).close();
+        verify(connection, never()).close();
+
+        context.close();
+        verify(connection).close();
+        assertThatThrownBy(() -> context.createProducer())
+            .isInstanceOf(IllegalStateRuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("Should convert JMS exceptions to matching runtime exceptions")
+    void shouldConvertExceptions() throws Exception {
+        // Given
+        when(session.createQueue("MISSING"))
+            .thenThrow(new InvalidDestinationException("MQRC_UNKNOWN_OBJECT_NAME", "2085"));
+
+        // When & Then
+        assertThatThrownBy(() -> context.createQueue("MISSING"))
+            .isInstanceOf(InvalidDestinationRuntimeException.class)
+            .hasMessage("MQRC_UNKNOWN_OBJECT_NAME")
+            .hasCauseInstanceOf(InvalidDestinationException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid session mode and close the connection")
+    void shouldRejectInvalidSessionMode() throws Exception {
+        // Given
+        Connection other = mock(Connection.class);
+
+        // When & Then
+        assertThatThrownBy(() -> new ConnectionJMSContext(other, 42))
+            .isInstanceOf(JMSRuntimeException.class)
+            .hasMessageContaining("Invalid session mode");
+        verify(other).close();
+    }
+}
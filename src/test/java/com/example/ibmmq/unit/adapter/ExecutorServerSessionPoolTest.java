@@ -0,0 +1,158 @@
+package com.example.ibmmq.unit.adapter;
+
+import com.example.ibmmq.adapter.ExecutorServerSessionPool;
+import jakarta.jms.Connection;
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageListener;
+import jakarta.jms.ServerSession;
+import jakarta.jms.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ExecutorServerSessionPool Tests")
+class ExecutorServerSessionPoolTest {
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private MessageListener listener;
+
+    private ExecutorServerSessionPool pool;
+
+    @BeforeEach
+    void setUp() throws JMSException {
+        when(connection.createSession(anyInt())).thenAnswer(invocation -> mock(Session.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close(1000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should create sessions on demand up to the maximum")
+    void shouldCreateSessionsOnDemand() throws Exception {
+        // Given
+        pool = new ExecutorServerSessionPool(connection, 2, Session.AUTO_ACKNOWLEDGE, listener);
+
+        // When
+        ServerSession first = pool.getServerSession();
+        ServerSession second = pool.getServerSession();
+
+        // Then
+        assertThat(first.getSession()).isNotSameAs(second.getSession());
+        assertThat(pool.getSessionCount()).isEqualTo(2);
+        verify(connection, times(2)).createSession(Session.AUTO_ACKNOWLEDGE);
+        verify(first.getSession()).setMessageListener(listener);
+    }
+
+    @Test
+    @DisplayName("Should run started session on executor and return it to the pool")
+    void shouldRunSessionAndReturnIt() throws Exception {
+        // Given
+        pool = new ExecutorServerSessionPool(connection, 1, Session.SESSION_TRANSACTED, listener);
+        ServerSession serverSession = pool.getServerSession();
+        Session session = serverSession.getSession();
+        CountDownLatch ran = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            ran.countDown();
+            return null;
+        }).when(session).commit();
+
+        // When
+        serverSession.start();
+
+        // Then
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(session).run();
+        assertThat(pool.getServerSession()).isSameAs(serverSession);
+        assertThat(pool.getCompletedRuns()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should roll back transacted session when delivery fails")
+    void shouldRollBackOnFailure() throws Exception {
+        // Given
+        pool = new ExecutorServerSessionPool(connection, 1, Session.SESSION_TRANSACTED, listener);
+        ServerSession serverSession = pool.getServerSession();
+        Session session = serverSession.getSession();
+        doThrow(new RuntimeException("listener failed")).when(session).run();
+
+        // When
+        serverSession.start();
+
+        // Then
+        assertThat(pool.getServerSession()).isSameAs(serverSession);
+        verify(session).rollback();
+        verify(session, never()).commit();
+        assertThat(pool.getFailedRuns()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should block until a busy session is returned")
+    void shouldBlockWhenAllSessionsBusy() throws Exception {
+        // Given
+        pool = new ExecutorServerSessionPool(connection, 1, Session.AUTO_ACKNOWLEDGE, listener);
+        ServerSession busy = pool.getServerSession();
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(busy.getSession()).run();
+        busy.start();
+
+        // When
+        CompletableFuture<ServerSession> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.getServerSession();
+            } catch (JMSException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        // Then
+        assertThat(waiting).isNotCompleted();
+        Thread.sleep(100);
+        assertThat(waiting).isNotCompleted();
+        release.countDown();
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isSameAs(busy);
+        verify(connection, times(1)).createSession(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should close sessions and refuse new requests after close")
+    void shouldCloseSessions() throws Exception {
+        // Given
+        pool = new ExecutorServerSessionPool(connection, 2, Session.AUTO_ACKNOWLEDGE, listener);
+        Session session = pool.getServerSession().getSession();
+
+        // When
+        pool.close(1000);
+
+        // Then
+        verify(session).close();
+        assertThatThrownBy(() -> pool.getServerSession())
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
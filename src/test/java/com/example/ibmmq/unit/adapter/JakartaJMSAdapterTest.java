@@ -96,21 +96,40 @@ class JakartaJMSAdapterTest {
     }
 
     @Test
-    @DisplayName("ConnectionFactory: Should throw UnsupportedOperationException for JMSContext")
-    void connectionFactoryShouldThrowUnsupportedForJMSContext() {
-        // When & Then
-        assertThatThrownBy(() -> connectionFactoryWrapper.createContext())
-            .isInstanceOf(UnsupportedOperationException.class)
-            .hasMessageContaining("JMSContext not supported");
+    @DisplayName("ConnectionFactory: Should create JMSContexts sharing one connection")
+    void connectionFactoryShouldCreateContextsSharingOneConnection() throws Exception {
+        // Given
+        when(javaxConnectionFactory.createConnection()).thenReturn(javaxConnection);
+        when(javaxConnection.createSession(anyInt())).thenReturn(javaxSession);
 
-        assertThatThrownBy(() -> connectionFactoryWrapper.createContext("user", "pass"))
-            .isInstanceOf(UnsupportedOperationException.class);
+        // When
+        JMSContext context = connectionFactoryWrapper.createContext();
+        JMSContext child = context.createContext(JMSContext.CLIENT_ACKNOWLEDGE);
+        context.createTextMessage("first");
+        child.createTextMessage("second");
+        context.close();
+
+        // Then
+        verify(javaxConnectionFactory, times(1)).createConnection();
+        verify(javaxConnection).createSession(JMSContext.AUTO_ACKNOWLEDGE);
+        verify(javaxConnection).createSession(JMSContext.CLIENT_ACKNOWLEDGE);
+        verify(javaxConnection, never()).close();
+
+        child.close();
+        verify(javaxConnection).close();
+    }
 
-        assertThatThrownBy(() -> connectionFactoryWrapper.createContext("user", "pass", Session.AUTO_ACKNOWLEDGE))
-            .isInstanceOf(UnsupportedOperationException.class);
+    @Test
+    @DisplayName("ConnectionFactory: Should convert connect failure for JMSContext")
+    void connectionFactoryShouldConvertConnectFailureForContext() throws Exception {
+        // Given
+        when(javaxConnectionFactory.createConnection("user", "pass"))
+            .thenThrow(new javax.jms.JMSSecurityException("not authorized", "2035"));
 
-        assertThatThrownBy(() -> connectionFactoryWrapper.createContext(Session.AUTO_ACKNOWLEDGE))
-            .isInstanceOf(UnsupportedOperationException.class);
+        // When & Then
+        assertThatThrownBy(() -> connectionFactoryWrapper.createContext("user", "pass"))
+            .isInstanceOf(JMSSecurityRuntimeException.class)
+            .hasMessage("not authorized");
     }
 
     @Test
@@ -231,25 +250,67 @@ class JakartaJMSAdapterTest {
     }
 
     @Test
-    @DisplayName("Connection: Should throw UnsupportedOperationException for ConnectionConsumer")
-    void connectionShouldThrowUnsupportedForConnectionConsumer() {
+    @DisplayName("Connection: Should create ConnectionConsumer handing out adapted server sessions")
+    void connectionShouldCreateConnectionConsumer() throws Exception {
         // Given
-        Destination destination = mock(Destination.class);
-        Topic topic = mock(Topic.class);
+        QueueWrapper queueWrapper = new QueueWrapper(javaxQueue);
         ServerSessionPool pool = mock(ServerSessionPool.class);
+        ServerSession serverSession = mock(ServerSession.class);
+        when(pool.getServerSession()).thenReturn(serverSession);
+        when(serverSession.getSession()).thenReturn(sessionWrapper);
+        javax.jms.ConnectionConsumer javaxConsumer = mock(javax.jms.ConnectionConsumer.class);
+        org.mockito.ArgumentCaptor<javax.jms.ServerSessionPool> javaxPool =
+            org.mockito.ArgumentCaptor.forClass(javax.jms.ServerSessionPool.class);
+        when(javaxConnection.createConnectionConsumer(eq(javaxQueue), eq("type = 'order'"), javaxPool.capture(), eq(10)))
+            .thenReturn(javaxConsumer);
 
-        // When & Then
-        assertThatThrownBy(() -> connectionWrapper.createConnectionConsumer(destination, null, pool, 1))
-            .isInstanceOf(UnsupportedOperationException.class);
+        // When
+        ConnectionConsumer consumer = connectionWrapper.createConnectionConsumer(queueWrapper, "type = 'order'", pool, 10);
+        javax.jms.ServerSession javaxServerSession = javaxPool.getValue().getServerSession();
+        javaxServerSession.start();
+        consumer.close();
 
-        assertThatThrownBy(() -> connectionWrapper.createSharedConnectionConsumer(topic, "sub", null, pool, 1))
-            .isInstanceOf(UnsupportedOperationException.class);
+        // Then
+        assertThat(consumer.getServerSessionPool()).isSameAs(pool);
+        assertThat(javaxServerSession.getSession()).isSameAs(javaxSession);
+        verify(serverSession).start();
+        verify(javaxConsumer).close();
+    }
 
-        assertThatThrownBy(() -> connectionWrapper.createDurableConnectionConsumer(topic, "sub", null, pool, 1))
-            .isInstanceOf(UnsupportedOperationException.class);
+    @Test
+    @DisplayName("Connection: Should create topic ConnectionConsumer variants")
+    void connectionShouldCreateTopicConnectionConsumers() throws Exception {
+        // Given
+        TopicWrapper topicWrapper = new TopicWrapper(javaxTopic);
+        ServerSessionPool pool = mock(ServerSessionPool.class);
+        javax.jms.ConnectionConsumer javaxConsumer = mock(javax.jms.ConnectionConsumer.class);
+        when(javaxConnection.createSharedConnectionConsumer(eq(javaxTopic), eq("sub"), any(), any(), eq(1))).thenReturn(javaxConsumer);
+        when(javaxConnection.createDurableConnectionConsumer(eq(javaxTopic), eq("sub"), any(), any(), eq(1))).thenReturn(javaxConsumer);
+        when(javaxConnection.createSharedDurableConnectionConsumer(eq(javaxTopic), eq("sub"), any(), any(), eq(1))).thenReturn(javaxConsumer);
 
-        assertThatThrownBy(() -> connectionWrapper.createSharedDurableConnectionConsumer(topic, "sub", null, pool, 1))
-            .isInstanceOf(UnsupportedOperationException.class);
+        // When & Then
+        assertThat(connectionWrapper.createSharedConnectionConsumer(topicWrapper, "sub", null, pool, 1)).isNotNull();
+        assertThat(connectionWrapper.createDurableConnectionConsumer(topicWrapper, "sub", null, pool, 1)).isNotNull();
+        assertThat(connectionWrapper.createSharedDurableConnectionConsumer(topicWrapper, "sub", null, pool, 1)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Connection: Should reject server sessions not created by the adapter")
+    void connectionShouldRejectForeignServerSessions() throws Exception {
+        // Given
+        ServerSessionPool pool = mock(ServerSessionPool.class);
+        ServerSession serverSession = mock(ServerSession.class);
+        when(pool.getServerSession()).thenReturn(serverSession);
+        when(serverSession.getSession()).thenReturn(mock(Session.class));
+        org.mockito.ArgumentCaptor<javax.jms.ServerSessionPool> javaxPool =
+            org.mockito.ArgumentCaptor.forClass(javax.jms.ServerSessionPool.class);
+        when(javaxConnection.createConnectionConsumer(any(), any(), javaxPool.capture(), anyInt()))
+            .thenReturn(mock(javax.jms.ConnectionConsumer.class));
+        connectionWrapper.createConnectionConsumer(new QueueWrapper(javaxQueue), null, pool, 1);
+
+        // When & Then
+        assertThatThrownBy(() -> javaxPool.getValue().getServerSession().getSession())
+            .isInstanceOf(javax.jms.IllegalStateException.class);
     }
 
     @Test
@@ -605,9 +666,105 @@ class JakartaJMSAdapterTest {
         // Then
         assertThat(converted).isNotNull();
         assertThat(converted.getMessage()).isEqualTo("error");
-        if (converted.getCause() != null) {
-            assertThat(converted.getCause()).isInstanceOf(RuntimeException.class);
-        }
+        assertThat(converted.getCause()).isSameAs(javaxExceptionWithCause);
+        assertThat(converted).hasRootCauseInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep exception subtype, error code and linked exception on conversion")
+    void shouldKeepSubtypeErrorCodeAndLinkedExceptionOnConversion() {
+        // Given
+        javax.jms.InvalidDestinationException original =
+            new javax.jms.InvalidDestinationException("MQRC_UNKNOWN_OBJECT_NAME", "2085");
+        Exception reason = new Exception("MQ reason 2085");
+        original.setLinkedException(reason);
+
+        // When
+        JMSException converted = JakartaJMSAdapter.convertException(original);
+
+        // Then
+        assertThat(converted).isInstanceOf(InvalidDestinationException.class);
+        assertThat(converted.getMessage()).isEqualTo("MQRC_UNKNOWN_OBJECT_NAME");
+        assertThat(converted.getErrorCode()).isEqualTo("2085");
+        assertThat(converted.getLinkedException()).isSameAs(reason);
+        assertThat(converted.getCause()).isSameAs(original);
+        assertThat(converted.getStackTrace()).isEqualTo(original.getStackTrace());
+    }
+
+    @Test
+    @DisplayName("Should map unknown javax exception subclasses to their nearest Jakarta type")
+    void shouldMapUnknownSubclassesToNearestJakartaType() {
+        // Given
+        javax.jms.JMSException original = new javax.jms.ResourceAllocationException("no channels") {
+        };
+
+        // When
+        JMSException converted = JakartaJMSAdapter.convertException(original);
+
+        // Then
+        assertThat(converted).isInstanceOf(ResourceAllocationException.class);
+        assertThat(converted.getMessage()).isEqualTo("no channels");
+    }
+
+    @Test
+    @DisplayName("Session: Should translate javax exception subtype on failure")
+    void sessionShouldTranslateExceptionSubtypeOnFailure() throws Exception {
+        // Given
+        when(javaxSession.createConsumer(any(), anyString()))
+            .thenThrow(new javax.jms.InvalidSelectorException("bad selector"));
+        QueueWrapper queueWrapper = new QueueWrapper(javaxQueue);
+
+        // When & Then
+        assertThatThrownBy(() -> sessionWrapper.createConsumer(queueWrapper, "a ="))
+            .isInstanceOf(InvalidSelectorException.class)
+            .hasMessage("bad selector");
+    }
+
+    @Test
+    @DisplayName("Session: Should reuse queue wrappers by name")
+    void sessionShouldReuseQueueWrappersByName() throws Exception {
+        // Given
+        when(javaxSession.createQueue("DEV.QUEUE.1")).thenReturn(javaxQueue);
+
+        // When
+        Queue first = sessionWrapper.createQueue("DEV.QUEUE.1");
+        Queue second = sessionWrapper.createQueue("DEV.QUEUE.1");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(javaxSession, times(1)).createQueue("DEV.QUEUE.1");
+    }
+
+    @Test
+    @DisplayName("Connection: Should ask the delegate for metadata on every call")
+    void connectionShouldNotCacheMetadata() throws Exception {
+        // Given
+        when(javaxConnection.getMetaData()).thenReturn(javaxMetadata)
+            .thenThrow(new javax.jms.JMSException("Connection broken", "MQJMS2005"));
+
+        // When
+        connectionWrapper.getMetaData();
+
+        // Then - a connection that broke after the first call must fail the next one
+        assertThatThrownBy(() -> connectionWrapper.getMetaData()).isInstanceOf(JMSException.class);
+        verify(javaxConnection, times(2)).getMetaData();
+    }
+
+    @Test
+    @DisplayName("Connection: Should return the registered Jakarta exception listener")
+    void connectionShouldReturnRegisteredExceptionListener() throws Exception {
+        // Given
+        ExceptionListener listener = exception -> { };
+        javax.jms.ExceptionListener[] registered = new javax.jms.ExceptionListener[1];
+        doAnswer(invocation -> registered[0] = invocation.getArgument(0))
+            .when(javaxConnection).setExceptionListener(any());
+        when(javaxConnection.getExceptionListener()).thenAnswer(invocation -> registered[0]);
+
+        // When
+        connectionWrapper.setExceptionListener(listener);
+
+        // Then
+        assertThat(connectionWrapper.getExceptionListener()).isSameAs(listener);
     }
 
     @Test
@@ -0,0 +1,201 @@
+package com.example.ibmmq.unit.adapter;
+
+import com.example.ibmmq.adapter.JakartaJMSAdapter;
+import com.example.ibmmq.adapter.MQClientFactory;
+import com.ibm.msg.client.wmq.WMQConstants;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MQClientFactory Tests")
+class MQClientFactoryTest {
+
+    @Test
+    @DisplayName("Should use the javax client adapter by default")
+    void shouldUseAdapterByDefault() throws Exception {
+        // When
+        MQClientFactory factory = MQClientFactory.create(null);
+        factory.setHostName("mq1");
+        factory.setPort(1415);
+        factory.setQueueManager("QM1");
+
+        // Then
+        assertThat(factory.getMode()).isEqualTo(MQClientFactory.MODE_ADAPTER);
+        assertThat(factory.isJakartaNative()).isFalse();
+        assertThat(factory.getJavaxFactory().getHostName()).isEqualTo("mq1");
+        assertThat(factory.getJavaxFactory().getPort()).isEqualTo(1415);
+        assertThat(factory.toConnectionFactory()).isInstanceOf(JakartaJMSAdapter.ConnectionFactoryWrapper.class);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the adapter when the Jakarta client is not deployed")
+    void shouldFallBackWhenJakartaClientMissing() {
+        // Given
+        assumeFalse(MQClientFactory.isJakartaClientAvailable());
+
+        // When
+        MQClientFactory factory = MQClientFactory.create("jakarta");
+
+        // Then
+        assertThat(factory.getMode()).isEqualTo(MQClientFactory.MODE_ADAPTER);
+        assertThat(factory.getJavaxFactory()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should configure the native factory through its setters")
+    void shouldConfigureNativeFactory() throws Exception {
+        // Given
+        StubJakartaFactory nativeFactory = new StubJakartaFactory();
+        MQClientFactory factory = MQClientFactory.ofJakarta(nativeFactory);
+
+        // When
+        factory.setHostName("mq1");
+        factory.setPort(1415);
+        factory.setChannel("DEV.APP.SVRCONN");
+        factory.setQueueManager("QM1");
+        factory.setTransportType(WMQConstants.WMQ_CM_CLIENT);
+        factory.setStringProperty(WMQConstants.USERID, "app");
+        factory.setBooleanProperty(WMQConstants.USER_AUTHENTICATION_MQCSP, true);
+        factory.setIntProperty("XMSC_WMQ_HEARTBEAT_INTERVAL", 30);
+
+        // Then
+        assertThat(factory.getMode()).isEqualTo(MQClientFactory.MODE_JAKARTA);
+        assertThat(factory.getJavaxFactory()).isNull();
+        assertThat(factory.toConnectionFactory()).isSameAs(nativeFactory);
+        assertThat(nativeFactory.properties)
+            .containsEntry("hostName", "mq1")
+            .containsEntry("port", 1415)
+            .containsEntry("channel", "DEV.APP.SVRCONN")
+            .containsEntry("queueManager", "QM1")
+            .containsEntry("transportType", WMQConstants.WMQ_CM_CLIENT)
+            .containsEntry(WMQConstants.USERID, "app")
+            .containsEntry(WMQConstants.USER_AUTHENTICATION_MQCSP, true)
+            .containsEntry("XMSC_WMQ_HEARTBEAT_INTERVAL", 30);
+    }
+
+    @Test
+    @DisplayName("Should hand out native connections without wrapping them")
+    void shouldCreateNativeConnectionsUnwrapped() throws Exception {
+        // Given
+        StubJakartaFactory nativeFactory = new StubJakartaFactory();
+        MQClientFactory factory = MQClientFactory.ofJakarta(nativeFactory);
+
+        // When
+        Connection connection = factory.createConnection();
+
+        // Then
+        assertThat(connection).isSameAs(nativeFactory.connection);
+    }
+
+    @Test
+    @DisplayName("Should rethrow JMS exceptions from native setters")
+    void shouldRethrowNativeSetterFailures() {
+        // Given
+        MQClientFactory factory = MQClientFactory.ofJakarta(new StubJakartaFactory());
+
+        // When & Then
+        assertThatThrownBy(() -> factory.setPort(-1))
+            .isInstanceOf(JMSException.class)
+            .hasMessage("Invalid port: -1");
+    }
+
+    @Test
+    @DisplayName("Should report setters the native factory does not have")
+    void shouldReportMissingNativeSetter() {
+        // Given
+        MQClientFactory factory = MQClientFactory.ofJakarta(mock(ConnectionFactory.class));
+
+        // When & Then
+        assertThatThrownBy(() -> factory.setChannel("DEV.APP.SVRCONN"))
+            .isInstanceOf(JMSException.class)
+            .hasMessageContaining("setChannel not supported");
+    }
+
+    /**
+     * Mirrors the setters of the Jakarta-native IBM MQ connection factory.
+     */
+    public static class StubJakartaFactory implements ConnectionFactory {
+
+        final Map<String, Object> properties = new HashMap<>();
+        final Connection connection = mock(Connection.class);
+
+        public void setHostName(String hostName) {
+            properties.put("hostName", hostName);
+        }
+
+        public void setPort(int port) throws JMSException {
+            if (port < 0) {
+                throw new JMSException("Invalid port: " + port);
+            }
+            properties.put("port", port);
+        }
+
+        public void setChannel(String channel) {
+            properties.put("channel", channel);
+        }
+
+        public void setQueueManager(String queueManager) {
+            properties.put("queueManager", queueManager);
+        }
+
+        public void setTransportType(int transportType) {
+            properties.put("transportType", transportType);
+        }
+
+        public void setStringProperty(String name, String value) {
+            properties.put(name, value);
+        }
+
+        public void setBooleanProperty(String name, boolean value) {
+            properties.put(name, value);
+        }
+
+        public void setIntProperty(String name, int value) {
+            properties.put(name, value);
+        }
+
+        public void setObjectProperty(String name, Object value) {
+            properties.put(name, value);
+        }
+
+        @Override
+        public Connection createConnection() {
+            return connection;
+        }
+
+        @Override
+        public Connection createConnection(String userName, String password) {
+            return connection;
+        }
+
+        @Override
+        public JMSContext createContext() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JMSContext createContext(String userName, String password) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JMSContext createContext(String userName, String password, int sessionMode) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JMSContext createContext(int sessionMode) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
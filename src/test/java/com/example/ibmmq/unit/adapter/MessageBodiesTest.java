@@ -0,0 +1,190 @@
+package com.example.ibmmq.unit.adapter;
+
+import com.example.ibmmq.adapter.BodyBufferPool;
+import com.example.ibmmq.adapter.MessageBodies;
+import jakarta.jms.BytesMessage;
+import jakarta.jms.JMSException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MessageBodies Tests")
+class MessageBodiesTest {
+
+    @Test
+    @DisplayName("Should map CCSIDs and charset names to charsets")
+    void shouldMapCharacterSets() {
+        assertThat(MessageBodies.forCharacterSet("1208")).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(MessageBodies.forCharacterSet("819")).isEqualTo(StandardCharsets.ISO_8859_1);
+        assertThat(MessageBodies.forCharacterSet("37")).isEqualTo(Charset.forName("IBM037"));
+        assertThat(MessageBodies.forCharacterSet("UTF-16LE")).isEqualTo(StandardCharsets.UTF_16LE);
+        assertThat(MessageBodies.forCharacterSet("99999")).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(MessageBodies.forCharacterSet("")).isEqualTo(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should decode body in the message character set")
+    void shouldDecodeInMessageCharacterSet() throws Exception {
+        // Given
+        BytesMessage message = bytesMessage("Grüße aus Köln".getBytes(Charset.forName("IBM273")));
+        when(message.getObjectProperty(MessageBodies.CHARACTER_SET_PROPERTY)).thenReturn("273");
+
+        // When
+        String text = MessageBodies.readString(message);
+
+        // Then
+        assertThat(text).isEqualTo("Grüße aus Köln");
+    }
+
+    @Test
+    @DisplayName("Should reuse one body buffer across messages")
+    void shouldReuseBodyBuffer() throws Exception {
+        // Given
+        BodyBufferPool pool = new BodyBufferPool(16, 2, 1024);
+
+        // When
+        String first = MessageBodies.readString(bytesMessage("first ✓".getBytes(StandardCharsets.UTF_8)),
+                                                StandardCharsets.UTF_8, pool);
+        String second = MessageBodies.readString(bytesMessage("second".getBytes(StandardCharsets.UTF_8)),
+                                                 StandardCharsets.UTF_8, pool);
+
+        // Then
+        assertThat(first).isEqualTo("first ✓");
+        assertThat(second).isEqualTo("second");
+        assertThat(pool.getPooledBodyCount()).isEqualTo(1);
+        assertThat(pool.getPooledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should decode multi-byte characters split across chunks")
+    void shouldDecodeCharactersSplitAcrossChunks() throws Exception {
+        // Given
+        String expected = "日本語テキスト€ and ascii, 😀 emoji ".repeat(50);
+        byte[] body = expected.getBytes(StandardCharsets.UTF_8);
+        BodyBufferPool pool = new BodyBufferPool(7, 2, 0);
+
+        // When
+        String text = MessageBodies.readString(bytesMessage(body), StandardCharsets.UTF_8, pool);
+
+        // Then
+        assertThat(text).isEqualTo(expected);
+        assertThat(pool.getPooledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should decode characters longer than a chunk")
+    void shouldDecodeCharactersLongerThanChunk() throws Exception {
+        // Given
+        String expected = "😀€😀a😀";
+        BodyBufferPool pool = new BodyBufferPool(1, 1, 0);
+
+        // When
+        String text = MessageBodies.readString(bytesMessage(expected.getBytes(StandardCharsets.UTF_8)),
+                                               StandardCharsets.UTF_8, pool);
+
+        // Then
+        assertThat(text).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should replace malformed input like String decoding does")
+    void shouldReplaceMalformedInput() throws Exception {
+        // Given
+        byte[] body = {'o', 'k', (byte) 0xC3, '!', (byte) 0xFF};
+
+        // When
+        String text = MessageBodies.readString(bytesMessage(body), StandardCharsets.UTF_8, new BodyBufferPool(2, 1, 0));
+
+        // Then
+        assertThat(text).isEqualTo(new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should stream body into caller buffers at any offset")
+    void shouldStreamBody() throws Exception {
+        // Given
+        byte[] body = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+        InputStream stream = MessageBodies.openStream(bytesMessage(body));
+        byte[] buffer = new byte[20];
+
+        // When
+        int first = stream.read(buffer, 0, 6);
+        int second = stream.read(buffer, 6, 20 - 6);
+        int end = stream.read(buffer, 0, 1);
+
+        // Then
+        assertThat(first).isEqualTo(6);
+        assertThat(second).isEqualTo(10);
+        assertThat(end).isEqualTo(-1);
+        assertThat(new String(buffer, 0, 16, StandardCharsets.US_ASCII)).isEqualTo("0123456789abcdef");
+    }
+
+    @Test
+    @DisplayName("Should fill direct and heap ByteBuffers")
+    void shouldFillByteBuffers() throws Exception {
+        // Given
+        BytesMessage message = bytesMessage("0123456789".getBytes(StandardCharsets.US_ASCII));
+        BodyBufferPool pool = new BodyBufferPool(4, 1, 0);
+        ByteBuffer direct = ByteBuffer.allocateDirect(6);
+        ByteBuffer heap = ByteBuffer.allocate(8);
+
+        // When
+        int intoDirect = MessageBodies.read(message, direct, pool);
+        int intoHeap = MessageBodies.read(message, heap, pool);
+        int atEnd = MessageBodies.read(message, heap, pool);
+
+        // Then
+        assertThat(intoDirect).isEqualTo(4);
+        assertThat(intoHeap).isEqualTo(6);
+        assertThat(atEnd).isEqualTo(-1);
+        assertThat(new String(heap.array(), 0, heap.position(), StandardCharsets.US_ASCII)).isEqualTo("456789");
+    }
+
+    @Test
+    @DisplayName("Should return empty text for empty bodies without reading")
+    void shouldReturnEmptyTextForEmptyBody() throws Exception {
+        // Given
+        BytesMessage message = bytesMessage(new byte[0]);
+
+        // When
+        String text = MessageBodies.readString(message);
+
+        // Then
+        assertThat(text).isEmpty();
+        verify(message, never()).readBytes(any(byte[].class));
+    }
+
+    /**
+     * A BytesMessage mock reading from {@code body} like the client does: up to the array
+     * length or the given length, -1 once the body is exhausted.
+     */
+    private static BytesMessage bytesMessage(byte[] body) throws JMSException {
+        BytesMessage message = mock(BytesMessage.class);
+        AtomicInteger position = new AtomicInteger();
+        when(message.getBodyLength()).thenReturn((long) body.length);
+        when(message.readBytes(any(byte[].class))).thenAnswer(invocation ->
+            read(body, position, invocation.getArgument(0), ((byte[]) invocation.getArgument(0)).length));
+        when(message.readBytes(any(byte[].class), anyInt())).thenAnswer(invocation ->
+            read(body, position, invocation.getArgument(0), invocation.getArgument(1)));
+        return message;
+    }
+
+    private static int read(byte[] body, AtomicInteger position, byte[] target, int length) {
+        int available = body.length - position.get();
+        if (available <= 0) {
+            return -1;
+        }
+        int count = Math.min(available, Math.min(length, target.length));
+        System.arraycopy(body, position.getAndAdd(count), target, 0, count);
+        return count;
+    }
+}
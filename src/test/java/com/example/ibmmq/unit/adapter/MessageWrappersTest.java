@@ -13,6 +13,7 @@ import org.mockito.quality.Strictness;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +50,28 @@ class MessageWrappersTest {
         }).doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("Should read BytesMessageWrapper body as text in its CCSID")
+    void shouldReadBytesMessageWrapperBodyAsText() throws Exception {
+        // Given
+        byte[] body = "déjà vu".getBytes(java.nio.charset.StandardCharsets.ISO_8859_1);
+        javax.jms.BytesMessage javaxBytesMessage = mock(javax.jms.BytesMessage.class);
+        when(javaxBytesMessage.getObjectProperty("JMS_IBM_Character_Set")).thenReturn("819");
+        when(javaxBytesMessage.getBodyLength()).thenReturn((long) body.length);
+        when(javaxBytesMessage.readBytes(any(byte[].class))).thenAnswer(invocation -> {
+            System.arraycopy(body, 0, invocation.getArgument(0), 0, body.length);
+            return body.length;
+        });
+        MessageWrappers.BytesMessageWrapper wrapper = new MessageWrappers.BytesMessageWrapper(javaxBytesMessage);
+
+        // When
+        String text = wrapper.readBodyAsString();
+
+        // Then
+        assertThat(wrapper.getBodyCharset()).isEqualTo(java.nio.charset.StandardCharsets.ISO_8859_1);
+        assertThat(text).isEqualTo("déjà vu");
+    }
+
     @Test
     @DisplayName("Should create ObjectMessageWrapper")
     void shouldCreateObjectMessageWrapper() {
@@ -1324,4 +1347,25 @@ class MessageWrappersTest {
             .isInstanceOf(jakarta.jms.JMSException.class)
             .hasMessage("Test javax exception");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should pick the wrapper matching the javax message type")
+    void shouldWrapByMessageType() {
+        // Given
+        javax.jms.TextMessage text = mock(javax.jms.TextMessage.class);
+        javax.jms.BytesMessage bytes = mock(javax.jms.BytesMessage.class);
+        javax.jms.MapMessage map = mock(javax.jms.MapMessage.class);
+        javax.jms.ObjectMessage object = mock(javax.jms.ObjectMessage.class);
+        javax.jms.StreamMessage stream = mock(javax.jms.StreamMessage.class);
+        javax.jms.Message plain = mock(javax.jms.Message.class);
+
+        // When & Then
+        assertThat(MessageWrappers.wrap(text)).isInstanceOf(TextMessage.class);
+        assertThat(MessageWrappers.wrap(bytes)).isInstanceOf(BytesMessage.class);
+        assertThat(MessageWrappers.wrap(map)).isInstanceOf(MapMessage.class);
+        assertThat(MessageWrappers.wrap(object)).isInstanceOf(ObjectMessage.class);
+        assertThat(MessageWrappers.wrap(stream)).isInstanceOf(StreamMessage.class);
+        assertThat(MessageWrappers.wrap(plain)).isExactlyInstanceOf(MessageWrapper.class);
+        assertThat(MessageWrappers.wrap(null)).isNull();
+    }
+}
@@ -5,6 +5,8 @@ import com.example.ibmmq.config.BackoutQueueConfig;
 import com.example.ibmmq.config.IBMMQConfig;
 import com.example.ibmmq.entity.MQMessage;
 import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.SessionCache;
+import com.example.ibmmq.pool.SessionLease;
 import com.example.ibmmq.repository.MQMessageRepository;
 import jakarta.jms.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -88,7 +90,8 @@ class SimpleBackoutQueueServiceTest {
         // Default mocking setup
         when(backoutConfig.isBackoutEnabled()).thenReturn(true);
         when(backoutConfig.getBackoutQueueSuffix()).thenReturn(".BACKOUT");
-        when(connectionPool.getConnection()).thenReturn(connection);
+        when(connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE)).thenAnswer(invocation ->
+            new SessionLease(connectionPool, connection, new SessionCache(connection, 0, 0, 0), false, Session.AUTO_ACKNOWLEDGE));
         when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
         when(session.createQueue(anyString())).thenReturn(queue);
         when(session.createProducer(any(Queue.class))).thenReturn(producer);
@@ -109,7 +112,7 @@ class SimpleBackoutQueueServiceTest {
         backoutQueueService.sendToBackoutQueue(message, "Test error reason");
 
         // Then
-        verify(connectionPool).getConnection();
+        verify(connectionPool).acquireSession(false, Session.AUTO_ACKNOWLEDGE);
         verify(session).createQueue("TEST.QUEUE.BACKOUT");
         verify(session).createProducer(queue);
         verify(session).createTextMessage("Test message content");
@@ -141,7 +144,7 @@ class SimpleBackoutQueueServiceTest {
         backoutQueueService.sendToBackoutQueue(message, "Error reason");
 
         // Then
-        verify(connectionPool, never()).getConnection();
+        verify(connectionPool, never()).acquireSession(anyBoolean(), anyInt());
         verify(messageRepository).save(message);
         assertThat(message.getStatus()).isEqualTo(MQMessage.MessageStatus.FAILED);
         assertThat(message.getErrorMessage()).isEqualTo("Error reason");
@@ -151,14 +154,14 @@ class SimpleBackoutQueueServiceTest {
     @DisplayName("Should handle JMS exception during backout gracefully")
     void shouldHandleJMSExceptionDuringBackoutGracefully() throws JMSException {
         // Given
-        when(connectionPool.getConnection()).thenThrow(new JMSException("Connection failed"));
+        when(connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE)).thenThrow(new JMSException("Connection failed"));
         MQMessage message = createTestMessage("MSG-003", "Test content");
 
         // When
         backoutQueueService.sendToBackoutQueue(message, "Original error");
 
         // Then
-        verify(connectionPool).getConnection();
+        verify(connectionPool).acquireSession(false, Session.AUTO_ACKNOWLEDGE);
         verify(messageRepository).save(message);
         assertThat(message.getStatus()).isEqualTo(MQMessage.MessageStatus.FAILED);
         assertThat(message.getErrorMessage()).contains("Backout failed: Connection failed");
@@ -195,7 +198,7 @@ class SimpleBackoutQueueServiceTest {
         backoutQueueService.sendToBackoutQueue("ORIGINAL.QUEUE", textMessage, "Processing failed");
 
         // Then
-        verify(connectionPool, never()).getConnection();
+        verify(connectionPool, never()).acquireSession(anyBoolean(), anyInt());
     }
 
     @Test
@@ -224,7 +227,7 @@ class SimpleBackoutQueueServiceTest {
     @DisplayName("Should handle statistics exception gracefully")
     void shouldHandleStatisticsExceptionGracefully() throws JMSException {
         // Given
-        when(connectionPool.getConnection()).thenThrow(new JMSException("Browser failed"));
+        when(connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE)).thenThrow(new JMSException("Browser failed"));
 
         // When
         SimpleBackoutQueueService.BackoutQueueStats stats =
@@ -296,7 +299,7 @@ class SimpleBackoutQueueServiceTest {
     @DisplayName("Should handle move back exception gracefully")
     void shouldHandleMoveBackExceptionGracefully() throws JMSException {
         // Given
-        when(connectionPool.getConnection()).thenThrow(new JMSException("Move failed"));
+        when(connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE)).thenThrow(new JMSException("Move failed"));
 
         // When
         int movedCount = backoutQueueService.moveAllBackToOriginalQueue(
@@ -0,0 +1,86 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.KeywordMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("KeywordMatcher Tests")
+class KeywordMatcherTest {
+
+    private final KeywordMatcher matcher = new KeywordMatcher(List.of("error", "exception", "failed"));
+
+    @Test
+    @DisplayName("Should find keywords ignoring case")
+    void shouldFindKeywordsIgnoringCase() {
+        assertThat(matcher.find("ERROR: Invalid input")).isEqualTo("error");
+        assertThat(matcher.find("An Exception occurred")).isEqualTo("exception");
+        assertThat(matcher.find("System failed to process")).isEqualTo("failed");
+        assertThat(matcher.find("All good")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should find a keyword after a partial match of another")
+    void shouldFollowFailureLinks() {
+        // Given - "he" inside "she" and "hers" in "ushers" are the textbook overlaps
+        KeywordMatcher overlapping = new KeywordMatcher(List.of("he", "she", "his", "hers"));
+
+        // When & Then
+        assertThat(overlapping.find("ushers")).isEqualTo("she");
+        assertThat(overlapping.find("xhix his")).isEqualTo("his");
+        assertThat(matcher.find("faile errorr")).isEqualTo("error");
+        assertThat(matcher.find("exceptio failed")).isEqualTo("failed");
+    }
+
+    @Test
+    @DisplayName("Should agree with a lower-case contains check on random text")
+    void shouldAgreeWithContainsOnRandomText() {
+        // Given
+        Random random = new Random(42);
+        String letters = "erorxcptinfaldERORXCPTINFALD ";
+        List<String> keywords = Arrays.asList("error", "exception", "failed", "or", "tin");
+        KeywordMatcher randomMatcher = new KeywordMatcher(keywords);
+
+        for (int n = 0; n < 2000; n++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = random.nextInt(40); i > 0; i--) {
+                text.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            String lower = text.toString().toLowerCase();
+
+            // When
+            boolean found = randomMatcher.find(text) != null;
+
+            // Then
+            assertThat(found).as(text.toString()).isEqualTo(keywords.stream().anyMatch(lower::contains));
+        }
+    }
+
+    @Test
+    @DisplayName("Should match non-ASCII keywords")
+    void shouldMatchNonAsciiKeywords() {
+        // Given
+        KeywordMatcher german = new KeywordMatcher(List.of("fehler", "ungültig"));
+
+        // When & Then
+        assertThat(german.find("Eingabe UNGÜLTIG")).isEqualTo("ungültig");
+        assertThat(german.find("Kein FEHLER")).isEqualTo("fehler");
+        assertThat(german.find("alles gut")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should match nothing without keywords")
+    void shouldMatchNothingWithoutKeywords() {
+        // Given
+        KeywordMatcher none = new KeywordMatcher(Arrays.asList("", " ", null));
+
+        // When & Then
+        assertThat(none.isEmpty()).isTrue();
+        assertThat(none.find("error")).isNull();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.MQAdaptiveCheckpointAlgorithm;
+import com.example.ibmmq.config.ChunkSizingConfig;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.batch.runtime.context.StepContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MQAdaptiveCheckpointAlgorithm Tests")
+class MQAdaptiveCheckpointAlgorithmTest {
+
+    @Mock
+    private StepContext stepContext;
+
+    @Mock
+    private MQMetricsService metricsService;
+
+    private final ChunkSizingConfig sizingConfig = new ChunkSizingConfig();
+
+    @InjectMocks
+    private MQAdaptiveCheckpointAlgorithm algorithm;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(stepContext.getStepName()).thenReturn("processMessages");
+        sizingConfig.setChunkSize(10);
+        sizingConfig.setTargetTime(500);
+        setField("sizingConfig", sizingConfig);
+    }
+
+    @Test
+    @DisplayName("Should grow fast chunks by at most half per chunk")
+    void shouldGrowFastChunks() throws Exception {
+        // When
+        int first = chunk();
+        int second = chunk();
+
+        // Then
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(15);
+        assertThat(algorithm.getSize()).isEqualTo(22);
+        verify(metricsService).recordChunkSize("processMessages", 15);
+        verify(metricsService).recordChunkSize("processMessages", 22);
+    }
+
+    @Test
+    @DisplayName("Should commit a chunk at the target time and shrink to what fits")
+    void shouldShrinkSlowChunks() throws Exception {
+        // Given - 10 ms per item against a 50 ms target
+        sizingConfig.setTargetTime(50);
+
+        // When
+        int items = chunk(10);
+
+        // Then
+        assertThat(items).isLessThan(10);
+        assertThat(algorithm.getSize()).isBetween(1, 9);
+    }
+
+    @Test
+    @DisplayName("Should halve the size after a rolled back chunk and not grow while rollbacks are frequent")
+    void shouldHalveAfterRollback() throws Exception {
+        // Given
+        chunk();
+        assertThat(algorithm.getSize()).isEqualTo(15);
+
+        // When - the next chunk begins without the previous one ending
+        algorithm.beginCheckpoint();
+        algorithm.isReadyToCheckpoint();
+        int afterRollback = chunk();
+
+        // Then
+        assertThat(afterRollback).isEqualTo(7);
+        assertThat(algorithm.getSize()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should keep sizes within the configured bounds")
+    void shouldClampToBounds() throws Exception {
+        // Given
+        sizingConfig.setMaxSize(12);
+        sizingConfig.setChunkSize(50);
+
+        // When
+        int first = chunk();
+
+        // Then
+        assertThat(first).isEqualTo(12);
+        assertThat(algorithm.getSize()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should keep the size from the batch property with fixed sizing")
+    void shouldKeepFixedSize() throws Exception {
+        // Given
+        setField("sizingProperty", "fixed");
+        setField("sizeProperty", "4");
+        sizingConfig.setTargetTime(1);
+
+        // When
+        int first = chunk(2);
+        int second = chunk();
+
+        // Then
+        assertThat(first).isEqualTo(4);
+        assertThat(second).isEqualTo(4);
+        verify(metricsService, never()).recordChunkSize(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should not wait for a chunk")
+    void shouldHaveNoTimeout() throws Exception {
+        assertThat(algorithm.checkpointTimeout()).isZero();
+    }
+
+    private int chunk() throws Exception {
+        return chunk(0);
+    }
+
+    // Runs one chunk the way the runtime does and returns its item count
+    private int chunk(long millisPerItem) throws Exception {
+        algorithm.beginCheckpoint();
+        int items = 0;
+        boolean ready = false;
+        while (!ready) {
+            if (millisPerItem > 0) {
+                Thread.sleep(millisPerItem);
+            }
+            items++;
+            ready = algorithm.isReadyToCheckpoint();
+        }
+        algorithm.endCheckpoint();
+        return items;
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = MQAdaptiveCheckpointAlgorithm.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(algorithm, value);
+    }
+}
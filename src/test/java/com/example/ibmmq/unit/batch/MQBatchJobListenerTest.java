@@ -1,6 +1,8 @@
 package com.example.ibmmq.unit.batch;
 
 import com.example.ibmmq.batch.MQBatchJobListener;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import io.micrometer.core.instrument.Timer;
 import jakarta.batch.runtime.BatchStatus;
 import jakarta.batch.runtime.context.JobContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +32,9 @@ class MQBatchJobListenerTest {
     @Mock
     private Properties jobProperties;
 
+    @Mock
+    private MQMetricsService metricsService;
+
     @InjectMocks
     private MQBatchJobListener jobListener;
 
@@ -364,4 +369,22 @@ class MQBatchJobListenerTest {
             return duration >= 0 && duration <= 100;
         }));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should time the job from beforeJob to afterJob")
+    void shouldTimeJob() throws Exception {
+        // Given
+        Timer.Sample sample = mock(Timer.Sample.class);
+        when(metricsService.startBatchJobTimer()).thenReturn(sample);
+        when(jobContext.getExitStatus()).thenReturn("COMPLETED");
+        when(jobContext.getBatchStatus()).thenReturn(BatchStatus.COMPLETED);
+
+        // When
+        jobListener.beforeJob();
+        jobListener.afterJob();
+
+        // Then
+        verify(metricsService).startBatchJobTimer();
+        verify(metricsService).stopBatchJobTimer(sample, "TestMQJob", "COMPLETED");
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.MQChunkMetricsListener;
+import com.example.ibmmq.entity.MQMessage;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.batch.runtime.context.StepContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MQChunkMetricsListener Tests")
+class MQChunkMetricsListenerTest {
+
+    @Mock
+    private StepContext stepContext;
+
+    @Mock
+    private MQMetricsService metricsService;
+
+    @InjectMocks
+    private MQChunkMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        when(stepContext.getStepName()).thenReturn("processMessages");
+    }
+
+    @Test
+    @DisplayName("Should record a committed chunk with its phases and message lag")
+    void shouldRecordCommittedChunk() throws Exception {
+        // Given
+        long putTime = System.currentTimeMillis() - 2000;
+        MQMessage first = message("MSG-001", putTime);
+        MQMessage second = message("MSG-002", putTime);
+        MQMessage withoutPutTime = message("MSG-003", null);
+
+        // When
+        listener.beforeChunk();
+        for (MQMessage message : List.of(first, second, withoutPutTime)) {
+            listener.beforeRead();
+            sleep(2);
+            listener.afterRead(message);
+            listener.beforeProcess(message);
+            listener.afterProcess(message, message);
+        }
+        listener.beforeWrite(List.of(first, second, withoutPutTime));
+        sleep(5);
+        listener.afterWrite(List.of(first, second, withoutPutTime));
+        listener.afterChunk();
+
+        // Then
+        ArgumentCaptor<Long> duration = ArgumentCaptor.forClass(Long.class);
+        verify(metricsService).recordBatchChunk(eq("processMessages"), eq(3), duration.capture(), eq("committed"));
+        ArgumentCaptor<Long> read = ArgumentCaptor.forClass(Long.class);
+        verify(metricsService).recordBatchChunkPhase(eq("processMessages"), eq("read"), read.capture());
+        ArgumentCaptor<Long> write = ArgumentCaptor.forClass(Long.class);
+        verify(metricsService).recordBatchChunkPhase(eq("processMessages"), eq("write"), write.capture());
+        verify(metricsService).recordBatchChunkPhase(eq("processMessages"), eq("process"), anyLong());
+        verify(metricsService).recordBatchChunkPhase(eq("processMessages"), eq("commit"), anyLong());
+
+        assertThat(read.getValue()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(6));
+        assertThat(write.getValue()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(duration.getValue()).isGreaterThanOrEqualTo(read.getValue() + write.getValue());
+
+        ArgumentCaptor<long[]> lag = ArgumentCaptor.forClass(long[].class);
+        verify(metricsService).recordBatchLag(eq("processMessages"), lag.capture());
+        assertThat(lag.getValue()).hasSize(2);
+        assertThat(lag.getValue()[0]).isBetween(2000L, 60_000L);
+        assertThat(lag.getValue()[1]).isBetween(2000L, 60_000L);
+    }
+
+    @Test
+    @DisplayName("Should count processing done before the write as processing time")
+    void shouldCountChunkProcessingAsProcessing() throws Exception {
+        // Given
+        MQMessage message = message("MSG-001", null);
+
+        // When - chunk processing runs between the last read and this listener's beforeWrite
+        listener.beforeChunk();
+        listener.beforeRead();
+        listener.afterRead(message);
+        listener.beforeRead();
+        listener.afterRead(null);
+        sleep(5);
+        listener.beforeWrite(List.of(message));
+        listener.afterWrite(List.of(message));
+        listener.afterChunk();
+
+        // Then
+        ArgumentCaptor<Long> process = ArgumentCaptor.forClass(Long.class);
+        verify(metricsService).recordBatchChunkPhase(eq("processMessages"), eq("process"), process.capture());
+        assertThat(process.getValue()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+        verify(metricsService, never()).recordBatchLag(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should not record the empty chunk at the end of the queue")
+    void shouldSkipEmptyChunk() throws Exception {
+        // When
+        listener.beforeChunk();
+        listener.beforeRead();
+        listener.afterRead(null);
+        listener.afterChunk();
+
+        // Then
+        verifyNoInteractions(metricsService);
+    }
+
+    @Test
+    @DisplayName("Should record a rolled-back chunk without lag")
+    void shouldRecordRolledBackChunk() throws Exception {
+        // Given
+        MQMessage message = message("MSG-001", System.currentTimeMillis());
+
+        // When
+        listener.beforeChunk();
+        listener.beforeRead();
+        listener.afterRead(message);
+        listener.beforeWrite(List.of(message));
+        listener.onWriteError(List.of(message), new RuntimeException("database down"));
+        listener.onError(new RuntimeException("database down"));
+
+        // Then
+        verify(metricsService).recordBatchChunk(eq("processMessages"), eq(1), anyLong(), eq("rolled-back"));
+        verify(metricsService, never()).recordBatchLag(anyString(), any());
+    }
+
+    private static MQMessage message(String messageId, Long putTimestamp) {
+        MQMessage message = new MQMessage(messageId, "TEST.QUEUE", "content");
+        message.setPutTimestamp(putTimestamp);
+        return message;
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+}
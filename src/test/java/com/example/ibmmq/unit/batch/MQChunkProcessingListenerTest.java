@@ -0,0 +1,65 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.MQChunkProcessingListener;
+import com.example.ibmmq.batch.ProcessingPipeline;
+import com.example.ibmmq.entity.MQMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MQChunkProcessingListener Tests")
+class MQChunkProcessingListenerTest {
+
+    @Mock
+    private ProcessingPipeline pipeline;
+
+    @InjectMocks
+    private MQChunkProcessingListener listener;
+
+    @Test
+    @DisplayName("Should process the messages of the chunk before writing")
+    void shouldProcessChunkBeforeWrite() throws Exception {
+        // Given
+        setProcessing(MQChunkProcessingListener.CHUNK_PROCESSING);
+        MQMessage first = new MQMessage("MSG-001", "TEST.QUEUE", "first");
+        MQMessage second = new MQMessage("MSG-002", "TEST.QUEUE", "second");
+
+        // When
+        listener.beforeWrite(List.of(first, "not a message", second));
+
+        // Then
+        verify(pipeline).processAll(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("Should leave the chunk alone in item processing mode")
+    void shouldNotProcessInItemMode() throws Exception {
+        // Given
+        setProcessing("item");
+
+        // When
+        listener.beforeWrite(List.of(new MQMessage("MSG-001", "TEST.QUEUE", "first")));
+
+        // Then
+        verify(pipeline, never()).processAll(anyList());
+    }
+
+    private void setProcessing(String value) throws Exception {
+        Field processing = MQChunkProcessingListener.class.getDeclaredField("processingProperty");
+        processing.setAccessible(true);
+        processing.set(listener, value);
+    }
+}
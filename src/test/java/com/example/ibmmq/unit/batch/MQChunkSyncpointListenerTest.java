@@ -0,0 +1,135 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.MQChunkSyncpointListener;
+import com.example.ibmmq.batch.MQMessageReader;
+import com.example.ibmmq.config.IBMMQConfig;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MQChunkSyncpointListener Tests")
+class MQChunkSyncpointListenerTest {
+
+    @Mock
+    private StepContext stepContext;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private IBMMQConfig config;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Queue queue;
+
+    @Mock
+    private MessageConsumer consumer;
+
+    @InjectMocks
+    private MQMessageReader reader;
+
+    @InjectMocks
+    private MQChunkSyncpointListener listener;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(config.getRequestQueue()).thenReturn("TEST.QUEUE");
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue("TEST.QUEUE")).thenReturn(queue);
+        when(session.createConsumer(queue)).thenReturn(consumer);
+        doAnswer(invocation -> {
+            when(stepContext.getTransientUserData()).thenReturn(invocation.getArgument(0));
+            return null;
+        }).when(stepContext).setTransientUserData(any());
+    }
+
+    @Test
+    @DisplayName("Should commit the reader's session once per chunk")
+    void shouldCommitAfterChunk() throws Exception {
+        // Given
+        reader.open(null);
+
+        // When
+        listener.beforeChunk();
+        listener.afterChunk();
+
+        // Then
+        verify(session, times(1)).commit();
+        verify(session, never()).rollback();
+    }
+
+    @Test
+    @DisplayName("Should roll the chunk's messages back to the queue when it fails")
+    void shouldRollBackFailedChunk() throws Exception {
+        // Given
+        reader.open(null);
+
+        // When
+        listener.onError(new RuntimeException("database unavailable"));
+
+        // Then
+        verify(session).rollback();
+        verify(session, never()).commit();
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed commit so the step fails")
+    void shouldPropagateCommitFailure() throws Exception {
+        // Given
+        reader.open(null);
+        doThrow(new JMSException("MQRC_BACKED_OUT")).when(session).commit();
+
+        // When & Then
+        assertThatThrownBy(() -> listener.afterChunk())
+            .isInstanceOf(JMSException.class)
+            .hasMessage("MQRC_BACKED_OUT");
+    }
+
+    @Test
+    @DisplayName("Should not fail the error path when the rollback fails")
+    void shouldSwallowRollbackFailure() throws Exception {
+        // Given
+        reader.open(null);
+        doThrow(new JMSException("connection broken")).when(session).rollback();
+
+        // When & Then
+        assertThatCode(() -> listener.onError(new RuntimeException("write failed"))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should do nothing without a transacted reader in the step")
+    void shouldIgnoreStepWithoutTransactedReader() throws Exception {
+        // When
+        listener.afterChunk();
+        listener.onError(new RuntimeException("failed"));
+
+        // Then
+        verifyNoInteractions(session);
+    }
+}
@@ -1,19 +1,29 @@
 package com.example.ibmmq.unit.batch;
 
+import com.example.ibmmq.batch.ContentSanitizingStage;
+import com.example.ibmmq.batch.MQChunkProcessingListener;
 import com.example.ibmmq.batch.MQMessageProcessor;
+import com.example.ibmmq.batch.MessageValidationStage;
+import com.example.ibmmq.batch.ProcessingPipeline;
 import com.example.ibmmq.backout.SimpleBackoutQueueService;
 import com.example.ibmmq.config.BackoutQueueConfig;
+import com.example.ibmmq.config.ProcessingConfig;
 import com.example.ibmmq.entity.MQMessage;
+import com.example.ibmmq.monitoring.MQMetricsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.lang.reflect.Field;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -31,10 +41,31 @@ class MQMessageProcessorTest {
     @Mock
     private BackoutQueueConfig backoutConfig;
 
+    @Mock
+    private MQMetricsService metricsService;
+
+    @Spy
+    private ProcessingConfig processingConfig = new ProcessingConfig();
+
+    @InjectMocks
+    private ContentSanitizingStage sanitizingStage;
+
+    @InjectMocks
+    private ProcessingPipeline pipeline;
+
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
         when(backoutConfig.isBackoutEnabled()).thenReturn(true);
         when(backoutConfig.getBackoutThreshold()).thenReturn(3);
+
+        pipeline.setStages(List.of(sanitizingStage, new MessageValidationStage()));
+        inject("pipeline", pipeline);
+    }
+
+    private void inject(String fieldName, Object value) throws Exception {
+        Field field = MQMessageProcessor.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(messageProcessor, value);
     }
 
     private MQMessage createTestMessage(String messageId, String content) {
@@ -372,4 +403,50 @@ class MQMessageProcessorTest {
         assertThat(processedMessage.getMessageType()).isEqualTo("TEXT");
         assertThat(processedMessage.getStatus()).isEqualTo(MQMessage.MessageStatus.PROCESSED);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should keep clean content without copying it")
+    void shouldKeepCleanContentInstance() throws Exception {
+        // Given
+        String content = "Clean content";
+        MQMessage message = createTestMessage("MSG-020", content);
+
+        // When
+        MQMessage processed = (MQMessage) messageProcessor.processItem(message);
+
+        // Then
+        assertThat(processed.getMessageContent()).isSameAs(content);
+        assertThat(processed.getStatus()).isEqualTo(MQMessage.MessageStatus.PROCESSED);
+    }
+
+    @Test
+    @DisplayName("Should use the configured content limit")
+    void shouldUseConfiguredContentLimit() throws Exception {
+        // Given
+        processingConfig.setMaxContentLength(10);
+        MQMessage message = createTestMessage("MSG-021", "0123456789abcdef");
+
+        // When
+        MQMessage processed = (MQMessage) messageProcessor.processItem(message);
+
+        // Then
+        assertThat(processed.getMessageContent()).isEqualTo("0123456789... [TRUNCATED]");
+    }
+
+    @Test
+    @DisplayName("Should pass messages through unprocessed in chunk processing mode")
+    void shouldPassThroughInChunkMode() throws Exception {
+        // Given
+        inject("processingProperty", MQChunkProcessingListener.CHUNK_PROCESSING);
+        MQMessage message = createTestMessage("MSG-022", "  untouched  ");
+
+        // When
+        Object result = messageProcessor.processItem(message);
+
+        // Then
+        assertThat(result).isSameAs(message);
+        assertThat(message.getMessageContent()).isEqualTo("  untouched  ");
+        assertThat(message.getStatus()).isEqualTo(MQMessage.MessageStatus.RECEIVED);
+        verifyNoInteractions(metricsService);
+    }
+}
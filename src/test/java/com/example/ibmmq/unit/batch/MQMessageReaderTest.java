@@ -3,6 +3,7 @@ package com.example.ibmmq.unit.batch;
 import com.example.ibmmq.batch.MQMessageReader;
 import com.example.ibmmq.config.IBMMQConfig;
 import com.example.ibmmq.entity.MQMessage;
+import jakarta.batch.runtime.context.StepContext;
 import jakarta.jms.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -52,6 +54,9 @@ class MQMessageReaderTest {
     @Mock
     private Message genericMessage;
 
+    @Mock
+    private StepContext stepContext;
+
     @InjectMocks
     private MQMessageReader messageReader;
 
@@ -59,7 +64,7 @@ class MQMessageReaderTest {
     void setUp() throws JMSException {
         when(config.getRequestQueue()).thenReturn("TEST.QUEUE");
         when(connectionFactory.createConnection()).thenReturn(connection);
-        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
         when(session.createQueue("TEST.QUEUE")).thenReturn(queue);
         when(session.createConsumer(queue)).thenReturn(consumer);
     }
@@ -73,10 +78,46 @@ class MQMessageReaderTest {
         // Then
         verify(config).getRequestQueue();
         verify(connectionFactory).createConnection();
-        verify(connection).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(connection).createSession(true, Session.SESSION_TRANSACTED);
         verify(session).createQueue("TEST.QUEUE");
         verify(session).createConsumer(queue);
         verify(connection).start();
+        verify(stepContext).setTransientUserData(messageReader);
+    }
+
+    @Test
+    @DisplayName("Should acknowledge each message when transactions are turned off")
+    void shouldUseAutoAcknowledgeWhenNotTransacted() throws Exception {
+        // Given
+        Field transacted = MQMessageReader.class.getDeclaredField("transactedProperty");
+        transacted.setAccessible(true);
+        transacted.set(messageReader, "false");
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+
+        // When
+        messageReader.open(null);
+
+        // Then
+        verify(connection).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(connection, never()).createSession(eq(true), anyInt());
+        verify(stepContext, never()).setTransientUserData(any());
+    }
+
+    @Test
+    @DisplayName("Should read the queue assigned by the partition plan")
+    void shouldReadPartitionQueue() throws Exception {
+        // Given
+        Field queueProperty = MQMessageReader.class.getDeclaredField("queueProperty");
+        queueProperty.setAccessible(true);
+        queueProperty.set(messageReader, "PARTITION.QUEUE");
+        when(session.createQueue("PARTITION.QUEUE")).thenReturn(queue);
+
+        // When
+        messageReader.open(null);
+
+        // Then
+        verify(session).createQueue("PARTITION.QUEUE");
+        verify(config, never()).getRequestQueue();
     }
 
     @Test
@@ -153,6 +194,7 @@ class MQMessageReaderTest {
         when(textMessage.getJMSCorrelationID()).thenReturn("CORR-001");
         when(textMessage.getJMSPriority()).thenReturn(5);
         when(textMessage.getJMSExpiration()).thenReturn(System.currentTimeMillis() + 60000);
+        when(textMessage.getJMSTimestamp()).thenReturn(1_700_000_000_000L);
         when(textMessage.getText()).thenReturn("Test message content");
 
         // When
@@ -165,6 +207,7 @@ class MQMessageReaderTest {
         assertThat(mqMessage.getMessageId()).isEqualTo("MSG-001");
         assertThat(mqMessage.getCorrelationId()).isEqualTo("CORR-001");
         assertThat(mqMessage.getPriority()).isEqualTo(5);
+        assertThat(mqMessage.getPutTimestamp()).isEqualTo(1_700_000_000_000L);
         assertThat(mqMessage.getMessageContent()).isEqualTo("Test message content");
         assertThat(mqMessage.getMessageType()).isEqualTo("TEXT");
 
@@ -294,6 +337,30 @@ class MQMessageReaderTest {
         assertThat(mqMessage.getMessageType()).isEqualTo("BYTES");
     }
 
+    @Test
+    @DisplayName("Should decode BytesMessage in its JMS_IBM_Character_Set")
+    void shouldDecodeBytesMessageInItsCharacterSet() throws Exception {
+        // Given
+        byte[] body = "Größe: 5 €".getBytes(java.nio.charset.Charset.forName("IBM1141"));
+        messageReader.open(null);
+        when(consumer.receive(5000)).thenReturn(bytesMessage);
+        when(bytesMessage.getJMSMessageID()).thenReturn("MSG-010");
+        when(bytesMessage.getObjectProperty("JMS_IBM_Character_Set")).thenReturn("1141");
+        when(bytesMessage.getBodyLength()).thenReturn((long) body.length);
+        doAnswer(invocation -> {
+            byte[] bytes = invocation.getArgument(0);
+            System.arraycopy(body, 0, bytes, 0, body.length);
+            return body.length;
+        }).when(bytesMessage).readBytes(any(byte[].class));
+
+        // When
+        MQMessage mqMessage = (MQMessage) messageReader.readItem();
+
+        // Then
+        assertThat(mqMessage.getMessageContent()).isEqualTo("Größe: 5 €");
+        assertThat(mqMessage.getMessageType()).isEqualTo("BYTES");
+    }
+
     @Test
     @DisplayName("Should handle message with all null JMS properties")
     void shouldHandleMessageWithAllNullJMSProperties() throws Exception {
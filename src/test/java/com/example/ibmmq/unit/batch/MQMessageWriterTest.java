@@ -17,7 +17,6 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -46,9 +45,7 @@ class MQMessageWriterTest {
 
     @BeforeEach
     void setUp() {
-        // Default behavior - message doesn't exist
-        when(messageRepository.findByMessageId(anyString())).thenReturn(Optional.empty());
-        when(messageRepository.save(any(MQMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(messageRepository.upsertAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
     }
 
     @Test
@@ -86,12 +83,11 @@ class MQMessageWriterTest {
         messageWriter.writeItems(items);
 
         // Then
-        verify(messageRepository).findByMessageId("MSG-001");
-        verify(messageRepository).save(message);
+        verify(messageRepository).upsertAll(List.of(message));
     }
 
     @Test
-    @DisplayName("Should write multiple new messages successfully")
+    @DisplayName("Should write multiple messages with one upsert")
     void shouldWriteMultipleNewMessagesSuccessfully() throws Exception {
         // Given
         MQMessage message1 = createTestMessage("MSG-001", "Content 1");
@@ -103,38 +99,28 @@ class MQMessageWriterTest {
         messageWriter.writeItems(items);
 
         // Then
-        verify(messageRepository).findByMessageId("MSG-001");
-        verify(messageRepository).findByMessageId("MSG-002");
-        verify(messageRepository).findByMessageId("MSG-003");
-        verify(messageRepository, times(3)).save(any(MQMessage.class));
+        verify(messageRepository, times(1)).upsertAll(List.of(message1, message2, message3));
+        verifyNoMoreInteractions(messageRepository);
     }
 
     @Test
-    @DisplayName("Should update existing message")
+    @DisplayName("Should leave updating existing messages to the upsert without reading them")
     void shouldUpdateExistingMessage() throws Exception {
         // Given
-        MQMessage existingMessage = createTestMessage("MSG-001", "Old content");
         MQMessage newMessage = createTestMessage("MSG-001", "New content");
         newMessage.setStatus(MQMessage.MessageStatus.FAILED);
         newMessage.setErrorMessage("Processing error");
         newMessage.setRetryCount(2);
 
-        when(messageRepository.findByMessageId("MSG-001")).thenReturn(Optional.of(existingMessage));
-
         List<Object> items = Collections.singletonList(newMessage);
 
         // When
         messageWriter.writeItems(items);
 
         // Then
-        verify(messageRepository, times(2)).findByMessageId("MSG-001"); // Called twice in the implementation
-        verify(messageRepository).save(existingMessage);
-
-        // Verify the existing message was updated
-        assertThat(existingMessage.getMessageContent()).isEqualTo("New content");
-        assertThat(existingMessage.getStatus()).isEqualTo(MQMessage.MessageStatus.FAILED);
-        assertThat(existingMessage.getErrorMessage()).isEqualTo("Processing error");
-        assertThat(existingMessage.getRetryCount()).isEqualTo(2);
+        verify(messageRepository, never()).findByMessageId(anyString());
+        verify(messageRepository, never()).save(any());
+        verify(messageRepository).upsertAll(List.of(newMessage));
     }
 
     @Test
@@ -147,7 +133,7 @@ class MQMessageWriterTest {
         messageWriter.writeItems(items);
 
         // Then
-        verify(messageRepository, never()).save(any());
+        verify(messageRepository, never()).upsertAll(anyList());
     }
 
     @Test
@@ -161,7 +147,7 @@ class MQMessageWriterTest {
             .isInstanceOf(Exception.class)
             .hasMessage("Failed to write 3 out of 3 messages");
 
-        verify(messageRepository, never()).save(any());
+        verify(messageRepository, never()).upsertAll(anyList());
     }
 
     @Test
@@ -176,17 +162,17 @@ class MQMessageWriterTest {
             .isInstanceOf(Exception.class)
             .hasMessage("Failed to write 2 out of 3 messages");
 
-        verify(messageRepository).save(validMessage);
+        verify(messageRepository).upsertAll(List.of(validMessage));
     }
 
     @Test
-    @DisplayName("Should handle repository save exception for new message")
+    @DisplayName("Should store failed state when a single message cannot be written")
     void shouldHandleRepositorySaveExceptionForNewMessage() throws Exception {
         // Given
         MQMessage message = createTestMessage("MSG-001", "Test content");
-        when(messageRepository.save(any(MQMessage.class)))
+        when(messageRepository.upsertAll(anyList()))
             .thenThrow(new RuntimeException("Database error"))
-            .thenReturn(message); // Second call for error state save
+            .thenReturn(1); // Second call for error state save
 
         List<Object> items = Collections.singletonList(message);
 
@@ -195,15 +181,15 @@ class MQMessageWriterTest {
             .isInstanceOf(Exception.class)
             .hasMessage("Failed to write 1 out of 1 messages");
 
-        verify(messageRepository, times(2)).save(any(MQMessage.class));
+        verify(messageRepository, times(2)).upsertAll(List.of(message));
     }
 
     @Test
-    @DisplayName("Should handle repository save exception for error state save")
+    @DisplayName("Should handle repository exception for error state save")
     void shouldHandleRepositorySaveExceptionForErrorStateSave() throws Exception {
         // Given
         MQMessage message = createTestMessage("MSG-001", "Test content");
-        when(messageRepository.save(any(MQMessage.class)))
+        when(messageRepository.upsertAll(anyList()))
             .thenThrow(new RuntimeException("Database error"));
 
         List<Object> items = Collections.singletonList(message);
@@ -213,25 +199,7 @@ class MQMessageWriterTest {
             .isInstanceOf(Exception.class)
             .hasMessage("Failed to write 1 out of 1 messages");
 
-        verify(messageRepository, times(2)).save(any(MQMessage.class));
-    }
-
-    @Test
-    @DisplayName("Should handle repository exception during findByMessageId")
-    void shouldHandleRepositoryExceptionDuringFindByMessageId() throws Exception {
-        // Given
-        MQMessage message = createTestMessage("MSG-001", "Test content");
-        when(messageRepository.findByMessageId("MSG-001")).thenThrow(new RuntimeException("Database error"));
-
-        List<Object> items = Collections.singletonList(message);
-
-        // When & Then
-        assertThatThrownBy(() -> messageWriter.writeItems(items))
-            .isInstanceOf(Exception.class)
-            .hasMessage("Failed to write 1 out of 1 messages");
-
-        verify(messageRepository).findByMessageId("MSG-001");
-        verify(messageRepository).save(any(MQMessage.class)); // Only one save call when findByMessageId throws exception
+        verify(messageRepository, times(2)).upsertAll(anyList());
     }
 
     @Test
@@ -251,11 +219,7 @@ class MQMessageWriterTest {
         MQMessage message1 = createTestMessage("MSG-001", "Content 1");
         MQMessage message2 = createTestMessage("MSG-002", "Content 2");
         MQMessage message3 = createTestMessage("MSG-003", "Content 3");
-
-        // Make the second message save fail
-        when(messageRepository.save(message2))
-            .thenThrow(new RuntimeException("Database error"))
-            .thenReturn(message2); // Second call for error state save
+        failWhileUnmarked(message2);
 
         List<Object> items = Arrays.asList(message1, message2, message3);
 
@@ -264,40 +228,33 @@ class MQMessageWriterTest {
             .isInstanceOf(Exception.class)
             .hasMessage("Failed to write 1 out of 3 messages");
 
-        verify(messageRepository).save(message1);
-        verify(messageRepository, times(2)).save(message2); // Original + error state
-        verify(messageRepository).save(message3);
+        verify(messageRepository).upsertAll(List.of(message1, message2, message3));
+        verify(messageRepository).upsertAll(List.of(message1));
+        verify(messageRepository).upsertAll(List.of(message2, message3));
+        verify(messageRepository, times(2)).upsertAll(List.of(message2)); // Original + error state
+        verify(messageRepository).upsertAll(List.of(message3));
+        assertThat(message2.getStatus()).isEqualTo(MQMessage.MessageStatus.FAILED);
+        assertThat(message1.getStatus()).isEqualTo(MQMessage.MessageStatus.PROCESSED);
     }
 
     @Test
-    @DisplayName("Should update all fields when updating existing message")
-    void shouldUpdateAllFieldsWhenUpdatingExistingMessage() throws Exception {
+    @DisplayName("Should isolate a failing message by bisection in logarithmic upserts")
+    void shouldIsolateFailingMessageByBisection() throws Exception {
         // Given
-        MQMessage existingMessage = createTestMessage("MSG-001", "Old content");
-        existingMessage.setStatus(MQMessage.MessageStatus.RECEIVED);
-        existingMessage.setErrorMessage(null);
-        existingMessage.setProcessedAt(null);
-        existingMessage.setRetryCount(0);
-
-        MQMessage newMessage = createTestMessage("MSG-001", "Updated content");
-        newMessage.setStatus(MQMessage.MessageStatus.PROCESSED);
-        newMessage.setErrorMessage("No error");
-        newMessage.setProcessedAt(java.time.LocalDateTime.now());
-        newMessage.setRetryCount(1);
+        List<Object> items = new java.util.ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            items.add(createTestMessage(String.format("MSG-%03d", i), "Content " + i));
+        }
+        MQMessage poison = (MQMessage) items.get(37);
+        failWhileUnmarked(poison);
 
-        when(messageRepository.findByMessageId("MSG-001")).thenReturn(Optional.of(existingMessage));
-
-        List<Object> items = Collections.singletonList(newMessage);
-
-        // When
-        messageWriter.writeItems(items);
+        // When & Then
+        assertThatThrownBy(() -> messageWriter.writeItems(items))
+            .hasMessage("Failed to write 1 out of 64 messages");
 
-        // Then
-        assertThat(existingMessage.getMessageContent()).isEqualTo("Updated content");
-        assertThat(existingMessage.getStatus()).isEqualTo(MQMessage.MessageStatus.PROCESSED);
-        assertThat(existingMessage.getErrorMessage()).isEqualTo("No error");
-        assertThat(existingMessage.getProcessedAt()).isEqualTo(newMessage.getProcessedAt());
-        assertThat(existingMessage.getRetryCount()).isEqualTo(1);
+        // One failed chunk, then both halves at each of the 6 levels, then the error state
+        verify(messageRepository, times(1 + 2 * 6 + 1)).upsertAll(anyList());
+        assertThat(poison.getStatus()).isEqualTo(MQMessage.MessageStatus.FAILED);
     }
 
     @Test
@@ -311,8 +268,7 @@ class MQMessageWriterTest {
         messageWriter.writeItems(items);
 
         // Then - should save the message even with null ID
-        verify(messageRepository).findByMessageId(null);
-        verify(messageRepository).save(message);
+        verify(messageRepository).upsertAll(List.of(message));
     }
 
     @Test
@@ -331,34 +287,8 @@ class MQMessageWriterTest {
         messageWriter.writeItems(items);
 
         // Then
-        verify(messageRepository, times(5)).findByMessageId(anyString());
-        verify(messageRepository, times(5)).save(any(MQMessage.class));
-    }
-
-    @Test
-    @DisplayName("Should handle update of existing message with null fields")
-    void shouldHandleUpdateOfExistingMessageWithNullFields() throws Exception {
-        // Given
-        MQMessage existingMessage = createTestMessage("MSG-001", "Old content");
-        existingMessage.setStatus(MQMessage.MessageStatus.RECEIVED);
-
-        MQMessage newMessage = createTestMessage("MSG-001", null);
-        newMessage.setStatus(null);
-        newMessage.setErrorMessage(null);
-        newMessage.setProcessedAt(null);
-
-        when(messageRepository.findByMessageId("MSG-001")).thenReturn(Optional.of(existingMessage));
-
-        List<Object> items = Collections.singletonList(newMessage);
-
-        // When
-        messageWriter.writeItems(items);
-
-        // Then
-        assertThat(existingMessage.getMessageContent()).isNull();
-        assertThat(existingMessage.getStatus()).isNull();
-        assertThat(existingMessage.getErrorMessage()).isNull();
-        assertThat(existingMessage.getProcessedAt()).isNull();
+        verify(messageRepository, times(1)).upsertAll(argThat(messages -> messages.size() == 5));
+        verify(messageRepository, never()).findByMessageId(anyString());
     }
 
     @Test
@@ -368,9 +298,9 @@ class MQMessageWriterTest {
         MQMessage message = createTestMessage("MSG-001", "Test content");
         RuntimeException saveException = new RuntimeException("Constraint violation");
 
-        when(messageRepository.save(message))
+        when(messageRepository.upsertAll(List.of(message)))
             .thenThrow(saveException)
-            .thenReturn(message); // Second call succeeds
+            .thenReturn(1); // Second call succeeds
 
         List<Object> items = Collections.singletonList(message);
 
@@ -382,4 +312,17 @@ class MQMessageWriterTest {
         assertThat(message.getStatus()).isEqualTo(MQMessage.MessageStatus.FAILED);
         assertThat(message.getErrorMessage()).isEqualTo("Database save error: Constraint violation");
     }
-}
\ No newline at end of file
+
+    /**
+     * Fails every upsert containing {@code message} until the writer has marked it as failed.
+     */
+    private void failWhileUnmarked(MQMessage message) {
+        when(messageRepository.upsertAll(anyList())).thenAnswer(invocation -> {
+            List<?> messages = invocation.getArgument(0);
+            if (messages.contains(message) && message.getStatus() != MQMessage.MessageStatus.FAILED) {
+                throw new RuntimeException("Database error");
+            }
+            return messages.size();
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.MQPartitionAnalyzer;
+import com.example.ibmmq.batch.PartitionProgress;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.context.JobContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MQPartitionAnalyzer Tests")
+class MQPartitionAnalyzerTest {
+
+    @Mock
+    private JobContext jobContext;
+
+    @Mock
+    private MQMetricsService metricsService;
+
+    @InjectMocks
+    private MQPartitionAnalyzer analyzer;
+
+    private final Properties jobProperties = new Properties();
+
+    @BeforeEach
+    void setUp() {
+        when(jobContext.getJobName()).thenReturn("mq-to-postgres-job");
+        when(jobContext.getProperties()).thenReturn(jobProperties);
+    }
+
+    @Test
+    @DisplayName("Should add partition reports to job totals")
+    void shouldAggregatePartitionReports() throws Exception {
+        // When
+        analyzer.analyzeCollectorData(new PartitionProgress(0, 10, 9, 1));
+        analyzer.analyzeCollectorData(new PartitionProgress(1, 10, 10, 0));
+        analyzer.analyzeCollectorData(new PartitionProgress(0, 5, 5, 0));
+
+        // Then
+        assertThat(jobProperties.getProperty(MQPartitionAnalyzer.ITEMS_READ)).isEqualTo("25");
+        assertThat(jobProperties.getProperty(MQPartitionAnalyzer.ITEMS_WRITTEN)).isEqualTo("24");
+        assertThat(jobProperties.getProperty(MQPartitionAnalyzer.ITEMS_SKIPPED)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("Should count each report once in the batch metrics")
+    void shouldRecordDeltasInMetrics() throws Exception {
+        // When
+        analyzer.analyzeCollectorData(new PartitionProgress(0, 10, 9, 1));
+        analyzer.analyzeCollectorData(new PartitionProgress(1, 4, 4, 0));
+
+        // Then
+        verify(metricsService).recordBatchJobMetrics("mq-to-postgres-job", 10, 9, 1);
+        verify(metricsService).recordBatchJobMetrics("mq-to-postgres-job", 4, 4, 0);
+    }
+
+    @Test
+    @DisplayName("Should ignore data it does not know")
+    void shouldIgnoreUnknownData() throws Exception {
+        // When
+        analyzer.analyzeCollectorData("unexpected");
+        analyzer.analyzeCollectorData(null);
+
+        // Then
+        verifyNoInteractions(metricsService);
+        assertThat(jobProperties).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count finished partitions")
+    void shouldCountFinishedPartitions() throws Exception {
+        // When
+        analyzer.analyzeStatus(BatchStatus.COMPLETED, "COMPLETED");
+        analyzer.analyzeStatus(BatchStatus.FAILED, "FAILED");
+
+        // Then
+        assertThat(jobProperties.getProperty(MQPartitionAnalyzer.PARTITIONS_COMPLETED)).isEqualTo("2");
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.MQPartitionCollector;
+import com.example.ibmmq.batch.PartitionProgress;
+import jakarta.batch.runtime.Metric;
+import jakarta.batch.runtime.context.StepContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MQPartitionCollector Tests")
+class MQPartitionCollectorTest {
+
+    @Mock
+    private StepContext stepContext;
+
+    @InjectMocks
+    private MQPartitionCollector collector;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field partition = MQPartitionCollector.class.getDeclaredField("partition");
+        partition.setAccessible(true);
+        partition.set(collector, "3");
+    }
+
+    @Test
+    @DisplayName("Should report the partition's step metrics")
+    void shouldReportStepMetrics() throws Exception {
+        // Given
+        metrics(10, 8, 1, 0, 1);
+
+        // When
+        PartitionProgress progress = (PartitionProgress) collector.collectPartitionData();
+
+        // Then
+        assertThat(progress.getPartition()).isEqualTo(3);
+        assertThat(progress.getRead()).isEqualTo(10);
+        assertThat(progress.getWritten()).isEqualTo(8);
+        assertThat(progress.getSkipped()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report only what changed since the last chunk")
+    void shouldReportDeltaSinceLastCollect() throws Exception {
+        // Given
+        metrics(10, 10, 0, 0, 0);
+        collector.collectPartitionData();
+        metrics(20, 19, 0, 1, 0);
+
+        // When
+        PartitionProgress progress = (PartitionProgress) collector.collectPartitionData();
+
+        // Then
+        assertThat(progress.getRead()).isEqualTo(10);
+        assertThat(progress.getWritten()).isEqualTo(9);
+        assertThat(progress.getSkipped()).isEqualTo(1);
+    }
+
+    private void metrics(long read, long written, long readSkips, long processSkips, long writeSkips) {
+        Metric[] metrics = {
+            metric(Metric.MetricType.READ_COUNT, read),
+            metric(Metric.MetricType.WRITE_COUNT, written),
+            metric(Metric.MetricType.READ_SKIP_COUNT, readSkips),
+            metric(Metric.MetricType.PROCESS_SKIP_COUNT, processSkips),
+            metric(Metric.MetricType.WRITE_SKIP_COUNT, writeSkips),
+            metric(Metric.MetricType.COMMIT_COUNT, 1)
+        };
+        when(stepContext.getMetrics()).thenReturn(metrics);
+    }
+
+    private static Metric metric(Metric.MetricType type, long value) {
+        Metric metric = mock(Metric.class);
+        when(metric.getType()).thenReturn(type);
+        when(metric.getValue()).thenReturn(value);
+        return metric;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.MQPartitionMapper;
+import com.example.ibmmq.config.IBMMQConfig;
+import jakarta.batch.api.partition.PartitionPlan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Field;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MQPartitionMapper Tests")
+class MQPartitionMapperTest {
+
+    @Mock
+    private IBMMQConfig config;
+
+    @InjectMocks
+    private MQPartitionMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        when(config.getRequestQueue()).thenReturn("DEV.QUEUE.1");
+    }
+
+    @Test
+    @DisplayName("Should plan one thread per requested partition")
+    void shouldPlanRequestedPartitions() throws Exception {
+        // Given
+        setProperty("partitions", "4");
+
+        // When
+        PartitionPlan plan = mapper.mapPartitions();
+
+        // Then
+        assertThat(plan.getPartitions()).isEqualTo(4);
+        assertThat(plan.getThreads()).isEqualTo(4);
+        Properties[] properties = plan.getPartitionProperties();
+        assertThat(properties).hasSize(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(properties[i].getProperty(MQPartitionMapper.PARTITION_PROPERTY)).isEqualTo(String.valueOf(i));
+            assertThat(properties[i].getProperty(MQPartitionMapper.QUEUE_PROPERTY)).isEqualTo("DEV.QUEUE.1");
+        }
+    }
+
+    @Test
+    @DisplayName("Should run a single partition when the parameter is missing or invalid")
+    void shouldDefaultToSinglePartition() throws Exception {
+        // Given
+        setProperty("partitions", null);
+
+        // When & Then
+        assertThat(mapper.mapPartitions().getPartitions()).isEqualTo(1);
+
+        setProperty("partitions", "many");
+        assertThat(mapper.mapPartitions().getPartitions()).isEqualTo(1);
+
+        setProperty("partitions", "0");
+        assertThat(mapper.mapPartitions().getPartitions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cap the partition count")
+    void shouldCapPartitionCount() throws Exception {
+        // Given
+        setProperty("partitions", "1000");
+
+        // When
+        PartitionPlan plan = mapper.mapPartitions();
+
+        // Then
+        assertThat(plan.getPartitions()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("Should hand every partition the queue from the job parameters")
+    void shouldUseQueueFromJobParameters() throws Exception {
+        // Given
+        setProperty("partitions", "2");
+        setProperty("queue", "DEV.QUEUE.2");
+
+        // When
+        PartitionPlan plan = mapper.mapPartitions();
+
+        // Then
+        assertThat(plan.getPartitionProperties())
+            .allSatisfy(p -> assertThat(p.getProperty(MQPartitionMapper.QUEUE_PROPERTY)).isEqualTo("DEV.QUEUE.2"));
+        verify(config, never()).getRequestQueue();
+    }
+
+    private void setProperty(String name, String value) throws Exception {
+        Field field = MQPartitionMapper.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(mapper, value);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.MQSkipRetryMetricsListener;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.jms.JMSException;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MQSkipRetryMetricsListener Tests")
+class MQSkipRetryMetricsListenerTest {
+
+    @Mock
+    private StepContext stepContext;
+
+    @Mock
+    private MQMetricsService metricsService;
+
+    @InjectMocks
+    private MQSkipRetryMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        when(stepContext.getStepName()).thenReturn("processMessages");
+    }
+
+    @Test
+    @DisplayName("Should count skipped items by phase and exception")
+    void shouldCountSkips() throws Exception {
+        // When
+        listener.onSkipReadItem(new JMSException("bad message"));
+        listener.onSkipProcessItem("item", new IllegalStateException("bad content"));
+        listener.onSkipWriteItem(List.of("a", "b", "c"), new RuntimeException("constraint"));
+
+        // Then
+        verify(metricsService).recordBatchSkip("processMessages", "read", "JMSException", 1);
+        verify(metricsService).recordBatchSkip("processMessages", "process", "IllegalStateException", 1);
+        verify(metricsService).recordBatchSkip("processMessages", "write", "RuntimeException", 3);
+    }
+
+    @Test
+    @DisplayName("Should count retries by phase and exception")
+    void shouldCountRetries() throws Exception {
+        // When
+        listener.onRetryReadException(new JMSException("connection broken"));
+        listener.onRetryProcessException("item", new IllegalStateException("busy"));
+        listener.onRetryWriteException(List.of("a"), new PersistenceException("deadlock"));
+
+        // Then
+        verify(metricsService).recordBatchRetry("processMessages", "read", "JMSException");
+        verify(metricsService).recordBatchRetry("processMessages", "process", "IllegalStateException");
+        verify(metricsService).recordBatchRetry("processMessages", "write", "PersistenceException");
+    }
+}
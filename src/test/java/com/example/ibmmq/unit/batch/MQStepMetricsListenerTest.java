@@ -0,0 +1,80 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.MQStepMetricsListener;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.Metric;
+import jakarta.batch.runtime.context.StepContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MQStepMetricsListener Tests")
+class MQStepMetricsListenerTest {
+
+    @Mock
+    private StepContext stepContext;
+
+    @Mock
+    private MQMetricsService metricsService;
+
+    @InjectMocks
+    private MQStepMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        when(stepContext.getStepName()).thenReturn("processMessages");
+        Metric[] metrics = {
+            metric(Metric.MetricType.READ_COUNT, 120),
+            metric(Metric.MetricType.WRITE_COUNT, 117),
+            metric(Metric.MetricType.COMMIT_COUNT, 12)
+        };
+        when(stepContext.getMetrics()).thenReturn(metrics);
+    }
+
+    @Test
+    @DisplayName("Should record the step's duration and item counts")
+    void shouldRecordStep() throws Exception {
+        // Given
+        when(stepContext.getExitStatus()).thenReturn("COMPLETED");
+
+        // When
+        listener.beforeStep();
+        listener.afterStep();
+
+        // Then
+        verify(metricsService).recordBatchStep(eq("processMessages"), longThat(nanos -> nanos >= 0), eq(120L), eq(117L), eq("COMPLETED"));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the batch status without an exit status")
+    void shouldUseBatchStatusWithoutExitStatus() throws Exception {
+        // Given
+        when(stepContext.getBatchStatus()).thenReturn(BatchStatus.FAILED);
+
+        // When
+        listener.beforeStep();
+        listener.afterStep();
+
+        // Then
+        verify(metricsService).recordBatchStep(eq("processMessages"), anyLong(), eq(120L), eq(117L), eq("FAILED"));
+    }
+
+    private static Metric metric(Metric.MetricType type, long value) {
+        Metric metric = mock(Metric.class);
+        when(metric.getType()).thenReturn(type);
+        when(metric.getValue()).thenReturn(value);
+        return metric;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.batch.MessageContentScanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MessageContentScanner Tests")
+class MessageContentScannerTest {
+
+    private final MessageContentScanner scanner = new MessageContentScanner(10000, List.of("error", "exception", "failed"));
+
+    @Test
+    @DisplayName("Should return clean content itself")
+    void shouldNotCopyCleanContent() {
+        // Given
+        String content = "Clean payload\r\nwith\ttabs";
+
+        // When
+        MessageContentScanner.Result result = scanner.scan(content);
+
+        // Then
+        assertThat(result.getContent()).isSameAs(content);
+        assertThat(result.isTruncated()).isFalse();
+        assertThat(result.isEmpty()).isFalse();
+        assertThat(result.getKeyword()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should remove control characters except CR, LF and TAB")
+    void shouldRemoveControlCharacters() {
+        // When
+        MessageContentScanner.Result result = scanner.scan("Start\u0000\u0001text\u007F\r\n\tEnd\u0085");
+
+        // Then - U+0085 is not an ASCII control character and stays
+        assertThat(result.getContent()).isEqualTo("Starttext\r\n\tEnd\u0085");
+    }
+
+    @Test
+    @DisplayName("Should find keywords joined by removed control characters")
+    void shouldMatchKeywordsInCleanedText() {
+        // When
+        MessageContentScanner.Result result = scanner.scan("an err\u0001or here");
+
+        // Then
+        assertThat(result.getContent()).isEqualTo("an error here");
+        assertThat(result.getKeyword()).isEqualTo("error");
+    }
+
+    @Test
+    @DisplayName("Should truncate after trimming and keep everything without a limit")
+    void shouldTruncate() {
+        // Given
+        String content = "  " + "a".repeat(10001) + "  ";
+
+        // When
+        MessageContentScanner.Result result = scanner.scan(content);
+        MessageContentScanner.Result unlimited = new MessageContentScanner(0, List.of()).scan(content);
+
+        // Then
+        assertThat(result.isTruncated()).isTrue();
+        assertThat(result.getContent()).hasSize(10000 + MessageContentScanner.TRUNCATION_MARKER.length())
+            .endsWith(MessageContentScanner.TRUNCATION_MARKER);
+        assertThat(unlimited.isTruncated()).isFalse();
+        assertThat(unlimited.getContent()).hasSize(10001);
+    }
+
+    @Test
+    @DisplayName("Should report content that is only whitespace as empty")
+    void shouldReportEmptyContent() {
+        // When
+        MessageContentScanner.Result result = scanner.scan(" \t\r\n\u0001 ");
+
+        // Then
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should produce what trim, substring and replaceAll produced")
+    void shouldMatchPreviousProcessing() {
+        // Given
+        Random random = new Random(7);
+        String alphabet = "abcERROR failed \t\r\n\u0000\u0001\u001F\u007Fä";
+        MessageContentScanner shortLimit = new MessageContentScanner(20, List.of("error", "exception", "failed"));
+
+        for (int n = 0; n < 5000; n++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = random.nextInt(40); i > 0; i--) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String content = text.toString();
+
+            // When
+            MessageContentScanner.Result result = shortLimit.scan(content);
+
+            // Then
+            String trimmed = content.trim();
+            if (trimmed.isEmpty()) {
+                assertThat(result.isEmpty()).as(content).isTrue();
+                continue;
+            }
+            if (trimmed.length() > 20) {
+                trimmed = trimmed.substring(0, 20) + "... [TRUNCATED]";
+            }
+            String expected = trimmed.replaceAll("[\\p{Cntrl}&&[^\r\n\t]]", "");
+            String lower = expected.toLowerCase();
+            boolean keyword = lower.contains("error") || lower.contains("exception") || lower.contains("failed");
+            assertThat(result.getContent()).as(content).isEqualTo(expected);
+            assertThat(result.getKeyword() != null).as(content).isEqualTo(keyword);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.ibmmq.unit.batch;
+
+import com.example.ibmmq.backout.SimpleBackoutQueueService;
+import com.example.ibmmq.batch.ProcessingPipeline;
+import com.example.ibmmq.batch.ProcessingStage;
+import com.example.ibmmq.config.BackoutQueueConfig;
+import com.example.ibmmq.config.ProcessingConfig;
+import com.example.ibmmq.entity.MQMessage;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ProcessingPipeline Tests")
+class ProcessingPipelineTest {
+
+    @Mock
+    private SimpleBackoutQueueService backoutQueueService;
+
+    @Mock
+    private BackoutQueueConfig backoutConfig;
+
+    @Mock
+    private MQMetricsService metricsService;
+
+    @Spy
+    private ProcessingConfig processingConfig = new ProcessingConfig();
+
+    @InjectMocks
+    private ProcessingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        when(backoutConfig.isBackoutEnabled()).thenReturn(false);
+        processingConfig.setParallelism(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run stages by order and time each of them")
+    void shouldRunStagesInOrder() {
+        // Given
+        List<String> calls = new CopyOnWriteArrayList<>();
+        pipeline.setStages(List.of(stage("third", 30, m -> calls.add("third")),
+                                   stage("first", 10, m -> calls.add("first")),
+                                   stage("second", 20, m -> calls.add("second"))));
+        MQMessage message = message(1);
+
+        // When
+        pipeline.process(message);
+
+        // Then
+        assertThat(calls).containsExactly("first", "second", "third");
+        assertThat(pipeline.getStages()).extracting(ProcessingStage::name).containsExactly("first", "second", "third");
+        assertThat(message.getStatus()).isEqualTo(MQMessage.MessageStatus.PROCESSED);
+        verify(metricsService).recordProcessingStage(eq("first"), anyLong(), eq("passed"));
+        verify(metricsService).recordProcessingStage(eq("third"), anyLong(), eq("passed"));
+    }
+
+    @Test
+    @DisplayName("Should stop at a stage that marks the message failed")
+    void shouldStopAtRejectingStage() {
+        // Given
+        List<String> calls = new CopyOnWriteArrayList<>();
+        pipeline.setStages(List.of(stage("reject", 10, m -> m.markAsFailed("Rejected")),
+                                   stage("later", 20, m -> calls.add("later"))));
+        MQMessage message = message(1);
+
+        // When
+        pipeline.process(message);
+
+        // Then
+        assertThat(calls).isEmpty();
+        assertThat(message.getStatus()).isEqualTo(MQMessage.MessageStatus.FAILED);
+        assertThat(message.getErrorMessage()).isEqualTo("Rejected");
+        verify(metricsService).recordProcessingStage(eq("reject"), anyLong(), eq("rejected"));
+    }
+
+    @Test
+    @DisplayName("Should fail the message when a stage throws")
+    void shouldFailMessageWhenStageThrows() {
+        // Given
+        pipeline.setStages(List.of(stage("boom", 10, m -> {
+            throw new IllegalStateException("boom");
+        })));
+        MQMessage message = message(1);
+
+        // When
+        pipeline.process(message);
+
+        // Then
+        assertThat(message.getStatus()).isEqualTo(MQMessage.MessageStatus.FAILED);
+        assertThat(message.getErrorMessage()).isEqualTo("Processing error: boom");
+        verify(metricsService).recordProcessingStage(eq("boom"), anyLong(), eq("failed"));
+        verifyNoInteractions(backoutQueueService);
+    }
+
+    @Test
+    @DisplayName("Should send the message to the backout queue when a stage throws past the threshold")
+    void shouldBackOutMessageWhenStageThrows() {
+        // Given
+        when(backoutConfig.isBackoutEnabled()).thenReturn(true);
+        when(backoutConfig.getBackoutThreshold()).thenReturn(3);
+        pipeline.setStages(List.of(stage("boom", 10, m -> {
+            throw new IllegalStateException("boom");
+        })));
+        MQMessage message = message(1);
+        message.setRetryCount(3);
+
+        // When
+        pipeline.process(message);
+
+        // Then
+        verify(backoutQueueService).sendToBackoutQueue(message, "Processing error: boom");
+    }
+
+    @Test
+    @DisplayName("Should process a chunk on several threads and keep its order")
+    void shouldProcessChunkInParallel() {
+        // Given
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        pipeline.setStages(List.of(stage("hash", 10, m -> {
+            threads.add(Thread.currentThread().getName());
+            m.setMessageContent(m.getMessageContent().toUpperCase());
+            busyWait();
+        })));
+        List<MQMessage> chunk = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            chunk.add(message(i));
+        }
+        List<MQMessage> before = new ArrayList<>(chunk);
+
+        // When
+        pipeline.processAll(chunk);
+
+        // Then
+        assertThat(chunk).isEqualTo(before);
+        for (int i = 0; i < chunk.size(); i++) {
+            assertThat(chunk.get(i).getMessageContent()).isEqualTo("CONTENT " + i);
+            assertThat(chunk.get(i).getStatus()).isEqualTo(MQMessage.MessageStatus.PROCESSED);
+        }
+        assertThat(threads).allMatch(name -> name.startsWith("mq-processing-"));
+        verify(metricsService, times(64)).recordProcessingStage(eq("hash"), anyLong(), eq("passed"));
+    }
+
+    @Test
+    @DisplayName("Should process a chunk on the calling thread with parallelism 1")
+    void shouldProcessChunkSequentiallyWithoutParallelism() {
+        // Given
+        processingConfig.setParallelism(1);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        pipeline.setStages(List.of(stage("record", 10, m -> threads.add(Thread.currentThread().getName()))));
+
+        // When
+        pipeline.processAll(List.of(message(1), message(2), message(3)));
+
+        // Then
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    private static void busyWait() {
+        long end = System.nanoTime() + 200_000;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static MQMessage message(int i) {
+        return new MQMessage("MSG-" + i, "TEST.QUEUE", "Content " + i);
+    }
+
+    private static ProcessingStage stage(String name, int order, StageBody body) {
+        return new ProcessingStage() {
+            @Override
+            public int order() {
+                return order;
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void process(MQMessage message) throws Exception {
+                body.apply(message);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface StageBody {
+        void apply(MQMessage message) throws Exception;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.ibmmq.unit.config;
+
+import com.example.ibmmq.config.QueueManagerEndpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QueueManagerEndpoint Tests")
+class QueueManagerEndpointTest {
+
+    @Test
+    @DisplayName("Should parse endpoint list with optional weights")
+    void shouldParseEndpointListWithOptionalWeights() {
+        // When
+        List<QueueManagerEndpoint> endpoints =
+            QueueManagerEndpoint.parseList("QM1@mq1.example.com(1414):3, QM2@10.0.0.2(1415)");
+
+        // Then
+        assertThat(endpoints).hasSize(2);
+        assertThat(endpoints.get(0).getQueueManager()).isEqualTo("QM1");
+        assertThat(endpoints.get(0).getHostname()).isEqualTo("mq1.example.com");
+        assertThat(endpoints.get(0).getPort()).isEqualTo(1414);
+        assertThat(endpoints.get(0).getWeight()).isEqualTo(3);
+        assertThat(endpoints.get(1).getPort()).isEqualTo(1415);
+        assertThat(endpoints.get(1).getWeight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return empty list for blank value")
+    void shouldReturnEmptyListForBlankValue() {
+        assertThat(QueueManagerEndpoint.parseList(null)).isEmpty();
+        assertThat(QueueManagerEndpoint.parseList("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed endpoint")
+    void shouldRejectMalformedEndpoint() {
+        assertThatThrownBy(() -> QueueManagerEndpoint.parse("mq1:1414"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("QMNAME@host(port)");
+        assertThatThrownBy(() -> QueueManagerEndpoint.parse("QM1@mq1(1414):0"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.ibmmq.unit.monitoring;
+
+import com.example.ibmmq.monitoring.ConnectionPoolReadinessCheck;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ConnectionPoolReadinessCheck Tests")
+class ConnectionPoolReadinessCheckTest {
+
+    @Mock
+    private IBMMQConnectionPool connectionPool;
+
+    @InjectMocks
+    private ConnectionPoolReadinessCheck readinessCheck;
+
+    @BeforeEach
+    void setUp() {
+        when(connectionPool.getPoolStatus()).thenReturn(new IBMMQConnectionPool.PoolStatus(2, 0, 2, 50, 5));
+    }
+
+    @Test
+    @DisplayName("Should report DOWN while pool is below minimum size")
+    void shouldReportDownWhilePoolIsBelowMinimum() {
+        // Given
+        when(connectionPool.isReady()).thenReturn(false);
+
+        // When
+        HealthCheckResponse response = readinessCheck.call();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HealthCheckResponse.Status.DOWN);
+        assertThat(response.getData()).hasValueSatisfying(data ->
+            assertThat(data).containsEntry("totalConnections", 2L).containsEntry("minPoolSize", 5L));
+    }
+
+    @Test
+    @DisplayName("Should report UP once pool is ready")
+    void shouldReportUpOncePoolIsReady() {
+        // Given
+        when(connectionPool.isReady()).thenReturn(true);
+
+        // When
+        HealthCheckResponse response = readinessCheck.call();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HealthCheckResponse.Status.UP);
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.ibmmq.unit.monitoring;
 
+import com.example.ibmmq.adapter.JakartaJMSAdapter;
 import com.example.ibmmq.entity.MQMessage;
 import com.example.ibmmq.monitoring.MQMetricsService;
 import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PoolMetricsListener;
 import com.example.ibmmq.repository.MQMessageRepository;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.JMSException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -103,6 +106,20 @@ class MQMetricsServiceTest {
             .doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("Should tag translated JMS exceptions with their public JMS type")
+    void shouldTagTranslatedExceptionsWithPublicType() {
+        // Given
+        JMSException translated = JakartaJMSAdapter.convertException(
+            new javax.jms.InvalidDestinationException("MQRC_UNKNOWN_OBJECT_NAME", "2085"));
+        JMSException plain = JakartaJMSAdapter.convertException(new javax.jms.JMSException("failed"));
+
+        // When & Then
+        assertThat(MQMetricsService.errorType(translated)).isEqualTo("InvalidDestinationException");
+        assertThat(MQMetricsService.errorType(plain)).isEqualTo("JMSException");
+        assertThat(MQMetricsService.errorType(new IllegalStateException())).isEqualTo("IllegalStateException");
+    }
+
     @Test
     @DisplayName("Should record message processed metric")
     void shouldRecordMessageProcessedMetric() {
@@ -206,4 +223,208 @@ class MQMetricsServiceTest {
             metricsService.endMessageProcessing(messageId, queueName, "SUCCESS");
         }).doesNotThrowAnyException();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should export pool rejections and wait time")
+    void shouldExportPoolRejectionsAndWaitTime() {
+        // Given
+        when(connectionPool.getTimeoutRejectionCount()).thenReturn(3L);
+        when(connectionPool.getWaiterLimitRejectionCount()).thenReturn(2L);
+        when(connectionPool.getWaitCount()).thenReturn(4L);
+        when(connectionPool.getTotalWaitNanos()).thenReturn(java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(200));
+        when(connectionPool.getWaitingThreadCount()).thenReturn(7);
+
+        // When
+        metricsService.initialize();
+
+        // Then
+        assertThat(meterRegistry.get("mq.connection.pool.rejections").tag("reason", "timeout").functionCounter().count())
+            .isEqualTo(3.0);
+        assertThat(meterRegistry.get("mq.connection.pool.rejections").tag("reason", "waiter_limit").functionCounter().count())
+            .isEqualTo(2.0);
+        assertThat(meterRegistry.get("mq.connection.pool.wait").functionTimer().count()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("mq.connection.pool.wait").functionTimer()
+            .totalTime(java.util.concurrent.TimeUnit.MILLISECONDS)).isEqualTo(200.0);
+        assertThat(meterRegistry.get("mq.connection.pool.waiting").gauge().value()).isEqualTo(7.0);
+    }
+
+    @Test
+    @DisplayName("Should record pool acquire and lease timings with percentiles")
+    void shouldRecordPoolAcquireAndLeaseTimings() {
+        // Given
+        when(connectionPool.getCreatedCount()).thenReturn(5L);
+        when(connectionPool.getLeakCount()).thenReturn(1L);
+        org.mockito.ArgumentCaptor<PoolMetricsListener> listener = org.mockito.ArgumentCaptor.forClass(PoolMetricsListener.class);
+
+        // When
+        metricsService.initialize();
+        verify(connectionPool).setMetricsListener(listener.capture());
+        listener.getValue().connectionAcquired(java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(3));
+        listener.getValue().connectionReleased(40);
+
+        // Then
+        assertThat(meterRegistry.get("mq.connection.pool.acquire").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mq.connection.pool.lease").timer()
+            .totalTime(java.util.concurrent.TimeUnit.MILLISECONDS)).isEqualTo(40.0);
+        assertThat(meterRegistry.get("mq.connection.pool.lease").timer().takeSnapshot().percentileValues()).hasSize(3);
+        assertThat(meterRegistry.get("mq.connection.pool.created").functionCounter().count()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("mq.connection.pool.leaks").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should record send latency per queue, mode and outcome")
+    void shouldRecordSendLatency() {
+        // Given
+        metricsService.initialize();
+
+        // When
+        metricsService.recordSendLatency("DEV.QUEUE.1", "async", java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(2), "sent");
+        metricsService.recordSendLatency("DEV.QUEUE.1", "async", java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(4), "sent");
+        metricsService.recordSendLatency("DEV.QUEUE.1", "async", java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(9), "failed");
+
+        // Then
+        Timer sent = meterRegistry.get("mq.message.send.duration").tag("status", "sent").timer();
+        assertThat(sent.count()).isEqualTo(2);
+        assertThat(sent.totalTime(java.util.concurrent.TimeUnit.MILLISECONDS)).isEqualTo(6.0);
+        assertThat(meterRegistry.get("mq.message.send.duration").tag("status", "failed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count ingested messages and time put-to-row only for written batches")
+    void shouldRecordIngestionBatches() {
+        // Given
+        metricsService.initialize();
+
+        // When
+        metricsService.recordIngestionBatch("DEV.QUEUE.1", 3, new long[]{5, 7, 12}, "written");
+        metricsService.recordIngestionBatch("DEV.QUEUE.1", 2, null, "rolled-back");
+
+        // Then
+        assertThat(meterRegistry.get("mq.ingest.messages").tag("status", "written").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("mq.ingest.messages").tag("status", "rolled-back").counter().count()).isEqualTo(2.0);
+        Timer putToRow = meterRegistry.get("mq.ingest.put.to.row").timer();
+        assertThat(putToRow.count()).isEqualTo(3);
+        assertThat(putToRow.max(java.util.concurrent.TimeUnit.MILLISECONDS)).isEqualTo(12.0);
+    }
+
+    @Test
+    @DisplayName("Should time processing stages by stage and outcome")
+    void shouldRecordProcessingStages() {
+        // Given
+        metricsService.initialize();
+
+        // When
+        metricsService.recordProcessingStage("sanitize", java.util.concurrent.TimeUnit.MICROSECONDS.toNanos(30), "passed");
+        metricsService.recordProcessingStage("sanitize", java.util.concurrent.TimeUnit.MICROSECONDS.toNanos(50), "passed");
+        metricsService.recordProcessingStage("validate", java.util.concurrent.TimeUnit.MICROSECONDS.toNanos(5), "failed");
+
+        // Then
+        Timer sanitize = meterRegistry.get("mq.processing.stage.duration").tag("stage", "sanitize").tag("status", "passed").timer();
+        assertThat(sanitize.count()).isEqualTo(2);
+        assertThat(sanitize.totalTime(java.util.concurrent.TimeUnit.MICROSECONDS)).isEqualTo(80.0);
+        assertThat(meterRegistry.get("mq.processing.stage.duration").tag("stage", "validate").tag("status", "failed").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should record chunk durations, sizes and phases")
+    void shouldRecordBatchChunks() {
+        // Given
+        metricsService.initialize();
+
+        // When
+        metricsService.recordBatchChunk("processMessages", 10, java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(40), "committed");
+        metricsService.recordBatchChunk("processMessages", 6, java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(20), "committed");
+        metricsService.recordBatchChunkPhase("processMessages", "read", java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(25));
+        metricsService.recordBatchChunkPhase("processMessages", "commit", java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(3));
+
+        // Then
+        Timer chunks = meterRegistry.get("mq.batch.chunk.duration").tag("status", "committed").timer();
+        assertThat(chunks.count()).isEqualTo(2);
+        assertThat(chunks.totalTime(java.util.concurrent.TimeUnit.MILLISECONDS)).isEqualTo(60.0);
+        assertThat(meterRegistry.get("mq.batch.chunk.items").summary().totalAmount()).isEqualTo(16.0);
+        assertThat(meterRegistry.get("mq.batch.chunk.phase").tag("phase", "read").timer().totalTime(java.util.concurrent.TimeUnit.MILLISECONDS))
+            .isEqualTo(25.0);
+        assertThat(meterRegistry.get("mq.batch.chunk.phase").tag("phase", "commit").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should record batch lag per message")
+    void shouldRecordBatchLag() {
+        // Given
+        metricsService.initialize();
+
+        // When
+        metricsService.recordBatchLag("processMessages", new long[]{120, 80, -5});
+
+        // Then
+        Timer lag = meterRegistry.get("mq.batch.lag").tag("step", "processMessages").timer();
+        assertThat(lag.count()).isEqualTo(3);
+        assertThat(lag.max(java.util.concurrent.TimeUnit.MILLISECONDS)).isEqualTo(120.0);
+        assertThat(lag.totalTime(java.util.concurrent.TimeUnit.MILLISECONDS)).isEqualTo(200.0);
+    }
+
+    @Test
+    @DisplayName("Should record step duration, items and throughput")
+    void shouldRecordBatchStep() {
+        // Given
+        metricsService.initialize();
+
+        // When
+        metricsService.recordBatchStep("processMessages", java.util.concurrent.TimeUnit.SECONDS.toNanos(2), 1000, 900, "COMPLETED");
+
+        // Then
+        assertThat(meterRegistry.get("mq.batch.step.duration").tag("status", "COMPLETED").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mq.batch.step.items").tag("outcome", "read").counter().count()).isEqualTo(1000.0);
+        assertThat(meterRegistry.get("mq.batch.step.items").tag("outcome", "written").counter().count()).isEqualTo(900.0);
+        assertThat(meterRegistry.get("mq.batch.step.throughput").summary().max()).isEqualTo(450.0);
+    }
+
+    @Test
+    @DisplayName("Should count batch skips and retries")
+    void shouldRecordBatchSkipsAndRetries() {
+        // Given
+        metricsService.initialize();
+
+        // When
+        metricsService.recordBatchSkip("processMessages", "write", "RuntimeException", 3);
+        metricsService.recordBatchSkip("processMessages", "read", "JMSException", 1);
+        metricsService.recordBatchRetry("processMessages", "write", "PersistenceException");
+
+        // Then
+        assertThat(meterRegistry.get("mq.batch.skips").tag("phase", "write").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("mq.batch.skips").tag("exception", "JMSException").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("mq.batch.retries").tag("phase", "write").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should record chosen chunk sizes")
+    void shouldRecordChunkSize() {
+        // Given
+        metricsService.initialize();
+
+        // When
+        metricsService.recordChunkSize("processMessages", 15);
+        metricsService.recordChunkSize("processMessages", 7);
+
+        // Then
+        assertThat(meterRegistry.get("mq.batch.chunk.size").tag("step", "processMessages").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("mq.batch.chunk.size").summary().max()).isEqualTo(15.0);
+    }
+
+    @Test
+    @DisplayName("Should count scheduler decisions by queue and action")
+    void shouldRecordSchedulingDecisions() {
+        // Given
+        metricsService.initialize();
+
+        // When
+        metricsService.recordSchedulingDecision("DEV.QUEUE.1", "IDLE");
+        metricsService.recordSchedulingDecision("DEV.QUEUE.1", "IDLE");
+        metricsService.recordSchedulingDecision("DEV.QUEUE.1", "STARTED");
+
+        // Then
+        assertThat(meterRegistry.get("mq.batch.scheduler.decisions").tag("action", "IDLE").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("mq.batch.scheduler.decisions").tag("action", "STARTED").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.ibmmq.unit.monitoring;
+
+import com.example.ibmmq.config.JobSchedulingConfig;
+import com.example.ibmmq.monitoring.QueueDepthMonitor;
+import com.ibm.mq.MQException;
+import com.ibm.mq.constants.CMQC;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QueueDepthMonitor Tests")
+class QueueDepthMonitorTest {
+
+    private final JobSchedulingConfig schedulingConfig = new JobSchedulingConfig();
+    private final List<String> inquiries = new ArrayList<>();
+    private long depth = 10;
+    private boolean failing;
+
+    private final QueueDepthMonitor monitor = new QueueDepthMonitor() {
+        @Override
+        protected long inquireDepth(String queueName) throws MQException {
+            inquiries.add(queueName);
+            if (failing) {
+                throw new MQException(CMQC.MQCC_FAILED, CMQC.MQRC_Q_MGR_NOT_AVAILABLE, this);
+            }
+            return depth;
+        }
+    };
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field field = QueueDepthMonitor.class.getDeclaredField("schedulingConfig");
+        field.setAccessible(true);
+        field.set(monitor, schedulingConfig);
+    }
+
+    @Test
+    @DisplayName("Should reuse a depth within the cache time")
+    void shouldCacheDepth() {
+        // Given
+        schedulingConfig.setDepthCache(60_000);
+
+        // When
+        long first = monitor.getDepth("DEV.QUEUE.1");
+        depth = 20;
+        long second = monitor.getDepth("DEV.QUEUE.1");
+        long other = monitor.getDepth("DEV.QUEUE.2");
+
+        // Then
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(10);
+        assertThat(other).isEqualTo(20);
+        assertThat(inquiries).containsExactly("DEV.QUEUE.1", "DEV.QUEUE.2");
+    }
+
+    @Test
+    @DisplayName("Should inquire again after the cache time or invalidation")
+    void shouldInquireAgain() {
+        // Given
+        schedulingConfig.setDepthCache(0);
+
+        // When
+        monitor.getDepth("DEV.QUEUE.1");
+        depth = 20;
+        long expired = monitor.getDepth("DEV.QUEUE.1");
+        schedulingConfig.setDepthCache(60_000);
+        depth = 30;
+        monitor.invalidate();
+        long invalidated = monitor.getDepth("DEV.QUEUE.1");
+
+        // Then
+        assertThat(expired).isEqualTo(20);
+        assertThat(invalidated).isEqualTo(30);
+        assertThat(inquiries).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should report an unknown depth when the inquiry fails and not cache it")
+    void shouldReportUnknownDepthOnFailure() {
+        // Given
+        schedulingConfig.setDepthCache(60_000);
+        failing = true;
+
+        // When
+        long unknown = monitor.getDepth("DEV.QUEUE.1");
+        failing = false;
+        long recovered = monitor.getDepth("DEV.QUEUE.1");
+
+        // Then
+        assertThat(unknown).isEqualTo(QueueDepthMonitor.UNKNOWN);
+        assertThat(recovered).isEqualTo(10);
+        assertThat(inquiries).hasSize(2);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.ibmmq.unit.pool;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+import com.example.ibmmq.pool.AdaptivePoolSizingPolicy;
+import com.example.ibmmq.pool.PoolSizingPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AdaptivePoolSizingPolicy Tests")
+class AdaptivePoolSizingPolicyTest {
+
+    @Test
+    @DisplayName("Should size to arrival rate times mean lease time plus headroom")
+    void shouldSizeByLittlesLaw() {
+        // Given - 100 borrows/s held 200ms each keep 20 connections busy
+        AdaptivePoolSizingPolicy policy = new AdaptivePoolSizingPolicy(1.25, 1.0, 100);
+
+        // When
+        int target = policy.targetSize(sample(1000, 100, 200, 0, 0, 5, 2, 50));
+
+        // Then
+        assertThat(target).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("Should grow by at most max step per evaluation")
+    void shouldLimitGrowthPerStep() {
+        // Given
+        AdaptivePoolSizingPolicy policy = new AdaptivePoolSizingPolicy(1.0, 1.0, 4);
+
+        // When
+        int first = policy.targetSize(sample(1000, 100, 200, 0, 0, 2, 2, 50));
+        int second = policy.targetSize(sample(1000, 100, 200, 0, 0, first, 2, 50));
+
+        // Then
+        assertThat(first).isEqualTo(6);
+        assertThat(second).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should shrink by one connection per evaluation when demand drops")
+    void shouldShrinkSlowly() {
+        // Given
+        AdaptivePoolSizingPolicy policy = new AdaptivePoolSizingPolicy(1.0, 1.0, 4);
+
+        // When
+        int target = policy.targetSize(sample(1000, 0, 0, 0, 0, 20, 2, 50));
+
+        // Then
+        assertThat(target).isEqualTo(19);
+    }
+
+    @Test
+    @DisplayName("Should count waiting threads and leased connections as demand")
+    void shouldCountWaitersAndActiveConnections() {
+        // Given - no lease completed yet, but 8 connections leased and 3 threads queued
+        AdaptivePoolSizingPolicy policy = new AdaptivePoolSizingPolicy(1.0, 1.0, 100);
+
+        // When
+        int target = policy.targetSize(sample(1000, 8, 0, 3, 8, 8, 2, 50));
+
+        // Then
+        assertThat(target).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Should damp a single spike with the moving average")
+    void shouldDampSpikes() {
+        // Given
+        AdaptivePoolSizingPolicy policy = new AdaptivePoolSizingPolicy(1.0, 0.25, 100);
+        policy.targetSize(sample(1000, 40, 100, 0, 0, 4, 2, 50));
+
+        // When - demand jumps from 4 to 40 connections for one sample
+        int target = policy.targetSize(sample(1000, 400, 100, 0, 0, 4, 2, 50));
+
+        // Then
+        assertThat(target).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("Should stay within min and max pool size")
+    void shouldRespectBounds() {
+        // Given
+        AdaptivePoolSizingPolicy policy = new AdaptivePoolSizingPolicy(2.0, 1.0, 1000);
+
+        // When & Then
+        assertThat(policy.targetSize(sample(1000, 1000, 1000, 0, 0, 10, 2, 50))).isEqualTo(50);
+        assertThat(new AdaptivePoolSizingPolicy(2.0, 1.0, 1000).targetSize(sample(1000, 0, 0, 0, 0, 3, 3, 50)))
+            .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject headroom below one and smoothing outside (0, 1]")
+    void shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new AdaptivePoolSizingPolicy(0.5, 0.3, 4))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptivePoolSizingPolicy(1.25, 0, 4))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should pick the policy from configuration with static as default")
+    void shouldSelectPolicyFromConfig() {
+        // Given
+        ConnectionPoolConfig poolConfig = mock(ConnectionPoolConfig.class);
+        when(poolConfig.getSizingHeadroom()).thenReturn(1.25);
+        when(poolConfig.getSizingSmoothing()).thenReturn(0.3);
+        when(poolConfig.getSizingMaxStep()).thenReturn(4);
+
+        // When & Then
+        assertThat(PoolSizingPolicy.forConfig(poolConfig)).isSameAs(PoolSizingPolicy.STATIC);
+        assertThat(PoolSizingPolicy.STATIC.targetSize(sample(1000, 500, 500, 10, 10, 5, 5, 50))).isEqualTo(5);
+
+        when(poolConfig.isAdaptiveSizing()).thenReturn(true);
+        assertThat(PoolSizingPolicy.forConfig(poolConfig)).isInstanceOf(AdaptivePoolSizingPolicy.class);
+    }
+
+    private static PoolSizingPolicy.Sample sample(long elapsedMillis, long borrows, long meanLeaseMillis,
+                                                  int waiting, int active, int currentTarget, int min, int max) {
+        return new PoolSizingPolicy.Sample(elapsedMillis, borrows, borrows, borrows * meanLeaseMillis,
+                                           waiting, active, currentTarget, min, max);
+    }
+}
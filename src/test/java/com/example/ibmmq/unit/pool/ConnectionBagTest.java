@@ -0,0 +1,235 @@
+package com.example.ibmmq.unit.pool;
+
+import com.example.ibmmq.pool.ConnectionBag;
+import com.example.ibmmq.pool.PooledConnection;
+import jakarta.jms.Connection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ConnectionBag Tests")
+class ConnectionBagTest {
+
+    private ConnectionBag bag;
+
+    @BeforeEach
+    void setUp() {
+        bag = new ConnectionBag();
+    }
+
+    @Test
+    @DisplayName("Should borrow idle connection and mark it in use")
+    void shouldBorrowIdleConnectionAndMarkItInUse() throws Exception {
+        // Given
+        PooledConnection entry = new PooledConnection(mock(Connection.class));
+        bag.add(entry);
+
+        // When
+        PooledConnection borrowed = bag.borrow(0, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertThat(borrowed).isSameAs(entry);
+        assertThat(borrowed.getState()).isEqualTo(PooledConnection.STATE_IN_USE);
+        assertThat(bag.getCount(PooledConnection.STATE_IN_USE)).isEqualTo(1);
+        assertThat(bag.getCount(PooledConnection.STATE_NOT_IN_USE)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return null when nothing is available before timeout")
+    void shouldReturnNullWhenNothingIsAvailableBeforeTimeout() throws Exception {
+        // Given
+        bag.add(new PooledConnection(mock(Connection.class)));
+        bag.borrow(0, TimeUnit.MILLISECONDS);
+
+        // When
+        PooledConnection borrowed = bag.borrow(20, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertThat(borrowed).isNull();
+        assertThat(bag.getWaitingThreadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should prefer connection last returned by the same thread")
+    void shouldPreferConnectionLastReturnedBySameThread() throws Exception {
+        // Given
+        PooledConnection first = new PooledConnection(mock(Connection.class));
+        PooledConnection second = new PooledConnection(mock(Connection.class));
+        bag.add(first);
+        bag.add(second);
+
+        PooledConnection a = bag.borrow(0, TimeUnit.MILLISECONDS);
+        PooledConnection b = bag.borrow(0, TimeUnit.MILLISECONDS);
+        bag.requite(b);
+
+        // When
+        PooledConnection borrowed = bag.borrow(0, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertThat(borrowed).isSameAs(b);
+        assertThat(a.getState()).isEqualTo(PooledConnection.STATE_IN_USE);
+    }
+
+    @Test
+    @DisplayName("Should hand returned connection directly to waiting thread")
+    void shouldHandReturnedConnectionDirectlyToWaitingThread() throws Exception {
+        // Given
+        PooledConnection entry = new PooledConnection(mock(Connection.class));
+        bag.add(entry);
+        PooledConnection borrowed = bag.borrow(0, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<PooledConnection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bag.borrow(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        });
+        while (bag.getWaitingThreadCount() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        bag.requite(borrowed);
+
+        // Then
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(entry);
+        assertThat(entry.getState()).isEqualTo(PooledConnection.STATE_IN_USE);
+    }
+
+    @Test
+    @DisplayName("Should not let a new arrival take a connection ahead of a waiting thread")
+    void shouldNotBargeAheadOfWaitingThread() throws Exception {
+        // Given
+        PooledConnection entry = new PooledConnection(mock(Connection.class));
+        bag.add(entry);
+        PooledConnection borrowed = bag.borrow(0, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<PooledConnection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bag.borrow(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        });
+        while (bag.getWaitingThreadCount() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When - the connection is idle again before requite has handed it off
+        borrowed.markAsAvailable();
+        PooledConnection barged = bag.borrow(0, TimeUnit.MILLISECONDS);
+        bag.requite(borrowed);
+
+        // Then
+        assertThat(barged).isNull();
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(entry);
+    }
+
+    @Test
+    @DisplayName("Should remove borrowed connection and skip it afterwards")
+    void shouldRemoveBorrowedConnection() throws Exception {
+        // Given
+        PooledConnection entry = new PooledConnection(mock(Connection.class));
+        bag.add(entry);
+        PooledConnection borrowed = bag.borrow(0, TimeUnit.MILLISECONDS);
+
+        // When
+        boolean removed = bag.remove(borrowed);
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(bag.size()).isZero();
+        assertThat(entry.getState()).isEqualTo(PooledConnection.STATE_REMOVED);
+        assertThat(bag.remove(entry)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not borrow reserved connection until unreserved")
+    void shouldNotBorrowReservedConnection() throws Exception {
+        // Given
+        PooledConnection entry = new PooledConnection(mock(Connection.class));
+        bag.add(entry);
+
+        // When
+        boolean reserved = bag.reserve(entry);
+
+        // Then
+        assertThat(reserved).isTrue();
+        assertThat(bag.borrow(0, TimeUnit.MILLISECONDS)).isNull();
+
+        bag.unreserve(entry);
+        assertThat(bag.borrow(0, TimeUnit.MILLISECONDS)).isSameAs(entry);
+    }
+
+    @Test
+    @DisplayName("Should reject new connections after close")
+    void shouldRejectNewConnectionsAfterClose() {
+        // When
+        bag.close();
+
+        // Then
+        assertThat(bag.isClosed()).isTrue();
+        assertThatThrownBy(() -> bag.add(new PooledConnection(mock(Connection.class))))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should never hand the same connection to two threads")
+    void shouldNeverHandSameConnectionToTwoThreads() throws Exception {
+        // Given
+        int connections = 4;
+        int threads = 16;
+        int iterations = 2000;
+        for (int i = 0; i < connections; i++) {
+            bag.add(new PooledConnection(mock(Connection.class)));
+        }
+        Set<PooledConnection> owned = ConcurrentHashMap.newKeySet();
+        AtomicInteger violations = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < iterations; i++) {
+                        PooledConnection entry = bag.borrow(1, TimeUnit.SECONDS);
+                        if (entry == null) {
+                            continue;
+                        }
+                        if (!owned.add(entry)) {
+                            violations.incrementAndGet();
+                        }
+                        owned.remove(entry);
+                        bag.requite(entry);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // Then
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(violations.get()).isZero();
+        assertThat(bag.getCount(PooledConnection.STATE_NOT_IN_USE)).isEqualTo(connections);
+    }
+}
@@ -2,8 +2,14 @@ package com.example.ibmmq.unit.pool;
 
 import com.example.ibmmq.config.ConnectionPoolConfig;
 import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.pool.ConnectionBag;
 import com.example.ibmmq.pool.IBMMQConnectionPool;
 import com.example.ibmmq.pool.PooledConnection;
+import com.example.ibmmq.pool.PooledConnectionHandle;
+import com.example.ibmmq.pool.PoolExhaustedException;
+import com.example.ibmmq.pool.PoolMetricsListener;
+import com.example.ibmmq.pool.PoolSizingPolicy;
+import com.example.ibmmq.pool.SessionLease;
 import jakarta.jms.Connection;
 import jakarta.jms.JMSException;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,13 +24,18 @@ import org.mockito.quality.Strictness;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -549,4 +560,768 @@ class IBMMQConnectionPoolTest {
         assertThat(result).isFalse();
         verify(mockJakartaConnection).getMetaData();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should borrow from bag engine and return connection on close")
+    void shouldBorrowFromBagEngineAndReturnConnectionOnClose() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        Connection mockJakartaConnection = mock(Connection.class);
+        when(mockJakartaConnection.getMetaData()).thenReturn(mock(jakarta.jms.ConnectionMetaData.class));
+        PooledConnection pooledConnection = new PooledConnection(mockJakartaConnection);
+        bag.add(pooledConnection);
+        useBagEngine(bag, 1);
+
+        // When
+        Connection connection = connectionPool.getConnection();
+
+        // Then
+        assertThat(connection).isInstanceOf(PooledConnectionHandle.class);
+        assertThat(((PooledConnectionHandle) connection).getPooledConnection()).isSameAs(pooledConnection);
+        assertThat(connectionPool.getPoolStatus().getActiveConnections()).isEqualTo(1);
+
+        // When
+        connection.close();
+
+        // Then
+        assertThat(pooledConnection.getState()).isEqualTo(PooledConnection.STATE_NOT_IN_USE);
+        assertThat(connectionPool.getPoolStatus().getAvailableConnections()).isEqualTo(1);
+        assertThat(connectionPool.getPoolStatus().getTotalConnections()).isEqualTo(1);
+        verify(mockJakartaConnection, never()).close();
+    }
+
+    @Test
+    @DisplayName("Should reject use of bag handle after it was released")
+    void shouldRejectUseOfBagHandleAfterRelease() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        Connection mockJakartaConnection = mock(Connection.class);
+        bag.add(new PooledConnection(mockJakartaConnection));
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        useBagEngine(bag, 1);
+
+        Connection connection = connectionPool.getConnection();
+        connectionPool.releaseConnection(connection);
+
+        // When & Then
+        assertThatThrownBy(() -> connection.createSession(false, jakarta.jms.Session.AUTO_ACKNOWLEDGE))
+            .isInstanceOf(jakarta.jms.IllegalStateException.class);
+        connectionPool.releaseConnection(connection);
+        assertThat(connectionPool.getPoolStatus().getAvailableConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should destroy invalid connection when released to bag engine")
+    void shouldDestroyInvalidConnectionWhenReleasedToBagEngine() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        Connection mockJakartaConnection = mock(Connection.class);
+        bag.add(new PooledConnection(mockJakartaConnection));
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        useBagEngine(bag, 1);
+
+        Connection connection = connectionPool.getConnection();
+        when(poolConfig.isValidationEnabled()).thenReturn(true);
+        when(mockJakartaConnection.getMetaData()).thenThrow(new JMSException("Connection invalid"));
+
+        // When
+        connection.close();
+
+        // Then
+        assertThat(bag.size()).isZero();
+        assertThat(connectionPool.getPoolStatus().getTotalConnections()).isZero();
+        verify(mockJakartaConnection).close();
+    }
+
+    @Test
+    @DisplayName("Should undo a borrower's connection state before the next borrow")
+    void shouldRestoreConnectionStateOnRelease() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        Connection mockJakartaConnection = mock(Connection.class);
+        jakarta.jms.ConnectionConsumer consumer = mock(jakarta.jms.ConnectionConsumer.class);
+        when(mockJakartaConnection.createConnectionConsumer(any(), any(), any(), anyInt())).thenReturn(consumer);
+        PooledConnection pooledConnection = new PooledConnection(mockJakartaConnection);
+        bag.add(pooledConnection);
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        useBagEngine(bag, 1);
+
+        Connection first = connectionPool.getConnection();
+        first.setExceptionListener(e -> { });
+        first.createConnectionConsumer(mock(jakarta.jms.Queue.class), null, mock(jakarta.jms.ServerSessionPool.class), 1);
+        first.stop();
+        assertThatThrownBy(() -> first.setClientID("borrower-1"))
+            .isInstanceOf(jakarta.jms.IllegalStateException.class);
+
+        // When
+        first.close();
+        Connection second = connectionPool.getConnection();
+
+        // Then
+        assertThat(((PooledConnectionHandle) second).getPooledConnection()).isSameAs(pooledConnection);
+        verify(consumer).close();
+        verify(mockJakartaConnection).setExceptionListener(null);
+        verify(mockJakartaConnection).start();
+        verify(mockJakartaConnection, never()).setClientID(any());
+        verify(mockJakartaConnection, never()).close();
+
+        // When - a borrower that changed nothing leaves nothing to undo
+        second.close();
+
+        // Then
+        verify(mockJakartaConnection, times(1)).setExceptionListener(null);
+        verify(mockJakartaConnection, times(1)).start();
+    }
+
+    @Test
+    @DisplayName("Should time out on bag engine when pool is exhausted")
+    void shouldTimeOutOnBagEngineWhenPoolIsExhausted() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        bag.add(new PooledConnection(mock(Connection.class)));
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        when(poolConfig.getMaxPoolSize()).thenReturn(1);
+        when(poolConfig.getMaxWaitTime()).thenReturn(50L);
+        useBagEngine(bag, 1);
+
+        connectionPool.getConnection();
+
+        // When & Then
+        assertThatThrownBy(() -> connectionPool.getConnection())
+            .isInstanceOf(JMSException.class)
+            .hasMessageContaining("Timed out");
+    }
+
+    @Test
+    @DisplayName("Should hand out cached session of pooled connection on repeated leases")
+    void shouldHandOutCachedSessionOnRepeatedLeases() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        Connection mockJakartaConnection = mock(Connection.class);
+        jakarta.jms.Session mockSession = mock(jakarta.jms.Session.class);
+        when(mockJakartaConnection.createSession(false, jakarta.jms.Session.AUTO_ACKNOWLEDGE)).thenReturn(mockSession);
+        PooledConnection pooledConnection = new PooledConnection(mockJakartaConnection);
+        bag.add(pooledConnection);
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        when(poolConfig.getSessionCacheSize()).thenReturn(10);
+        when(poolConfig.getSessionCacheIdleTime()).thenReturn(60000L);
+        when(poolConfig.getSessionCacheDestinations()).thenReturn(16);
+        useBagEngine(bag, 1);
+
+        // When
+        try (SessionLease lease = connectionPool.acquireSession(false, jakarta.jms.Session.AUTO_ACKNOWLEDGE)) {
+            assertThat(lease.getSession()).isSameAs(mockSession);
+        }
+        try (SessionLease lease = connectionPool.acquireSession(false, jakarta.jms.Session.AUTO_ACKNOWLEDGE)) {
+            assertThat(lease.getSession()).isSameAs(mockSession);
+        }
+
+        // Then
+        verify(mockJakartaConnection, times(1)).createSession(false, jakarta.jms.Session.AUTO_ACKNOWLEDGE);
+        assertThat(pooledConnection.getSessionCache().size()).isEqualTo(1);
+        assertThat(connectionPool.getPoolStatus().getAvailableConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail with PoolExhaustedException once max wait time has elapsed")
+    void shouldFailWithPoolExhaustedExceptionAfterMaxWaitTime() throws Exception {
+        // Given
+        useExhaustedQueueEngine();
+        when(poolConfig.getMaxWaitTime()).thenReturn(50L);
+
+        // When
+        long start = System.nanoTime();
+        Throwable thrown = catchThrowable(() -> connectionPool.getConnection());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(thrown).isInstanceOf(PoolExhaustedException.class).hasMessageContaining("Timed out");
+        assertThat(((PoolExhaustedException) thrown).getReason()).isEqualTo(PoolExhaustedException.Reason.TIMEOUT);
+        assertThat(elapsedMillis).isBetween(40L, 2000L);
+        assertThat(connectionPool.getTimeoutRejectionCount()).isEqualTo(1);
+        assertThat(connectionPool.getWaitCount()).isEqualTo(1);
+        assertThat(connectionPool.getWaitingThreadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when max waiters are already queued")
+    void shouldRejectImmediatelyWhenMaxWaitersReached() throws Exception {
+        // Given
+        useExhaustedQueueEngine();
+        when(poolConfig.getMaxWaitTime()).thenReturn(5000L);
+        when(poolConfig.getMaxWaiters()).thenReturn(1);
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(this::getConnectionUnchecked);
+        awaitWaitingThreads(1);
+
+        // When & Then
+        assertThatThrownBy(() -> connectionPool.getConnection())
+            .isInstanceOfSatisfying(PoolExhaustedException.class, e -> {
+                assertThat(e.getReason()).isEqualTo(PoolExhaustedException.Reason.WAITER_LIMIT);
+                assertThat(e.getErrorCode()).isEqualTo(PoolExhaustedException.ERROR_CODE);
+            });
+        assertThat(connectionPool.getWaiterLimitRejectionCount()).isEqualTo(1);
+
+        connectionPool.releaseConnection(mockConnection);
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(mockConnection);
+    }
+
+    @Test
+    @DisplayName("Should serve waiting threads in arrival order")
+    void shouldServeWaitersInArrivalOrder() throws Exception {
+        // Given
+        useExhaustedQueueEngine();
+        when(poolConfig.getMaxWaitTime()).thenReturn(5000L);
+        CompletableFuture<Connection> first = CompletableFuture.supplyAsync(this::getConnectionUnchecked);
+        awaitWaitingThreads(1);
+        CompletableFuture<Connection> second = CompletableFuture.supplyAsync(this::getConnectionUnchecked);
+        awaitWaitingThreads(2);
+
+        // When
+        connectionPool.releaseConnection(mockConnection);
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(mockConnection);
+        assertThat(second).isNotDone();
+
+        connectionPool.releaseConnection(mockConnection);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(mockConnection);
+    }
+
+    @Test
+    @DisplayName("Should open a replacement for a waiting thread when a released connection is destroyed")
+    void shouldReplaceDestroyedConnectionForWaiter() throws Exception {
+        // Given
+        Connection replacementConnection = mock(Connection.class);
+        connectionPool = new IBMMQConnectionPool() {
+            @Override
+            protected PooledConnection createPooledConnection() {
+                return new PooledConnection(replacementConnection);
+            }
+        };
+        Field configField = IBMMQConnectionPool.class.getDeclaredField("poolConfig");
+        configField.setAccessible(true);
+        configField.set(connectionPool, poolConfig);
+        useExhaustedQueueEngine();
+        when(poolConfig.getMaxWaitTime()).thenReturn(5000L);
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(this::getConnectionUnchecked);
+        awaitWaitingThreads(1);
+        when(poolConfig.isValidationEnabled()).thenReturn(true);
+        when(mockConnection.getMetaData()).thenThrow(new JMSException("Connection invalid"));
+
+        // When
+        connectionPool.releaseConnection(mockConnection);
+
+        // Then
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(replacementConnection);
+        verify(mockConnection).close();
+        assertThat(connectionPool.getPoolStatus().getTotalConnections()).isEqualTo(1);
+        assertThat(connectionPool.getTimeoutRejectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should queue behind waiting threads instead of taking an idle connection")
+    void shouldNotBargeAheadOfWaiters() throws Exception {
+        // Given
+        useExhaustedQueueEngine();
+        when(poolConfig.getMaxWaitTime()).thenReturn(5000L);
+        Field availableField = IBMMQConnectionPool.class.getDeclaredField("availableConnections");
+        Field waitingField = IBMMQConnectionPool.class.getDeclaredField("waitingThreads");
+        availableField.setAccessible(true);
+        waitingField.setAccessible(true);
+        Connection idleConnection = mock(Connection.class);
+        @SuppressWarnings("unchecked")
+        BlockingQueue<PooledConnection> available = (BlockingQueue<PooledConnection>) availableField.get(connectionPool);
+        available.offer(new PooledConnection(idleConnection));
+        // A waiter about to take the idle connection
+        ((AtomicInteger) waitingField.get(connectionPool)).incrementAndGet();
+
+        // When
+        Connection connection = connectionPool.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(idleConnection);
+        assertThat(connectionPool.getWaitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should throw PoolExhaustedException on bag engine timeout")
+    void shouldThrowPoolExhaustedExceptionOnBagEngineTimeout() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        bag.add(new PooledConnection(mock(Connection.class)));
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        when(poolConfig.getMaxPoolSize()).thenReturn(1);
+        when(poolConfig.getMaxWaitTime()).thenReturn(50L);
+        useBagEngine(bag, 1);
+        connectionPool.getConnection();
+
+        // When & Then
+        assertThatThrownBy(() -> connectionPool.getConnection()).isInstanceOf(PoolExhaustedException.class);
+        assertThat(connectionPool.getTimeoutRejectionCount()).isEqualTo(1);
+        assertThat(connectionPool.getTotalWaitNanos()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("Should skip validation on acquire and release for recently used connection")
+    void shouldSkipValidationForRecentlyUsedConnection() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        Connection mockJakartaConnection = mock(Connection.class);
+        bag.add(new PooledConnection(mockJakartaConnection));
+        when(poolConfig.getValidationIdleThreshold()).thenReturn(60000L);
+        useBagEngine(bag, 1);
+
+        // When
+        connectionPool.getConnection().close();
+
+        // Then
+        verify(mockJakartaConnection, never()).getMetaData();
+    }
+
+    @Test
+    @DisplayName("Should replace expired connection on acquire")
+    void shouldReplaceExpiredConnectionOnAcquire() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        Connection expiredConnection = mock(Connection.class);
+        PooledConnection expired = new PooledConnection(expiredConnection);
+        expired.setExpiresAt(System.currentTimeMillis() - 1);
+        bag.add(expired);
+        IBMMQConnectionPool pool = housekeepingPool(bag, 1);
+
+        // When
+        Connection connection = pool.getConnection();
+
+        // Then
+        assertThat(((PooledConnectionHandle) connection).getPooledConnection()).isNotSameAs(expired);
+        verify(expiredConnection).close();
+        assertThat(pool.getPoolStatus().getTotalConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not exceed max pool size when another thread takes the slot of an expired connection")
+    void shouldNotExceedMaxWhenReplacingExpiredConnection() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        Connection expiredConnection = mock(Connection.class);
+        PooledConnection expired = new PooledConnection(expiredConnection);
+        expired.setExpiresAt(System.currentTimeMillis() - 1);
+        bag.add(expired);
+        IBMMQConnectionPool pool = housekeepingPool(bag, 1);
+        when(poolConfig.getMaxPoolSize()).thenReturn(1);
+        when(poolConfig.getMaxWaitTime()).thenReturn(50L);
+        Field totalField = IBMMQConnectionPool.class.getDeclaredField("totalConnections");
+        totalField.setAccessible(true);
+        AtomicInteger totalConnections = (AtomicInteger) totalField.get(pool);
+        // A concurrent borrower reserves the freed slot while the expired connection is being closed
+        doAnswer(invocation -> totalConnections.incrementAndGet()).when(expiredConnection).close();
+
+        // When / Then
+        assertThatThrownBy(pool::getConnection).isInstanceOf(PoolExhaustedException.class);
+        verify(expiredConnection).close();
+        assertThat(totalConnections.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retire expired and invalid idle connections and refill to minimum in housekeeping")
+    void shouldRetireAndRefillInHousekeeping() throws Exception {
+        // Given
+        when(poolConfig.getMinPoolSize()).thenReturn(3);
+        ConnectionBag bag = new ConnectionBag();
+        Connection expiredConnection = mock(Connection.class);
+        Connection brokenConnection = mock(Connection.class);
+        Connection healthyConnection = mock(Connection.class);
+        when(brokenConnection.getMetaData()).thenThrow(new JMSException("Connection broken"));
+        PooledConnection expired = new PooledConnection(expiredConnection);
+        expired.setExpiresAt(System.currentTimeMillis() - 1);
+        PooledConnection healthy = new PooledConnection(healthyConnection);
+        bag.add(expired);
+        bag.add(new PooledConnection(brokenConnection));
+        bag.add(healthy);
+        IBMMQConnectionPool pool = housekeepingPool(bag, 3);
+
+        // When
+        invokeHousekeep(pool);
+
+        // Then
+        verify(expiredConnection).close();
+        verify(brokenConnection).close();
+        verify(healthyConnection).getMetaData();
+        verify(healthyConnection, never()).close();
+        assertThat(bag.values()).hasSize(3).contains(healthy);
+        assertThat(pool.getPoolStatus().getTotalConnections()).isEqualTo(3);
+        assertThat(pool.getPoolStatus().getAvailableConnections()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should evict connections idle beyond max idle time down to minimum in housekeeping")
+    void shouldEvictIdleConnectionsDownToMinimum() throws Exception {
+        // Given
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        when(poolConfig.getMinPoolSize()).thenReturn(1);
+        when(poolConfig.getMaxIdleTime()).thenReturn(10L);
+        ArrayBlockingQueue<PooledConnection> available = new ArrayBlockingQueue<>(10, true);
+        available.add(new PooledConnection(mock(Connection.class)));
+        available.add(new PooledConnection(mock(Connection.class)));
+        available.add(new PooledConnection(mock(Connection.class)));
+        Field availableField = IBMMQConnectionPool.class.getDeclaredField("availableConnections");
+        Field activeField = IBMMQConnectionPool.class.getDeclaredField("activeConnections");
+        Field totalField = IBMMQConnectionPool.class.getDeclaredField("totalConnections");
+        availableField.setAccessible(true);
+        activeField.setAccessible(true);
+        totalField.setAccessible(true);
+        availableField.set(connectionPool, available);
+        activeField.set(connectionPool, new ConcurrentHashMap<>());
+        totalField.set(connectionPool, new AtomicInteger(3));
+        Thread.sleep(20);
+
+        // When
+        invokeHousekeep(connectionPool);
+
+        // Then
+        assertThat(available).hasSize(1);
+        assertThat(connectionPool.getPoolStatus().getTotalConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should open initial connections in parallel")
+    void shouldOpenInitialConnectionsInParallel() throws Exception {
+        // Given
+        when(poolConfig.getInitialPoolSize()).thenReturn(4);
+        when(poolConfig.getMinPoolSize()).thenReturn(4);
+        when(poolConfig.getWarmupParallelism()).thenReturn(4);
+        when(poolConfig.getWarmupTimeout()).thenReturn(5000L);
+        when(poolConfig.isBagEngine()).thenReturn(true);
+        java.util.concurrent.CyclicBarrier allConnecting = new java.util.concurrent.CyclicBarrier(4);
+        IBMMQConnectionPool pool = warmupPool(() -> allConnecting.await(5, TimeUnit.SECONDS));
+
+        // When
+        invokeInitializePool(pool);
+
+        // Then - all four connects were in flight at the same time
+        assertThat(pool.getPoolStatus().getTotalConnections()).isEqualTo(4);
+        assertThat(pool.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should finish warm-up in background after startup budget is exceeded")
+    void shouldFinishWarmupInBackgroundAfterBudget() throws Exception {
+        // Given
+        when(poolConfig.getInitialPoolSize()).thenReturn(2);
+        when(poolConfig.getMinPoolSize()).thenReturn(2);
+        when(poolConfig.getWarmupParallelism()).thenReturn(2);
+        when(poolConfig.getWarmupTimeout()).thenReturn(20L);
+        when(poolConfig.isBagEngine()).thenReturn(true);
+        java.util.concurrent.CountDownLatch brokerUp = new java.util.concurrent.CountDownLatch(1);
+        IBMMQConnectionPool pool = warmupPool(() -> brokerUp.await(5, TimeUnit.SECONDS));
+
+        // When
+        long start = System.nanoTime();
+        invokeInitializePool(pool);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(2000);
+        assertThat(pool.isReady()).isFalse();
+
+        brokerUp.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!pool.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(pool.isReady()).isTrue();
+        assertThat(pool.getPoolStatus().getAvailableConnections()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not be ready when initial connections fail")
+    void shouldNotBeReadyWhenInitialConnectionsFail() throws Exception {
+        // Given
+        when(poolConfig.getInitialPoolSize()).thenReturn(2);
+        when(poolConfig.getWarmupParallelism()).thenReturn(2);
+        when(poolConfig.getWarmupTimeout()).thenReturn(5000L);
+        IBMMQConnectionPool pool = warmupPool(() -> {
+            throw new JMSException("MQRC_Q_MGR_NOT_AVAILABLE");
+        });
+
+        // When
+        invokeInitializePool(pool);
+
+        // Then
+        assertThat(pool.getPoolStatus().getTotalConnections()).isZero();
+        assertThat(pool.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should track the holder and report lease timings to the metrics listener")
+    void shouldTrackLeaseAndNotifyMetricsListener() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        PooledConnection pooledConnection = new PooledConnection(mock(Connection.class));
+        bag.add(pooledConnection);
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        useBagEngine(bag, 1);
+        AtomicInteger acquired = new AtomicInteger();
+        AtomicLong leaseMillis = new AtomicLong(-1);
+        connectionPool.setMetricsListener(new PoolMetricsListener() {
+            @Override
+            public void connectionAcquired(long acquireNanos) {
+                acquired.incrementAndGet();
+            }
+
+            @Override
+            public void connectionReleased(long lease) {
+                leaseMillis.set(lease);
+            }
+        });
+
+        // When
+        Connection connection = connectionPool.getConnection();
+
+        // Then
+        assertThat(acquired.get()).isEqualTo(1);
+        List<IBMMQConnectionPool.ConnectionInfo> details = connectionPool.getConnectionDetails();
+        assertThat(details).hasSize(1);
+        assertThat(details.get(0).getState()).isEqualTo("IN_USE");
+        assertThat(details.get(0).getHolder()).isEqualTo(Thread.currentThread().getName());
+        assertThat(pooledConnection.getBorrowTrace()).isNull();
+
+        // When
+        connection.close();
+
+        // Then
+        assertThat(leaseMillis.get()).isGreaterThanOrEqualTo(0);
+        assertThat(connectionPool.getConnectionDetails().get(0).getState()).isEqualTo("IDLE");
+        assertThat(connectionPool.getConnectionDetails().get(0).getHolder()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should report a lease held beyond the leak threshold once, with its borrow trace")
+    void shouldReportLeakedConnectionOnce() throws Exception {
+        // Given
+        useExhaustedQueueEngine();
+        when(poolConfig.getLeakDetectionThreshold()).thenReturn(20L);
+        BlockingQueue<PooledConnection> available = new ArrayBlockingQueue<>(2, true);
+        PooledConnection pooledConnection = new PooledConnection(mock(Connection.class));
+        available.offer(pooledConnection);
+        Field availableField = IBMMQConnectionPool.class.getDeclaredField("availableConnections");
+        availableField.setAccessible(true);
+        availableField.set(connectionPool, available);
+
+        Connection connection = connectionPool.getConnection();
+        assertThat(pooledConnection.getBorrowTrace()).isNotNull();
+        Thread.sleep(40);
+
+        // When
+        invokeDetectLeaks();
+        invokeDetectLeaks();
+
+        // Then
+        assertThat(connectionPool.getLeakCount()).isEqualTo(1);
+        assertThat(pooledConnection.isLeakReported()).isTrue();
+
+        // When
+        connectionPool.releaseConnection(connection);
+
+        // Then
+        assertThat(pooledConnection.getHolder()).isNull();
+        assertThat(pooledConnection.getBorrowTrace()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count created, destroyed and failed-validation connections")
+    void shouldCountConnectionLifecycleEvents() throws Exception {
+        // Given
+        ConnectionBag bag = new ConnectionBag();
+        Connection brokenConnection = mock(Connection.class);
+        when(brokenConnection.getMetaData()).thenThrow(new JMSException("Connection invalid"));
+        bag.add(new PooledConnection(brokenConnection));
+        when(poolConfig.getValidationIdleThreshold()).thenReturn(0L);
+        IBMMQConnectionPool pool = housekeepingPool(bag, 1);
+
+        // When
+        invokeHousekeep(pool);
+
+        // Then
+        assertThat(pool.getValidationFailureCount()).isEqualTo(1);
+        assertThat(pool.getDestroyedCount()).isEqualTo(1);
+        assertThat(pool.getCreatedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should grow and shrink the pool to the sizing policy's target in housekeeping")
+    void shouldFollowSizingPolicyTarget() throws Exception {
+        // Given
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        when(poolConfig.getMaxIdleTime()).thenReturn(0L);
+        ConnectionBag bag = new ConnectionBag();
+        bag.add(new PooledConnection(mock(Connection.class)));
+        bag.add(new PooledConnection(mock(Connection.class)));
+        IBMMQConnectionPool pool = housekeepingPool(bag, 2);
+        AtomicInteger target = new AtomicInteger(6);
+        pool.setSizingPolicy(() -> sample -> target.get());
+
+        // When
+        invokeHousekeep(pool);
+
+        // Then
+        assertThat(pool.getTargetSize()).isEqualTo(6);
+        assertThat(bag.size()).isEqualTo(6);
+
+        // When - the target exceeds max and later falls below min
+        target.set(50);
+        invokeHousekeep(pool);
+        assertThat(pool.getTargetSize()).isEqualTo(10);
+        target.set(0);
+        Thread.sleep(5);
+        invokeHousekeep(pool);
+
+        // Then
+        assertThat(pool.getTargetSize()).isEqualTo(2);
+        assertThat(bag.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should pass borrow rate and lease time to the sizing policy")
+    void shouldSampleDemandForSizingPolicy() throws Exception {
+        // Given
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        ConnectionBag bag = new ConnectionBag();
+        bag.add(new PooledConnection(mock(Connection.class)));
+        IBMMQConnectionPool pool = housekeepingPool(bag, 1);
+        java.util.concurrent.atomic.AtomicReference<PoolSizingPolicy.Sample> seen = new java.util.concurrent.atomic.AtomicReference<>();
+        pool.setSizingPolicy(() -> sample -> {
+            seen.set(sample);
+            return sample.getMinPoolSize();
+        });
+        for (int i = 0; i < 3; i++) {
+            pool.getConnection().close();
+        }
+        Connection held = pool.getConnection();
+
+        // When
+        invokeHousekeep(pool);
+
+        // Then
+        assertThat(seen.get().getBorrows()).isEqualTo(4);
+        assertThat(seen.get().getCompletedLeases()).isEqualTo(3);
+        assertThat(seen.get().getActiveConnections()).isEqualTo(1);
+        assertThat(seen.get().getMaxPoolSize()).isEqualTo(10);
+        held.close();
+    }
+
+    private void invokeDetectLeaks() throws Exception {
+        Method detectLeaks = IBMMQConnectionPool.class.getDeclaredMethod("detectLeaks");
+        detectLeaks.setAccessible(true);
+        detectLeaks.invoke(connectionPool);
+    }
+
+    private interface Connect {
+        void await() throws Exception;
+    }
+
+    private IBMMQConnectionPool warmupPool(Connect connect) throws Exception {
+        IBMMQConnectionPool pool = new IBMMQConnectionPool() {
+            @Override
+            protected PooledConnection createPooledConnection() throws JMSException {
+                try {
+                    connect.await();
+                } catch (JMSException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new JMSException(e.toString());
+                }
+                return new PooledConnection(mock(Connection.class));
+            }
+        };
+        Field configField = IBMMQConnectionPool.class.getDeclaredField("poolConfig");
+        configField.setAccessible(true);
+        configField.set(pool, poolConfig);
+        return pool;
+    }
+
+    private void invokeInitializePool(IBMMQConnectionPool pool) throws Exception {
+        Method initializePool = IBMMQConnectionPool.class.getDeclaredMethod("initializePool");
+        initializePool.setAccessible(true);
+        initializePool.invoke(pool);
+    }
+
+    /**
+     * Bag-engine pool whose new connections are mocks, so refill and replacement can be observed.
+     */
+    private IBMMQConnectionPool housekeepingPool(ConnectionBag bag, int total) throws Exception {
+        when(poolConfig.getMaxPoolSize()).thenReturn(10);
+        IBMMQConnectionPool pool = new IBMMQConnectionPool() {
+            @Override
+            protected PooledConnection createPooledConnection() {
+                return new PooledConnection(mock(Connection.class));
+            }
+        };
+        Field configField = IBMMQConnectionPool.class.getDeclaredField("poolConfig");
+        Field bagField = IBMMQConnectionPool.class.getDeclaredField("connectionBag");
+        Field totalField = IBMMQConnectionPool.class.getDeclaredField("totalConnections");
+        configField.setAccessible(true);
+        bagField.setAccessible(true);
+        totalField.setAccessible(true);
+        configField.set(pool, poolConfig);
+        bagField.set(pool, bag);
+        totalField.set(pool, new AtomicInteger(total));
+        return pool;
+    }
+
+    private void invokeHousekeep(IBMMQConnectionPool pool) throws Exception {
+        Method housekeep = IBMMQConnectionPool.class.getDeclaredMethod("housekeep");
+        housekeep.setAccessible(true);
+        housekeep.invoke(pool);
+    }
+
+    /**
+     * Queue engine at max size 1 with its only connection ({@code mockConnection}) checked out.
+     */
+    private void useExhaustedQueueEngine() throws Exception {
+        when(poolConfig.isValidationEnabled()).thenReturn(false);
+        when(poolConfig.getMaxPoolSize()).thenReturn(1);
+        when(poolConfig.getMinPoolSize()).thenReturn(1);
+        PooledConnection pooledConnection = new PooledConnection(mockConnection);
+        pooledConnection.markAsActive();
+        ConcurrentMap<Connection, PooledConnection> active = new ConcurrentHashMap<>();
+        active.put(mockConnection, pooledConnection);
+
+        Field availableField = IBMMQConnectionPool.class.getDeclaredField("availableConnections");
+        Field activeField = IBMMQConnectionPool.class.getDeclaredField("activeConnections");
+        Field totalField = IBMMQConnectionPool.class.getDeclaredField("totalConnections");
+        availableField.setAccessible(true);
+        activeField.setAccessible(true);
+        totalField.setAccessible(true);
+        availableField.set(connectionPool, new ArrayBlockingQueue<PooledConnection>(1, true));
+        activeField.set(connectionPool, active);
+        totalField.set(connectionPool, new AtomicInteger(1));
+    }
+
+    private Connection getConnectionUnchecked() {
+        try {
+            return connectionPool.getConnection();
+        } catch (JMSException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void awaitWaitingThreads(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (connectionPool.getWaitingThreadCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(connectionPool.getWaitingThreadCount()).isEqualTo(count);
+        // Give the waiter time to park inside poll() after registering
+        Thread.sleep(50);
+    }
+
+    private void useBagEngine(ConnectionBag bag, int total) throws Exception {
+        Field bagField = IBMMQConnectionPool.class.getDeclaredField("connectionBag");
+        Field totalField = IBMMQConnectionPool.class.getDeclaredField("totalConnections");
+        bagField.setAccessible(true);
+        totalField.setAccessible(true);
+        bagField.set(connectionPool, bag);
+        totalField.set(connectionPool, new AtomicInteger(total));
+    }
+}
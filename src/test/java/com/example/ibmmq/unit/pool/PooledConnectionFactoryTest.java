@@ -0,0 +1,390 @@
+package com.example.ibmmq.unit.pool;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+import com.example.ibmmq.pool.ConnectionBag;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PoolExhaustedException;
+import com.example.ibmmq.pool.PooledConnection;
+import com.example.ibmmq.pool.PooledConnectionFactory;
+import jakarta.jms.Connection;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.JMSRuntimeException;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TemporaryQueue;
+import jakarta.jms.TemporaryTopic;
+import jakarta.jms.TextMessage;
+import jakarta.jms.Topic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PooledConnectionFactory Tests")
+class PooledConnectionFactoryTest {
+
+    @Mock
+    private ConnectionPoolConfig poolConfig;
+
+    @Mock
+    private Connection physicalConnection;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private MessageProducer producer;
+
+    @InjectMocks
+    private IBMMQConnectionPool connectionPool;
+
+    private PooledConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() throws JMSException {
+        when(poolConfig.getMaxPoolSize()).thenReturn(1);
+        when(poolConfig.getMaxWaitTime()).thenReturn(100L);
+        when(poolConfig.getMaxIdleTime()).thenReturn(300000L);
+        when(poolConfig.getSessionCacheSize()).thenReturn(10);
+        when(poolConfig.getSessionCacheIdleTime()).thenReturn(60000L);
+        when(poolConfig.getSessionCacheDestinations()).thenReturn(16);
+        when(physicalConnection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(session.createQueue(anyString())).thenAnswer(invocation -> {
+            Queue queue = mock(Queue.class);
+            when(queue.getQueueName()).thenReturn(invocation.getArgument(0));
+            return queue;
+        });
+        when(session.createProducer(any(Queue.class))).thenReturn(producer);
+        when(session.createConsumer(any(Queue.class))).thenAnswer(invocation -> mock(MessageConsumer.class));
+
+        connectionFactory = new PooledConnectionFactory(connectionPool);
+    }
+
+    @Test
+    @DisplayName("Should return connection to pool on close instead of disconnecting")
+    void shouldReturnConnectionToPoolOnClose() throws Exception {
+        // Given
+        PooledConnection pooledConnection = useBagEngine();
+
+        // When
+        Connection connection = connectionFactory.createConnection();
+        assertThat(connectionPool.getPoolStatus().getActiveConnections()).isEqualTo(1);
+        connection.close();
+
+        // Then
+        verify(physicalConnection, never()).close();
+        assertThat(pooledConnection.getState()).isEqualTo(PooledConnection.STATE_NOT_IN_USE);
+        assertThat(connectionPool.getPoolStatus().getAvailableConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reuse session and producer across connections")
+    void shouldReuseSessionAndProducerAcrossConnections() throws Exception {
+        // Given
+        useBagEngine();
+
+        // When
+        sendOnce();
+        sendOnce();
+
+        // Then
+        verify(physicalConnection, times(1)).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(session, times(1)).createProducer(any(Queue.class));
+        verify(session, never()).close();
+        verify(producer, times(2)).send(any());
+        verify(producer, never()).close();
+    }
+
+    @Test
+    @DisplayName("Should work with queue engine as well")
+    void shouldWorkWithQueueEngine() throws Exception {
+        // Given
+        PooledConnection pooledConnection = new PooledConnection(physicalConnection);
+        ArrayBlockingQueue<PooledConnection> available = new ArrayBlockingQueue<>(1);
+        available.offer(pooledConnection);
+        setField("availableConnections", available);
+        setField("activeConnections", new ConcurrentHashMap<>());
+        setField("totalConnections", new AtomicInteger(1));
+
+        // When
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE)) {
+            pooledSession.createProducer(pooledSession.createQueue("DEV.QUEUE.1"));
+        }
+
+        // Then
+        assertThat(available).containsExactly(pooledConnection);
+        assertThat(pooledConnection.getSessionCache().size()).isEqualTo(1);
+        verify(physicalConnection, never()).close();
+    }
+
+    @Test
+    @DisplayName("Should return sessions left open when connection is closed")
+    void shouldReturnSessionsLeftOpenWhenConnectionIsClosed() throws Exception {
+        // Given
+        PooledConnection pooledConnection = useBagEngine();
+        Connection connection = connectionFactory.createConnection();
+        Session pooledSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+
+        // When
+        connection.close();
+
+        // Then
+        assertThat(pooledConnection.getSessionCache().size()).isEqualTo(1);
+        assertThatThrownBy(() -> pooledSession.createTextMessage("late"))
+            .isInstanceOf(jakarta.jms.IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should close uncached topic consumers with the session")
+    void shouldCloseUncachedResourcesWithSession() throws Exception {
+        // Given
+        useBagEngine();
+        Topic topic = mock(Topic.class);
+        MessageConsumer topicConsumer = mock(MessageConsumer.class);
+        when(session.createConsumer(topic)).thenReturn(topicConsumer);
+
+        // When
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE)) {
+            pooledSession.createConsumer(topic);
+        }
+
+        // Then
+        verify(topicConsumer).close();
+        verify(session, never()).close();
+    }
+
+    @Test
+    @DisplayName("Should restore producer defaults before session is reused")
+    void shouldRestoreProducerDefaults() throws Exception {
+        // Given
+        useBagEngine();
+
+        // When
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE)) {
+            MessageProducer pooledProducer = pooledSession.createProducer(pooledSession.createQueue("DEV.QUEUE.1"));
+            pooledProducer.setDeliveryMode(jakarta.jms.DeliveryMode.NON_PERSISTENT);
+            pooledProducer.close();
+        }
+
+        // Then
+        verify(producer).setDeliveryMode(jakarta.jms.DeliveryMode.NON_PERSISTENT);
+        verify(producer).setDeliveryMode(jakarta.jms.Message.DEFAULT_DELIVERY_MODE);
+        verify(producer, never()).close();
+    }
+
+    @Test
+    @DisplayName("Should recover a client-acknowledge session before it is reused")
+    void shouldRecoverClientAcknowledgeSession() throws Exception {
+        // Given
+        PooledConnection pooledConnection = useBagEngine();
+
+        // When
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(false, Session.CLIENT_ACKNOWLEDGE)) {
+            pooledSession.createConsumer(pooledSession.createQueue("DEV.QUEUE.1"));
+        }
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE)) {
+            pooledSession.createQueue("DEV.QUEUE.1");
+        }
+
+        // Then - only the client-acknowledge lease needs recovering
+        verify(session, times(1)).recover();
+        verify(session, never()).close();
+        assertThat(pooledConnection.getSessionCache().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should discard session after failure")
+    void shouldDiscardSessionAfterFailure() throws Exception {
+        // Given
+        PooledConnection pooledConnection = useBagEngine();
+        when(session.createQueue("BROKEN")).thenThrow(new JMSException("Unknown object name"));
+
+        // When
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE)) {
+            assertThatThrownBy(() -> pooledSession.createQueue("BROKEN")).isInstanceOf(JMSException.class);
+        }
+
+        // Then
+        verify(session).close();
+        assertThat(pooledConnection.getSessionCache().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should discard session after a failed send")
+    void shouldDiscardSessionAfterFailedSend() throws Exception {
+        // Given
+        PooledConnection pooledConnection = useBagEngine();
+        doThrow(new JMSException("MQRC_CONNECTION_BROKEN")).when(producer).send(any());
+
+        // When
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE)) {
+            MessageProducer pooledProducer = pooledSession.createProducer(pooledSession.createQueue("DEV.QUEUE.1"));
+            assertThatThrownBy(() -> pooledProducer.send(mock(TextMessage.class))).isInstanceOf(JMSException.class);
+        }
+
+        // Then
+        verify(session).close();
+        assertThat(pooledConnection.getSessionCache().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should discard session after a failed receive")
+    void shouldDiscardSessionAfterFailedReceive() throws Exception {
+        // Given
+        PooledConnection pooledConnection = useBagEngine();
+        MessageConsumer consumer = mock(MessageConsumer.class);
+        when(consumer.receive(anyLong())).thenThrow(new JMSException("MQRC_CONNECTION_BROKEN"));
+        when(session.createConsumer(any(Queue.class))).thenReturn(consumer);
+
+        // When
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(true, Session.SESSION_TRANSACTED)) {
+            MessageConsumer pooledConsumer = pooledSession.createConsumer(pooledSession.createQueue("DEV.QUEUE.1"));
+            assertThatThrownBy(() -> pooledConsumer.receive(100)).isInstanceOf(JMSException.class);
+        }
+
+        // Then
+        verify(session, never()).rollback();
+        verify(session).close();
+        assertThat(pooledConnection.getSessionCache().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete temporary destinations when the session goes back to the cache")
+    void shouldDeleteTemporaryDestinationsOnClose() throws Exception {
+        // Given
+        PooledConnection pooledConnection = useBagEngine();
+        TemporaryQueue replyQueue = mock(TemporaryQueue.class);
+        TemporaryTopic replyTopic = mock(TemporaryTopic.class);
+        when(session.createTemporaryQueue()).thenReturn(replyQueue);
+        when(session.createTemporaryTopic()).thenReturn(replyTopic);
+
+        // When
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE)) {
+            pooledSession.createTemporaryQueue();
+            pooledSession.createTemporaryTopic();
+        }
+
+        // Then
+        verify(replyQueue).delete();
+        verify(replyTopic).delete();
+        verify(session, never()).close();
+        assertThat(pooledConnection.getSessionCache().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should discard session when a temporary destination cannot be deleted")
+    void shouldDiscardSessionWhenTemporaryQueueDeleteFails() throws Exception {
+        // Given
+        PooledConnection pooledConnection = useBagEngine();
+        TemporaryQueue replyQueue = mock(TemporaryQueue.class);
+        doThrow(new JMSException("Temporary queue in use")).when(replyQueue).delete();
+        when(session.createTemporaryQueue()).thenReturn(replyQueue);
+
+        // When
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE)) {
+            pooledSession.createTemporaryQueue();
+        }
+
+        // Then
+        verify(session).close();
+        assertThat(pooledConnection.getSessionCache().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject per-connection credentials")
+    void shouldRejectPerConnectionCredentials() {
+        assertThatThrownBy(() -> connectionFactory.createConnection("user", "secret"))
+            .isInstanceOf(JMSException.class);
+    }
+
+    @Test
+    @DisplayName("Should send through JMSContext on a pooled connection and return it")
+    void shouldSendThroughContextAndReturnConnection() throws Exception {
+        // Given
+        PooledConnection pooledConnection = useBagEngine();
+        when(session.createTextMessage(anyString())).thenAnswer(invocation -> mock(TextMessage.class));
+
+        // When
+        try (JMSContext context = connectionFactory.createContext()) {
+            JMSContext child = context.createContext(JMSContext.AUTO_ACKNOWLEDGE);
+            Queue queue = context.createQueue("DEV.QUEUE.1");
+            context.createProducer().send(queue, "first");
+            context.createProducer().send(queue, "second");
+            child.close();
+            assertThat(pooledConnection.getState()).isEqualTo(PooledConnection.STATE_IN_USE);
+        }
+
+        // Then
+        verify(session, times(1)).createProducer(any(Queue.class));
+        verify(producer, times(2)).send(any(), anyInt(), anyInt(), anyLong());
+        verify(physicalConnection, never()).close();
+        assertThat(pooledConnection.getState()).isEqualTo(PooledConnection.STATE_NOT_IN_USE);
+        assertThat(pooledConnection.getSessionCache().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should surface pool exhaustion from createContext as runtime exception")
+    void shouldSurfacePoolExhaustionFromCreateContext() throws Exception {
+        // Given
+        useBagEngine();
+        Connection held = connectionFactory.createConnection();
+
+        // When & Then
+        assertThatThrownBy(() -> connectionFactory.createContext())
+            .isInstanceOf(JMSRuntimeException.class)
+            .hasCauseInstanceOf(PoolExhaustedException.class);
+        held.close();
+    }
+
+    private void sendOnce() throws JMSException {
+        try (Connection connection = connectionFactory.createConnection();
+             Session pooledSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE)) {
+            MessageProducer pooledProducer = pooledSession.createProducer(pooledSession.createQueue("DEV.QUEUE.1"));
+            pooledProducer.send(pooledSession.createTextMessage("payload"));
+        }
+    }
+
+    private PooledConnection useBagEngine() throws Exception {
+        ConnectionBag bag = new ConnectionBag();
+        PooledConnection pooledConnection = new PooledConnection(physicalConnection);
+        bag.add(pooledConnection);
+        setField("connectionBag", bag);
+        setField("totalConnections", new AtomicInteger(1));
+        return pooledConnection;
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = IBMMQConnectionPool.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(connectionPool, value);
+    }
+}
@@ -349,4 +349,37 @@ class PooledConnectionTest {
         assertThat(age).isLessThanOrEqualTo(currentTime - startTime + 10); // Allow tolerance
         assertThat(idleTime).isLessThan(age); // Idle time should be less than age
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should expire only after expiry time is set and reached")
+    void shouldExpireOnlyAfterExpiryTimeIsReached() {
+        // Then - no expiry by default
+        assertThat(pooledConnection.isExpired()).isFalse();
+
+        // When
+        pooledConnection.setExpiresAt(System.currentTimeMillis() + 60000);
+
+        // Then
+        assertThat(pooledConnection.isExpired()).isFalse();
+
+        // When
+        pooledConnection.setExpiresAt(System.currentTimeMillis() - 1);
+
+        // Then
+        assertThat(pooledConnection.isExpired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should count validation as last check without resetting idle time")
+    void shouldCountValidationAsLastCheckWithoutResettingIdleTime() throws InterruptedException {
+        // Given
+        Thread.sleep(20);
+
+        // When
+        pooledConnection.markValidated();
+
+        // Then
+        assertThat(pooledConnection.getTimeSinceLastCheck()).isLessThan(20);
+        assertThat(pooledConnection.getIdleTime()).isGreaterThanOrEqualTo(20);
+    }
+}
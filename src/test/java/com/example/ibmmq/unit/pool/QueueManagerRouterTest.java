@@ -0,0 +1,232 @@
+package com.example.ibmmq.unit.pool;
+
+import com.example.ibmmq.config.ConnectionPoolConfig;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PoolExhaustedException;
+import com.example.ibmmq.pool.PooledConnection;
+import com.example.ibmmq.pool.PooledConnectionHandle;
+import com.example.ibmmq.pool.QueueManagerRouter;
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("QueueManagerRouter Tests")
+class QueueManagerRouterTest {
+
+    @Mock
+    private ConnectionPoolConfig poolConfig;
+
+    private final Map<IBMMQConnectionPool, String> poolNames = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(poolConfig.isBagEngine()).thenReturn(true);
+        when(poolConfig.getMaxPoolSize()).thenReturn(10);
+        when(poolConfig.getMaxWaitTime()).thenReturn(50L);
+        when(poolConfig.getMaxIdleTime()).thenReturn(300000L);
+        when(poolConfig.getBalancing()).thenReturn(ConnectionPoolConfig.BALANCING_LEAST_ACTIVE);
+        when(poolConfig.getEjectionFailures()).thenReturn(2);
+        when(poolConfig.getEjectionBaseTime()).thenReturn(50L);
+        when(poolConfig.getEjectionMaxTime()).thenReturn(1000L);
+    }
+
+    @Test
+    @DisplayName("Should spread connections to the least active queue manager")
+    void shouldSpreadConnectionsToLeastActiveQueueManager() throws Exception {
+        // Given
+        QueueManagerRouter router = router(member("QM1", 1, new AtomicBoolean()), member("QM2", 1, new AtomicBoolean()));
+
+        // When
+        List<String> targets = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            targets.add(queueManagerOf(router.getConnection()));
+        }
+
+        // Then
+        assertThat(targets).containsExactlyInAnyOrder("QM1", "QM1", "QM2", "QM2");
+    }
+
+    @Test
+    @DisplayName("Should distribute borrows by weight with weighted balancing")
+    void shouldDistributeBorrowsByWeight() throws Exception {
+        // Given
+        when(poolConfig.isWeightedBalancing()).thenReturn(true);
+        QueueManagerRouter router = router(member("QM1", 3, new AtomicBoolean()), member("QM2", 1, new AtomicBoolean()));
+
+        // When
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 8; i++) {
+            Connection connection = router.getConnection();
+            counts.merge(queueManagerOf(connection), 1, Integer::sum);
+            connection.close();
+        }
+
+        // Then
+        assertThat(counts).containsEntry("QM1", 6).containsEntry("QM2", 2);
+    }
+
+    @Test
+    @DisplayName("Should fail over and eject queue manager after consecutive failures")
+    void shouldFailOverAndEjectQueueManager() throws Exception {
+        // Given
+        AtomicBoolean qm1Down = new AtomicBoolean(true);
+        QueueManagerRouter router = router(member("QM1", 1, qm1Down), member("QM2", 1, new AtomicBoolean()));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(queueManagerOf(router.getConnection())).isEqualTo("QM2");
+        }
+
+        // Then
+        IBMMQConnectionPool.QueueManagerStatus qm1 = statusOf(router, "QM1");
+        assertThat(qm1.isAvailable()).isFalse();
+        assertThat(qm1.getConsecutiveFailures()).isEqualTo(2);
+        assertThat(statusOf(router, "QM2").isAvailable()).isTrue();
+        assertThat(statusOf(router, "QM2").getPool().getActiveConnections()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should probe ejected queue manager back into rotation once it recovers")
+    void shouldProbeEjectedQueueManagerBack() throws Exception {
+        // Given
+        AtomicBoolean qm1Down = new AtomicBoolean(true);
+        QueueManagerRouter router = router(member("QM1", 1, qm1Down), member("QM2", 1, new AtomicBoolean()));
+        router.getConnection().close();
+        router.getConnection().close();
+        assertThat(statusOf(router, "QM1").isAvailable()).isFalse();
+
+        // When - probe fails, ejection period doubles
+        Thread.sleep(60);
+        router.getConnection().close();
+        long secondEjection = statusOf(router, "QM1").getEjectedUntil() - System.currentTimeMillis();
+
+        // Then
+        assertThat(secondEjection).isGreaterThan(60L);
+
+        // When - queue manager recovers and the next probe succeeds
+        qm1Down.set(false);
+        Thread.sleep(secondEjection + 10);
+        Connection probe = router.getConnection();
+
+        // Then
+        assertThat(queueManagerOf(probe)).isEqualTo("QM1");
+        assertThat(statusOf(router, "QM1").isAvailable()).isTrue();
+        assertThat(statusOf(router, "QM1").getConsecutiveFailures()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should surface failure when every queue manager is down")
+    void shouldSurfaceFailureWhenAllQueueManagersAreDown() throws Exception {
+        // Given
+        when(poolConfig.getMinPoolSize()).thenReturn(1);
+        QueueManagerRouter router = router(member("QM1", 1, new AtomicBoolean(true)), member("QM2", 1, new AtomicBoolean(true)));
+
+        // When & Then
+        assertThatThrownBy(router::getConnection).isInstanceOf(JMSException.class);
+        assertThat(router.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should move on from an exhausted queue manager without ejecting it")
+    void shouldTryNextQueueManagerWhenOneIsExhausted() throws Exception {
+        // Given
+        when(poolConfig.isWeightedBalancing()).thenReturn(true);
+        when(poolConfig.getMaxPoolSize()).thenReturn(1);
+        QueueManagerRouter router = router(member("QM1", 3, new AtomicBoolean()), member("QM2", 1, new AtomicBoolean()));
+        assertThat(queueManagerOf(router.getConnection())).isEqualTo("QM1");
+
+        // When - weighted order picks QM1 again, which has no connection left
+        Connection connection = router.getConnection();
+
+        // Then
+        assertThat(queueManagerOf(connection)).isEqualTo("QM2");
+        assertThat(statusOf(router, "QM1").isAvailable()).isTrue();
+        assertThat(statusOf(router, "QM1").getConsecutiveFailures()).isZero();
+
+        // When & Then - every queue manager exhausted
+        assertThatThrownBy(router::getConnection).isInstanceOf(PoolExhaustedException.class);
+        assertThat(statusOf(router, "QM1").isAvailable()).isTrue();
+        assertThat(statusOf(router, "QM2").isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should aggregate pool status across queue managers")
+    void shouldAggregatePoolStatus() throws Exception {
+        // Given
+        QueueManagerRouter router = router(member("QM1", 2, new AtomicBoolean()), member("QM2", 1, new AtomicBoolean()));
+        Connection first = router.getConnection();
+        router.getConnection();
+        first.close();
+
+        // When
+        IBMMQConnectionPool.PoolStatus status = router.getPoolStatus();
+
+        // Then
+        assertThat(status.getTotalConnections()).isEqualTo(2);
+        assertThat(status.getActiveConnections()).isEqualTo(1);
+        assertThat(status.getAvailableConnections()).isEqualTo(1);
+        assertThat(status.getMaxPoolSize()).isEqualTo(20);
+        assertThat(status.getQueueManagers()).extracting(IBMMQConnectionPool.QueueManagerStatus::getQueueManager)
+            .containsExactly("QM1", "QM2");
+        assertThat(status.getQueueManagers().get(0).getWeight()).isEqualTo(2);
+    }
+
+    private QueueManagerRouter router(QueueManagerRouter.Member... members) {
+        QueueManagerRouter router = new QueueManagerRouter(poolConfig, List.of(members));
+        router.start();
+        return router;
+    }
+
+    /**
+     * A sub-pool backed by an in-process stand-in for one queue manager; connecting fails
+     * while {@code down} is set.
+     */
+    private QueueManagerRouter.Member member(String name, int weight, AtomicBoolean down) throws Exception {
+        IBMMQConnectionPool pool = new IBMMQConnectionPool() {
+            @Override
+            protected PooledConnection createPooledConnection() throws JMSException {
+                if (down.get()) {
+                    throw new JMSException("MQRC_HOST_NOT_AVAILABLE (" + name + ")");
+                }
+                return new PooledConnection(mock(Connection.class));
+            }
+        };
+        Field configField = IBMMQConnectionPool.class.getDeclaredField("poolConfig");
+        configField.setAccessible(true);
+        configField.set(pool, poolConfig);
+        poolNames.put(pool, name);
+        return new QueueManagerRouter.Member(name, weight, pool);
+    }
+
+    private String queueManagerOf(Connection connection) throws Exception {
+        java.lang.reflect.Method getPool = PooledConnectionHandle.class.getDeclaredMethod("getPool");
+        getPool.setAccessible(true);
+        return poolNames.get((IBMMQConnectionPool) getPool.invoke(connection));
+    }
+
+    private IBMMQConnectionPool.QueueManagerStatus statusOf(QueueManagerRouter router, String name) {
+        return router.getPoolStatus().getQueueManagers().stream()
+            .filter(status -> status.getQueueManager().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+}
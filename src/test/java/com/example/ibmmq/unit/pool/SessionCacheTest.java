@@ -0,0 +1,332 @@
+package com.example.ibmmq.unit.pool;
+
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PoolExhaustedException;
+import com.example.ibmmq.pool.SessionCache;
+import com.example.ibmmq.pool.SessionLease;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SessionCache and SessionLease Tests")
+class SessionCacheTest {
+
+    @Mock
+    private IBMMQConnectionPool connectionPool;
+
+    @Mock
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws JMSException {
+        when(connection.createSession(anyBoolean(), anyInt())).thenAnswer(invocation -> newSession());
+    }
+
+    @Test
+    @DisplayName("Should reuse session and producer across leases")
+    void shouldReuseSessionAndProducerAcrossLeases() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16);
+
+        // When
+        SessionLease first = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        Session firstSession = first.getSession();
+        MessageProducer firstProducer = first.getProducer("DEV.QUEUE.1");
+        first.close();
+
+        SessionLease second = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        MessageProducer secondProducer = second.getProducer("DEV.QUEUE.1");
+        second.close();
+
+        // Then
+        assertThat(second.getSession()).isSameAs(firstSession);
+        assertThat(secondProducer).isSameAs(firstProducer);
+        verify(connection, times(1)).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(firstSession, times(1)).createQueue("DEV.QUEUE.1");
+        verify(firstSession, times(1)).createProducer(any(Queue.class));
+        verify(connectionPool, times(2)).releaseConnection(connection);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep sessions of different modes apart")
+    void shouldKeepSessionsOfDifferentModesApart() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16);
+        SessionLease autoAck = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        autoAck.close();
+
+        // When
+        SessionLease transacted = new SessionLease(connectionPool, connection, cache, true, Session.SESSION_TRANSACTED);
+
+        // Then
+        assertThat(transacted.getSession()).isNotSameAs(autoAck.getSession());
+        verify(connection).createSession(true, Session.SESSION_TRANSACTED);
+    }
+
+    @Test
+    @DisplayName("Should close session instead of caching when cache is full")
+    void shouldCloseSessionWhenCacheIsFull() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 1, 60000, 16);
+        SessionLease first = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        SessionLease second = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+
+        // When
+        first.close();
+        second.close();
+
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+        verify(first.getSession(), never()).close();
+        verify(second.getSession()).close();
+    }
+
+    @Test
+    @DisplayName("Should evict sessions idle longer than configured")
+    void shouldEvictIdleSessions() throws Exception {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 1, 16);
+        SessionLease lease = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        MessageProducer producer = lease.getProducer("DEV.QUEUE.1");
+        lease.close();
+        Thread.sleep(20);
+
+        // When
+        int evicted = cache.evictIdle();
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+        verify(producer).close();
+        verify(lease.getSession()).close();
+    }
+
+    @Test
+    @DisplayName("Should discard session after JMS failure")
+    void shouldDiscardSessionAfterJmsFailure() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16);
+        SessionLease lease = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        when(lease.getSession().createQueue("BROKEN")).thenThrow(new JMSException("Queue unknown"));
+
+        // When
+        assertThatThrownBy(() -> lease.getConsumer("BROKEN")).isInstanceOf(JMSException.class);
+        lease.close();
+
+        // Then
+        assertThat(lease.isInvalid()).isTrue();
+        assertThat(cache.size()).isZero();
+        verify(lease.getSession()).close();
+        verify(connectionPool).releaseConnection(connection);
+    }
+
+    @Test
+    @DisplayName("Should discard session after a failed send or receive on the lease")
+    void shouldDiscardSessionAfterFailedSendOrReceive() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16);
+        SessionLease sending = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        MessageProducer producer = sending.getProducer("DEV.QUEUE.1");
+        doThrow(new JMSException("MQRC_CONNECTION_BROKEN")).when(producer).send(any(Message.class));
+        SessionLease receiving = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        MessageConsumer consumer = receiving.getConsumer("DEV.QUEUE.2");
+        when(consumer.receive(100)).thenThrow(new JMSException("MQRC_CONNECTION_BROKEN"));
+
+        // When
+        assertThatThrownBy(() -> sending.send("DEV.QUEUE.1", mock(Message.class))).isInstanceOf(JMSException.class);
+        assertThatThrownBy(() -> receiving.receive("DEV.QUEUE.2", 100)).isInstanceOf(JMSException.class);
+        sending.close();
+        receiving.close();
+
+        // Then
+        assertThat(sending.isInvalid()).isTrue();
+        assertThat(receiving.isInvalid()).isTrue();
+        assertThat(cache.size()).isZero();
+        verify(sending.getSession()).close();
+        verify(receiving.getSession()).close();
+    }
+
+    @Test
+    @DisplayName("Should roll back uncommitted transacted session before caching it")
+    void shouldRollbackUncommittedTransactedSession() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16);
+        SessionLease lease = new SessionLease(connectionPool, connection, cache, true, Session.SESSION_TRANSACTED);
+        lease.getProducer("DEV.QUEUE.1");
+
+        // When
+        lease.close();
+
+        // Then
+        verify(lease.getSession()).rollback();
+        verify(lease.getSession(), never()).close();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should recover client-acknowledge session before caching it")
+    void shouldRecoverClientAcknowledgeSession() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16);
+        SessionLease lease = new SessionLease(connectionPool, connection, cache, false, Session.CLIENT_ACKNOWLEDGE);
+
+        // When
+        lease.close();
+
+        // Then
+        verify(lease.getSession()).recover();
+        verify(lease.getSession(), never()).close();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not roll back committed transacted session")
+    void shouldNotRollbackCommittedTransactedSession() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16);
+        SessionLease lease = new SessionLease(connectionPool, connection, cache, true, Session.SESSION_TRANSACTED);
+        lease.getProducer("DEV.QUEUE.1");
+        lease.commit();
+
+        // When
+        lease.close();
+        lease.close();
+
+        // Then
+        verify(lease.getSession()).commit();
+        verify(lease.getSession(), never()).rollback();
+        verify(connectionPool, times(1)).releaseConnection(connection);
+    }
+
+    @Test
+    @DisplayName("Should close least recently used producer when destination limit is exceeded")
+    void shouldCloseLeastRecentlyUsedProducer() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 2);
+        SessionLease lease = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+
+        // When
+        MessageProducer first = lease.getProducer("Q1");
+        MessageProducer second = lease.getProducer("Q2");
+        lease.getProducer("Q1");
+        lease.getProducer("Q3");
+
+        // Then
+        verify(second).close();
+        verify(first, never()).close();
+        assertThat(lease.getProducer("Q1")).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should close all idle sessions on close")
+    void shouldCloseAllIdleSessionsOnClose() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16);
+        SessionLease lease = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        MessageConsumer consumer = lease.getConsumer("DEV.QUEUE.2");
+        lease.close();
+
+        // When
+        cache.close();
+
+        // Then
+        assertThat(cache.size()).isZero();
+        verify(consumer).close();
+        verify(lease.getSession()).close();
+    }
+
+    @Test
+    @DisplayName("Should complete async send on confirmation and free its in-flight slot")
+    void shouldCompleteAsyncSendOnConfirmation() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16, 1, 0);
+        SessionLease lease = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        MessageProducer producer = lease.getProducer("DEV.QUEUE.1");
+        Message message = mock(Message.class);
+        ArgumentCaptor<CompletionListener> listener = ArgumentCaptor.forClass(CompletionListener.class);
+
+        // When
+        CompletableFuture<Message> sent = lease.sendAsync("DEV.QUEUE.1", message);
+        verify(producer).send(eq(message), listener.capture());
+        boolean doneBeforeConfirmation = sent.isDone();
+        listener.getValue().onCompletion(message);
+
+        // Then
+        assertThat(doneBeforeConfirmation).isFalse();
+        assertThat(sent).isCompletedWithValue(message);
+        assertThatCode(() -> lease.sendAsync("DEV.QUEUE.1", message)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject async send when the producer's window stays full")
+    void shouldRejectAsyncSendWhenWindowIsFull() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16, 2, 10);
+        SessionLease first = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        first.sendAsync("DEV.QUEUE.1", mock(Message.class));
+        first.close();
+        SessionLease second = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        second.sendAsync("DEV.QUEUE.1", mock(Message.class));
+
+        // When / Then
+        assertThatThrownBy(() -> second.sendAsync("DEV.QUEUE.1", mock(Message.class)))
+            .isInstanceOf(PoolExhaustedException.class)
+            .extracting(e -> ((PoolExhaustedException) e).getReason())
+            .isEqualTo(PoolExhaustedException.Reason.IN_FLIGHT_LIMIT);
+        assertThatCode(() -> second.sendAsync("DEV.QUEUE.2", mock(Message.class))).doesNotThrowAnyException();
+        assertThat(second.isInvalid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fail async send future and free the slot when the put fails")
+    void shouldFailAsyncSendWhenPutFails() throws JMSException {
+        // Given
+        SessionCache cache = new SessionCache(connection, 10, 60000, 16, 1, 0);
+        SessionLease lease = new SessionLease(connectionPool, connection, cache, false, Session.AUTO_ACKNOWLEDGE);
+        MessageProducer producer = lease.getProducer("DEV.QUEUE.1");
+        JMSException failure = new JMSException("MQRC_Q_FULL");
+        doAnswer(invocation -> {
+            invocation.<CompletionListener>getArgument(1).onException(invocation.getArgument(0), failure);
+            return null;
+        }).when(producer).send(any(Message.class), any(CompletionListener.class));
+
+        // When
+        CompletableFuture<Message> first = lease.sendAsync("DEV.QUEUE.1", mock(Message.class));
+        CompletableFuture<Message> second = lease.sendAsync("DEV.QUEUE.1", mock(Message.class));
+
+        // Then
+        assertThat(first).isCompletedExceptionally();
+        assertThatThrownBy(second::join).hasCause(failure);
+    }
+
+    private Session newSession() throws JMSException {
+        Session session = mock(Session.class);
+        when(session.createQueue(anyString())).thenAnswer(invocation -> mock(Queue.class));
+        when(session.createProducer(any(Queue.class))).thenAnswer(invocation -> mock(MessageProducer.class));
+        when(session.createConsumer(any(Queue.class))).thenAnswer(invocation -> mock(MessageConsumer.class));
+        return session;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.ibmmq.unit.repository;
+
+import com.example.ibmmq.entity.MQMessage;
+import com.example.ibmmq.repository.MQMessageRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("MQMessageRepository upsert Tests")
+class MQMessageRepositoryUpsertTest {
+
+    @Mock
+    private EntityManagerFactory emf;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EntityTransaction transaction;
+
+    @Mock
+    private Query nextval;
+
+    @Mock
+    private Query upsert;
+
+    @InjectMocks
+    private MQMessageRepository repository;
+
+    private long sequenceValue;
+
+    @BeforeEach
+    void setUp() {
+        when(emf.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.getTransaction()).thenReturn(transaction);
+        when(entityManager.createNativeQuery(startsWith("SELECT nextval"))).thenReturn(nextval);
+        when(entityManager.createNativeQuery(startsWith("INSERT INTO mq_messages"))).thenReturn(upsert);
+        when(nextval.getSingleResult()).thenAnswer(invocation -> sequenceValue += MQMessage.ID_ALLOCATION_SIZE);
+        when(upsert.executeUpdate()).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("Should write chunk with one statement in one transaction")
+    void shouldWriteChunkWithOneStatement() {
+        // Given
+        List<MQMessage> messages = messages(10);
+        when(upsert.executeUpdate()).thenReturn(10);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // When
+        int written = repository.upsertAll(messages);
+
+        // Then
+        assertThat(written).isEqualTo(10);
+        verify(emf, times(1)).createEntityManager();
+        verify(transaction).begin();
+        verify(transaction).commit();
+        verify(upsert, times(1)).executeUpdate();
+        verify(entityManager, times(2)).createNativeQuery(sql.capture());
+        assertThat(sql.getAllValues().get(0))
+            .contains("ON CONFLICT (message_id) DO UPDATE")
+            .contains("version = mq_messages.version + 1");
+        verify(entityManager).close();
+    }
+
+    @Test
+    @DisplayName("Should allocate IDs from the sequence one block at a time")
+    void shouldAllocateIdsInBlocks() {
+        // When
+        repository.upsertAll(messages(30));
+        repository.upsertAll(messages(30));
+
+        // Then - 60 IDs need two blocks of 50; the second chunk crosses into the next one
+        verify(nextval, times(2)).getSingleResult();
+        verify(upsert).setParameter(1, 1L);
+        verify(upsert).setParameter(1, 31L);
+        verify(upsert).setParameter(15 * 19 + 1, 50L);
+        verify(upsert).setParameter(15 * 20 + 1, 51L);
+    }
+
+    @Test
+    @DisplayName("Should skip a sequence value below the allocation size instead of using IDs below 1")
+    void shouldSkipBlockBelowAllocationSize() {
+        // Given - a sequence still starting at 1
+        when(nextval.getSingleResult()).thenReturn(1L, 51L);
+
+        // When
+        repository.upsertAll(messages(2));
+
+        // Then
+        verify(nextval, times(2)).getSingleResult();
+        verify(upsert).setParameter(1, 2L);
+        verify(upsert).setParameter(15 + 1, 3L);
+        verify(upsert, never()).setParameter(eq(1), longThat(id -> id < 1));
+    }
+
+    @Test
+    @DisplayName("Should write a message ID once with its last occurrence")
+    void shouldWriteLastOccurrenceOfDuplicateMessageId() {
+        // Given
+        MQMessage first = message("MSG-001", "first");
+        MQMessage second = message("MSG-002", "second");
+        MQMessage again = message("MSG-001", "again");
+
+        // When
+        repository.upsertAll(List.of(first, second, again));
+
+        // Then
+        verify(upsert).setParameter(5, "second");
+        verify(upsert).setParameter(15 + 5, "again");
+        verify(upsert, never()).setParameter(anyInt(), eq("first"));
+        verify(upsert, never()).setParameter(eq(2 * 15 + 1), any());
+    }
+
+    @Test
+    @DisplayName("Should split large chunks into several statements within the transaction")
+    void shouldSplitLargeChunks() {
+        // When
+        repository.upsertAll(messages(1200));
+
+        // Then
+        verify(upsert, times(3)).executeUpdate();
+        verify(transaction, times(1)).commit();
+    }
+
+    @Test
+    @DisplayName("Should roll back and report failure of the whole chunk")
+    void shouldRollBackFailedChunk() {
+        // Given
+        when(upsert.executeUpdate()).thenThrow(new PersistenceException("duplicate key"));
+        when(transaction.isActive()).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> repository.upsertAll(messages(3)))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("Failed to upsert 3 messages")
+            .hasCauseInstanceOf(PersistenceException.class);
+        verify(transaction).rollback();
+        verify(transaction, never()).commit();
+        verify(entityManager).close();
+    }
+
+    @Test
+    @DisplayName("Should not open an entity manager for an empty chunk")
+    void shouldSkipEmptyChunk() {
+        // When
+        int written = repository.upsertAll(List.of());
+
+        // Then
+        assertThat(written).isZero();
+        verifyNoInteractions(emf);
+    }
+
+    private static List<MQMessage> messages(int count) {
+        List<MQMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(message("MSG-" + System.nanoTime() + "-" + i, "Content " + i));
+        }
+        return messages;
+    }
+
+    private static MQMessage message(String messageId, String content) {
+        MQMessage message = new MQMessage(messageId, "TEST.QUEUE", content);
+        message.setStatus(MQMessage.MessageStatus.PROCESSED);
+        return message;
+    }
+}
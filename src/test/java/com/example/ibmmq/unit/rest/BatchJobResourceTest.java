@@ -1,7 +1,9 @@
 package com.example.ibmmq.unit.rest;
 
 import com.example.ibmmq.rest.BatchJobResource;
+import com.example.ibmmq.service.BatchJobScheduler;
 import com.example.ibmmq.service.BatchJobService;
+import com.example.ibmmq.service.SchedulingDecision;
 import jakarta.batch.runtime.BatchStatus;
 import jakarta.batch.runtime.JobExecution;
 import jakarta.batch.runtime.JobInstance;
@@ -32,6 +34,9 @@ class BatchJobResourceTest {
     @Mock
     private BatchJobService batchJobService;
 
+    @Mock
+    private BatchJobScheduler scheduler;
+
     @InjectMocks
     private BatchJobResource batchJobResource;
 
@@ -499,4 +504,56 @@ class BatchJobResourceTest {
         assertThat(entity).contains("54321");
         assertThat(entity).contains("54322");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should answer conflict when the queue already has a running job")
+    void shouldReturnConflictWhenQueueBusy() {
+        // Given
+        when(batchJobService.startMQProcessingJob())
+            .thenThrow(new IllegalStateException("Queue DEV.QUEUE.1 already has 1 running job executions [7]"));
+
+        // When
+        Response response = batchJobResource.startJob();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.CONFLICT.getStatusCode());
+        assertThat(response.getEntity().toString()).contains("DEV.QUEUE.1");
+    }
+
+    @Test
+    @DisplayName("Should show the scheduler state and its decisions")
+    void shouldShowSchedulerDecisions() {
+        // Given
+        SchedulingDecision started = new SchedulingDecision("DEV.QUEUE.1", 0L, 2500, 0,
+            SchedulingDecision.Action.STARTED, 3, 77L, "Depth reached 100");
+        when(scheduler.isRunning()).thenReturn(true);
+        when(scheduler.getQueues()).thenReturn(List.of("DEV.QUEUE.1", "DEV.QUEUE.2"));
+        when(scheduler.getLastDecision("DEV.QUEUE.1")).thenReturn(started);
+        when(scheduler.getHistory()).thenReturn(List.of(started));
+
+        // When
+        Response response = batchJobResource.getScheduler();
+
+        // Then
+        String json = response.getEntity().toString();
+        assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        assertThat(json).startsWith("{\"running\":true");
+        assertThat(json).contains("\"action\":\"STARTED\",\"partitions\":3,\"executionId\":77");
+        assertThat(json).contains("{\"queue\":\"DEV.QUEUE.2\",\"lastDecision\":null}");
+    }
+
+    @Test
+    @DisplayName("Should evaluate the watched queues on request")
+    void shouldEvaluateScheduler() {
+        // Given
+        when(scheduler.evaluate()).thenReturn(List.of(new SchedulingDecision("DEV.QUEUE.1", 0L, 12, 0,
+            SchedulingDecision.Action.IDLE, 0, null, "Depth below 100")));
+
+        // When
+        Response response = batchJobResource.evaluateScheduler();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        assertThat(response.getEntity().toString()).contains("\"action\":\"IDLE\"").contains("\"executionId\":null");
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.ibmmq.unit.rest;
+
+import com.example.ibmmq.pool.PoolExhaustedException;
+import com.example.ibmmq.rest.IBMMQResource;
+import com.example.ibmmq.service.IBMMQService;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("IBMMQResource Tests")
+class IBMMQResourceTest {
+
+    @Mock
+    private IBMMQService mqService;
+
+    @InjectMocks
+    private IBMMQResource mqResource;
+
+    @Test
+    @DisplayName("Should send message successfully")
+    void shouldSendMessageSuccessfully() {
+        // When
+        Response response = mqResource.sendMessage(null, "Hello");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        verify(mqService).sendMessage("Hello");
+    }
+
+    @Test
+    @DisplayName("Should return 503 when connection pool is exhausted")
+    void shouldReturnServiceUnavailableWhenPoolIsExhausted() {
+        // Given
+        PoolExhaustedException exhausted = new PoolExhaustedException(
+            "Timed out after 30000ms waiting for a pooled connection", PoolExhaustedException.Reason.TIMEOUT, 30000);
+        doThrow(new RuntimeException("Failed to send message", exhausted)).when(mqService).sendMessage("DEV.QUEUE.1", "Hello");
+
+        // When
+        Response response = mqResource.sendMessageToQueue("DEV.QUEUE.1", null, "Hello");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeaderString("Retry-After")).isEqualTo("1");
+        assertThat(response.getEntity().toString()).contains("Timed out");
+    }
+
+    @Test
+    @DisplayName("Should return 500 for other failures")
+    void shouldReturnInternalServerErrorForOtherFailures() {
+        // Given
+        when(mqService.receiveMessage()).thenThrow(new RuntimeException("Failed to receive message"));
+
+        // When
+        Response response = mqResource.receiveMessage();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should accept message once it is handed off")
+    void shouldAcceptMessageOnHandoff() {
+        // Given
+        when(mqService.sendMessageAsync("Hello")).thenReturn(new CompletableFuture<>());
+
+        // When
+        Response response = mqResource.sendMessage(IBMMQResource.ACK_HANDOFF, "Hello");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(202);
+        verify(mqService).sendMessageAsync("Hello");
+        verify(mqService, never()).sendMessage(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return message ID once the send is confirmed")
+    void shouldReturnMessageIdOnConfirm() {
+        // Given
+        when(mqService.sendMessageConfirmed("DEV.QUEUE.1", "Hello")).thenReturn("ID:414d51");
+
+        // When
+        Response response = mqResource.sendMessageToQueue("DEV.QUEUE.1", IBMMQResource.ACK_CONFIRM, "Hello");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getEntity().toString()).contains("ID:414d51");
+    }
+
+    @Test
+    @DisplayName("Should return 503 when the in-flight window is full")
+    void shouldReturnServiceUnavailableWhenWindowIsFull() {
+        // Given
+        PoolExhaustedException full = new PoolExhaustedException(
+            "Producer for DEV.QUEUE.1 already has 64 sends in flight", PoolExhaustedException.Reason.IN_FLIGHT_LIMIT, 5000);
+        when(mqService.sendMessageAsync("Hello")).thenThrow(new RuntimeException("Failed to send message", full));
+
+        // When
+        Response response = mqResource.sendMessage(IBMMQResource.ACK_HANDOFF, "Hello");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown ack modes")
+    void shouldRejectUnknownAckMode() {
+        // When
+        Response response = mqResource.sendMessage("later", "Hello");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        verifyNoInteractions(mqService);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.ibmmq.unit.rest;
+
+import com.example.ibmmq.rest.IngestionResource;
+import com.example.ibmmq.service.StreamingIngestionService;
+import jakarta.jms.JMSException;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("IngestionResource Tests")
+class IngestionResourceTest {
+
+    @Mock
+    private StreamingIngestionService ingestionService;
+
+    @InjectMocks
+    private IngestionResource ingestionResource;
+
+    @BeforeEach
+    void setUp() {
+        when(ingestionService.getState()).thenReturn(StreamingIngestionService.State.RUNNING);
+        when(ingestionService.getQueueName()).thenReturn("DEV.QUEUE.1");
+        when(ingestionService.getSessionCount()).thenReturn(4);
+        when(ingestionService.getWritten()).thenReturn(1200L);
+        when(ingestionService.getPending()).thenReturn(7);
+    }
+
+    @Test
+    @DisplayName("Should start ingestion and report its status")
+    void shouldStartIngestion() throws Exception {
+        // When
+        Response response = ingestionResource.start();
+
+        // Then
+        verify(ingestionService).start();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getEntity().toString())
+            .contains("\"state\":\"RUNNING\"")
+            .contains("\"queue\":\"DEV.QUEUE.1\"")
+            .contains("\"sessions\":4")
+            .contains("\"written\":1200")
+            .contains("\"pending\":7");
+    }
+
+    @Test
+    @DisplayName("Should return 500 when ingestion cannot connect")
+    void shouldReportStartFailure() throws Exception {
+        // Given
+        when(ingestionService.start()).thenThrow(new JMSException("MQRC_HOST_NOT_AVAILABLE"));
+
+        // When
+        Response response = ingestionResource.start();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(response.getEntity().toString()).contains("MQRC_HOST_NOT_AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("Should return 409 when pausing ingestion that is not running")
+    void shouldRejectPauseWhenStopped() throws Exception {
+        // Given
+        when(ingestionService.pause()).thenThrow(new IllegalStateException("Streaming ingestion is not running"));
+
+        // When
+        Response response = ingestionResource.pause();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(409);
+    }
+
+    @Test
+    @DisplayName("Should pause and stop ingestion")
+    void shouldPauseAndStop() throws Exception {
+        // When
+        Response paused = ingestionResource.pause();
+        Response stopped = ingestionResource.stop();
+
+        // Then
+        verify(ingestionService).pause();
+        verify(ingestionService).stop();
+        assertThat(paused.getStatus()).isEqualTo(200);
+        assertThat(stopped.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should report no queue before ingestion first started")
+    void shouldReportStatusWhenNeverStarted() {
+        // Given
+        when(ingestionService.getState()).thenReturn(StreamingIngestionService.State.STOPPED);
+        when(ingestionService.getQueueName()).thenReturn(null);
+
+        // When
+        Response response = ingestionResource.status();
+
+        // Then
+        assertThat(response.getEntity().toString()).contains("\"state\":\"STOPPED\"").contains("\"queue\":null");
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.ibmmq.unit.rest;
 
 import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
 import com.example.ibmmq.rest.MetricsResource;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import jakarta.ws.rs.core.Response;
@@ -14,6 +15,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -28,6 +31,9 @@ class MetricsResourceTest {
     @Mock
     private PrometheusMeterRegistry meterRegistry;
 
+    @Mock
+    private IBMMQConnectionPool connectionPool;
+
     @InjectMocks
     private MetricsResource metricsResource;
 
@@ -363,4 +369,49 @@ class MetricsResourceTest {
         assertThat(entity).matches(".*\"pendingMessages\":\\d+.*");
         assertThat(entity).matches(".*\"failedMessages\":\\d+.*");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should list pooled connections with age, idle time and holder")
+    void shouldListPooledConnections() {
+        // Given
+        IBMMQConnectionPool.ConnectionInfo leased = mock(IBMMQConnectionPool.ConnectionInfo.class);
+        when(leased.getId()).thenReturn(1L);
+        when(leased.getState()).thenReturn("IN_USE");
+        when(leased.getAgeMillis()).thenReturn(5000L);
+        when(leased.getLeaseMillis()).thenReturn(1200L);
+        when(leased.getHolder()).thenReturn("http-thread-\"1\"");
+        IBMMQConnectionPool.ConnectionInfo idle = mock(IBMMQConnectionPool.ConnectionInfo.class);
+        when(idle.getId()).thenReturn(2L);
+        when(idle.getState()).thenReturn("IDLE");
+        when(idle.getIdleMillis()).thenReturn(300L);
+        when(connectionPool.getPoolStatus()).thenReturn(new IBMMQConnectionPool.PoolStatus(2, 1, 1, 10, 2));
+        when(connectionPool.getConnectionDetails()).thenReturn(List.of(leased, idle));
+        when(connectionPool.getLeakCount()).thenReturn(1L);
+
+        // When
+        Response response = metricsResource.getPoolConnections();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        String entity = response.getEntity().toString();
+        assertThat(entity).contains("\"totalConnections\":2");
+        assertThat(entity).contains("\"leaks\":1");
+        assertThat(entity).contains("{\"id\":1,\"queueManager\":null,\"state\":\"IN_USE\",\"ageMillis\":5000," +
+                                    "\"idleMillis\":0,\"leaseMillis\":1200,\"holder\":\"http-thread-\\\"1\\\"\"");
+        assertThat(entity).contains("\"id\":2,\"queueManager\":null,\"state\":\"IDLE\",\"ageMillis\":0,\"idleMillis\":300");
+    }
+
+    @Test
+    @DisplayName("Should return error when pool details are unavailable")
+    void shouldHandlePoolDetailsFailure() {
+        // Given
+        when(connectionPool.getPoolStatus()).thenThrow(new RuntimeException("Pool not initialized"));
+
+        // When
+        Response response = metricsResource.getPoolConnections();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
+        assertThat(response.getEntity().toString()).contains("Pool not initialized");
+    }
+}
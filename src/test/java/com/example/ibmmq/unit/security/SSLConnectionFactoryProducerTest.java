@@ -1,5 +1,7 @@
 package com.example.ibmmq.unit.security;
 
+import com.example.ibmmq.adapter.JakartaJMSAdapter;
+import com.example.ibmmq.adapter.MQClientFactory;
 import com.example.ibmmq.config.IBMMQConfig;
 import com.example.ibmmq.security.SSLConfig;
 import com.example.ibmmq.security.SSLConnectionFactoryProducer;
@@ -15,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -80,6 +83,21 @@ class SSLConnectionFactoryProducerTest {
         verify(sslConfig).isSslEnabled();
     }
 
+    @Test
+    @DisplayName("Should fall back to the adapter when the Jakarta client is not deployed")
+    void shouldFallBackToAdapterWithoutJakartaClient() {
+        // Given
+        assumeFalse(MQClientFactory.isJakartaClientAvailable());
+        when(mqConfig.getClientMode()).thenReturn(MQClientFactory.MODE_JAKARTA);
+
+        // When
+        ConnectionFactory connectionFactory = sslConnectionFactoryProducer.createSSLConnectionFactory();
+
+        // Then
+        assertThat(connectionFactory).isInstanceOf(JakartaJMSAdapter.ConnectionFactoryWrapper.class);
+        verify(mqConfig).getClientMode();
+    }
+
     @Test
     @DisplayName("Should create ConnectionFactory with basic SSL")
     void shouldCreateConnectionFactoryWithBasicSsl() {
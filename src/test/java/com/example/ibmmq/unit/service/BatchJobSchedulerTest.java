@@ -0,0 +1,205 @@
+package com.example.ibmmq.unit.service;
+
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.config.JobSchedulingConfig;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.monitoring.QueueDepthMonitor;
+import com.example.ibmmq.service.BatchJobScheduler;
+import com.example.ibmmq.service.BatchJobService;
+import com.example.ibmmq.service.SchedulingDecision;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("BatchJobScheduler Tests")
+class BatchJobSchedulerTest {
+
+    @Mock
+    private BatchJobService batchJobService;
+
+    @Mock
+    private QueueDepthMonitor depthMonitor;
+
+    @Mock
+    private IBMMQConfig config;
+
+    @Mock
+    private MQMetricsService metricsService;
+
+    @InjectMocks
+    private BatchJobScheduler scheduler;
+
+    private final JobSchedulingConfig schedulingConfig = new JobSchedulingConfig();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field field = BatchJobScheduler.class.getDeclaredField("schedulingConfig");
+        field.setAccessible(true);
+        field.set(scheduler, schedulingConfig);
+        field = BatchJobScheduler.class.getDeclaredField("executor");
+        field.setAccessible(true);
+        field.set(scheduler, ManagedExecutors.managed(executor));
+        when(config.getRequestQueue()).thenReturn("DEV.QUEUE.1");
+        when(batchJobService.getRunningExecutions(anyString())).thenReturn(List.of());
+        when(batchJobService.startMQProcessingJob(any(Properties.class))).thenReturn(42L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should start the job with one partition per backlog share once depth reaches the threshold")
+    void shouldStartJobScaledToBacklog() {
+        // Given
+        when(depthMonitor.getDepth("DEV.QUEUE.1")).thenReturn(2500L);
+        ArgumentCaptor<Properties> parameters = ArgumentCaptor.forClass(Properties.class);
+
+        // When
+        List<SchedulingDecision> decisions = scheduler.evaluate();
+
+        // Then
+        assertThat(decisions).hasSize(1);
+        SchedulingDecision decision = decisions.get(0);
+        assertThat(decision.getAction()).isEqualTo(SchedulingDecision.Action.STARTED);
+        assertThat(decision.getPartitions()).isEqualTo(3);
+        assertThat(decision.getExecutionId()).isEqualTo(42L);
+        verify(batchJobService).startMQProcessingJob(parameters.capture());
+        assertThat(parameters.getValue().getProperty("queue")).isEqualTo("DEV.QUEUE.1");
+        assertThat(parameters.getValue().getProperty("partitions")).isEqualTo("3");
+        verify(depthMonitor).invalidate();
+        verify(metricsService).recordSchedulingDecision("DEV.QUEUE.1", "STARTED");
+    }
+
+    @Test
+    @DisplayName("Should cap the partition count")
+    void shouldCapPartitions() {
+        // Given
+        when(depthMonitor.getDepth("DEV.QUEUE.1")).thenReturn(1_000_000L);
+
+        // When
+        SchedulingDecision decision = scheduler.evaluate().get(0);
+
+        // Then
+        assertThat(decision.getPartitions()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should not start a job below the depth threshold")
+    void shouldStayIdleBelowThreshold() {
+        // Given
+        when(depthMonitor.getDepth("DEV.QUEUE.1")).thenReturn(99L);
+
+        // When
+        SchedulingDecision decision = scheduler.evaluate().get(0);
+
+        // Then
+        assertThat(decision.getAction()).isEqualTo(SchedulingDecision.Action.IDLE);
+        verify(batchJobService, never()).startMQProcessingJob(any(Properties.class));
+    }
+
+    @Test
+    @DisplayName("Should not start a job while the queue's executions are at the limit")
+    void shouldStayBusyAtConcurrencyLimit() {
+        // Given
+        when(depthMonitor.getDepth("DEV.QUEUE.1")).thenReturn(5000L);
+        when(batchJobService.getRunningExecutions("DEV.QUEUE.1")).thenReturn(List.of(7L));
+
+        // When
+        SchedulingDecision decision = scheduler.evaluate().get(0);
+
+        // Then
+        assertThat(decision.getAction()).isEqualTo(SchedulingDecision.Action.BUSY);
+        assertThat(decision.getRunning()).isEqualTo(1);
+        verify(batchJobService, never()).startMQProcessingJob(any(Properties.class));
+    }
+
+    @Test
+    @DisplayName("Should report busy when another start wins the race")
+    void shouldReportBusyWhenGuardRefuses() {
+        // Given
+        when(depthMonitor.getDepth("DEV.QUEUE.1")).thenReturn(5000L);
+        when(batchJobService.startMQProcessingJob(any(Properties.class)))
+            .thenThrow(new IllegalStateException("Queue DEV.QUEUE.1 already has 1 running job executions [8]"));
+
+        // When
+        SchedulingDecision decision = scheduler.evaluate().get(0);
+
+        // Then
+        assertThat(decision.getAction()).isEqualTo(SchedulingDecision.Action.BUSY);
+        assertThat(decision.getReason()).contains("[8]");
+    }
+
+    @Test
+    @DisplayName("Should not start a job when the depth is unknown")
+    void shouldFailWithoutDepth() {
+        // Given
+        when(depthMonitor.getDepth("DEV.QUEUE.1")).thenReturn(QueueDepthMonitor.UNKNOWN);
+
+        // When
+        SchedulingDecision decision = scheduler.evaluate().get(0);
+
+        // Then
+        assertThat(decision.getAction()).isEqualTo(SchedulingDecision.Action.FAILED);
+        verify(batchJobService, never()).startMQProcessingJob(any(Properties.class));
+    }
+
+    @Test
+    @DisplayName("Should watch the configured queues and keep their decisions newest first")
+    void shouldKeepDecisionsPerQueue() {
+        // Given
+        schedulingConfig.setQueues("ORDERS, INVOICES");
+        when(depthMonitor.getDepth("ORDERS")).thenReturn(150L);
+        when(depthMonitor.getDepth("INVOICES")).thenReturn(3L);
+
+        // When
+        scheduler.evaluate();
+
+        // Then
+        assertThat(scheduler.getQueues()).containsExactly("ORDERS", "INVOICES");
+        assertThat(scheduler.getLastDecision("ORDERS").getAction()).isEqualTo(SchedulingDecision.Action.STARTED);
+        assertThat(scheduler.getLastDecision("INVOICES").getAction()).isEqualTo(SchedulingDecision.Action.IDLE);
+        assertThat(scheduler.getHistory()).extracting(SchedulingDecision::getQueue).containsExactly("INVOICES", "ORDERS");
+    }
+
+    @Test
+    @DisplayName("Should look at the queues periodically while started")
+    void shouldEvaluatePeriodically() {
+        // Given
+        schedulingConfig.setInterval(100);
+        when(depthMonitor.getDepth("DEV.QUEUE.1")).thenReturn(0L);
+
+        // When
+        scheduler.start();
+
+        // Then
+        assertThat(scheduler.isRunning()).isTrue();
+        verify(metricsService, timeout(2000).atLeast(2)).recordSchedulingDecision("DEV.QUEUE.1", "IDLE");
+        scheduler.stop();
+        assertThat(scheduler.isRunning()).isFalse();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.ibmmq.unit.service;
 
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.config.JobSchedulingConfig;
 import com.example.ibmmq.service.BatchJobService;
 import jakarta.batch.operations.JobOperator;
 import jakarta.batch.operations.NoSuchJobExecutionException;
@@ -43,10 +45,16 @@ class BatchJobServiceTest {
     @Mock
     private StepExecution stepExecution;
 
+    @Mock
+    private IBMMQConfig config;
+
     private BatchJobService batchJobService;
 
+    private final JobSchedulingConfig schedulingConfig = new JobSchedulingConfig();
+
     @BeforeEach
     void setUp() {
+        when(config.getRequestQueue()).thenReturn("DEV.QUEUE.1");
         // We need to use reflection or create a constructor that accepts JobOperator
         // For this test, we'll create a package-private constructor for testing
         batchJobService = new BatchJobService();
@@ -55,6 +63,12 @@ class BatchJobServiceTest {
             java.lang.reflect.Field field = BatchJobService.class.getDeclaredField("jobOperator");
             field.setAccessible(true);
             field.set(batchJobService, jobOperator);
+            field = BatchJobService.class.getDeclaredField("config");
+            field.setAccessible(true);
+            field.set(batchJobService, config);
+            field = BatchJobService.class.getDeclaredField("schedulingConfig");
+            field.setAccessible(true);
+            field.set(batchJobService, schedulingConfig);
         } catch (Exception e) {
             // Handle reflection exception
         }
@@ -420,4 +434,58 @@ class BatchJobServiceTest {
         // Then
         assertThat(result).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should refuse to start a job on a queue already being read")
+    void shouldRefuseOverlappingExecutionOnSameQueue() {
+        // Given
+        Properties running = new Properties();
+        running.setProperty("queue", "DEV.QUEUE.1");
+        when(jobOperator.getRunningExecutions("mq-to-postgres-job")).thenReturn(List.of(7L));
+        when(jobOperator.getJobExecution(7L)).thenReturn(jobExecution);
+        when(jobExecution.getJobParameters()).thenReturn(running);
+
+        // When & Then
+        assertThatThrownBy(() -> batchJobService.startMQProcessingJob())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("DEV.QUEUE.1");
+        verify(jobOperator, never()).start(anyString(), any(Properties.class));
+    }
+
+    @Test
+    @DisplayName("Should start jobs on other queues and up to the configured concurrency")
+    void shouldStartWithinConcurrencyLimit() {
+        // Given
+        when(jobOperator.getRunningExecutions("mq-to-postgres-job")).thenReturn(List.of(7L));
+        when(jobOperator.getJobExecution(7L)).thenReturn(jobExecution);
+        when(jobExecution.getJobParameters()).thenReturn(new Properties());
+        when(jobOperator.start(eq("mq-to-postgres-job"), any(Properties.class))).thenReturn(8L, 9L);
+        Properties otherQueue = new Properties();
+        otherQueue.setProperty("queue", "DEV.QUEUE.2");
+
+        // When
+        long onOtherQueue = batchJobService.startMQProcessingJob(otherQueue);
+        schedulingConfig.setMaxConcurrent(2);
+        long second = batchJobService.startMQProcessingJob();
+
+        // Then
+        assertThat(onOtherQueue).isEqualTo(8L);
+        assertThat(second).isEqualTo(9L);
+        assertThat(batchJobService.getRunningExecutions("DEV.QUEUE.1")).containsExactly(7L);
+        assertThat(batchJobService.getRunningExecutions("DEV.QUEUE.2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should refuse to restart an execution while its queue is being read")
+    void shouldRefuseRestartOnBusyQueue() {
+        // Given
+        when(jobOperator.getRunningExecutions("mq-to-postgres-job")).thenReturn(List.of(7L));
+        when(jobOperator.getJobExecution(anyLong())).thenReturn(jobExecution);
+        when(jobExecution.getJobParameters()).thenReturn(new Properties());
+
+        // When & Then
+        assertThatThrownBy(() -> batchJobService.restartJob(5L))
+            .isInstanceOf(IllegalStateException.class);
+        verify(jobOperator, never()).restart(anyLong(), any(Properties.class));
+    }
+}
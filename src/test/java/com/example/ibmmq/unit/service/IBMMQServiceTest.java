@@ -1,6 +1,11 @@
 package com.example.ibmmq.unit.service;
 
+import com.example.ibmmq.config.ConnectionPoolConfig;
 import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.PoolExhaustedException;
+import com.example.ibmmq.pool.SessionLease;
 import com.example.ibmmq.service.IBMMQService;
 import com.example.ibmmq.util.MockJMSTestHelper;
 import jakarta.jms.*;
@@ -14,6 +19,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +36,18 @@ class IBMMQServiceTest {
     @Mock
     private IBMMQConfig config;
 
+    @Mock
+    private IBMMQConnectionPool connectionPool;
+
+    @Mock
+    private ConnectionPoolConfig poolConfig;
+
+    @Mock
+    private MQMetricsService metricsService;
+
+    @Mock
+    private SessionLease lease;
+
     @InjectMocks
     private IBMMQService mqService;
 
@@ -61,6 +80,10 @@ class IBMMQServiceTest {
         when(session.createProducer(any(Destination.class))).thenReturn(producer);
         when(session.createConsumer(any(Destination.class))).thenReturn(consumer);
         when(session.createTextMessage(anyString())).thenReturn(textMessage);
+
+        when(connectionPool.acquireSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(lease);
+        when(lease.getSession()).thenReturn(session);
+        when(poolConfig.getSendTimeout()).thenReturn(1000L);
     }
 
     @Test
@@ -321,4 +344,74 @@ class IBMMQServiceTest {
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("Failed to send message");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should hand off async send and hold the lease until confirmation")
+    void shouldHandOffAsyncSend() throws JMSException {
+        // Given
+        CompletableFuture<Message> confirmation = new CompletableFuture<>();
+        when(lease.sendAsync("DEV.QUEUE.1", textMessage)).thenReturn(confirmation);
+        when(textMessage.getJMSMessageID()).thenReturn("ID:414d51");
+
+        // When
+        CompletableFuture<String> sent = mqService.sendMessageAsync("Async message");
+
+        // Then
+        assertThat(sent).isNotDone();
+        verify(lease, never()).close();
+
+        confirmation.complete(textMessage);
+        assertThat(sent).isCompletedWithValue("ID:414d51");
+        verify(lease).close();
+        verify(lease, never()).invalidate();
+        verify(metricsService).recordSendLatency(eq("DEV.QUEUE.1"), eq("async"), anyLong(), eq("sent"));
+        verify(metricsService).recordMessageSent("DEV.QUEUE.1");
+    }
+
+    @Test
+    @DisplayName("Should return message ID once the put is confirmed")
+    void shouldReturnMessageIdOnConfirmation() throws JMSException {
+        // Given
+        when(lease.sendAsync("CUSTOM.QUEUE", textMessage)).thenReturn(CompletableFuture.completedFuture(textMessage));
+        when(textMessage.getJMSMessageID()).thenReturn("ID:414d51");
+
+        // When
+        String messageId = mqService.sendMessageConfirmed("CUSTOM.QUEUE", "Confirmed message");
+
+        // Then
+        assertThat(messageId).isEqualTo("ID:414d51");
+    }
+
+    @Test
+    @DisplayName("Should record failed async send and surface the cause on confirmation")
+    void shouldRecordFailedAsyncSend() throws JMSException {
+        // Given
+        JMSException failure = new JMSException("MQRC_Q_FULL");
+        when(lease.sendAsync("CUSTOM.QUEUE", textMessage)).thenReturn(CompletableFuture.failedFuture(failure));
+
+        // When & Then
+        assertThatThrownBy(() -> mqService.sendMessageConfirmed("CUSTOM.QUEUE", "Confirmed message"))
+            .isInstanceOf(RuntimeException.class)
+            .hasCause(failure);
+        verify(lease).invalidate();
+        verify(lease).close();
+        verify(metricsService).recordSendLatency(eq("CUSTOM.QUEUE"), eq("async"), anyLong(), eq("failed"));
+        verify(metricsService).recordMessageFailed("CUSTOM.QUEUE", "JMSException");
+    }
+
+    @Test
+    @DisplayName("Should keep the session when the in-flight window is full")
+    void shouldKeepSessionWhenWindowIsFull() throws JMSException {
+        // Given
+        PoolExhaustedException full = new PoolExhaustedException(
+            "Producer for DEV.QUEUE.1 already has 64 sends in flight", PoolExhaustedException.Reason.IN_FLIGHT_LIMIT, 5000);
+        when(lease.sendAsync("DEV.QUEUE.1", textMessage)).thenThrow(full);
+
+        // When & Then
+        assertThatThrownBy(() -> mqService.sendMessageAsync("Async message"))
+            .isInstanceOf(RuntimeException.class)
+            .hasCause(full);
+        verify(lease, never()).invalidate();
+        verify(lease).close();
+    }
+}
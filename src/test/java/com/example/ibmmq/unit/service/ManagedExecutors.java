@@ -0,0 +1,27 @@
+package com.example.ibmmq.unit.service;
+
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Stands in for the container's managed executor in tests.
+ */
+final class ManagedExecutors {
+
+    private ManagedExecutors() {
+    }
+
+    static ManagedScheduledExecutorService managed(ScheduledExecutorService executor) {
+        return (ManagedScheduledExecutorService) Proxy.newProxyInstance(ManagedExecutors.class.getClassLoader(),
+            new Class<?>[]{ManagedScheduledExecutorService.class}, (proxy, method, args) -> {
+                try {
+                    return method.invoke(executor, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.ibmmq.unit.service;
+
+import com.example.ibmmq.batch.MQMessageProcessor;
+import com.example.ibmmq.config.IBMMQConfig;
+import com.example.ibmmq.config.IngestionConfig;
+import com.example.ibmmq.entity.MQMessage;
+import com.example.ibmmq.monitoring.MQMetricsService;
+import com.example.ibmmq.repository.MQMessageRepository;
+import com.example.ibmmq.service.StreamingIngestionService;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StreamingIngestionService Tests")
+class StreamingIngestionServiceTest {
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private IBMMQConfig config;
+
+    @Spy
+    private IngestionConfig ingestionConfig = new IngestionConfig();
+
+    @Mock
+    private MQMessageProcessor processor;
+
+    @Mock
+    private MQMessageRepository repository;
+
+    @Mock
+    private MQMetricsService metricsService;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Queue queue;
+
+    @Mock
+    private MessageConsumer consumer;
+
+    @InjectMocks
+    private StreamingIngestionService service;
+
+    private int messageCount;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    /** Sizes of the batches written; the service reuses its batch list after each write. */
+    private final List<Integer> written = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ingestionConfig.setSessions(1);
+        ingestionConfig.setBatchSize(3);
+        ingestionConfig.setBatchMaxWait(60000);
+        ingestionConfig.setBackoutThreshold(3);
+        Field field = StreamingIngestionService.class.getDeclaredField("executor");
+        field.setAccessible(true);
+        field.set(service, ManagedExecutors.managed(executor));
+        when(config.getRequestQueue()).thenReturn("DEV.QUEUE.1");
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue("DEV.QUEUE.1")).thenReturn(queue);
+        when(session.createConsumer(queue)).thenReturn(consumer);
+        when(processor.processItem(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.upsertAll(anyList())).thenAnswer(invocation -> {
+            List<MQMessage> batch = invocation.getArgument(0);
+            written.add(batch.size());
+            return batch.size();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should listen on the configured number of transacted sessions")
+    void shouldStartListenerSessions() throws Exception {
+        // Given
+        ingestionConfig.setSessions(4);
+
+        // When
+        StreamingIngestionService.State state = service.start();
+
+        // Then
+        assertThat(state).isEqualTo(StreamingIngestionService.State.RUNNING);
+        verify(connection, times(4)).createSession(true, Session.SESSION_TRANSACTED);
+        verify(consumer, times(4)).setMessageListener(any());
+        verify(connection).start();
+        assertThat(service.getSessionCount()).isEqualTo(4);
+        assertThat(service.getQueueName()).isEqualTo("DEV.QUEUE.1");
+    }
+
+    @Test
+    @DisplayName("Should write and commit a micro-batch once it is full")
+    void shouldFlushFullBatch() throws Exception {
+        // Given
+        MessageListener listener = startAndCaptureListener();
+
+        // When
+        listener.onMessage(textMessage());
+        listener.onMessage(textMessage());
+
+        // Then - nothing written until the third message
+        verify(repository, never()).upsertAll(anyList());
+        assertThat(service.getPending()).isEqualTo(2);
+
+        listener.onMessage(textMessage());
+        assertThat(written).containsExactly(3);
+        verify(session).commit();
+        verify(metricsService).recordIngestionBatch(eq("DEV.QUEUE.1"), eq(3), any(long[].class), eq("written"));
+        assertThat(service.getWritten()).isEqualTo(3);
+        assertThat(service.getPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return a micro-batch to the queue when writing it fails")
+    void shouldRollBackFailedBatch() throws Exception {
+        // Given
+        MessageListener listener = startAndCaptureListener();
+        when(repository.upsertAll(anyList())).thenThrow(new RuntimeException("Failed to upsert 3 messages"));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            listener.onMessage(textMessage());
+        }
+
+        // Then
+        verify(session).rollback();
+        verify(session, never()).commit();
+        assertThat(service.getFailed()).isEqualTo(3);
+        assertThat(service.getWritten()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should isolate the failing message of a batch redelivered past the backout threshold")
+    void shouldIsolateFailingMessageAfterRepeatedRollbacks() throws Exception {
+        // Given
+        MessageListener listener = startAndCaptureListener();
+        TextMessage poison = textMessage();
+        when(poison.getText()).thenReturn("poison");
+        when(poison.propertyExists("JMSXDeliveryCount")).thenReturn(true);
+        when(poison.getIntProperty("JMSXDeliveryCount")).thenReturn(4);
+        when(repository.upsertAll(anyList())).thenAnswer(invocation -> {
+            List<MQMessage> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(message -> "poison".equals(message.getMessageContent())
+                                                   && message.getStatus() != MQMessage.MessageStatus.FAILED)) {
+                throw new RuntimeException("value too long for type character varying");
+            }
+            written.add(batch.size());
+            return batch.size();
+        });
+
+        // When
+        listener.onMessage(textMessage());
+        listener.onMessage(poison);
+        listener.onMessage(textMessage());
+
+        // Then - the good messages and the failed row are stored, and the gets are committed
+        verify(session).commit();
+        verify(session, never()).rollback();
+        assertThat(service.getWritten()).isEqualTo(2);
+        assertThat(service.getFailed()).isEqualTo(1);
+        verify(metricsService).recordIngestionBatch("DEV.QUEUE.1", 1, null, "failed");
+    }
+
+    @Test
+    @DisplayName("Should skip a message it cannot read and keep the batch")
+    void shouldSkipUnreadableMessage() throws Exception {
+        // Given
+        MessageListener listener = startAndCaptureListener();
+        TextMessage unreadable = textMessage();
+        when(unreadable.getText()).thenThrow(new JMSException("MQRC_CONVERTED_MSG_TOO_BIG"));
+
+        // When
+        listener.onMessage(textMessage());
+        listener.onMessage(unreadable);
+
+        // Then
+        assertThat(service.getPending()).isEqualTo(1);
+        verify(session, never()).rollback();
+    }
+
+    @Test
+    @DisplayName("Should write a batch that stopped filling up with delivery stopped")
+    void shouldFlushStaleBatchInBackground() throws Exception {
+        // Given
+        ingestionConfig.setBatchSize(100);
+        ingestionConfig.setBatchMaxWait(20);
+        MessageListener listener = startAndCaptureListener();
+
+        // When
+        listener.onMessage(textMessage());
+
+        // Then
+        verify(session, timeout(2000)).commit();
+        assertThat(written).containsExactly(1);
+        InOrder inOrder = inOrder(connection, repository, session);
+        inOrder.verify(connection).stop();
+        inOrder.verify(repository).upsertAll(anyList());
+        inOrder.verify(session).commit();
+        inOrder.verify(connection, timeout(1000)).start();
+    }
+
+    @Test
+    @DisplayName("Should hold delivery and write pending messages on pause, and resume on start")
+    void shouldPauseAndResume() throws Exception {
+        // Given
+        MessageListener listener = startAndCaptureListener();
+        listener.onMessage(textMessage());
+
+        // When
+        StreamingIngestionService.State paused = service.pause();
+
+        // Then
+        assertThat(paused).isEqualTo(StreamingIngestionService.State.PAUSED);
+        verify(connection).stop();
+        assertThat(written).containsExactly(1);
+        verify(session).commit();
+
+        // When
+        StreamingIngestionService.State resumed = service.start();
+
+        // Then
+        assertThat(resumed).isEqualTo(StreamingIngestionService.State.RUNNING);
+        verify(connection, times(2)).start();
+        verify(connectionFactory, times(1)).createConnection();
+    }
+
+    @Test
+    @DisplayName("Should refuse to pause when not running")
+    void shouldRejectPauseWhenStopped() {
+        // When & Then
+        assertThatThrownBy(() -> service.pause())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Streaming ingestion is not running");
+    }
+
+    @Test
+    @DisplayName("Should write pending messages and close everything on stop")
+    void shouldFlushAndCloseOnStop() throws Exception {
+        // Given
+        MessageListener listener = startAndCaptureListener();
+        listener.onMessage(textMessage());
+
+        // When
+        StreamingIngestionService.State state = service.stop();
+
+        // Then
+        assertThat(state).isEqualTo(StreamingIngestionService.State.STOPPED);
+        assertThat(written).containsExactly(1);
+        verify(session).commit();
+        verify(consumer).close();
+        verify(session).close();
+        verify(connection).close();
+        assertThat(service.getSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should close what it opened when a session cannot be created")
+    void shouldCleanUpFailedStart() throws Exception {
+        // Given
+        when(session.createConsumer(queue)).thenThrow(new JMSException("MQRC_UNKNOWN_OBJECT_NAME"));
+
+        // When & Then
+        assertThatThrownBy(() -> service.start()).isInstanceOf(JMSException.class);
+        assertThat(service.getState()).isEqualTo(StreamingIngestionService.State.STOPPED);
+        verify(session).close();
+        verify(connection).close();
+    }
+
+    private MessageListener startAndCaptureListener() throws Exception {
+        service.start();
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(consumer).setMessageListener(listener.capture());
+        return listener.getValue();
+    }
+
+    private TextMessage textMessage() throws JMSException {
+        TextMessage message = mock(TextMessage.class);
+        when(message.getJMSMessageID()).thenReturn("ID:" + (++messageCount));
+        when(message.getText()).thenReturn("Message " + messageCount);
+        when(message.getJMSTimestamp()).thenReturn(System.currentTimeMillis());
+        return message;
+    }
+}
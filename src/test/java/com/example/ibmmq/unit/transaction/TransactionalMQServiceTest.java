@@ -3,6 +3,8 @@ package com.example.ibmmq.unit.transaction;
 import com.example.ibmmq.config.IBMMQConfig;
 import com.example.ibmmq.entity.MQMessage;
 import com.example.ibmmq.pool.IBMMQConnectionPool;
+import com.example.ibmmq.pool.SessionCache;
+import com.example.ibmmq.pool.SessionLease;
 import com.example.ibmmq.repository.MQMessageRepository;
 import com.example.ibmmq.transaction.TransactionalMQService;
 import jakarta.jms.*;
@@ -58,7 +60,8 @@ class TransactionalMQServiceTest {
 
     @BeforeEach
     void setUp() throws JMSException {
-        when(connectionPool.getConnection()).thenReturn(connection);
+        when(connectionPool.acquireSession(true, Session.SESSION_TRANSACTED)).thenAnswer(invocation ->
+            new SessionLease(connectionPool, connection, new SessionCache(connection, 0, 0, 0), true, Session.SESSION_TRANSACTED));
         when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
         when(session.createQueue(anyString())).thenReturn(queue);
         when(session.createProducer(any(Destination.class))).thenReturn(producer);
@@ -78,7 +81,7 @@ class TransactionalMQServiceTest {
         transactionalService.sendMessageTransactional(queueName, message);
 
         // Then
-        verify(connectionPool).getConnection();
+        verify(connectionPool).acquireSession(true, Session.SESSION_TRANSACTED);
         verify(connection).createSession(true, Session.SESSION_TRANSACTED);
         verify(session).createQueue(queueName);
         verify(session).createTextMessage(message);
@@ -368,7 +371,7 @@ class TransactionalMQServiceTest {
         // Given
         String queueName = "TEST.QUEUE";
         String message = "Test message";
-        when(connectionPool.getConnection()).thenThrow(new JMSException("Pool exhausted"));
+        when(connectionPool.acquireSession(true, Session.SESSION_TRANSACTED)).thenThrow(new JMSException("Pool exhausted"));
 
         // When & Then
         assertThatThrownBy(() -> transactionalService.sendMessageTransactional(queueName, message))